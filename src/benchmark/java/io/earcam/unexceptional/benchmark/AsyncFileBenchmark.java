@@ -0,0 +1,152 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional.benchmark;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.earcam.unexceptional.Chunk;
+import io.earcam.unexceptional.EmeticStream;
+
+/**
+ * Blocking versus {@link AsynchronousFileChannel} reads and writes of a temporary file, varying the number of
+ * transfers kept in flight; gains depend on the storage's queue depth, so run against the device of interest (e.g.
+ * {@code -Djava.io.tmpdir}) with a cold page cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(2)
+public class AsyncFileBenchmark {
+
+	private static final int SIZE = 64 * 1024 * 1024;
+	private static final int CHUNK_SIZE = 256 * 1024;
+	private static final int RECORDS = 1_000_000;
+
+	@Param({ "1", "4", "16" })
+	private int outstanding;
+
+	private Path input;
+	private Path output;
+
+
+	@Setup
+	public void setUp() throws IOException
+	{
+		byte[] bytes = new byte[SIZE];
+		new Random(42).nextBytes(bytes);
+		input = Files.write(Files.createTempFile(AsyncFileBenchmark.class.getSimpleName(), ".bin"), bytes);
+		output = Files.createTempFile(AsyncFileBenchmark.class.getSimpleName(), ".log");
+	}
+
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		Files.delete(input);
+		Files.delete(output);
+	}
+
+
+	private static long first(EmeticStream<Chunk> chunks)
+	{
+		return chunks.mapToLong(c -> {
+			try(Chunk chunk = c) {
+				return chunk.buffer().getLong(0);
+			}
+		}).sum();
+	}
+
+
+	private static Stream<String> records()
+	{
+		return IntStream.range(0, RECORDS).mapToObj(i -> "2017-01-01T00:00:00 INFO request " + i + " completed\n");
+	}
+
+
+	private static void encode(String record, ByteBuffer buffer)
+	{
+		for(int i = 0; i < record.length(); i++) {
+			buffer.put((byte) record.charAt(i));
+		}
+	}
+
+
+	@Benchmark
+	public long blockingRead() throws IOException
+	{
+		try(EmeticStream<Chunk> chunks = EmeticStream.chunks(FileChannel.open(input, READ), CHUNK_SIZE)) {
+			return first(chunks);
+		}
+	}
+
+
+	@Benchmark
+	public long asyncRead() throws IOException
+	{
+		try(EmeticStream<Chunk> chunks = EmeticStream.chunks(AsynchronousFileChannel.open(input, READ), CHUNK_SIZE, outstanding)) {
+			return first(chunks);
+		}
+	}
+
+
+	@Benchmark
+	public long blockingWrite() throws IOException
+	{
+		try(FileChannel channel = FileChannel.open(output, WRITE, TRUNCATE_EXISTING)) {
+			return EmeticStream.emesis(records()).writeTo(channel, AsyncFileBenchmark::encode);
+		}
+	}
+
+
+	@Benchmark
+	public long asyncWrite() throws IOException
+	{
+		try(AsynchronousFileChannel channel = AsynchronousFileChannel.open(output, WRITE, TRUNCATE_EXISTING)) {
+			return EmeticStream.emesis(records()).writeTo(channel, 0, AsyncFileBenchmark::encode, outstanding, false);
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional.benchmark;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.earcam.unexceptional.EmeticStream;
+
+/**
+ * Throughput of a filesystem-heavy parallel pipeline over temporary files (each element read, rewritten and
+ * {@code fsync}ed) within a small {@link ForkJoinPool}; {@code unmanaged} as a plain parallel {@link EmeticStream},
+ * {@code managed} in {@link EmeticStream#blocking()} mode, allowing the pool to compensate for workers blocked on IO.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(2)
+public class BlockingBenchmark {
+
+	private static final int FILES = 64;
+	private static final int FILE_SIZE = 4096;
+
+	@Param({ "1", "2", "4" })
+	public int parallelism;
+
+	private Path directory;
+	private List<Path> files;
+	private ForkJoinPool pool;
+
+
+	@Setup
+	public void setUp() throws IOException
+	{
+		directory = Files.createTempDirectory(BlockingBenchmark.class.getSimpleName());
+		files = new ArrayList<>(FILES);
+		byte[] content = new byte[FILE_SIZE];
+		for(int i = 0; i < FILES; i++) {
+			files.add(Files.write(directory.resolve(i + ".bin"), content));
+		}
+		pool = new ForkJoinPool(parallelism);
+	}
+
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		pool.shutdownNow();
+		for(Path file : files) {
+			Files.delete(file);
+		}
+		Files.delete(directory);
+	}
+
+
+	private static long rewrite(Path file) throws IOException
+	{
+		try(FileChannel channel = FileChannel.open(file, READ, WRITE)) {
+			ByteBuffer buffer = ByteBuffer.allocate(FILE_SIZE);
+			while(buffer.hasRemaining() && channel.read(buffer) != -1);
+			buffer.flip();
+			buffer.put(0, (byte) (buffer.get(0) + 1));
+			long written = channel.write(buffer, 0);
+			channel.force(true);
+			return written;
+		}
+	}
+
+
+	@Benchmark
+	public long unmanaged()
+	{
+		return EmeticStream.emesis(files.stream())
+				.parallel(pool)
+				.map(BlockingBenchmark::rewrite)
+				.reduce(0L, Long::sum);
+	}
+
+
+	@Benchmark
+	public long managed()
+	{
+		return EmeticStream.emesis(files.stream())
+				.blocking()
+				.parallel(pool)
+				.map(BlockingBenchmark::rewrite)
+				.reduce(0L, Long::sum);
+	}
+}
@@ -0,0 +1,116 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional.benchmark;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.earcam.unexceptional.EmeticStream;
+
+/**
+ * Overhead of checkpointing a sequential reduction; {@code plain} via {@link EmeticStream#reduce(Object,
+ * io.earcam.unexceptional.CheckedBinaryOperator)}, {@code checkpointed} via
+ * {@link EmeticStream#reduceCheckpointed(Path, int, Object, io.earcam.unexceptional.CheckedBiFunction,
+ * io.earcam.unexceptional.CheckedFunction, io.earcam.unexceptional.CheckedFunction)} with a checkpoint every
+ * {@code interval} elements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(2)
+public class CheckpointBenchmark {
+
+	private static final int ELEMENTS = 1_000_000;
+
+	@Param({ "10000", "100000" })
+	public int interval;
+
+	private Path directory;
+	private Path checkpoint;
+
+
+	@Setup
+	public void setUp() throws IOException
+	{
+		directory = Files.createTempDirectory(CheckpointBenchmark.class.getSimpleName());
+		checkpoint = directory.resolve("benchmark.checkpoint");
+	}
+
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		Files.deleteIfExists(checkpoint);
+		Files.deleteIfExists(directory.resolve("benchmark.checkpoint.tmp"));
+		Files.delete(directory);
+	}
+
+
+	private static EmeticStream<Long> source()
+	{
+		return EmeticStream.emesis(IntStream.range(0, ELEMENTS).boxed())
+				.map(i -> Long.valueOf(Integer.toHexString(i * 31), 16));
+	}
+
+
+	private static byte[] serialize(Long sum)
+	{
+		return ByteBuffer.allocate(Long.BYTES).putLong(sum).array();
+	}
+
+
+	private static Long deserialize(byte[] bytes)
+	{
+		return ByteBuffer.wrap(bytes).getLong();
+	}
+
+
+	@Benchmark
+	public long plain()
+	{
+		return source().reduce(0L, Long::sum);
+	}
+
+
+	@Benchmark
+	public long checkpointed()
+	{
+		return source().reduceCheckpointed(checkpoint, interval, 0L, Long::sum, CheckpointBenchmark::serialize, CheckpointBenchmark::deserialize);
+	}
+}
@@ -0,0 +1,113 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional.benchmark;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.earcam.unexceptional.Chunk;
+import io.earcam.unexceptional.EmeticStream;
+
+/**
+ * Chunked reading of a (page-cached) temporary file; {@code byteArrays} allocates a {@code byte[]} per chunk,
+ * {@code pooledChunks} reuses pooled direct buffers via {@link EmeticStream#chunks(java.nio.channels.ReadableByteChannel, int)}.
+ * Run with {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(2)
+public class ChunksBenchmark {
+
+	private static final int SIZE = 64 * 1024 * 1024;
+
+	@Param({ "8192", "65536", "1048576" })
+	private int chunkSize;
+
+	private Path file;
+
+
+	@Setup
+	public void setUp() throws IOException
+	{
+		file = Files.createTempFile(ChunksBenchmark.class.getSimpleName(), ".bin");
+		byte[] bytes = new byte[SIZE];
+		new Random(42).nextBytes(bytes);
+		Files.write(file, bytes);
+	}
+
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		Files.delete(file);
+	}
+
+
+	@Benchmark
+	public long byteArrays() throws IOException
+	{
+		long sum = 0;
+		try(InputStream input = Files.newInputStream(file)) {
+			while(true) {
+				byte[] chunk = new byte[chunkSize];
+				int read = input.read(chunk);
+				if(read < 0) {
+					return sum;
+				}
+				sum += ByteBuffer.wrap(chunk, 0, read).getLong(0);
+			}
+		}
+	}
+
+
+	@Benchmark
+	public long pooledChunks() throws IOException
+	{
+		try(EmeticStream<Chunk> chunks = EmeticStream.chunks(FileChannel.open(file), chunkSize)) {
+			return chunks.mapToLong(c -> {
+				try(Chunk chunk = c) {
+					return chunk.buffer().getLong(0);
+				}
+			}).sum();
+		}
+	}
+}
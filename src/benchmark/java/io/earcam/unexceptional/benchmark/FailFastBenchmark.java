@@ -0,0 +1,98 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.earcam.unexceptional.EmeticStream;
+
+/**
+ * Happy path (nothing thrown) cost of fail-fast parallel terminal operations; an {@link EmeticStream}'s parallel
+ * {@code forEach}, {@code reduce} and {@code collect} against the same operations on a plain parallel
+ * {@link java.util.stream.Stream}, over {@code size} elements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(2)
+public class FailFastBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int size;
+
+
+	@Benchmark
+	public void streamForEach(Blackhole blackhole)
+	{
+		IntStream.range(0, size).boxed().parallel().map(i -> i + 1).forEach(blackhole::consume);
+	}
+
+
+	@Benchmark
+	public void emeticForEach(Blackhole blackhole)
+	{
+		EmeticStream.emesis(IntStream.range(0, size).boxed()).parallel().map(i -> i + 1).forEach(blackhole::consume);
+	}
+
+
+	@Benchmark
+	public int streamReduce()
+	{
+		return IntStream.range(0, size).boxed().parallel().map(i -> i + 1).reduce(0, Integer::sum);
+	}
+
+
+	@Benchmark
+	public int emeticReduce()
+	{
+		return EmeticStream.emesis(IntStream.range(0, size).boxed()).parallel().map(i -> i + 1).reduce(0, Integer::sum);
+	}
+
+
+	@Benchmark
+	public Object streamCollect()
+	{
+		return IntStream.range(0, size).boxed().parallel().map(i -> i + 1).collect(Collectors.toList());
+	}
+
+
+	@Benchmark
+	public Object emeticCollect()
+	{
+		return EmeticStream.emesis(IntStream.range(0, size).boxed()).parallel().map(i -> i + 1).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,233 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.earcam.unexceptional.Exceptional;
+
+/**
+ * Mixed success/failure throughput of {@link Exceptional#uncheck(Throwable, boolean)},
+ * {@link Exceptional#rethrow(Throwable)}, {@link Exceptional#throwAsUnchecked(Throwable)} and
+ * {@link Exceptional#unwrap(Throwable, boolean)}.
+ * 
+ * Each operation descends {@code depth} frames before either returning or failing, failing for {@code failureRate}
+ * of invocations (a fixed, shuffled pattern so every thread sees the same rate). With {@code stackTrace} false
+ * neither the cause nor the {@code uncheck} wrapper captures a stack trace; {@code rethrow}'s wrapper follows
+ * {@value Exceptional#STACKLESS_PROPERTY}.
+ * 
+ * The {@code *Contended} variants run the same operation on every available core.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(2)
+public class FailurePathBenchmark {
+
+	private static final int PATTERN_LENGTH = 1 << 10;
+
+	@Param({ "10", "100", "250", "500" })
+	public int depth;
+
+	@Param({ "0.01", "0.1", "0.3" })
+	public double failureRate;
+
+	@Param({ "true", "false" })
+	public boolean stackTrace;
+
+	private final boolean[] pattern = new boolean[PATTERN_LENGTH];
+	private int index;
+
+
+	static final class BenchmarkException extends IOException {
+
+		private static final long serialVersionUID = 1L;
+
+
+		BenchmarkException(boolean writableStackTrace)
+		{
+			super(null, null);
+			if(writableStackTrace) {
+				super.fillInStackTrace();
+			}
+		}
+
+
+		@Override
+		public synchronized Throwable fillInStackTrace()
+		{
+			return this;
+		}
+	}
+
+
+	@Setup
+	public void setUp()
+	{
+		int failures = (int) Math.round(PATTERN_LENGTH * failureRate);
+		for(int i = 0; i < failures; i++) {
+			pattern[i] = true;
+		}
+		Random random = new Random(PATTERN_LENGTH);
+		for(int i = PATTERN_LENGTH - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			boolean swap = pattern[i];
+			pattern[i] = pattern[j];
+			pattern[j] = swap;
+		}
+	}
+
+
+	private boolean failing()
+	{
+		index = (index + 1) & (PATTERN_LENGTH - 1);
+		return pattern[index];
+	}
+
+
+	private int uncheckAt(int remaining, boolean fail)
+	{
+		if(remaining == 0) {
+			if(fail) {
+				throw Exceptional.uncheck(new BenchmarkException(stackTrace), stackTrace);
+			}
+			return remaining;
+		}
+		return uncheckAt(remaining - 1, fail) + 1;
+	}
+
+
+	private int rethrowAt(int remaining, boolean fail)
+	{
+		if(remaining == 0) {
+			if(fail) {
+				throw Exceptional.rethrow(new BenchmarkException(stackTrace));
+			}
+			return remaining;
+		}
+		return rethrowAt(remaining - 1, fail) + 1;
+	}
+
+
+	private int throwAsUncheckedAt(int remaining, boolean fail)
+	{
+		if(remaining == 0) {
+			if(fail) {
+				throw Exceptional.throwAsUnchecked(new BenchmarkException(stackTrace));
+			}
+			return remaining;
+		}
+		return throwAsUncheckedAt(remaining - 1, fail) + 1;
+	}
+
+
+	@Benchmark
+	public Object uncheck()
+	{
+		try {
+			return uncheckAt(depth, failing());
+		} catch(RuntimeException e) {
+			return e;
+		}
+	}
+
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public Object uncheckContended()
+	{
+		return uncheck();
+	}
+
+
+	@Benchmark
+	public Object rethrow()
+	{
+		try {
+			return rethrowAt(depth, failing());
+		} catch(RuntimeException e) {
+			return e;
+		}
+	}
+
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public Object rethrowContended()
+	{
+		return rethrow();
+	}
+
+
+	@Benchmark
+	public Object throwAsUnchecked()
+	{
+		try {
+			return throwAsUncheckedAt(depth, failing());
+		} catch(Exception e) {
+			return e;
+		}
+	}
+
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public Object throwAsUncheckedContended()
+	{
+		return throwAsUnchecked();
+	}
+
+
+	@Benchmark
+	public Object unwrap()
+	{
+		try {
+			return uncheckAt(depth, failing());
+		} catch(RuntimeException e) {
+			return Exceptional.unwrap(e, false);
+		}
+	}
+
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public Object unwrapContended()
+	{
+		return unwrap();
+	}
+}
@@ -0,0 +1,136 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional.benchmark;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.earcam.unexceptional.CheckedFunction;
+import io.earcam.unexceptional.EmeticStream;
+import io.earcam.unexceptional.Exceptional;
+
+/**
+ * Throughput of an {@code n} stage {@code map} pipeline; {@code fused} via {@link EmeticStream} (one exception
+ * boundary per element), {@code unfused} as {@link EmeticStream} previously behaved (one
+ * {@link Exceptional#uncheckFunction(CheckedFunction)} wrapper and stream stage per operation), and {@code plain}
+ * a {@link Stream} of unchecked lambdas as the baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(2)
+public class FusionBenchmark {
+
+	private static final int ELEMENTS = 10_000;
+
+	@Param({ "1", "2", "3", "4", "5", "6", "7", "8", "9", "10" })
+	public int depth;
+
+	private CheckedFunction<Integer, Integer, IOException>[] checked;
+	private Function<Integer, Integer>[] plain;
+
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setUp()
+	{
+		checked = new CheckedFunction[] {
+				(CheckedFunction<Integer, Integer, IOException>) i -> i + 1,
+				(CheckedFunction<Integer, Integer, IOException>) i -> i ^ 2,
+				(CheckedFunction<Integer, Integer, IOException>) i -> i - 3,
+				(CheckedFunction<Integer, Integer, IOException>) i -> i | 4,
+				(CheckedFunction<Integer, Integer, IOException>) i -> i + 5,
+				(CheckedFunction<Integer, Integer, IOException>) i -> i ^ 6,
+				(CheckedFunction<Integer, Integer, IOException>) i -> i - 7,
+				(CheckedFunction<Integer, Integer, IOException>) i -> i | 8,
+				(CheckedFunction<Integer, Integer, IOException>) i -> i + 9,
+				(CheckedFunction<Integer, Integer, IOException>) i -> i ^ 10
+		};
+		plain = new Function[] {
+				(Function<Integer, Integer>) i -> i + 1,
+				(Function<Integer, Integer>) i -> i ^ 2,
+				(Function<Integer, Integer>) i -> i - 3,
+				(Function<Integer, Integer>) i -> i | 4,
+				(Function<Integer, Integer>) i -> i + 5,
+				(Function<Integer, Integer>) i -> i ^ 6,
+				(Function<Integer, Integer>) i -> i - 7,
+				(Function<Integer, Integer>) i -> i | 8,
+				(Function<Integer, Integer>) i -> i + 9,
+				(Function<Integer, Integer>) i -> i ^ 10
+		};
+	}
+
+
+	private static Stream<Integer> source()
+	{
+		return IntStream.range(0, ELEMENTS).boxed();
+	}
+
+
+	@Benchmark
+	public int fused()
+	{
+		EmeticStream<Integer> stream = EmeticStream.emesis(source());
+		for(int i = 0; i < depth; i++) {
+			stream = stream.map(checked[i]);
+		}
+		return stream.mapToInt(Integer::intValue).sum();
+	}
+
+
+	@Benchmark
+	public int unfused()
+	{
+		Stream<Integer> stream = source();
+		for(int i = 0; i < depth; i++) {
+			stream = stream.map(Exceptional.uncheckFunction(checked[i]));
+		}
+		return stream.mapToInt(Integer::intValue).sum();
+	}
+
+
+	@Benchmark
+	public int plain()
+	{
+		Stream<Integer> stream = source();
+		for(int i = 0; i < depth; i++) {
+			stream = stream.map(plain[i]);
+		}
+		return stream.mapToInt(Integer::intValue).sum();
+	}
+}
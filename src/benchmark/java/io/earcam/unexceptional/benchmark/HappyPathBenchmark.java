@@ -0,0 +1,312 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.earcam.unexceptional.CheckedComparator;
+import io.earcam.unexceptional.CheckedConsumer;
+import io.earcam.unexceptional.CheckedFunction;
+import io.earcam.unexceptional.CheckedPredicate;
+import io.earcam.unexceptional.Closing;
+import io.earcam.unexceptional.Exceptional;
+
+/**
+ * Happy path (nothing thrown) cost of the {@code Exceptional.uncheckX} adapters against hand-written try/catch,
+ * {@link Exceptional#apply(CheckedFunction, Object)} against a direct call, and
+ * {@link Closing#closeAfterApplying(AutoCloseable, CheckedFunction)} against try-with-resources.
+ * 
+ * Each invocation cycles through {@value #SITES} targets; with the {@code monomorphic} profile these are all the same
+ * lambda, with {@code megamorphic} they're distinct, defeating inlining at the shared call sites within the library.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(2)
+public class HappyPathBenchmark {
+
+	static final int SITES = 4;
+
+	@Param({ "monomorphic", "megamorphic" })
+	public String profile;
+
+	private final CheckedFunction<Integer, Integer, IOException>[] checkedFunctions = array(SITES);
+	private final CheckedConsumer<Integer, IOException>[] checkedConsumers = array(SITES);
+	private final CheckedPredicate<Integer, IOException>[] checkedPredicates = array(SITES);
+	private final CheckedComparator<Integer, IOException>[] checkedComparators = array(SITES);
+	private final Function<Integer, Integer>[] directFunctions = array(SITES);
+
+	private final Function<Integer, Integer>[] uncheckedFunctions = array(SITES);
+	private final Function<Integer, Integer>[] tryCatchFunctions = array(SITES);
+	private final Consumer<Integer>[] uncheckedConsumers = array(SITES);
+	private final Consumer<Integer>[] tryCatchConsumers = array(SITES);
+	private final Predicate<Integer>[] uncheckedPredicates = array(SITES);
+	private final Predicate<Integer>[] tryCatchPredicates = array(SITES);
+	private final Comparator<Integer>[] uncheckedComparators = array(SITES);
+	private final Comparator<Integer>[] tryCatchComparators = array(SITES);
+
+	private Blackhole blackhole;
+	private Integer value = 42;
+	private int site;
+
+
+	static final class Resource implements AutoCloseable {
+
+		private final int value;
+		private boolean closed;
+
+
+		Resource(int value)
+		{
+			this.value = value;
+		}
+
+
+		int read() throws IOException
+		{
+			if(closed) {
+				throw new IOException("closed");
+			}
+			return value;
+		}
+
+
+		@Override
+		public void close() throws IOException
+		{
+			closed = true;
+		}
+	}
+
+
+	@SuppressWarnings("unchecked")
+	private static <T> T[] array(int length)
+	{
+		return (T[]) new Object[length];
+	}
+
+
+	@Setup
+	public void setUp(Blackhole blackhole)
+	{
+		this.blackhole = blackhole;
+		boolean megamorphic = "megamorphic".equals(profile);
+
+		populate(megamorphic);
+
+		for(int i = 0; i < SITES; i++) {
+			CheckedFunction<Integer, Integer, IOException> function = checkedFunctions[i];
+			CheckedConsumer<Integer, IOException> consumer = checkedConsumers[i];
+			CheckedPredicate<Integer, IOException> predicate = checkedPredicates[i];
+			CheckedComparator<Integer, IOException> comparator = checkedComparators[i];
+
+			uncheckedFunctions[i] = Exceptional.uncheckFunction(function);
+			tryCatchFunctions[i] = t -> {
+				try {
+					return function.apply(t);
+				} catch(IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			};
+			uncheckedConsumers[i] = Exceptional.uncheckConsumer(consumer);
+			tryCatchConsumers[i] = t -> {
+				try {
+					consumer.accept(t);
+				} catch(IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			};
+			uncheckedPredicates[i] = Exceptional.uncheckPredicate(predicate);
+			tryCatchPredicates[i] = t -> {
+				try {
+					return predicate.test(t);
+				} catch(IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			};
+			uncheckedComparators[i] = Exceptional.uncheckComparator(comparator);
+			tryCatchComparators[i] = (a, b) -> {
+				try {
+					return comparator.compare(a, b);
+				} catch(IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			};
+		}
+	}
+
+
+	private void populate(boolean megamorphic)
+	{
+		checkedFunctions[0] = t -> t + 1;
+		checkedFunctions[1] = t -> t * 2;
+		checkedFunctions[2] = t -> t ^ 3;
+		checkedFunctions[3] = t -> t - 1;
+
+		checkedConsumers[0] = t -> blackhole.consume(t);
+		checkedConsumers[1] = t -> blackhole.consume(t + 1);
+		checkedConsumers[2] = t -> blackhole.consume(t * 2);
+		checkedConsumers[3] = t -> blackhole.consume(t ^ 3);
+
+		checkedPredicates[0] = t -> t > 0;
+		checkedPredicates[1] = t -> t < 0;
+		checkedPredicates[2] = t -> (t & 1) == 0;
+		checkedPredicates[3] = t -> t == 42;
+
+		checkedComparators[0] = Integer::compare;
+		checkedComparators[1] = (a, b) -> Integer.compare(b, a);
+		checkedComparators[2] = (a, b) -> Integer.compareUnsigned(a, b);
+		checkedComparators[3] = (a, b) -> Integer.compare(a ^ 3, b ^ 3);
+
+		directFunctions[0] = t -> t + 1;
+		directFunctions[1] = t -> t * 2;
+		directFunctions[2] = t -> t ^ 3;
+		directFunctions[3] = t -> t - 1;
+
+		if(!megamorphic) {
+			for(int i = 1; i < SITES; i++) {
+				checkedFunctions[i] = checkedFunctions[0];
+				checkedConsumers[i] = checkedConsumers[0];
+				checkedPredicates[i] = checkedPredicates[0];
+				checkedComparators[i] = checkedComparators[0];
+				directFunctions[i] = directFunctions[0];
+			}
+		}
+	}
+
+
+	private int next()
+	{
+		site = (site + 1) & (SITES - 1);
+		return site;
+	}
+
+
+	@Benchmark
+	public Integer uncheckFunction()
+	{
+		return uncheckedFunctions[next()].apply(value);
+	}
+
+
+	@Benchmark
+	public Integer tryCatchFunction()
+	{
+		return tryCatchFunctions[next()].apply(value);
+	}
+
+
+	@Benchmark
+	public void uncheckConsumer()
+	{
+		uncheckedConsumers[next()].accept(value);
+	}
+
+
+	@Benchmark
+	public void tryCatchConsumer()
+	{
+		tryCatchConsumers[next()].accept(value);
+	}
+
+
+	@Benchmark
+	public boolean uncheckPredicate()
+	{
+		return uncheckedPredicates[next()].test(value);
+	}
+
+
+	@Benchmark
+	public boolean tryCatchPredicate()
+	{
+		return tryCatchPredicates[next()].test(value);
+	}
+
+
+	@Benchmark
+	public int uncheckComparator()
+	{
+		return uncheckedComparators[next()].compare(value, site);
+	}
+
+
+	@Benchmark
+	public int tryCatchComparator()
+	{
+		return tryCatchComparators[next()].compare(value, site);
+	}
+
+
+	@Benchmark
+	public Integer exceptionalApply()
+	{
+		return Exceptional.apply(checkedFunctions[next()], value);
+	}
+
+
+	@Benchmark
+	public Integer directApply()
+	{
+		return directFunctions[next()].apply(value);
+	}
+
+
+	@Benchmark
+	public Integer closeAfterApplying()
+	{
+		int i = next();
+		return Closing.closeAfterApplying(new Resource(i), r -> checkedFunctions[i].apply(r.read()));
+	}
+
+
+	@Benchmark
+	public Integer tryWithResources()
+	{
+		int i = next();
+		try(Resource resource = new Resource(i)) {
+			return checkedFunctions[i].apply(resource.read());
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
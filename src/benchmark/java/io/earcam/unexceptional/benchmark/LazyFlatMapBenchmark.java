@@ -0,0 +1,75 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional.benchmark;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.earcam.unexceptional.EmeticStream;
+
+/**
+ * Throughput of a short-circuiting search through flat-mapped inner streams of {@code innerSize} elements, matching
+ * early in the first; {@code flatMap} via {@link EmeticStream#flatMap(io.earcam.unexceptional.CheckedFunction)},
+ * which on JDK 8 pushes each inner stream in its entirety, {@code flatMapLazy} via
+ * {@link EmeticStream#flatMapLazy(io.earcam.unexceptional.CheckedFunction)}, pulling on demand.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(2)
+public class LazyFlatMapBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int innerSize;
+
+
+	private Stream<String> inner(int outer)
+	{
+		return IntStream.range(0, innerSize).mapToObj(i -> outer + ":" + i);
+	}
+
+
+	@Benchmark
+	public boolean flatMap()
+	{
+		return EmeticStream.emesis(IntStream.range(0, 100).boxed()).flatMap(this::inner).anyMatch("0:10"::equals);
+	}
+
+
+	@Benchmark
+	public boolean flatMapLazy()
+	{
+		return EmeticStream.emesis(IntStream.range(0, 100).boxed()).flatMapLazy(this::inner).anyMatch("0:10"::equals);
+	}
+}
@@ -0,0 +1,98 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.earcam.unexceptional.EmeticStream;
+
+/**
+ * Parallel line throughput over a (page-cached) temporary file; {@code filesLines} via
+ * {@link Files#lines(Path, java.nio.charset.Charset)}, {@code mappedLines} via
+ * {@link EmeticStream#lines(Path, java.nio.charset.Charset)}. Vary
+ * {@code -Djava.util.concurrent.ForkJoinPool.common.parallelism} to observe scaling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(2)
+public class LinesBenchmark {
+
+	private static final int LINES = 2_000_000;
+
+	private Path file;
+
+
+	@Setup
+	public void setUp() throws IOException
+	{
+		file = Files.createTempFile(LinesBenchmark.class.getSimpleName(), ".log");
+		try(BufferedWriter writer = Files.newBufferedWriter(file, UTF_8)) {
+			for(int i = 0; i < LINES; i++) {
+				writer.write("2017-01-01T00:00:00." + (i % 1000) + " INFO [worker-" + (i % 16) + "] request " + i + " completed\n");
+			}
+		}
+	}
+
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		Files.delete(file);
+	}
+
+
+	@Benchmark
+	public long filesLines() throws IOException
+	{
+		try(Stream<String> lines = Files.lines(file, UTF_8)) {
+			return lines.parallel().mapToLong(String::length).sum();
+		}
+	}
+
+
+	@Benchmark
+	public long mappedLines()
+	{
+		try(EmeticStream<String> lines = EmeticStream.lines(file, UTF_8)) {
+			return lines.parallel().mapToLong(String::length).sum();
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.earcam.unexceptional.EmeticStream;
+
+/**
+ * Throughput of a parse-heavy pipeline over the lines of a temporary file; {@code pull} strictly alternating reads
+ * and parsing, {@code prefetch} reading ahead (up to {@code depth} lines) on a background thread via
+ * {@link EmeticStream#prefetch(int)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(2)
+public class PrefetchBenchmark {
+
+	private static final int LINES = 100_000;
+
+	@Param({ "16", "256", "4096" })
+	public int depth;
+
+	private Path file;
+
+
+	@Setup
+	public void setUp() throws IOException
+	{
+		file = Files.createTempFile(PrefetchBenchmark.class.getSimpleName(), ".csv");
+		try(BufferedWriter writer = Files.newBufferedWriter(file, UTF_8)) {
+			for(int i = 0; i < LINES; i++) {
+				writer.write(i + "," + (i * 31) + "," + Integer.toHexString(i * 17) + "," + (i % 97) + "\n");
+			}
+		}
+	}
+
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		Files.delete(file);
+	}
+
+
+	private static long parse(String line)
+	{
+		long hash = 0;
+		for(String field : line.split(",")) {
+			hash = 31 * hash + Long.parseLong(field, 16);
+		}
+		return hash;
+	}
+
+
+	@Benchmark
+	@OutputTimeUnit(MILLISECONDS)
+	public long pull()
+	{
+		try(EmeticStream<String> lines = EmeticStream.emesis(Files::lines, file)) {
+			return lines.map(PrefetchBenchmark::parse).reduce(0L, Long::sum);
+		}
+	}
+
+
+	@Benchmark
+	@OutputTimeUnit(MILLISECONDS)
+	public long prefetch()
+	{
+		try(EmeticStream<String> lines = EmeticStream.emesis(Files::lines, file).prefetch(depth)) {
+			return lines.map(PrefetchBenchmark::parse).reduce(0L, Long::sum);
+		}
+	}
+}
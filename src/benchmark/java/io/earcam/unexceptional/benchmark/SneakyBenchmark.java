@@ -0,0 +1,93 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.earcam.unexceptional.Exceptional;
+import io.earcam.unexceptional.Sneaky;
+
+/**
+ * Failure path throughput of {@link Exceptional#uncheckFunction} versus {@link Sneaky#function}; the former
+ * translates and wraps (allocating a second stack trace), the latter rethrows the original.
+ * 
+ * Run with {@code -prof gc} to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(2)
+public class SneakyBenchmark {
+
+	private final IOException kaboom = new IOException();
+
+	private Function<Object, Object> unchecked;
+	private Function<Object, Object> sneaky;
+
+
+	@Setup
+	public void setUp()
+	{
+		unchecked = Exceptional.uncheckFunction(o -> {
+			throw kaboom;
+		});
+		sneaky = Sneaky.function(o -> {
+			throw kaboom;
+		});
+	}
+
+
+	@Benchmark
+	public Throwable unchecked()
+	{
+		try {
+			return (Throwable) unchecked.apply(this);
+		} catch(Throwable thrown) {
+			return thrown;
+		}
+	}
+
+
+	@Benchmark
+	public Throwable sneaky()
+	{
+		try {
+			return (Throwable) sneaky.apply(this);
+		} catch(Throwable thrown) {
+			return thrown;
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.earcam.unexceptional.CheckedFunction;
+import io.earcam.unexceptional.Exceptional;
+
+/**
+ * Failure path throughput of {@link Exceptional#apply(CheckedFunction, Object)} and
+ * {@link Exceptional#uncheck(Throwable, boolean)} with and without stack trace capture of the wrapper,
+ * at a range of call stack depths (the cost of {@link Throwable#fillInStackTrace()} grows with depth).
+ * 
+ * {@code applyGlobal*} use a JVM forked with {@value Exceptional#STACKLESS_PROPERTY} set accordingly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(2)
+public class StacklessBenchmark {
+
+	@Param({ "IOException", "URISyntaxException", "Exception" })
+	public String type;
+
+	@Param({ "10", "100" })
+	public int depth;
+
+	private Throwable caught;
+	private CheckedFunction<Object, Object, Throwable> throwing;
+
+
+	@Setup
+	public void setUp()
+	{
+		caught = create(type);
+		Throwable thrown = caught;
+		throwing = o -> {
+			throw thrown;
+		};
+	}
+
+
+	private static Throwable create(String type)
+	{
+		switch(type) {
+		case "IOException":
+			return new IOException();
+		case "URISyntaxException":
+			return new URISyntaxException("::", "benchmark");
+		case "Exception":
+			return new Exception();
+		default:
+			throw new IllegalArgumentException(type);
+		}
+	}
+
+
+	private RuntimeException uncheckAt(int remaining, boolean writableStackTrace)
+	{
+		return (remaining == 0) ? Exceptional.uncheck(caught, writableStackTrace) : uncheckAt(remaining - 1, writableStackTrace);
+	}
+
+
+	private RuntimeException applyAt(int remaining)
+	{
+		if(remaining == 0) {
+			try {
+				Exceptional.apply(throwing, type);
+				return null;
+			} catch(RuntimeException e) {
+				return e;
+			}
+		}
+		return applyAt(remaining - 1);
+	}
+
+
+	@Benchmark
+	public RuntimeException uncheckWithStackTrace()
+	{
+		return uncheckAt(depth, true);
+	}
+
+
+	@Benchmark
+	public RuntimeException uncheckStackless()
+	{
+		return uncheckAt(depth, false);
+	}
+
+
+	@Benchmark
+	@Fork(value = 2, jvmArgsAppend = "-D" + Exceptional.STACKLESS_PROPERTY + "=false")
+	public RuntimeException applyGlobalWithStackTrace()
+	{
+		return applyAt(depth);
+	}
+
+
+	@Benchmark
+	@Fork(value = 2, jvmArgsAppend = "-D" + Exceptional.STACKLESS_PROPERTY + "=true")
+	public RuntimeException applyGlobalStackless()
+	{
+		return applyAt(depth);
+	}
+}
@@ -0,0 +1,154 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional.benchmark;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.security.GeneralSecurityException;
+import java.security.cert.CertificateException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.earcam.unexceptional.CheckedFunction;
+import io.earcam.unexceptional.Exceptional;
+import io.earcam.unexceptional.UncheckedException;
+import io.earcam.unexceptional.UncheckedInterruptException;
+import io.earcam.unexceptional.UncheckedReflectiveException;
+import io.earcam.unexceptional.UncheckedSecurityException;
+import io.earcam.unexceptional.UncheckedUriSyntaxException;
+
+/**
+ * Failure path throughput of {@link Exceptional#uncheck(Throwable)}; {@code before} is the original
+ * per-call stream scan over the translation map, {@code after} the cached hierarchy lookup.
+ * 
+ * The {@code RuntimeException} case involves no wrapper allocation, so isolates the lookup cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(2)
+public class UncheckBenchmark {
+
+	private static final Map<Class<? extends Throwable>, Function<Throwable, RuntimeException>> LEGACY_MAP;
+
+	static {
+		Map<Class<? extends Throwable>, Function<Throwable, RuntimeException>> map = new HashMap<>();
+		// @formatter:off
+		map.put(ReflectiveOperationException.class, e -> new UncheckedReflectiveException((ReflectiveOperationException)e));
+		map.put(    GeneralSecurityException.class, e -> new UncheckedSecurityException((GeneralSecurityException)e));
+		map.put(        InterruptedException.class, e -> new UncheckedInterruptException((InterruptedException)e));
+		map.put(          URISyntaxException.class, e -> new UncheckedUriSyntaxException((URISyntaxException)e));
+		map.put(            RuntimeException.class, RuntimeException.class::cast);
+		map.put(                 IOException.class, e -> new UncheckedIOException((IOException)e));
+		// @formatter:on
+		LEGACY_MAP = unmodifiableMap(map);
+	}
+
+	@Param({ "RuntimeException", "IOException", "CertificateException", "NoSuchMethodException", "CloneNotSupportedException" })
+	public String type;
+
+	private Throwable caught;
+	private CheckedFunction<Object, Object, Throwable> throwing;
+
+
+	@Setup
+	public void setUp()
+	{
+		caught = create(type);
+		Throwable thrown = caught;
+		throwing = o -> {
+			throw thrown;
+		};
+	}
+
+
+	private static Throwable create(String type)
+	{
+		switch(type) {
+		case "RuntimeException":
+			return new IllegalStateException();
+		case "IOException":
+			return new IOException();
+		case "CertificateException":
+			return new CertificateException();
+		case "NoSuchMethodException":
+			return new NoSuchMethodException();
+		case "CloneNotSupportedException":
+			return new CloneNotSupportedException();
+		default:
+			throw new IllegalArgumentException(type);
+		}
+	}
+
+
+	static RuntimeException legacyUncheck(Throwable caught)
+	{
+		return LEGACY_MAP.entrySet().stream()
+				.filter(e -> e.getKey().isInstance(caught))
+				.map(e -> e.getValue().apply(caught))
+				.findFirst()
+				.orElseGet(() -> new UncheckedException(caught));
+	}
+
+
+	@Benchmark
+	public RuntimeException before()
+	{
+		return legacyUncheck(caught);
+	}
+
+
+	@Benchmark
+	public RuntimeException after()
+	{
+		return Exceptional.uncheck(caught);
+	}
+
+
+	@Benchmark
+	public RuntimeException applyFailing()
+	{
+		try {
+			Exceptional.apply(throwing, type);
+			return null;
+		} catch(RuntimeException e) {
+			return e;
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional.benchmark;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.earcam.unexceptional.EmeticStream;
+
+/**
+ * Summing file sizes over a wide, (dentry-cached) temporary tree; {@code filesWalk} via
+ * {@link Files#walk(Path, java.nio.file.FileVisitOption...)} which must stat each path again, {@code emeticWalk}
+ * via {@link EmeticStream#walk(Path, int, io.earcam.unexceptional.CheckedBiFunction, java.nio.file.FileVisitOption...)}
+ * listing directories in parallel. Vary {@code -Djava.util.concurrent.ForkJoinPool.common.parallelism} to observe scaling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(2)
+public class WalkBenchmark {
+
+	private static final int DIRECTORIES = 64;
+	private static final int FILES = 256;
+
+	private Path root;
+
+
+	@Setup
+	public void setUp() throws IOException
+	{
+		root = Files.createTempDirectory(WalkBenchmark.class.getSimpleName());
+		for(int i = 0; i < DIRECTORIES; i++) {
+			Path directory = Files.createDirectories(root.resolve("d" + i % 8).resolve("d" + i));
+			for(int j = 0; j < FILES; j++) {
+				Files.write(directory.resolve("f" + j), new byte[j]);
+			}
+		}
+	}
+
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		try(Stream<Path> walked = Files.walk(root)) {
+			walked.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+		}
+	}
+
+
+	@Benchmark
+	public long filesWalk() throws IOException
+	{
+		try(Stream<Path> walked = Files.walk(root)) {
+			return walked.parallel().mapToLong(p -> p.toFile().length()).sum();
+		}
+	}
+
+
+	@Benchmark
+	public long emeticWalk()
+	{
+		try(EmeticStream<Long> walked = EmeticStream.walk(root, Integer.MAX_VALUE, (p, a) -> a.size())) {
+			return walked.parallel().mapToLong(Long::longValue).sum();
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.earcam.unexceptional.EmeticStream;
+
+/**
+ * Writing records to a temporary file; {@code outputStream} writes each record through an unbuffered
+ * {@link OutputStream} (a syscall per record), {@code writeTo} encodes into pooled buffers flushed by gathering writes
+ * via {@link EmeticStream#writeTo(java.nio.channels.WritableByteChannel, io.earcam.unexceptional.CheckedBiConsumer)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(2)
+public class WriteToBenchmark {
+
+	private static final int RECORDS = 100_000;
+
+	private Path file;
+
+
+	@Setup
+	public void setUp() throws IOException
+	{
+		file = Files.createTempFile(WriteToBenchmark.class.getSimpleName(), ".log");
+	}
+
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		Files.delete(file);
+	}
+
+
+	private static Stream<String> records()
+	{
+		return IntStream.range(0, RECORDS).mapToObj(i -> "2017-01-01T00:00:00 INFO request " + i + " completed\n");
+	}
+
+
+	@Benchmark
+	public Path outputStream() throws IOException
+	{
+		try(OutputStream output = Files.newOutputStream(file, StandardOpenOption.TRUNCATE_EXISTING)) {
+			EmeticStream.emesis(records()).forEach(r -> output.write(r.getBytes(UTF_8)));
+		}
+		return file;
+	}
+
+
+	@Benchmark
+	public long writeTo() throws IOException
+	{
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			return EmeticStream.emesis(records()).writeTo(channel, (r, buffer) -> buffer.put(r.getBytes(UTF_8)));
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Encodes elements, as per {@link ChannelSink}, into direct {@link ByteBuffer}s; each full buffer is written to an
+ * {@link AsynchronousFileChannel} by a positional write, so up to {@code outstanding} writes are in flight while the
+ * next buffer is encoded. Writes are awaited (as a managed block, see {@link Blocking}) in file order, their buffers
+ * then reused; a write failure is thrown as per {@link Exceptional#uncheck(Throwable)}.
+ * </p>
+ * <p>
+ * On completion, or failure, all writes in flight are awaited before returning.
+ * </p>
+ * 
+ * @param <T> the element type
+ * 
+ * @since 1.1.0
+ */
+final class AsyncChannelSink<T> implements Consumer<T> {
+
+	private static final class Write {
+
+		final ByteBuffer buffer;
+		final AsyncTransfer transfer;
+
+
+		Write(ByteBuffer buffer, AsyncTransfer transfer)
+		{
+			this.buffer = buffer;
+			this.transfer = transfer;
+		}
+	}
+
+	private final AsynchronousFileChannel channel;
+	private final BiConsumer<? super T, ByteBuffer> encoder;
+	private final int outstanding;
+	private final Deque<Write> inFlight = new ArrayDeque<>();
+	private final Deque<ByteBuffer> free = new ArrayDeque<>();
+	private ByteBuffer current = ByteBuffer.allocateDirect(ChannelSink.BUFFER_SIZE);
+	private long position;
+	private long written;
+
+
+	private AsyncChannelSink(AsynchronousFileChannel channel, long position, BiConsumer<? super T, ByteBuffer> encoder, int outstanding)
+	{
+		this.channel = channel;
+		this.position = position;
+		this.encoder = encoder;
+		this.outstanding = outstanding;
+	}
+
+
+	static <T> long write(Stream<T> stream, AsynchronousFileChannel channel, long position, BiConsumer<? super T, ByteBuffer> encoder, int outstanding,
+			boolean force)
+	{
+		Objects.requireNonNull(channel);
+		Objects.requireNonNull(encoder);
+		if(position < 0) {
+			throw new IllegalArgumentException("position must not be negative, was " + position);
+		}
+		if(outstanding < 1) {
+			throw new IllegalArgumentException("outstanding must be positive, was " + outstanding);
+		}
+		AsyncChannelSink<T> sink = new AsyncChannelSink<>(channel, position, encoder, outstanding);
+		try {
+			stream.forEachOrdered(sink);
+			sink.finish();
+		} catch(Throwable thrown) {
+			sink.inFlight.forEach(w -> w.transfer.settle());
+			throw thrown;
+		}
+		if(force) {
+			Exceptional.run(() -> channel.force(false));
+		}
+		return sink.written;
+	}
+
+
+	@Override
+	public void accept(T element)
+	{
+		if(ChannelSink.encode(encoder, element, current)) {
+			return;
+		}
+		if(current.position() > 0) {
+			submitCurrent();
+			if(ChannelSink.encode(encoder, element, current)) {
+				return;
+			}
+		}
+		submit(ChannelSink.encodeLarge(encoder, element, ChannelSink.BUFFER_SIZE));
+	}
+
+
+	private void submitCurrent()
+	{
+		current.flip();
+		submit(current);
+		current = free.isEmpty() ? ByteBuffer.allocateDirect(ChannelSink.BUFFER_SIZE) : free.poll();
+	}
+
+
+	private void submit(ByteBuffer buffer)
+	{
+		if(inFlight.size() == outstanding) {
+			complete(inFlight.poll());
+		}
+		inFlight.add(new Write(buffer, AsyncTransfer.write(channel, buffer, position)));
+		position += buffer.limit();
+	}
+
+
+	private void finish()
+	{
+		if(current.position() > 0) {
+			current.flip();
+			submit(current);
+		}
+		while(!inFlight.isEmpty()) {
+			complete(inFlight.poll());
+		}
+	}
+
+
+	private void complete(Write write)
+	{
+		written += write.transfer.await();
+		if(write.buffer.isDirect()) {
+			write.buffer.clear();
+			free.add(write.buffer);
+		}
+	}
+}
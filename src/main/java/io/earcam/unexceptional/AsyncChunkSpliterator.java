@@ -0,0 +1,220 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.Exceptional.uncheck;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ * A {@link Spliterator} of {@link Chunk}s read from an {@link AsynchronousFileChannel}, keeping up to
+ * {@code outstanding} positional reads in flight ahead of the consumer; chunks are delivered in file order, each
+ * awaited (as a managed block, see {@link Blocking}) only once it is next. A read failure is thrown as per
+ * {@link Exceptional#uncheck(Throwable)}.
+ * </p>
+ * <p>
+ * Buffers are pooled as per {@link ChunkSpliterator}, the pool holding twice {@code outstanding} buffers; while the
+ * consumer holds more than {@code outstanding} chunks fewer reads are issued, and should it hold them all, advancing
+ * waits for a release. The file is read from start to its size on first advance. Closing closes the channel, then
+ * awaits any reads still in flight, returning their buffers to the pool; chunks still held may be released afterwards,
+ * to no effect.
+ * </p>
+ * 
+ * @since 1.1.0
+ */
+final class AsyncChunkSpliterator extends Spliterators.AbstractSpliterator<Chunk> {
+
+	private static final class Read {
+
+		final ByteBuffer buffer;
+		final long position;
+		final AsyncTransfer transfer;
+
+
+		Read(ByteBuffer buffer, long position, AsyncTransfer transfer)
+		{
+			this.buffer = buffer;
+			this.position = position;
+			this.transfer = transfer;
+		}
+	}
+
+	private final AsynchronousFileChannel channel;
+	private final int chunkSize;
+	private final int outstanding;
+	private final int poolSize;
+	private final BlockingQueue<ByteBuffer> pool;
+	private final Deque<Read> pending = new ArrayDeque<>();
+	private int allocated;
+	private long size = -1;
+	private long next;
+	private boolean finished;
+	private volatile boolean closed;
+
+
+	private AsyncChunkSpliterator(AsynchronousFileChannel channel, int chunkSize, int outstanding)
+	{
+		super(Long.MAX_VALUE, ORDERED | NONNULL);
+		this.channel = channel;
+		this.chunkSize = chunkSize;
+		this.outstanding = outstanding;
+		this.poolSize = 2 * outstanding;
+		this.pool = new ArrayBlockingQueue<>(poolSize);
+	}
+
+
+	static Stream<Chunk> chunks(AsynchronousFileChannel channel, int chunkSize, int outstanding)
+	{
+		Objects.requireNonNull(channel);
+		if(chunkSize < 1) {
+			throw new IllegalArgumentException("chunkSize must be positive, was " + chunkSize);
+		}
+		if(outstanding < 1) {
+			throw new IllegalArgumentException("outstanding must be positive, was " + outstanding);
+		}
+		AsyncChunkSpliterator spliterator = new AsyncChunkSpliterator(channel, chunkSize, outstanding);
+		return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+	}
+
+
+	@Override
+	public boolean tryAdvance(Consumer<? super Chunk> action)
+	{
+		if(finished) {
+			return false;
+		}
+		issue(true);
+		Read read = pending.poll();
+		if(read == null) {
+			finished = true;
+			return false;
+		}
+		try {
+			read.transfer.await();
+		} catch(RuntimeException | Error e) {
+			finished = true;
+			pool.offer(read.buffer);
+			throw e;
+		}
+		issue(false);
+		ByteBuffer buffer = read.buffer;
+		buffer.flip();
+		if(!buffer.hasRemaining()) {
+			finished = true;
+			pool.offer(buffer);
+			return false;
+		}
+		action.accept(new Chunk(buffer, read.position, pool));
+		return true;
+	}
+
+
+	/**
+	 * @param wait whether to await a release should no read be pending; not so while one is ready for delivery
+	 */
+	private void issue(boolean wait)
+	{
+		if(size < 0) {
+			size = size();
+		}
+		while(pending.size() < outstanding && next < size && !closed) {
+			ByteBuffer buffer = acquire(wait && pending.isEmpty());
+			if(buffer == null) {
+				return;
+			}
+			buffer.clear();
+			buffer.limit((int) Math.min(chunkSize, size - next));
+			pending.add(new Read(buffer, next, AsyncTransfer.read(channel, buffer, next)));
+			next += buffer.limit();
+		}
+	}
+
+
+	private long size()
+	{
+		try {
+			return channel.size();
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+
+	private ByteBuffer acquire(boolean wait)
+	{
+		ByteBuffer buffer = pool.poll();
+		if(buffer == null && allocated < poolSize) {
+			buffer = ByteBuffer.allocateDirect(chunkSize);
+			++allocated;
+		}
+		return (buffer == null && wait) ? awaitRelease() : buffer;
+	}
+
+
+	private ByteBuffer awaitRelease()
+	{
+		try {
+			ByteBuffer buffer = Blocking.get(pool::take);
+			return (buffer == ChunkSpliterator.CLOSED) ? null : buffer;
+		} catch(InterruptedException e) {
+			throw uncheck(e);
+		}
+	}
+
+
+	@Override
+	public Spliterator<Chunk> trySplit()
+	{
+		return null;
+	}
+
+
+	/**
+	 * Invoked by the traversing thread, once traversal has stopped, or while it awaits a release (when no read is
+	 * pending); as {@code pending} is not shared.
+	 */
+	void close()
+	{
+		closed = true;
+		finished = true;
+		pool.offer(ChunkSpliterator.CLOSED);
+		try {
+			Exceptional.run(channel::close);
+		} finally {
+			for(Read read; (read = pending.poll()) != null;) {
+				read.transfer.settle();
+				pool.offer(read.buffer);
+			}
+		}
+	}
+}
@@ -0,0 +1,64 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Provides the executor for asynchronous stages, e.g. {@link EmeticStream#mapAsync(int, CheckedFunction)}.
+ * </p>
+ * <p>
+ * This is the baseline implementation; a pool of (at most {@code maxInFlight}) daemon platform threads, which time
+ * out when idle, so an abandoned stage does not leak threads. When built with the {@code java21} profile, the
+ * multi-release JAR supersedes this on JDK 21+ with a virtual thread per task.
+ * </p>
+ * 
+ * @since 1.1.0
+ */
+final class AsyncExecution {
+
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+	private static final ThreadFactory DAEMON_FACTORY = runnable -> {
+		Thread thread = new Thread(runnable, "unexceptional-async-" + THREAD_COUNT.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	};
+
+
+	private AsyncExecution()
+	{
+		throw new IllegalStateException("Why on earth would you want to instantiate this?");
+	}
+
+
+	static ExecutorService executor(int maxInFlight)
+	{
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(maxInFlight, maxInFlight, 1, SECONDS, new LinkedBlockingQueue<>(), DAEMON_FACTORY);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+}
@@ -0,0 +1,198 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.Exceptional.throwAsUnchecked;
+import static io.earcam.unexceptional.Exceptional.uncheck;
+
+import java.util.ArrayDeque;
+import java.util.Spliterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ * A sequential {@link Spliterator} applying a checked mapping function asynchronously, with at most
+ * {@code maxInFlight} invocations outstanding; results are emitted in source order or in completion order.
+ * </p>
+ * <p>
+ * The first failure, whether of an invocation, the source or the downstream consumer, cancels (interrupting) all
+ * outstanding invocations before being propagated. The executor (see
+ * {@link AsyncExecution}) is created on first advance and shut down on exhaustion, failure or close.
+ * </p>
+ * 
+ * @param <T> the source element type
+ * @param <R> the mapped element type
+ * 
+ * @since 1.1.0
+ */
+final class AsyncMappingSpliterator<T, R> implements Spliterator<R> {
+
+	private final Spliterator<T> source;
+	private final CheckedFunction<? super T, ? extends R, ?> mapper;
+	private final int maxInFlight;
+	private final boolean ordered;
+	private final boolean sneaky;
+	private final ArrayDeque<Future<R>> inFlight;
+	private final BlockingQueue<Future<R>> completed = new LinkedBlockingQueue<>();
+	private final Consumer<T> submission = this::submit;
+	private ExecutorService executor;
+	private boolean exhausted;
+
+
+	private AsyncMappingSpliterator(Spliterator<T> source, CheckedFunction<? super T, ? extends R, ?> mapper, int maxInFlight, boolean ordered, boolean sneaky)
+	{
+		this.source = source;
+		this.mapper = mapper;
+		this.maxInFlight = maxInFlight;
+		this.ordered = ordered;
+		this.sneaky = sneaky;
+		this.inFlight = new ArrayDeque<>(maxInFlight);
+	}
+
+
+	static <T, R> Stream<R> mapAsync(Stream<T> stream, int maxInFlight, CheckedFunction<? super T, ? extends R, ?> mapper, boolean ordered, boolean sneaky)
+	{
+		if(maxInFlight < 1) {
+			throw new IllegalArgumentException("maxInFlight must be positive, was " + maxInFlight);
+		}
+		AsyncMappingSpliterator<T, R> spliterator = new AsyncMappingSpliterator<>(stream.spliterator(), mapper, maxInFlight, ordered, sneaky);
+		return StreamSupport.stream(spliterator, false)
+				.onClose(spliterator::cancel)
+				.onClose(stream::close);
+	}
+
+
+	@Override
+	public boolean tryAdvance(Consumer<? super R> action)
+	{
+		try {
+			while(!exhausted && inFlight.size() < maxInFlight) {
+				exhausted = !source.tryAdvance(submission);
+			}
+			if(inFlight.isEmpty()) {
+				cancel();
+				return false;
+			}
+			action.accept(await(ordered ? inFlight.poll() : nextCompleted()));
+			return true;
+		} catch(Throwable thrown) {
+			cancel();
+			throw thrown;
+		}
+	}
+
+
+	private void submit(T element)
+	{
+		if(executor == null) {
+			executor = AsyncExecution.executor(maxInFlight);
+		}
+		FutureTask<R> task = new FutureTask<R>(() -> Sneaky.apply(mapper, element)) {
+			@Override
+			protected void done()
+			{
+				if(!ordered) {
+					completed.add(this);
+				}
+			}
+		};
+		inFlight.add(task);
+		executor.execute(task);
+	}
+
+
+	private Future<R> nextCompleted()
+	{
+		try {
+			Future<R> next = completed.take();
+			inFlight.remove(next);
+			return next;
+		} catch(InterruptedException e) {
+			cancel();
+			throw uncheck(e);
+		}
+	}
+
+
+	private R await(Future<R> future)
+	{
+		try {
+			return future.get();
+		} catch(ExecutionException e) {
+			cancel();
+			throw propagate(e.getCause());
+		} catch(InterruptedException | CancellationException e) {
+			cancel();
+			throw uncheck(e);
+		}
+	}
+
+
+	private RuntimeException propagate(Throwable cause)
+	{
+		if(cause instanceof Error) {
+			throw (Error) cause;
+		}
+		return sneaky ? throwAsUnchecked(cause) : uncheck(cause);
+	}
+
+
+	void cancel()
+	{
+		exhausted = true;
+		for(Future<R> future : inFlight) {
+			future.cancel(true);
+		}
+		inFlight.clear();
+		completed.clear();
+		if(executor != null) {
+			executor.shutdownNow();
+		}
+	}
+
+
+	@Override
+	public Spliterator<R> trySplit()
+	{
+		return null;
+	}
+
+
+	@Override
+	public long estimateSize()
+	{
+		return exhausted ? inFlight.size() : source.estimateSize();
+	}
+
+
+	@Override
+	public int characteristics()
+	{
+		return ordered ? source.characteristics() & ORDERED : 0;
+	}
+}
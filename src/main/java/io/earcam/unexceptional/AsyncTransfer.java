@@ -0,0 +1,140 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.Exceptional.uncheck;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A positional read or write on an {@link AsynchronousFileChannel}, continued from its {@link CompletionHandler} until
+ * the buffer is exhausted (or, for a read, end of file is reached); completing with the number of bytes transferred.
+ * 
+ * @since 1.1.0
+ */
+final class AsyncTransfer extends CompletableFuture<Integer> implements CompletionHandler<Integer, Void> {
+
+	static final int DEFAULT_OUTSTANDING = 4;
+
+	private final AsynchronousFileChannel channel;
+	private final ByteBuffer buffer;
+	private final long position;
+	private final boolean write;
+	private int transferred;
+
+
+	private AsyncTransfer(AsynchronousFileChannel channel, ByteBuffer buffer, long position, boolean write)
+	{
+		this.channel = channel;
+		this.buffer = buffer;
+		this.position = position;
+		this.write = write;
+	}
+
+
+	static AsyncTransfer read(AsynchronousFileChannel channel, ByteBuffer buffer, long position)
+	{
+		return new AsyncTransfer(channel, buffer, position, false).next();
+	}
+
+
+	static AsyncTransfer write(AsynchronousFileChannel channel, ByteBuffer buffer, long position)
+	{
+		return new AsyncTransfer(channel, buffer, position, true).next();
+	}
+
+
+	private AsyncTransfer next()
+	{
+		try {
+			if(write) {
+				channel.write(buffer, position + transferred, null, this);
+			} else {
+				channel.read(buffer, position + transferred, null, this);
+			}
+		} catch(RuntimeException e) {
+			completeExceptionally(e);
+		}
+		return this;
+	}
+
+
+	@Override
+	public void completed(Integer count, Void attachment)
+	{
+		if(count < 0) {
+			complete(transferred);
+			return;
+		}
+		transferred += count;
+		if(buffer.hasRemaining()) {
+			next();
+		} else {
+			complete(transferred);
+		}
+	}
+
+
+	@Override
+	public void failed(Throwable thrown, Void attachment)
+	{
+		completeExceptionally(thrown);
+	}
+
+
+	/**
+	 * Awaits completion, as a managed block (see {@link Blocking}); a failure is thrown as per
+	 * {@link Exceptional#uncheck(Throwable)}, an {@link Error} as is.
+	 * 
+	 * @return the number of bytes transferred
+	 */
+	int await()
+	{
+		try {
+			return Blocking.get(this::get);
+		} catch(ExecutionException e) {
+			Throwable cause = e.getCause();
+			if(cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw uncheck(cause);
+		} catch(Exception e) {
+			throw uncheck(e);
+		}
+	}
+
+
+	/**
+	 * Awaits completion, ignoring any failure.
+	 */
+	void settle()
+	{
+		try {
+			Blocking.get(this::get);
+		} catch(Exception e) {
+			if(e instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
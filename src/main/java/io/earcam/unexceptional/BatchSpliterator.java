@@ -0,0 +1,131 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ * A {@link Spliterator} grouping consecutive source elements into presized {@link List}s of (at most) {@code size}
+ * elements, preserving encounter order. Splitting delegates to the source, so in parallel batches do not span
+ * splits (a batch may be short at a split boundary).
+ * </p>
+ * <p>
+ * Presizing is capped at {@value #MAX_PRESIZE} elements, larger batches growing as they fill; so a huge {@code size}
+ * (e.g. {@link Integer#MAX_VALUE}, to batch everything) costs no more up front than a moderate one.
+ * </p>
+ * <p>
+ * When {@code reuse} is set, each split refills a single buffer; only safe where every batch is fully consumed
+ * before the next is requested (e.g. {@link EmeticStream#mapBatched(int, CheckedFunction)}).
+ * </p>
+ * 
+ * @param <T> the source element type
+ * 
+ * @since 1.1.0
+ */
+final class BatchSpliterator<T> implements Spliterator<List<T>> {
+
+	static final int MAX_PRESIZE = 1024;
+
+	private final Spliterator<T> source;
+	private final int size;
+	private final int capacity;
+	private final boolean reuse;
+	private ArrayList<T> buffer;
+
+
+	private BatchSpliterator(Spliterator<T> source, int size, boolean reuse)
+	{
+		this.source = source;
+		this.size = size;
+		this.capacity = Math.min(size, MAX_PRESIZE);
+		this.reuse = reuse;
+	}
+
+
+	static <T> Stream<List<T>> batch(Stream<T> stream, int size, boolean reuse)
+	{
+		if(size < 1) {
+			throw new IllegalArgumentException("size must be positive, was " + size);
+		}
+		return StreamSupport.stream(new BatchSpliterator<>(stream.spliterator(), size, reuse), stream.isParallel())
+				.onClose(stream::close);
+	}
+
+
+	static <R> Stream<? extends R> flatten(List<? extends R> list)
+	{
+		return list == null ? Stream.empty() : list.stream();
+	}
+
+
+	@Override
+	public boolean tryAdvance(Consumer<? super List<T>> action)
+	{
+		ArrayList<T> batch = buffer();
+		while(batch.size() < size && source.tryAdvance(batch::add));
+		if(batch.isEmpty()) {
+			return false;
+		}
+		action.accept(batch);
+		return true;
+	}
+
+
+	private ArrayList<T> buffer()
+	{
+		if(!reuse) {
+			return new ArrayList<>(capacity);
+		}
+		if(buffer == null) {
+			buffer = new ArrayList<>(capacity);
+		} else {
+			buffer.clear();
+		}
+		return buffer;
+	}
+
+
+	@Override
+	public Spliterator<List<T>> trySplit()
+	{
+		Spliterator<T> split = source.trySplit();
+		return split == null ? null : new BatchSpliterator<>(split, size, reuse);
+	}
+
+
+	@Override
+	public long estimateSize()
+	{
+		long estimate = source.estimateSize();
+		return estimate == Long.MAX_VALUE ? estimate : (estimate + size - 1) / size;
+	}
+
+
+	@Override
+	public int characteristics()
+	{
+		return (source.characteristics() & ORDERED) | NONNULL;
+	}
+}
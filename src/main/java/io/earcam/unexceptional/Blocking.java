@@ -0,0 +1,299 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.Exceptional.throwAsUnchecked;
+
+import java.io.Serializable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ManagedBlocker;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * <p>
+ * Decorators for checked functional types that may block (typically on IO); each invocation is executed via
+ * {@link ForkJoinPool#managedBlock(ManagedBlocker)}, so when invoked by a {@link ForkJoinPool} worker (e.g. within a
+ * parallel stream) the pool may activate a compensating worker for the duration, maintaining effective parallelism.
+ * </p>
+ * <p>
+ * Outside of a {@link ForkJoinPool} the invocation is simply executed directly. Anything thrown by the decorated
+ * type propagates unchanged.
+ * </p>
+ * 
+ * @since 1.1.0
+ * 
+ * @see EmeticStream#blocking()
+ */
+@SuppressWarnings({
+		"squid:S1905", // SonarQube false positives
+		"squid:S1181"  // SonarQube necessary evil
+})
+public final class Blocking {
+
+	private static final class Blocker<T, E extends Throwable> implements ManagedBlocker {
+
+		private final CheckedSupplier<T, E> supplier;
+		private T result;
+		private Throwable thrown;
+		private boolean released;
+
+
+		Blocker(CheckedSupplier<T, E> supplier)
+		{
+			this.supplier = supplier;
+		}
+
+
+		@Override
+		public boolean block()
+		{
+			try {
+				result = supplier.get();
+			} catch(Throwable caught) {
+				thrown = caught;
+			}
+			released = true;
+			return true;
+		}
+
+
+		/**
+		 * Java 8's {@link ForkJoinPool#managedBlock(ManagedBlocker)} spins on this while attempting to compensate,
+		 * yielding avoids starving the very workers it awaits.
+		 */
+		@Override
+		public boolean isReleasable()
+		{
+			if(!released) {
+				Thread.yield();
+			}
+			return released;
+		}
+	}
+
+
+	private Blocking()
+	{
+		throw new IllegalStateException("Why on earth would you want to instantiate this?");
+	}
+
+
+	/**
+	 * Invokes {@link CheckedSupplier#get()} as a {@link ManagedBlocker}.
+	 * 
+	 * @param <T> the supplied type
+	 * @param <E> the type of exception thrown by the {@code supplier}
+	 * 
+	 * @param supplier the potentially blocking supplier
+	 * @return the result of the {@code supplier}
+	 * @throws E rethrown unchanged from the {@code supplier}
+	 */
+	public static <T, E extends Throwable> T get(CheckedSupplier<T, E> supplier) throws E
+	{
+		if(!(Thread.currentThread() instanceof ForkJoinWorkerThread)) {
+			return supplier.get();
+		}
+		Blocker<T, E> blocker = new Blocker<>(supplier);
+		try {
+			ForkJoinPool.managedBlock(blocker);
+		} catch(InterruptedException e) {
+			throw throwAsUnchecked(e);
+		}
+		if(blocker.thrown != null) {
+			throw throwAsUnchecked(blocker.thrown);
+		}
+		return blocker.result;
+	}
+
+
+	/**
+	 * Invokes {@link CheckedRunnable#run()} as a {@link ManagedBlocker}.
+	 * 
+	 * @param <E> the type of exception thrown by the {@code runnable}
+	 * 
+	 * @param runnable the potentially blocking runnable
+	 * @throws E rethrown unchanged from the {@code runnable}
+	 */
+	public static <E extends Throwable> void run(CheckedRunnable<E> runnable) throws E
+	{
+		get(() -> {
+			runnable.run();
+			return null;
+		});
+	}
+
+
+	/**
+	 * @param <E> the type of exception thrown by the {@code runnable}
+	 * 
+	 * @param runnable the potentially blocking runnable
+	 * @return a runnable executing the {@code runnable} argument as a {@link ManagedBlocker}
+	 */
+	public static <E extends Throwable> CheckedRunnable<E> runnable(CheckedRunnable<E> runnable)
+	{
+		return (CheckedRunnable<E> & Serializable) () -> run(runnable);
+	}
+
+
+	/**
+	 * @param <T> the supplied type
+	 * @param <E> the type of exception thrown by the {@code supplier}
+	 * 
+	 * @param supplier the potentially blocking supplier
+	 * @return a supplier executing the {@code supplier} argument as a {@link ManagedBlocker}
+	 */
+	public static <T, E extends Throwable> CheckedSupplier<T, E> supplier(CheckedSupplier<T, E> supplier)
+	{
+		return (CheckedSupplier<T, E> & Serializable) () -> get(supplier);
+	}
+
+
+	/**
+	 * @param <T> the function's argument type
+	 * @param <R> the function's return type
+	 * @param <E> the type of exception thrown by the {@code function}
+	 * 
+	 * @param function the potentially blocking function
+	 * @return a function applying the {@code function} argument as a {@link ManagedBlocker}
+	 */
+	public static <T, R, E extends Throwable> CheckedFunction<T, R, E> function(CheckedFunction<T, R, E> function)
+	{
+		return (CheckedFunction<T, R, E> & Serializable) t -> get(() -> function.apply(t));
+	}
+
+
+	/**
+	 * @param <T> the function's first argument type
+	 * @param <U> the function's second argument type
+	 * @param <R> the function's return type
+	 * @param <E> the type of exception thrown by the {@code function}
+	 * 
+	 * @param function the potentially blocking function
+	 * @return a function applying the {@code function} argument as a {@link ManagedBlocker}
+	 */
+	public static <T, U, R, E extends Throwable> CheckedBiFunction<T, U, R, E> biFunction(CheckedBiFunction<T, U, R, E> function)
+	{
+		return (CheckedBiFunction<T, U, R, E> & Serializable) (t, u) -> get(() -> function.apply(t, u));
+	}
+
+
+	/**
+	 * @param <T> the operand and result type
+	 * @param <E> the type of exception thrown by the {@code operator}
+	 * 
+	 * @param operator the potentially blocking operator
+	 * @return an operator applying the {@code operator} argument as a {@link ManagedBlocker}
+	 */
+	public static <T, E extends Throwable> CheckedBinaryOperator<T, E> binaryOperator(CheckedBinaryOperator<T, E> operator)
+	{
+		return (CheckedBinaryOperator<T, E> & Serializable) (t, u) -> get(() -> operator.apply(t, u));
+	}
+
+
+	/**
+	 * @param <T> the function's argument type
+	 * @param <E> the type of exception thrown by the {@code function}
+	 * 
+	 * @param function the potentially blocking function
+	 * @return a function applying the {@code function} argument as a {@link ManagedBlocker}
+	 */
+	public static <T, E extends Throwable> CheckedToDoubleFunction<T, E> toDoubleFunction(CheckedToDoubleFunction<T, E> function)
+	{
+		return (CheckedToDoubleFunction<T, E> & Serializable) t -> get(() -> function.applyAsDouble(t));
+	}
+
+
+	/**
+	 * @param <T> the function's argument type
+	 * @param <E> the type of exception thrown by the {@code function}
+	 * 
+	 * @param function the potentially blocking function
+	 * @return a function applying the {@code function} argument as a {@link ManagedBlocker}
+	 */
+	public static <T, E extends Throwable> CheckedToIntFunction<T, E> toIntFunction(CheckedToIntFunction<T, E> function)
+	{
+		return (CheckedToIntFunction<T, E> & Serializable) t -> get(() -> function.applyAsInt(t));
+	}
+
+
+	/**
+	 * @param <T> the function's argument type
+	 * @param <E> the type of exception thrown by the {@code function}
+	 * 
+	 * @param function the potentially blocking function
+	 * @return a function applying the {@code function} argument as a {@link ManagedBlocker}
+	 */
+	public static <T, E extends Throwable> CheckedToLongFunction<T, E> toLongFunction(CheckedToLongFunction<T, E> function)
+	{
+		return (CheckedToLongFunction<T, E> & Serializable) t -> get(() -> function.applyAsLong(t));
+	}
+
+
+	/**
+	 * @param <T> the consumed type
+	 * @param <E> the type of exception thrown by the {@code consumer}
+	 * 
+	 * @param consumer the potentially blocking consumer
+	 * @return a consumer accepting via the {@code consumer} argument as a {@link ManagedBlocker}
+	 */
+	public static <T, E extends Throwable> CheckedConsumer<T, E> consumer(CheckedConsumer<T, E> consumer)
+	{
+		return (CheckedConsumer<T, E> & Serializable) t -> run(() -> consumer.accept(t));
+	}
+
+
+	/**
+	 * @param <T> the first consumed type
+	 * @param <U> the second consumed type
+	 * @param <E> the type of exception thrown by the {@code consumer}
+	 * 
+	 * @param consumer the potentially blocking consumer
+	 * @return a consumer accepting via the {@code consumer} argument as a {@link ManagedBlocker}
+	 */
+	public static <T, U, E extends Throwable> CheckedBiConsumer<T, U, E> biConsumer(CheckedBiConsumer<T, U, E> consumer)
+	{
+		return (CheckedBiConsumer<T, U, E> & Serializable) (t, u) -> run(() -> consumer.accept(t, u));
+	}
+
+
+	/**
+	 * @param <T> the tested type
+	 * @param <E> the type of exception thrown by the {@code predicate}
+	 * 
+	 * @param predicate the potentially blocking predicate
+	 * @return a predicate testing via the {@code predicate} argument as a {@link ManagedBlocker}
+	 */
+	public static <T, E extends Throwable> CheckedPredicate<T, E> predicate(CheckedPredicate<T, E> predicate)
+	{
+		return (CheckedPredicate<T, E> & Serializable) t -> get(() -> predicate.test(t));
+	}
+
+
+	/**
+	 * @param <T> the compared type
+	 * @param <E> the type of exception thrown by the {@code comparator}
+	 * 
+	 * @param comparator the potentially blocking comparator
+	 * @return a comparator comparing via the {@code comparator} argument as a {@link ManagedBlocker}
+	 */
+	public static <T, E extends Throwable> CheckedComparator<T, E> comparator(CheckedComparator<T, E> comparator)
+	{
+		return (CheckedComparator<T, E> & Serializable) (a, b) -> get(() -> comparator.compare(a, b));
+	}
+}
@@ -0,0 +1,142 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+/**
+ * An {@link EmeticStream} decorating each checked operation via {@link Blocking}, so invocations by
+ * {@link java.util.concurrent.ForkJoinPool} workers are managed blocks.
+ * 
+ * @param <T> the element type of this stream
+ * 
+ * @since 1.1.0
+ */
+final class BlockingEmeticStream<T> extends DelegatingEmeticStream<T> {
+
+	private final EmeticStream<T> delegate;
+
+
+	private BlockingEmeticStream(EmeticStream<T> delegate)
+	{
+		this.delegate = delegate;
+	}
+
+
+	static <T> EmeticStream<T> blocking(EmeticStream<T> stream)
+	{
+		return new BlockingEmeticStream<>(stream);
+	}
+
+
+	@Override
+	EmeticStream<T> delegate()
+	{
+		return delegate;
+	}
+
+
+	@Override
+	<R> EmeticStream<R> decorate(EmeticStream<R> stream)
+	{
+		return blocking(stream);
+	}
+
+
+	@Override
+	<A, R, E extends Throwable> CheckedFunction<A, R, E> function(CheckedFunction<A, R, E> function)
+	{
+		return Blocking.function(function);
+	}
+
+
+	@Override
+	<A, B, R, E extends Throwable> CheckedBiFunction<A, B, R, E> biFunction(CheckedBiFunction<A, B, R, E> function)
+	{
+		return Blocking.biFunction(function);
+	}
+
+
+	@Override
+	<A, E extends Throwable> CheckedBinaryOperator<A, E> binaryOperator(CheckedBinaryOperator<A, E> operator)
+	{
+		return Blocking.binaryOperator(operator);
+	}
+
+
+	@Override
+	<A, E extends Throwable> CheckedToDoubleFunction<A, E> toDoubleFunction(CheckedToDoubleFunction<A, E> function)
+	{
+		return Blocking.toDoubleFunction(function);
+	}
+
+
+	@Override
+	<A, E extends Throwable> CheckedToIntFunction<A, E> toIntFunction(CheckedToIntFunction<A, E> function)
+	{
+		return Blocking.toIntFunction(function);
+	}
+
+
+	@Override
+	<A, E extends Throwable> CheckedToLongFunction<A, E> toLongFunction(CheckedToLongFunction<A, E> function)
+	{
+		return Blocking.toLongFunction(function);
+	}
+
+
+	@Override
+	<A, E extends Throwable> CheckedSupplier<A, E> supplier(CheckedSupplier<A, E> supplier)
+	{
+		return Blocking.supplier(supplier);
+	}
+
+
+	@Override
+	<A, E extends Throwable> CheckedConsumer<A, E> consumer(CheckedConsumer<A, E> consumer)
+	{
+		return Blocking.consumer(consumer);
+	}
+
+
+	@Override
+	<A, B, E extends Throwable> CheckedBiConsumer<A, B, E> biConsumer(CheckedBiConsumer<A, B, E> consumer)
+	{
+		return Blocking.biConsumer(consumer);
+	}
+
+
+	@Override
+	<A, E extends Throwable> CheckedPredicate<A, E> predicate(CheckedPredicate<A, E> predicate)
+	{
+		return Blocking.predicate(predicate);
+	}
+
+
+	@Override
+	<A, E extends Throwable> CheckedComparator<A, E> comparator(CheckedComparator<A, E> comparator)
+	{
+		return Blocking.comparator(comparator);
+	}
+
+
+	@Override
+	public EmeticStream<T> blocking()
+	{
+		return this;
+	}
+}
@@ -0,0 +1,196 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Encodes elements into reusable direct {@link ByteBuffer}s, flushing them with a single gathering write (see
+ * {@link GatheringByteChannel#write(ByteBuffer[], int, int)}) once a byte or record threshold is reached; so a
+ * channel is written once per batch, rather than once per record.
+ * </p>
+ * <p>
+ * An encoder writes directly into the current buffer; should it overflow, the partial record is discarded and
+ * re-encoded into the next buffer. A record larger than a buffer is encoded into a dedicated buffer, grown as
+ * necessary, and written alone. Should an encoder fail, its partial record is discarded.
+ * </p>
+ * 
+ * @param <T> the element type
+ * 
+ * @since 1.1.0
+ */
+final class ChannelSink<T> implements Consumer<T> {
+
+	static final int DEFAULT_FLUSH_BYTES = 1024 * 1024;
+
+	static final int BUFFER_SIZE = 64 * 1024;
+
+	private final WritableByteChannel channel;
+	private final BiConsumer<? super T, ByteBuffer> encoder;
+	private final int flushRecords;
+	private final int bufferSize;
+	private final ByteBuffer[] buffers;
+	private int current;
+	private int records;
+	private long written;
+
+
+	private ChannelSink(WritableByteChannel channel, BiConsumer<? super T, ByteBuffer> encoder, int flushBytes, int flushRecords)
+	{
+		this.channel = channel;
+		this.encoder = encoder;
+		this.flushRecords = flushRecords;
+		this.bufferSize = Math.min(flushBytes, BUFFER_SIZE);
+		this.buffers = new ByteBuffer[(flushBytes + bufferSize - 1) / bufferSize];
+		buffers[0] = ByteBuffer.allocateDirect(bufferSize);
+	}
+
+
+	static <T> long write(Stream<T> stream, WritableByteChannel channel, BiConsumer<? super T, ByteBuffer> encoder, int flushBytes, int flushRecords,
+			boolean force)
+	{
+		Objects.requireNonNull(channel);
+		Objects.requireNonNull(encoder);
+		if(flushBytes < 1) {
+			throw new IllegalArgumentException("flushBytes must be positive, was " + flushBytes);
+		}
+		if(flushRecords < 1) {
+			throw new IllegalArgumentException("flushRecords must be positive, was " + flushRecords);
+		}
+		ChannelSink<T> sink = new ChannelSink<>(channel, encoder, flushBytes, flushRecords);
+		stream.forEachOrdered(sink);
+		sink.flush();
+		if(force && channel instanceof FileChannel) {
+			Exceptional.run(() -> ((FileChannel) channel).force(false));
+		}
+		return sink.written;
+	}
+
+
+	@Override
+	public void accept(T element)
+	{
+		if(!encode(encoder, element, buffers[current])) {
+			next();
+			if(!encode(encoder, element, buffers[current])) {
+				flush();
+				writeLarge(element);
+			}
+		}
+		if(++records >= flushRecords) {
+			flush();
+		}
+	}
+
+
+	static <T> boolean encode(BiConsumer<? super T, ByteBuffer> encoder, T element, ByteBuffer buffer)
+	{
+		int start = buffer.position();
+		try {
+			encoder.accept(element, buffer);
+			return true;
+		} catch(BufferOverflowException full) {
+			buffer.position(start);
+			return false;
+		} catch(Throwable thrown) {
+			buffer.position(start);
+			throw thrown;
+		}
+	}
+
+
+	private void next()
+	{
+		if(buffers[current].position() == 0) {
+			return;
+		}
+		if(current + 1 == buffers.length) {
+			flush();
+		} else if(buffers[++current] == null) {
+			buffers[current] = ByteBuffer.allocateDirect(bufferSize);
+		}
+	}
+
+
+	static <T> ByteBuffer encodeLarge(BiConsumer<? super T, ByteBuffer> encoder, T element, int bufferSize)
+	{
+		ByteBuffer large = ByteBuffer.allocate(bufferSize * 2);
+		while(!encode(encoder, element, large)) {
+			large = ByteBuffer.allocate(large.capacity() * 2);
+		}
+		large.flip();
+		return large;
+	}
+
+
+	private void writeLarge(T element)
+	{
+		ByteBuffer large = encodeLarge(encoder, element, bufferSize);
+		try {
+			while(large.hasRemaining()) {
+				written += channel.write(large);
+			}
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+
+	private void flush()
+	{
+		int count = current + 1;
+		long remaining = 0;
+		for(int i = 0; i < count; i++) {
+			remaining += buffers[i].flip().remaining();
+		}
+		try {
+			if(channel instanceof GatheringByteChannel) {
+				GatheringByteChannel gathering = (GatheringByteChannel) channel;
+				while(remaining > 0) {
+					remaining -= gathering.write(buffers, 0, count);
+				}
+			} else {
+				for(int i = 0; i < count; i++) {
+					while(buffers[i].hasRemaining()) {
+						channel.write(buffers[i]);
+					}
+				}
+			}
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		for(int i = 0; i < count; i++) {
+			written += buffers[i].position();
+			buffers[i].clear();
+		}
+		current = 0;
+		records = 0;
+	}
+}
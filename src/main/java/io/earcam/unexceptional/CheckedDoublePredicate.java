@@ -0,0 +1,86 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import java.io.Serializable;   // NOSONAR SonarQube false positive - putting @SuppressWarnings("squid:UselessImportCheck") on class has no effect, can't put at package level either
+import java.util.Objects;
+
+/**
+ * A checked parallel of {@link java.util.function.DoublePredicate}
+ * 
+ * @param <E> the type of Throwable declared
+ * 
+ * @since 1.1.0
+ * 
+ * @see java.util.function.DoublePredicate
+ */
+@FunctionalInterface
+public interface CheckedDoublePredicate<E extends Throwable> {
+
+	/**
+	 * See {@link java.util.function.DoublePredicate#test(double)}
+	 * 
+	 * @param value the input argument
+	 * @return {@code true} if the input argument matches the predicate, otherwise {@code false}
+	 * @throws E any throwable
+	 */
+	public abstract boolean test(double value) throws E;
+
+
+	/**
+	 * See {@link java.util.function.DoublePredicate#and(java.util.function.DoublePredicate)}
+	 * 
+	 * @param other the predicate to be compounded with logical <b>and</b>
+	 * @return the composite {@link CheckedDoublePredicate}
+	 * @throws NullPointerException if {@code other} is {@code null}
+	 */
+	@SuppressWarnings("squid:S1905") // SonarQube false positive
+	public default CheckedDoublePredicate<E> and(/* @Nonnull */ CheckedDoublePredicate<? extends E> other)
+	{
+		Objects.requireNonNull(other);
+		return (CheckedDoublePredicate<E> & Serializable) v -> test(v) && other.test(v);
+	}
+
+
+	/**
+	 * See {@link java.util.function.DoublePredicate#negate()}
+	 * 
+	 * @return the negated {@link CheckedDoublePredicate}
+	 */
+	@SuppressWarnings("squid:S1905") // SonarQube false positive
+	public default CheckedDoublePredicate<E> negate()
+	{
+		return (CheckedDoublePredicate<E> & Serializable) v -> !test(v);
+	}
+
+
+	/**
+	 * See {@link java.util.function.DoublePredicate#or(java.util.function.DoublePredicate)}
+	 * 
+	 * @param other the predicate to be compounded with logical <b>or</b>
+	 * @return the composite {@link CheckedDoublePredicate}
+	 * @throws NullPointerException if {@code other} is {@code null}
+	 */
+	@SuppressWarnings("squid:S1905") // SonarQube false positive
+	public default CheckedDoublePredicate<E> or(/* @Nonnull */ CheckedDoublePredicate<? extends E> other)
+	{
+		Objects.requireNonNull(other);
+		return (CheckedDoublePredicate<E> & Serializable) v -> test(v) || other.test(v);
+	}
+}
@@ -0,0 +1,86 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import java.util.Objects;
+
+/**
+ * A checked parallel of {@link java.util.function.DoubleUnaryOperator}
+ * 
+ * @param <E> the type of Throwable declared
+ * 
+ * @since 1.1.0
+ * 
+ * @see java.util.function.DoubleUnaryOperator
+ */
+@FunctionalInterface
+public interface CheckedDoubleUnaryOperator<E extends Throwable> {
+
+	/**
+	 * See {@link java.util.function.DoubleUnaryOperator#applyAsDouble(double)}
+	 * 
+	 * @param operand the operand
+	 * @return the operator result
+	 * @throws E any throwable
+	 */
+	public abstract double applyAsDouble(double operand) throws E;
+
+
+	/**
+	 * See {@link java.util.function.DoubleUnaryOperator#compose(java.util.function.DoubleUnaryOperator)}
+	 * 
+	 * @param before the operator to apply before this operator is applied
+	 * @return a composed operator that first applies the {@code before}
+	 * operator and then applies this operator
+	 * @throws NullPointerException if {@code before} is {@code null}
+	 */
+	public default CheckedDoubleUnaryOperator<E> compose(/* @Nonnull */ CheckedDoubleUnaryOperator<? extends E> before)
+	{
+		Objects.requireNonNull(before);
+		return (double v) -> applyAsDouble(before.applyAsDouble(v));
+	}
+
+
+	/**
+	 * See {@link java.util.function.DoubleUnaryOperator#andThen(java.util.function.DoubleUnaryOperator)}
+	 * 
+	 * @param after the operator to apply after this operator is applied
+	 * @return a composed operator that first applies this operator and then
+	 * applies the {@code after} operator
+	 * @throws NullPointerException if {@code after} is {@code null}
+	 */
+	public default CheckedDoubleUnaryOperator<E> andThen(/* @Nonnull */ CheckedDoubleUnaryOperator<? extends E> after)
+	{
+		Objects.requireNonNull(after);
+		return (double v) -> after.applyAsDouble(applyAsDouble(v));
+	}
+
+
+	/**
+	 * See {@link java.util.function.DoubleUnaryOperator#identity()}
+	 * 
+	 * @param <E> the type of Throwable declared
+	 * 
+	 * @return a unary operator that always returns its input argument
+	 */
+	public static <E extends Throwable> CheckedDoubleUnaryOperator<E> identity()
+	{
+		return v -> v;
+	}
+}
@@ -0,0 +1,61 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import java.util.Objects;
+
+/**
+ * A checked parallel of {@link java.util.function.LongConsumer}
+ * 
+ * @param <E> the type of Throwable declared
+ * 
+ * @since 1.1.0
+ * 
+ * @see java.util.function.LongConsumer
+ */
+@FunctionalInterface
+public interface CheckedLongConsumer<E extends Throwable> {
+
+	/**
+	 * See {@link java.util.function.LongConsumer#accept(long)}
+	 * 
+	 * @param value the input argument
+	 * @throws E any throwable
+	 */
+	public abstract void accept(long value) throws E;
+
+
+	/**
+	 * See {@link java.util.function.LongConsumer#andThen(java.util.function.LongConsumer)}
+	 * 
+	 * @param after the operation to perform after this operation
+	 * @return a composed {@code CheckedLongConsumer} that performs in sequence this
+	 * operation followed by the {@code after} operation
+	 * 
+	 * @throws NullPointerException if {@code after} is {@code null}
+	 */
+	public default CheckedLongConsumer<E> andThen(/* @Nonnull */ CheckedLongConsumer<? extends E> after)
+	{
+		Objects.requireNonNull(after);
+		return (long v) -> {
+			accept(v);
+			after.accept(v);
+		};
+	}
+}
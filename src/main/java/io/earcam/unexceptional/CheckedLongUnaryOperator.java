@@ -0,0 +1,86 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import java.util.Objects;
+
+/**
+ * A checked parallel of {@link java.util.function.LongUnaryOperator}
+ * 
+ * @param <E> the type of Throwable declared
+ * 
+ * @since 1.1.0
+ * 
+ * @see java.util.function.LongUnaryOperator
+ */
+@FunctionalInterface
+public interface CheckedLongUnaryOperator<E extends Throwable> {
+
+	/**
+	 * See {@link java.util.function.LongUnaryOperator#applyAsLong(long)}
+	 * 
+	 * @param operand the operand
+	 * @return the operator result
+	 * @throws E any throwable
+	 */
+	public abstract long applyAsLong(long operand) throws E;
+
+
+	/**
+	 * See {@link java.util.function.LongUnaryOperator#compose(java.util.function.LongUnaryOperator)}
+	 * 
+	 * @param before the operator to apply before this operator is applied
+	 * @return a composed operator that first applies the {@code before}
+	 * operator and then applies this operator
+	 * @throws NullPointerException if {@code before} is {@code null}
+	 */
+	public default CheckedLongUnaryOperator<E> compose(/* @Nonnull */ CheckedLongUnaryOperator<? extends E> before)
+	{
+		Objects.requireNonNull(before);
+		return (long v) -> applyAsLong(before.applyAsLong(v));
+	}
+
+
+	/**
+	 * See {@link java.util.function.LongUnaryOperator#andThen(java.util.function.LongUnaryOperator)}
+	 * 
+	 * @param after the operator to apply after this operator is applied
+	 * @return a composed operator that first applies this operator and then
+	 * applies the {@code after} operator
+	 * @throws NullPointerException if {@code after} is {@code null}
+	 */
+	public default CheckedLongUnaryOperator<E> andThen(/* @Nonnull */ CheckedLongUnaryOperator<? extends E> after)
+	{
+		Objects.requireNonNull(after);
+		return (long v) -> after.applyAsLong(applyAsLong(v));
+	}
+
+
+	/**
+	 * See {@link java.util.function.LongUnaryOperator#identity()}
+	 * 
+	 * @param <E> the type of Throwable declared
+	 * 
+	 * @return a unary operator that always returns its input argument
+	 */
+	public static <E extends Throwable> CheckedLongUnaryOperator<E> identity()
+	{
+		return v -> v;
+	}
+}
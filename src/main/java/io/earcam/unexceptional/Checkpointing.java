@@ -0,0 +1,238 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * <p>
+ * Checkpointed, resumable sequential reduction; see
+ * {@link EmeticStream#reduceCheckpointed(Path, int, Object, CheckedBiFunction, CheckedFunction, CheckedFunction)}.
+ * </p>
+ * <p>
+ * Every {@code interval} elements the position (count of elements accumulated) and serialized state are handed to a
+ * single background writer, which replaces the checkpoint file atomically (written to a sibling temporary file,
+ * forced, then moved). Snapshots taken while a write is in flight coalesce, only the latest is written; so the stream
+ * never waits on checkpoint I/O. A write failure is raised by the next snapshot (or on completion).
+ * </p>
+ * <p>
+ * On failure the checkpoint is brought up to date, synchronously, before the failure propagates; on completion it is
+ * deleted.
+ * </p>
+ * 
+ * @param <T> the element type
+ * @param <A> the accumulated state type
+ * 
+ * @since 1.1.0
+ */
+final class Checkpointing<T, A> {
+
+	private static final int HEADER = Long.BYTES + Integer.BYTES;
+
+	private final Path file;
+	private final Path temporary;
+	private final Function<? super A, byte[]> serializer;
+	private final BiFunction<A, ? super T, A> accumulator;
+	private final int interval;
+	private final AtomicReference<byte[]> pending = new AtomicReference<>();
+	private final AtomicBoolean writing = new AtomicBoolean();
+	private final ExecutorService writer = AsyncExecution.executor(1);
+	private final Object idle = new Object();
+	private volatile Throwable failure;
+	private long position;
+	private A state;
+
+
+	private Checkpointing(Path file, int interval, BiFunction<A, ? super T, A> accumulator, Function<? super A, byte[]> serializer)
+	{
+		this.file = file;
+		this.temporary = file.resolveSibling(file.getFileName() + ".tmp");
+		this.interval = interval;
+		this.accumulator = accumulator;
+		this.serializer = serializer;
+	}
+
+
+	static <T, A> A reduce(Stream<T> stream, Path file, int interval, A identity, BiFunction<A, ? super T, A> accumulator,
+			Function<? super A, byte[]> serializer, Function<byte[], ? extends A> deserializer)
+	{
+		if(interval < 1) {
+			throw new IllegalArgumentException("interval must be positive, was " + interval);
+		}
+		Checkpointing<T, A> checkpointing = new Checkpointing<>(file, interval, accumulator, serializer);
+		checkpointing.state = identity;
+		checkpointing.restore(deserializer);
+		try {
+			return checkpointing.run(stream);
+		} finally {
+			checkpointing.writer.shutdown();
+		}
+	}
+
+
+	private void restore(Function<byte[], ? extends A> deserializer)
+	{
+		if(!Files.exists(file)) {
+			return;
+		}
+		ByteBuffer checkpoint = ByteBuffer.wrap(Exceptional.get(() -> Files.readAllBytes(file)));
+		if(checkpoint.remaining() < HEADER + Integer.BYTES || checkpoint.getInt(Long.BYTES) != checkpoint.remaining() - HEADER - Integer.BYTES) {
+			throw corrupt();
+		}
+		CRC32 checksum = new CRC32();
+		checksum.update(checkpoint.array(), 0, checkpoint.limit() - Integer.BYTES);
+		if((int) checksum.getValue() != checkpoint.getInt(checkpoint.limit() - Integer.BYTES)) {
+			throw corrupt();
+		}
+		position = checkpoint.getLong();
+		byte[] serialized = new byte[checkpoint.getInt()];
+		checkpoint.get(serialized);
+		state = deserializer.apply(serialized);
+	}
+
+
+	private UncheckedIOException corrupt()
+	{
+		return new UncheckedIOException(new IOException("corrupt checkpoint " + file));
+	}
+
+
+	private A run(Stream<T> stream)
+	{
+		try(Stream<T> remaining = stream.sequential().skip(position)) {
+			remaining.forEachOrdered(this::accumulate);
+		} catch(Throwable thrown) {
+			try {
+				awaitIdle();
+				write(encode());
+			} catch(Throwable checkpointFailure) {
+				thrown.addSuppressed(checkpointFailure);
+			}
+			throw thrown;
+		}
+		Exceptional.run(this::awaitIdle);
+		raiseFailure();
+		Exceptional.run(() -> {
+			Files.deleteIfExists(file);
+			Files.deleteIfExists(temporary);
+		});
+		return state;
+	}
+
+
+	private void accumulate(T element)
+	{
+		state = accumulator.apply(state, element);
+		if(++position % interval == 0) {
+			snapshot();
+		}
+	}
+
+
+	private void snapshot()
+	{
+		raiseFailure();
+		pending.set(encode());
+		if(writing.compareAndSet(false, true)) {
+			writer.execute(this::drain);
+		}
+	}
+
+
+	private void raiseFailure()
+	{
+		if(failure != null) {
+			throw Exceptional.uncheck(failure);
+		}
+	}
+
+
+	private byte[] encode()
+	{
+		byte[] serialized = serializer.apply(state);
+		ByteBuffer checkpoint = ByteBuffer.allocate(HEADER + serialized.length + Integer.BYTES)
+				.putLong(position)
+				.putInt(serialized.length)
+				.put(serialized);
+		CRC32 checksum = new CRC32();
+		checksum.update(checkpoint.array(), 0, checkpoint.position());
+		checkpoint.putInt((int) checksum.getValue());
+		return checkpoint.array();
+	}
+
+
+	private void drain()
+	{
+		do {
+			byte[] checkpoint;
+			while((checkpoint = pending.getAndSet(null)) != null) {
+				try {
+					write(checkpoint);
+				} catch(Throwable thrown) {
+					failure = thrown;
+				}
+			}
+			synchronized(idle) {
+				writing.set(false);
+				idle.notifyAll();
+			}
+		} while(pending.get() != null && writing.compareAndSet(false, true));
+	}
+
+
+	private void awaitIdle() throws InterruptedException
+	{
+		synchronized(idle) {
+			while(writing.get()) {
+				idle.wait();
+			}
+		}
+	}
+
+
+	private void write(byte[] checkpoint) throws IOException
+	{
+		try(FileChannel channel = FileChannel.open(temporary, CREATE, TRUNCATE_EXISTING, WRITE)) {
+			ByteBuffer buffer = ByteBuffer.wrap(checkpoint);
+			while(buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			channel.force(true);
+		}
+		Files.move(temporary, file, ATOMIC_MOVE, REPLACE_EXISTING);
+	}
+}
@@ -0,0 +1,99 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>
+ * A chunk of bytes read from a channel by {@link EmeticStream#chunks(java.nio.channels.ReadableByteChannel, int)},
+ * held in a pooled direct {@link ByteBuffer}. The buffer is handed over as read, without copying; once consumed it
+ * must be {@link #release() released} (e.g. via try-with-resources) so that it may be reused for a subsequent chunk.
+ * </p>
+ * <p>
+ * Each chunk is a handle on a single acquisition of its buffer; releasing it more than once, including after the
+ * buffer has been reacquired by a later chunk, has no further effect. Neither the chunk nor its buffer may be used
+ * after release.
+ * </p>
+ * 
+ * @since 1.1.0
+ */
+public final class Chunk implements AutoCloseable {
+
+	private final ByteBuffer buffer;
+	private final long position;
+	private final Queue<ByteBuffer> pool;
+	private final AtomicBoolean released = new AtomicBoolean();
+
+
+	Chunk(ByteBuffer buffer, long position, Queue<ByteBuffer> pool)
+	{
+		this.buffer = buffer;
+		this.position = position;
+		this.pool = pool;
+	}
+
+
+	/**
+	 * @return the buffer holding this chunk's bytes, positioned at zero with its limit at the number of bytes read
+	 */
+	public ByteBuffer buffer()
+	{
+		return buffer;
+	}
+
+
+	/**
+	 * @return the offset of this chunk's first byte, relative to where reading the channel began
+	 */
+	public long position()
+	{
+		return position;
+	}
+
+
+	/**
+	 * Returns this chunk's buffer to the pool; releasing more than once has no further effect.
+	 */
+	public void release()
+	{
+		if(released.compareAndSet(false, true)) {
+			pool.offer(buffer);
+		}
+	}
+
+
+	/**
+	 * As per {@link #release()}.
+	 */
+	@Override
+	public void close()
+	{
+		release();
+	}
+
+
+	@Override
+	public String toString()
+	{
+		return "Chunk[position=" + position + ", size=" + buffer.limit() + "]";
+	}
+}
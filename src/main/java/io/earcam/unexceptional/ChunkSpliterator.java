@@ -0,0 +1,193 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.Exceptional.uncheck;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ * A {@link Spliterator} of {@link Chunk}s read from a {@link ReadableByteChannel} into a bounded pool of direct
+ * {@link ByteBuffer}s. Buffers are allocated lazily, up to the pool size, and thereafter reused as chunks are released;
+ * so steady-state reading allocates only the small {@link Chunk} handles. Each chunk is filled completely, other than
+ * the last.
+ * </p>
+ * <p>
+ * When every buffer is held by the consumer, advancing waits (as a managed block, see {@link Blocking}) for a release;
+ * so a consumer must not retain more chunks than the pool holds. The channel is read sequentially, hence this
+ * spliterator does not split; parallelism is left to downstream stages (see
+ * {@link EmeticStream#prefetch(int)}). Closing closes the channel; chunks still held may be released afterwards, to no
+ * effect.
+ * </p>
+ * <p>
+ * Every read must make progress, so a non-blocking {@link SelectableChannel}, which may read nothing, is rejected.
+ * </p>
+ * 
+ * @since 1.1.0
+ */
+final class ChunkSpliterator extends Spliterators.AbstractSpliterator<Chunk> {
+
+	static final int DEFAULT_POOL_SIZE = 16;
+
+	/**
+	 * Offered to the pool on close, waking a reader awaiting a release.
+	 */
+	static final ByteBuffer CLOSED = ByteBuffer.allocate(0);
+
+	private final ReadableByteChannel channel;
+	private final int chunkSize;
+	private final int poolSize;
+	private final BlockingQueue<ByteBuffer> pool;
+	private int allocated;
+	private long position;
+	private boolean finished;
+	private volatile boolean closed;
+
+
+	private ChunkSpliterator(ReadableByteChannel channel, int chunkSize, int poolSize)
+	{
+		super(Long.MAX_VALUE, ORDERED | NONNULL);
+		this.channel = channel;
+		this.chunkSize = chunkSize;
+		this.poolSize = poolSize;
+		this.pool = new ArrayBlockingQueue<>(poolSize);
+	}
+
+
+	static Stream<Chunk> chunks(ReadableByteChannel channel, int chunkSize, int poolSize)
+	{
+		Objects.requireNonNull(channel);
+		if(chunkSize < 1) {
+			throw new IllegalArgumentException("chunkSize must be positive, was " + chunkSize);
+		}
+		if(poolSize < 1) {
+			throw new IllegalArgumentException("poolSize must be positive, was " + poolSize);
+		}
+		if(channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+			throw new IllegalArgumentException("channel must be in blocking mode");
+		}
+		ChunkSpliterator spliterator = new ChunkSpliterator(channel, chunkSize, poolSize);
+		return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+	}
+
+
+	@Override
+	public boolean tryAdvance(Consumer<? super Chunk> action)
+	{
+		if(finished) {
+			return false;
+		}
+		ByteBuffer buffer = acquire();
+		if(buffer == null) {
+			finished = true;
+			return false;
+		}
+		if(closed) {
+			finished = true;
+			pool.offer(buffer);
+			return false;
+		}
+		buffer.clear();
+		try {
+			finished = !fill(buffer);
+		} catch(RuntimeException | Error e) {
+			finished = true;
+			pool.offer(buffer);
+			throw e;
+		}
+		buffer.flip();
+		if(!buffer.hasRemaining()) {
+			pool.offer(buffer);
+			return false;
+		}
+		long at = position;
+		position += buffer.limit();
+		action.accept(new Chunk(buffer, at, pool));
+		return true;
+	}
+
+
+	private ByteBuffer acquire()
+	{
+		ByteBuffer buffer = pool.poll();
+		if(buffer == null && allocated < poolSize) {
+			buffer = ByteBuffer.allocateDirect(chunkSize);
+			++allocated;
+		}
+		return (buffer == null) ? awaitRelease() : buffer;
+	}
+
+
+	private ByteBuffer awaitRelease()
+	{
+		try {
+			ByteBuffer buffer = Blocking.get(pool::take);
+			return (buffer == CLOSED) ? null : buffer;
+		} catch(InterruptedException e) {
+			throw uncheck(e);
+		}
+	}
+
+
+	private boolean fill(ByteBuffer buffer)
+	{
+		try {
+			while(buffer.hasRemaining()) {
+				if(channel.read(buffer) < 0) {
+					return false;
+				}
+			}
+			return true;
+		} catch(IOException e) {
+			if(closed) {
+				return false;
+			}
+			throw new UncheckedIOException(e);
+		}
+	}
+
+
+	@Override
+	public Spliterator<Chunk> trySplit()
+	{
+		return null;
+	}
+
+
+	void close()
+	{
+		closed = true;
+		finished = true;
+		pool.offer(CLOSED);
+		Exceptional.run(channel::close);
+	}
+}
@@ -0,0 +1,458 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.CRC32;
+
+/**
+ * <p>
+ * A dead-letter sink, persisting the elements diverted by an error-tolerant {@link EmeticStream} (see
+ * {@link EmeticStream#onError(CheckedConsumer)}) to a local, segmented log, from which they may later be reprocessed
+ * via {@link EmeticStream#replay(Path, CheckedFunction)}, or inspected along with their failure summaries via
+ * {@link EmeticStream#replayFailures(Path, CheckedFunction)}.
+ * </p>
+ * <p>
+ * Each record holds the element, as serialized by the given function, and a compact summary of the failure (the
+ * throwable's type, message and top stack frame). Records are appended to a buffer, written sequentially to the
+ * current segment's {@link FileChannel} when the buffer fills, and a new segment is started once a segment reaches
+ * the segment size. Closing the sink flushes and forces the current segment to storage.
+ * </p>
+ * <p>
+ * Segments are named {@code dead-letter-NNNNNNNN.log}; a sink opened on a directory already containing segments
+ * starts a new one after them. Each record's header (its lengths) carries its own checksum, so a record torn by a
+ * crash mid-write, necessarily the last in its segment, is told apart from a corrupt length; the torn record is
+ * ignored on replay, while any corrupt record fails replay with an {@link IOException} (as
+ * {@link UncheckedIOException}).
+ * </p>
+ * <p>
+ * A sink is thread-safe. The serializer is applied to the failed element, which is (unchecked) cast to
+ * {@code <T>}; so install the sink where failing operations' inputs are of that type.
+ * </p>
+ * 
+ * @param <T> the type of failed elements
+ * 
+ * @since 1.1.0
+ */
+public final class DeadLetterSink<T> implements CheckedConsumer<Failure<?>, IOException>, Closeable {
+
+	static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+	static final long DEFAULT_SEGMENT_SIZE = 64L * 1024 * 1024;
+	static final int MAX_SUMMARY_LENGTH = 1024;
+
+	private static final int HEADER_LENGTH = 3 * Integer.BYTES;
+	private static final int RECORD_OVERHEAD = HEADER_LENGTH + Integer.BYTES;
+	private static final Pattern SEGMENT = Pattern.compile("dead-letter-(\\d{8})\\.log");
+
+	private final Path directory;
+	private final CheckedFunction<? super T, byte[], ?> serializer;
+	private final long segmentSize;
+	private final ByteBuffer buffer;
+	private final CRC32 checksum = new CRC32();
+	private int segment;
+	private FileChannel channel;
+	private long written;
+
+
+	private DeadLetterSink(Path directory, CheckedFunction<? super T, byte[], ?> serializer, long segmentSize, int bufferSize)
+	{
+		this.directory = directory;
+		this.serializer = serializer;
+		this.segmentSize = segmentSize;
+		this.buffer = ByteBuffer.allocateDirect(bufferSize);
+	}
+
+
+	/**
+	 * Opens a sink with the default segment size of 64MiB.
+	 * 
+	 * @param <T> the type of failed elements
+	 * 
+	 * @param directory the directory to write segments to, created if absent
+	 * @param serializer converts a failed element to bytes
+	 * @return the open sink
+	 * @throws IOException if the directory cannot be created or the first segment cannot be opened
+	 * 
+	 * @see #open(Path, CheckedFunction, long)
+	 */
+	public static <T> DeadLetterSink<T> open(Path directory, CheckedFunction<? super T, byte[], ?> serializer) throws IOException
+	{
+		return open(directory, serializer, DEFAULT_SEGMENT_SIZE);
+	}
+
+
+	/**
+	 * @param <T> the type of failed elements
+	 * 
+	 * @param directory the directory to write segments to, created if absent
+	 * @param serializer converts a failed element to bytes
+	 * @param segmentSize the size, in bytes, after which a new segment is started
+	 * @return the open sink
+	 * @throws IOException if the directory cannot be created or the first segment cannot be opened
+	 * @throws IllegalArgumentException if {@code segmentSize} is less than one
+	 */
+	public static <T> DeadLetterSink<T> open(Path directory, CheckedFunction<? super T, byte[], ?> serializer, long segmentSize) throws IOException
+	{
+		if(segmentSize < 1) {
+			throw new IllegalArgumentException("segmentSize must be positive, was " + segmentSize);
+		}
+		Files.createDirectories(directory);
+		DeadLetterSink<T> sink = new DeadLetterSink<>(directory, serializer, segmentSize, DEFAULT_BUFFER_SIZE);
+		List<Path> existing = segments(directory);
+		sink.segment = existing.isEmpty() ? 0 : index(existing.get(existing.size() - 1)) + 1;
+		sink.channel = FileChannel.open(sink.segmentPath(), CREATE_NEW, WRITE);
+		return sink;
+	}
+
+
+	private Path segmentPath()
+	{
+		return directory.resolve(String.format("dead-letter-%08d.log", segment));
+	}
+
+
+	private static int index(Path segment)
+	{
+		Matcher matcher = SEGMENT.matcher(segment.getFileName().toString());
+		matcher.matches();
+		return Integer.parseInt(matcher.group(1));
+	}
+
+
+	static List<Path> segments(Path directory) throws IOException
+	{
+		List<Path> segments = new ArrayList<>();
+		try(Stream<Path> listed = Files.list(directory)) {
+			listed.filter(p -> SEGMENT.matcher(p.getFileName().toString()).matches())
+					.sorted()
+					.forEach(segments::add);
+		}
+		return segments;
+	}
+
+
+	static String summarize(Throwable cause)
+	{
+		StringBuilder summary = new StringBuilder(cause.getClass().getName());
+		if(cause.getMessage() != null) {
+			summary.append(": ").append(cause.getMessage());
+		}
+		StackTraceElement[] trace = cause.getStackTrace();
+		if(trace.length > 0) {
+			summary.append(" at ").append(trace[0]);
+		}
+		return summary.length() > MAX_SUMMARY_LENGTH ? summary.substring(0, MAX_SUMMARY_LENGTH) : summary.toString();
+	}
+
+
+	/**
+	 * Appends the failed element and a summary of its failure.
+	 * 
+	 * @param failure the failure to record
+	 * @throws IOException if writing fails
+	 * @throws IllegalStateException if this sink has been closed
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public void accept(Failure<?> failure) throws IOException
+	{
+		byte[] element = Exceptional.apply((CheckedFunction<T, byte[], ?>) serializer, (T) failure.element());
+		byte[] summary = summarize(failure.cause()).getBytes(UTF_8);
+		append(element, summary);
+	}
+
+
+	private synchronized void append(byte[] element, byte[] summary) throws IOException
+	{
+		if(channel == null) {
+			throw new IllegalStateException("closed");
+		}
+		int length = RECORD_OVERHEAD + element.length + summary.length;
+		if(written + buffer.position() > 0 && written + buffer.position() + length > segmentSize) {
+			roll();
+		}
+		int header = headerChecksum(checksum, element.length, summary.length);
+		checksum.reset();
+		checksum.update(element);
+		checksum.update(summary);
+		int crc = (int) checksum.getValue();
+		if(length > buffer.capacity()) {
+			drain();
+			ByteBuffer record = ByteBuffer.allocate(length);
+			put(record, element, summary, header, crc).flip();
+			write(record);
+			return;
+		}
+		if(length > buffer.remaining()) {
+			drain();
+		}
+		put(buffer, element, summary, header, crc);
+	}
+
+
+	private static ByteBuffer put(ByteBuffer target, byte[] element, byte[] summary, int header, int crc)
+	{
+		return target.putInt(element.length)
+				.putInt(summary.length)
+				.putInt(header)
+				.put(element)
+				.put(summary)
+				.putInt(crc);
+	}
+
+
+	private static int headerChecksum(CRC32 checksum, int elementLength, int summaryLength)
+	{
+		checksum.reset();
+		for(int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+			checksum.update(elementLength >>> shift);
+		}
+		for(int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+			checksum.update(summaryLength >>> shift);
+		}
+		return (int) checksum.getValue();
+	}
+
+
+	private void drain() throws IOException
+	{
+		buffer.flip();
+		write(buffer);
+		buffer.clear();
+	}
+
+
+	private void write(ByteBuffer source) throws IOException
+	{
+		while(source.hasRemaining()) {
+			written += channel.write(source);
+		}
+	}
+
+
+	private void roll() throws IOException
+	{
+		drain();
+		channel.force(false);
+		channel.close();
+		++segment;
+		written = 0;
+		channel = FileChannel.open(segmentPath(), CREATE_NEW, WRITE);
+	}
+
+
+	/**
+	 * Writes any buffered records to the current segment.
+	 * 
+	 * @throws IOException if writing fails
+	 */
+	public synchronized void flush() throws IOException
+	{
+		if(channel != null) {
+			drain();
+		}
+	}
+
+
+	/**
+	 * Flushes, forces the current segment to storage and closes it; subsequent calls have no effect.
+	 * 
+	 * @throws IOException if writing fails
+	 */
+	@Override
+	public synchronized void close() throws IOException
+	{
+		if(channel == null) {
+			return;
+		}
+		try {
+			drain();
+			channel.force(false);
+		} finally {
+			channel.close();
+			channel = null;
+		}
+	}
+
+
+	static <T> Stream<T> replay(Path directory, CheckedFunction<byte[], ? extends T, ?> deserializer)
+	{
+		return replay(directory, (element, summary) -> Exceptional.apply(deserializer, element));
+	}
+
+
+	static <T> Stream<Failure<T>> replayFailures(Path directory, CheckedFunction<byte[], ? extends T, ?> deserializer)
+	{
+		return replay(directory, (element, summary) -> new Failure<>(
+				Exceptional.apply(deserializer, element),
+				new ReplayedFailure(new String(summary, UTF_8))));
+	}
+
+
+	private static <R> Stream<R> replay(Path directory, BiFunction<byte[], byte[], R> assembler)
+	{
+		Replay<R> replay = new Replay<>(Exceptional.get(() -> segments(directory)).iterator(), assembler);
+		return StreamSupport.stream(replay, false).onClose(replay::close);
+	}
+
+
+	/**
+	 * The cause of a replayed {@link Failure}, carrying the recorded summary as its message; the original stack trace
+	 * is long gone, so none is captured.
+	 */
+	static final class ReplayedFailure extends UncheckedException {
+
+		private static final long serialVersionUID = 4410585227317932271L;
+
+
+		ReplayedFailure(String summary)
+		{
+			super(summary, null, false, false);
+		}
+	}
+
+
+	private static final class Replay<R> extends Spliterators.AbstractSpliterator<R> {
+
+		private final Iterator<Path> segments;
+		private final BiFunction<byte[], byte[], R> assembler;
+		private final CRC32 checksum = new CRC32();
+		private Path segment;
+		private DataInputStream input;
+		private long size;
+		private long remaining;
+		private byte[] element;
+		private byte[] summary;
+
+
+		Replay(Iterator<Path> segments, BiFunction<byte[], byte[], R> assembler)
+		{
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+			this.segments = segments;
+			this.assembler = assembler;
+		}
+
+
+		@Override
+		public boolean tryAdvance(Consumer<? super R> action)
+		{
+			try {
+				while(!next()) {
+					close();
+					if(!segments.hasNext()) {
+						return false;
+					}
+					segment = segments.next();
+					size = remaining = Files.size(segment);
+					input = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment), DEFAULT_BUFFER_SIZE));
+				}
+				action.accept(assembler.apply(element, summary));
+				return true;
+			} catch(IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+
+		/**
+		 * Reads the next record; a record whose header is incomplete, whose (intact) header declares more than remains,
+		 * or that fails its checksum at the end of the segment was torn by a crash mid-write and ends the segment,
+		 * whereas any other inconsistency is corruption.
+		 */
+		private boolean next() throws IOException
+		{
+			if(input == null || remaining < RECORD_OVERHEAD) {
+				return false;
+			}
+			long offset = size - remaining;
+			try {
+				int elementLength = input.readInt();
+				int summaryLength = input.readInt();
+				int header = input.readInt();
+				long length = (long) elementLength + summaryLength + RECORD_OVERHEAD;
+				if(header != headerChecksum(checksum, elementLength, summaryLength)) {
+					throw corrupt(offset, length > remaining ? "length exceeds segment" : "header checksum mismatch");
+				}
+				if(elementLength < 0 || summaryLength < 0) {
+					throw corrupt(offset, "negative length");
+				}
+				if(length > remaining) {
+					return false;
+				}
+				remaining -= length;
+				element = new byte[elementLength];
+				summary = new byte[summaryLength];
+				input.readFully(element);
+				input.readFully(summary);
+				int crc = input.readInt();
+				checksum.reset();
+				checksum.update(element);
+				checksum.update(summary);
+				if(crc == (int) checksum.getValue()) {
+					return true;
+				}
+				if(remaining == 0) {
+					return false;
+				}
+				throw corrupt(offset, "checksum mismatch");
+			} catch(EOFException torn) {
+				return false;
+			}
+		}
+
+
+		private IOException corrupt(long offset, String reason)
+		{
+			return new IOException("Corrupt record at offset " + offset + " of " + segment + ": " + reason);
+		}
+
+
+		void close()
+		{
+			if(input != null) {
+				Exceptional.run(input::close);
+				input = null;
+			}
+		}
+	}
+}
@@ -0,0 +1,428 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Base for the {@link EmeticStream} decorators; every operation is delegated, with each checked function argument
+ * passed through a decoration hook, each resulting {@link EmeticStream} passed to {@link #decorate(EmeticStream)}
+ * and each terminal operation evaluated via {@link #terminal(Supplier)}.
+ * </p>
+ * <p>
+ * Hooks default to identity, so a decorator overrides only the hooks and operations in which it differs. Operations
+ * built on others by {@link EmeticStream}'s default methods ({@code parallel(ForkJoinPool)}, {@code blocking()},
+ * {@code onError}, {@code forEachCheckpointed}, the {@code writeTo} overloads, {@code mapToEmetic*} and
+ * {@code flatMapToEmetic*}) are inherited, so are decorated via the operations here.
+ * </p>
+ * 
+ * @param <T> the element type of this stream
+ * 
+ * @since 1.1.0
+ */
+abstract class DelegatingEmeticStream<T> implements EmeticStream<T> {
+
+	/**
+	 * @return the stream operations are delegated to
+	 */
+	abstract EmeticStream<T> delegate();
+
+
+	/**
+	 * @param <R> the element type of the {@code stream}
+	 * 
+	 * @param stream the result of a delegated intermediate operation
+	 * @return the {@code stream}, decorated as this is
+	 */
+	abstract <R> EmeticStream<R> decorate(EmeticStream<R> stream);
+
+
+	/**
+	 * @param <R> the result type
+	 * 
+	 * @param operation a delegated terminal operation
+	 * @return the result of the {@code operation}
+	 */
+	<R> R terminal(Supplier<R> operation)
+	{
+		return operation.get();
+	}
+
+
+	<A, R, E extends Throwable> CheckedFunction<A, R, E> function(CheckedFunction<A, R, E> function)
+	{
+		return function;
+	}
+
+
+	<A, B, R, E extends Throwable> CheckedBiFunction<A, B, R, E> biFunction(CheckedBiFunction<A, B, R, E> function)
+	{
+		return function;
+	}
+
+
+	<A, E extends Throwable> CheckedBinaryOperator<A, E> binaryOperator(CheckedBinaryOperator<A, E> operator)
+	{
+		return operator;
+	}
+
+
+	<A, E extends Throwable> CheckedToDoubleFunction<A, E> toDoubleFunction(CheckedToDoubleFunction<A, E> function)
+	{
+		return function;
+	}
+
+
+	<A, E extends Throwable> CheckedToIntFunction<A, E> toIntFunction(CheckedToIntFunction<A, E> function)
+	{
+		return function;
+	}
+
+
+	<A, E extends Throwable> CheckedToLongFunction<A, E> toLongFunction(CheckedToLongFunction<A, E> function)
+	{
+		return function;
+	}
+
+
+	<A, E extends Throwable> CheckedSupplier<A, E> supplier(CheckedSupplier<A, E> supplier)
+	{
+		return supplier;
+	}
+
+
+	<A, E extends Throwable> CheckedConsumer<A, E> consumer(CheckedConsumer<A, E> consumer)
+	{
+		return consumer;
+	}
+
+
+	<A, B, E extends Throwable> CheckedBiConsumer<A, B, E> biConsumer(CheckedBiConsumer<A, B, E> consumer)
+	{
+		return consumer;
+	}
+
+
+	<A, E extends Throwable> CheckedPredicate<A, E> predicate(CheckedPredicate<A, E> predicate)
+	{
+		return predicate;
+	}
+
+
+	<A, E extends Throwable> CheckedComparator<A, E> comparator(CheckedComparator<A, E> comparator)
+	{
+		return comparator;
+	}
+
+
+	@Override
+	public Stream<T> mapToStream()
+	{
+		return delegate().mapToStream();
+	}
+
+
+	@Override
+	public EmeticStream<T> parallel()
+	{
+		EmeticStream<T> delegate = delegate();
+		EmeticStream<T> parallel = delegate.parallel();
+		return parallel == delegate ? this : decorate(parallel);
+	}
+
+
+	@Override
+	public EmeticStream<T> sequential()
+	{
+		EmeticStream<T> delegate = delegate();
+		EmeticStream<T> sequential = delegate.sequential();
+		return sequential == delegate ? this : decorate(sequential);
+	}
+
+
+	@Override
+	public EmeticStream<T> unordered()
+	{
+		return decorate(delegate().unordered());
+	}
+
+
+	@Override
+	public EmeticStream<T> onClose(Runnable closeHandler)
+	{
+		return decorate(delegate().onClose(closeHandler));
+	}
+
+
+	@Override
+	public EmeticStream<T> sneaky()
+	{
+		return decorate(delegate().sneaky());
+	}
+
+
+	@Override
+	public EmeticStream<T> filter(CheckedPredicate<? super T, ?> predicate)
+	{
+		return decorate(delegate().filter(predicate(predicate)));
+	}
+
+
+	@Override
+	public <R> EmeticStream<R> map(CheckedFunction<? super T, ? extends R, ?> mapper)
+	{
+		return decorate(delegate().map(function(mapper)));
+	}
+
+
+	@Override
+	public <R> EmeticStream<R> flatMap(CheckedFunction<? super T, ? extends Stream<? extends R>, ?> mapper)
+	{
+		return decorate(delegate().flatMap(function(mapper)));
+	}
+
+
+	@Override
+	public <R> EmeticStream<R> flatMapLazy(CheckedFunction<? super T, ? extends Stream<? extends R>, ?> mapper)
+	{
+		return decorate(delegate().flatMapLazy(function(mapper)));
+	}
+
+
+	@Override
+	public DoubleStream flatMapToDouble(CheckedFunction<? super T, ? extends DoubleStream, ?> mapper)
+	{
+		return delegate().flatMapToDouble(function(mapper));
+	}
+
+
+	@Override
+	public IntStream flatMapToInt(CheckedFunction<? super T, ? extends IntStream, ?> mapper)
+	{
+		return delegate().flatMapToInt(function(mapper));
+	}
+
+
+	@Override
+	public LongStream flatMapToLong(CheckedFunction<? super T, ? extends LongStream, ?> mapper)
+	{
+		return delegate().flatMapToLong(function(mapper));
+	}
+
+
+	@Override
+	public DoubleStream mapToDouble(CheckedToDoubleFunction<? super T, ?> mapper)
+	{
+		return delegate().mapToDouble(toDoubleFunction(mapper));
+	}
+
+
+	@Override
+	public IntStream mapToInt(CheckedToIntFunction<? super T, ?> mapper)
+	{
+		return delegate().mapToInt(toIntFunction(mapper));
+	}
+
+
+	@Override
+	public LongStream mapToLong(CheckedToLongFunction<? super T, ?> mapper)
+	{
+		return delegate().mapToLong(toLongFunction(mapper));
+	}
+
+
+	@Override
+	public EmeticStream<T> peek(CheckedConsumer<? super T, ?> action)
+	{
+		return decorate(delegate().peek(consumer(action)));
+	}
+
+
+	@Override
+	public <R> EmeticStream<R> mapAsync(int maxInFlight, CheckedFunction<? super T, ? extends R, ?> mapper)
+	{
+		return decorate(delegate().mapAsync(maxInFlight, function(mapper)));
+	}
+
+
+	@Override
+	public <R> EmeticStream<R> mapAsyncUnordered(int maxInFlight, CheckedFunction<? super T, ? extends R, ?> mapper)
+	{
+		return decorate(delegate().mapAsyncUnordered(maxInFlight, function(mapper)));
+	}
+
+
+	@Override
+	public EmeticStream<T> prefetch(int depth)
+	{
+		return decorate(delegate().prefetch(depth));
+	}
+
+
+	@Override
+	public EmeticStream<List<T>> batch(int size)
+	{
+		return decorate(delegate().batch(size));
+	}
+
+
+	@Override
+	public <R> EmeticStream<R> mapBatched(int size, CheckedFunction<? super List<T>, ? extends List<? extends R>, ?> mapper)
+	{
+		return decorate(delegate().mapBatched(size, function(mapper)));
+	}
+
+
+	@Override
+	public EmeticStream<T> sorted(CheckedComparator<? super T, ?> comparator)
+	{
+		return decorate(delegate().sorted(comparator(comparator)));
+	}
+
+
+	@Override
+	public boolean allMatch(CheckedPredicate<? super T, ?> predicate)
+	{
+		return terminal(() -> delegate().allMatch(predicate(predicate)));
+	}
+
+
+	@Override
+	public boolean anyMatch(CheckedPredicate<? super T, ?> predicate)
+	{
+		return terminal(() -> delegate().anyMatch(predicate(predicate)));
+	}
+
+
+	@Override
+	public boolean noneMatch(CheckedPredicate<? super T, ?> predicate)
+	{
+		return terminal(() -> delegate().noneMatch(predicate(predicate)));
+	}
+
+
+	@Override
+	public <R, A> R collect(Collector<? super T, A, R> collector)
+	{
+		return terminal(() -> delegate().collect(collector));
+	}
+
+
+	@Override
+	public <R> R collect(CheckedSupplier<R, ?> supplier, CheckedBiConsumer<R, ? super T, ?> accumulator, CheckedBiConsumer<R, R, ?> combiner)
+	{
+		return terminal(() -> delegate().collect(supplier(supplier), biConsumer(accumulator), biConsumer(combiner)));
+	}
+
+
+	@Override
+	public void forEach(CheckedConsumer<? super T, ?> action)
+	{
+		terminal(() -> {
+			delegate().forEach(consumer(action));
+			return null;
+		});
+	}
+
+
+	@Override
+	public void forEachOrdered(CheckedConsumer<? super T, ?> action)
+	{
+		terminal(() -> {
+			delegate().forEachOrdered(consumer(action));
+			return null;
+		});
+	}
+
+
+	@Override
+	public Optional<T> max(CheckedComparator<? super T, ?> comparator)
+	{
+		return terminal(() -> delegate().max(comparator(comparator)));
+	}
+
+
+	@Override
+	public Optional<T> min(CheckedComparator<? super T, ?> comparator)
+	{
+		return terminal(() -> delegate().min(comparator(comparator)));
+	}
+
+
+	@Override
+	public Optional<T> reduce(CheckedBinaryOperator<T, ?> accumulator)
+	{
+		return terminal(() -> delegate().reduce(binaryOperator(accumulator)));
+	}
+
+
+	@Override
+	public T reduce(T identity, CheckedBinaryOperator<T, ?> accumulator)
+	{
+		return terminal(() -> delegate().reduce(identity, binaryOperator(accumulator)));
+	}
+
+
+	@Override
+	public <A> A reduceCheckpointed(Path checkpoint, int interval, A identity, CheckedBiFunction<A, ? super T, A, ?> accumulator,
+			CheckedFunction<? super A, byte[], ?> serializer, CheckedFunction<byte[], ? extends A, ?> deserializer)
+	{
+		return terminal(() -> delegate().reduceCheckpointed(checkpoint, interval, identity, biFunction(accumulator), function(serializer), function(deserializer)));
+	}
+
+
+	@Override
+	public long writeTo(WritableByteChannel channel, CheckedBiConsumer<? super T, ByteBuffer, ?> encoder, int flushBytes, int flushRecords, boolean force)
+	{
+		return terminal(() -> delegate().writeTo(channel, biConsumer(encoder), flushBytes, flushRecords, force));
+	}
+
+
+	@Override
+	public long writeTo(AsynchronousFileChannel channel, long position, CheckedBiConsumer<? super T, ByteBuffer, ?> encoder, int outstanding, boolean force)
+	{
+		return terminal(() -> delegate().writeTo(channel, position, biConsumer(encoder), outstanding, force));
+	}
+
+
+	@Override
+	public long count()
+	{
+		return terminal(() -> delegate().count());
+	}
+
+
+	@Override
+	public void close()
+	{
+		delegate().close();
+	}
+}
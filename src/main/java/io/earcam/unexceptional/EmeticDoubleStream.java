@@ -0,0 +1,490 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.Exceptional.*;
+
+import java.io.Serializable;   //NOSONAR SonarQube false positive - putting @SuppressWarnings("squid:UselessImportCheck") on class has no effect, can't put at package level either
+import java.util.DoubleSummaryStatistics;
+import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.stream.DoubleStream;
+
+/**
+ * <p>
+ * {@link EmeticDoubleStream} provides a functional parallel to {@link DoubleStream}, with methods taking checked
+ * equivalents of the primitive {@link java.util.function} interfaces, keeping elements unboxed throughout.
+ * </p>
+ * 
+ * @since 1.1.0
+ * 
+ * @see EmeticStream
+ */
+@FunctionalInterface
+public interface EmeticDoubleStream extends AutoCloseable {
+
+	/**
+	 * @return the wrapped stream
+	 */
+	public abstract DoubleStream mapToStream();
+
+
+	/**
+	 * Wrap a primitive stream in order to invoke checked functions on it
+	 * 
+	 * @param stream the underlying {@link DoubleStream}
+	 * @return an {@link EmeticDoubleStream}
+	 * 
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("squid:S1905") // SonarQube false positive
+	public static EmeticDoubleStream emesis(DoubleStream stream)
+	{
+		return (EmeticDoubleStream & Serializable) () -> stream;
+	}
+
+
+	/**
+	 * @return a parallel emetic stream
+	 * 
+	 * @see DoubleStream#parallel()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticDoubleStream parallel()
+	{
+		return mapToStream().isParallel() ? this : emesis(mapToStream().parallel());
+	}
+
+
+	/**
+	 * @return a sequential emetic stream
+	 * 
+	 * @see DoubleStream#sequential()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticDoubleStream sequential()
+	{
+		return !mapToStream().isParallel() ? this : emesis(mapToStream().sequential());
+	}
+
+
+	/**
+	 * @return an unordered emetic stream
+	 * 
+	 * @see java.util.stream.BaseStream#unordered()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticDoubleStream unordered()
+	{
+		return emesis(mapToStream().unordered());
+	}
+
+
+	/**
+	 * @return the element iterator for the wrapped stream
+	 * 
+	 * @see DoubleStream#iterator()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default PrimitiveIterator.OfDouble iterator()
+	{
+		return mapToStream().iterator();
+	}
+
+
+	/**
+	 * @return the element spliterator for the wrapped stream
+	 * 
+	 * @see DoubleStream#spliterator()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default Spliterator.OfDouble spliterator()
+	{
+		return mapToStream().spliterator();
+	}
+
+
+	/**
+	 * @return {@code true} if the wrapped stream would execute in parallel
+	 * 
+	 * @see java.util.stream.BaseStream#isParallel()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default boolean isParallel()
+	{
+		return mapToStream().isParallel();
+	}
+
+
+	/**
+	 * @param predicate a non-interfering and stateless, checked predicate 𝗣 to apply
+	 * to all elements in the stream 𝕊
+	 * @return ∀ e ∈ 𝕊: 𝗣(e)
+	 * 
+	 * @see DoubleStream#allMatch(java.util.function.DoublePredicate)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default boolean allMatch(CheckedDoublePredicate<?> predicate)
+	{
+		return mapToStream().allMatch(uncheckDoublePredicate(predicate));
+	}
+
+
+	/**
+	 * @param predicate a non-interfering and stateless, checked predicate 𝗣 to apply
+	 * to all elements in the stream 𝕊
+	 * @return ∃ e ∈ 𝕊: 𝗣(e)
+	 * 
+	 * @see DoubleStream#anyMatch(java.util.function.DoublePredicate)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default boolean anyMatch(CheckedDoublePredicate<?> predicate)
+	{
+		return mapToStream().anyMatch(uncheckDoublePredicate(predicate));
+	}
+
+
+	/**
+	 * @param predicate a non-interfering and stateless, checked predicate 𝗣 to apply
+	 * to all elements in the stream 𝕊
+	 * @return ∄ e ∈ 𝕊: 𝗣(e)
+	 * 
+	 * @see DoubleStream#noneMatch(java.util.function.DoublePredicate)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default boolean noneMatch(CheckedDoublePredicate<?> predicate)
+	{
+		return mapToStream().noneMatch(uncheckDoublePredicate(predicate));
+	}
+
+
+	/**
+	 * @param <R> the result type
+	 * 
+	 * @param supplier a checked function that creates a new result container
+	 * @param accumulator a non-interfering, stateless checked consumer, incorporating an element into the result
+	 * @param combiner a non-interfering, stateless checked consumer, combining two partial results
+	 * @return the result of the reduction
+	 * 
+	 * @see DoubleStream#collect(java.util.function.Supplier, java.util.function.ObjDoubleConsumer, java.util.function.BiConsumer)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default <R> R collect(CheckedSupplier<R, ?> supplier, CheckedObjDoubleConsumer<R, ?> accumulator, CheckedBiConsumer<R, R, ?> combiner)
+	{
+		return mapToStream().collect(uncheckSupplier(supplier), uncheckObjDoubleConsumer(accumulator), uncheckBiConsumer(combiner));
+	}
+
+
+	/**
+	 * @param predicate a non-interfering, stateless checked predicate
+	 * @return a new {@link EmeticDoubleStream} of the elements matching the {@code predicate}
+	 * 
+	 * @see DoubleStream#filter(java.util.function.DoublePredicate)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticDoubleStream filter(CheckedDoublePredicate<?> predicate)
+	{
+		return emesis(mapToStream().filter(uncheckDoublePredicate(predicate)));
+	}
+
+
+	/**
+	 * @param mapper a non-interfering, stateless checked function producing a stream of new values for each element
+	 * @return the new {@link EmeticDoubleStream}
+	 * 
+	 * @see DoubleStream#flatMap(java.util.function.DoubleFunction)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticDoubleStream flatMap(CheckedDoubleFunction<? extends DoubleStream, ?> mapper)
+	{
+		return emesis(mapToStream().flatMap(uncheckDoubleFunction(mapper)));
+	}
+
+
+	/**
+	 * @param action a non-interfering checked action to perform on each element
+	 * 
+	 * @see DoubleStream#forEach(java.util.function.DoubleConsumer)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default void forEach(CheckedDoubleConsumer<?> action)
+	{
+		mapToStream().forEach(uncheckDoubleConsumer(action));
+	}
+
+
+	/**
+	 * @param action a non-interfering checked action to perform on each element
+	 * 
+	 * @see DoubleStream#forEachOrdered(java.util.function.DoubleConsumer)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default void forEachOrdered(CheckedDoubleConsumer<?> action)
+	{
+		mapToStream().forEachOrdered(uncheckDoubleConsumer(action));
+	}
+
+
+	/**
+	 * @param mapper a non-interfering, stateless checked operator to apply to each element
+	 * @return the new {@link EmeticDoubleStream}
+	 * 
+	 * @see DoubleStream#map(java.util.function.DoubleUnaryOperator)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticDoubleStream map(CheckedDoubleUnaryOperator<?> mapper)
+	{
+		return emesis(mapToStream().map(uncheckDoubleUnaryOperator(mapper)));
+	}
+
+
+	/**
+	 * @param <U> the element type of the returned stream
+	 * 
+	 * @param mapper a non-interfering, stateless checked function transforming {@code double} to {@code <U>}
+	 * @return the new {@link EmeticStream}
+	 * 
+	 * @see DoubleStream#mapToObj(java.util.function.DoubleFunction)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default <U> EmeticStream<U> mapToObj(CheckedDoubleFunction<? extends U, ?> mapper)
+	{
+		return EmeticStream.emesis(mapToStream().mapToObj(uncheckDoubleFunction(mapper)));
+	}
+
+
+	/**
+	 * @param mapper a non-interfering, stateless checked function transforming {@code double} to {@code int}
+	 * @return the new {@link EmeticIntStream}
+	 * 
+	 * @see DoubleStream#mapToInt(java.util.function.DoubleToIntFunction)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticIntStream mapToInt(CheckedDoubleToIntFunction<?> mapper)
+	{
+		return EmeticIntStream.emesis(mapToStream().mapToInt(uncheckDoubleToIntFunction(mapper)));
+	}
+
+
+	/**
+	 * @param mapper a non-interfering, stateless checked function transforming {@code double} to {@code long}
+	 * @return the new {@link EmeticLongStream}
+	 * 
+	 * @see DoubleStream#mapToLong(java.util.function.DoubleToLongFunction)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticLongStream mapToLong(CheckedDoubleToLongFunction<?> mapper)
+	{
+		return EmeticLongStream.emesis(mapToStream().mapToLong(uncheckDoubleToLongFunction(mapper)));
+	}
+
+
+	/**
+	 * @param action a non-interfering checked action to perform on each element as it is consumed
+	 * @return the new {@link EmeticDoubleStream}
+	 * 
+	 * @see DoubleStream#peek(java.util.function.DoubleConsumer)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticDoubleStream peek(CheckedDoubleConsumer<?> action)
+	{
+		return emesis(mapToStream().peek(uncheckDoubleConsumer(action)));
+	}
+
+
+	/**
+	 * @param identity the identity value for the accumulating function
+	 * @param accumulator an associative, non-interfering, stateless checked function for combining two values
+	 * @return the result of the reduction
+	 * 
+	 * @see DoubleStream#reduce(double, java.util.function.DoubleBinaryOperator)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default double reduce(double identity, CheckedDoubleBinaryOperator<?> accumulator)
+	{
+		return mapToStream().reduce(identity, uncheckDoubleBinaryOperator(accumulator));
+	}
+
+
+	/**
+	 * @param accumulator an associative, non-interfering, stateless checked function for combining two values
+	 * @return the result of the reduction
+	 * 
+	 * @see DoubleStream#reduce(java.util.function.DoubleBinaryOperator)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default OptionalDouble reduce(CheckedDoubleBinaryOperator<?> accumulator)
+	{
+		return mapToStream().reduce(uncheckDoubleBinaryOperator(accumulator));
+	}
+
+
+	/**
+	 * @return an {@link EmeticStream} of the elements, each boxed to an {@link Double}
+	 * 
+	 * @see DoubleStream#boxed()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticStream<Double> boxed()
+	{
+		return EmeticStream.emesis(mapToStream().boxed());
+	}
+
+
+	/**
+	 * @return the sum of elements
+	 * 
+	 * @see DoubleStream#sum()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default double sum()
+	{
+		return mapToStream().sum();
+	}
+
+
+	/**
+	 * @return the minimum element, or empty if the stream is empty
+	 * 
+	 * @see DoubleStream#min()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default OptionalDouble min()
+	{
+		return mapToStream().min();
+	}
+
+
+	/**
+	 * @return the maximum element, or empty if the stream is empty
+	 * 
+	 * @see DoubleStream#max()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default OptionalDouble max()
+	{
+		return mapToStream().max();
+	}
+
+
+	/**
+	 * @return the arithmetic mean of elements, or empty if the stream is empty
+	 * 
+	 * @see DoubleStream#average()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default OptionalDouble average()
+	{
+		return mapToStream().average();
+	}
+
+
+	/**
+	 * @return the count of elements
+	 * 
+	 * @see DoubleStream#count()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default long count()
+	{
+		return mapToStream().count();
+	}
+
+
+	/**
+	 * @return the count, sum, min, max and average of elements
+	 * 
+	 * @see DoubleStream#summaryStatistics()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default DoubleSummaryStatistics summaryStatistics()
+	{
+		return mapToStream().summaryStatistics();
+	}
+
+
+	/**
+	 * @return an array containing the elements
+	 * 
+	 * @see DoubleStream#toArray()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default double[] toArray()
+	{
+		return mapToStream().toArray();
+	}
+
+
+	/**
+	 * @param closeHandler A runnable executed when the stream is closed
+	 * @return a stream with a handler registered
+	 * 
+	 * @see java.util.stream.BaseStream#onClose(Runnable)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticDoubleStream onClose(Runnable closeHandler)
+	{
+		return emesis(mapToStream().onClose(closeHandler));
+	}
+
+
+	/**
+	 * Closes the wrapped stream, invoking all registered close handlers.
+	 * 
+	 * @see AutoCloseable#close()
+	 * 
+	 * @since 1.1.0
+	 */
+	@Override
+	public default void close()
+	{
+		mapToStream().close();
+	}
+}
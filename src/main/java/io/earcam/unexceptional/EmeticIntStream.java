@@ -0,0 +1,517 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.Exceptional.*;
+
+import java.io.Serializable;   //NOSONAR SonarQube false positive - putting @SuppressWarnings("squid:UselessImportCheck") on class has no effect, can't put at package level either
+import java.util.IntSummaryStatistics;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * {@link EmeticIntStream} provides a functional parallel to {@link IntStream}, with methods taking checked
+ * equivalents of the primitive {@link java.util.function} interfaces, keeping elements unboxed throughout.
+ * </p>
+ * 
+ * @since 1.1.0
+ * 
+ * @see EmeticStream
+ */
+@FunctionalInterface
+public interface EmeticIntStream extends AutoCloseable {
+
+	/**
+	 * @return the wrapped stream
+	 */
+	public abstract IntStream mapToStream();
+
+
+	/**
+	 * Wrap a primitive stream in order to invoke checked functions on it
+	 * 
+	 * @param stream the underlying {@link IntStream}
+	 * @return an {@link EmeticIntStream}
+	 * 
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("squid:S1905") // SonarQube false positive
+	public static EmeticIntStream emesis(IntStream stream)
+	{
+		return (EmeticIntStream & Serializable) () -> stream;
+	}
+
+
+	/**
+	 * @return a parallel emetic stream
+	 * 
+	 * @see IntStream#parallel()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticIntStream parallel()
+	{
+		return mapToStream().isParallel() ? this : emesis(mapToStream().parallel());
+	}
+
+
+	/**
+	 * @return a sequential emetic stream
+	 * 
+	 * @see IntStream#sequential()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticIntStream sequential()
+	{
+		return !mapToStream().isParallel() ? this : emesis(mapToStream().sequential());
+	}
+
+
+	/**
+	 * @return an unordered emetic stream
+	 * 
+	 * @see java.util.stream.BaseStream#unordered()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticIntStream unordered()
+	{
+		return emesis(mapToStream().unordered());
+	}
+
+
+	/**
+	 * @return the element iterator for the wrapped stream
+	 * 
+	 * @see IntStream#iterator()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default PrimitiveIterator.OfInt iterator()
+	{
+		return mapToStream().iterator();
+	}
+
+
+	/**
+	 * @return the element spliterator for the wrapped stream
+	 * 
+	 * @see IntStream#spliterator()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default Spliterator.OfInt spliterator()
+	{
+		return mapToStream().spliterator();
+	}
+
+
+	/**
+	 * @return {@code true} if the wrapped stream would execute in parallel
+	 * 
+	 * @see java.util.stream.BaseStream#isParallel()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default boolean isParallel()
+	{
+		return mapToStream().isParallel();
+	}
+
+
+	/**
+	 * @param predicate a non-interfering and stateless, checked predicate 𝗣 to apply
+	 * to all elements in the stream 𝕊
+	 * @return ∀ e ∈ 𝕊: 𝗣(e)
+	 * 
+	 * @see IntStream#allMatch(java.util.function.IntPredicate)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default boolean allMatch(CheckedIntPredicate<?> predicate)
+	{
+		return mapToStream().allMatch(uncheckIntPredicate(predicate));
+	}
+
+
+	/**
+	 * @param predicate a non-interfering and stateless, checked predicate 𝗣 to apply
+	 * to all elements in the stream 𝕊
+	 * @return ∃ e ∈ 𝕊: 𝗣(e)
+	 * 
+	 * @see IntStream#anyMatch(java.util.function.IntPredicate)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default boolean anyMatch(CheckedIntPredicate<?> predicate)
+	{
+		return mapToStream().anyMatch(uncheckIntPredicate(predicate));
+	}
+
+
+	/**
+	 * @param predicate a non-interfering and stateless, checked predicate 𝗣 to apply
+	 * to all elements in the stream 𝕊
+	 * @return ∄ e ∈ 𝕊: 𝗣(e)
+	 * 
+	 * @see IntStream#noneMatch(java.util.function.IntPredicate)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default boolean noneMatch(CheckedIntPredicate<?> predicate)
+	{
+		return mapToStream().noneMatch(uncheckIntPredicate(predicate));
+	}
+
+
+	/**
+	 * @param <R> the result type
+	 * 
+	 * @param supplier a checked function that creates a new result container
+	 * @param accumulator a non-interfering, stateless checked consumer, incorporating an element into the result
+	 * @param combiner a non-interfering, stateless checked consumer, combining two partial results
+	 * @return the result of the reduction
+	 * 
+	 * @see IntStream#collect(java.util.function.Supplier, java.util.function.ObjIntConsumer, java.util.function.BiConsumer)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default <R> R collect(CheckedSupplier<R, ?> supplier, CheckedObjIntConsumer<R, ?> accumulator, CheckedBiConsumer<R, R, ?> combiner)
+	{
+		return mapToStream().collect(uncheckSupplier(supplier), uncheckObjIntConsumer(accumulator), uncheckBiConsumer(combiner));
+	}
+
+
+	/**
+	 * @param predicate a non-interfering, stateless checked predicate
+	 * @return a new {@link EmeticIntStream} of the elements matching the {@code predicate}
+	 * 
+	 * @see IntStream#filter(java.util.function.IntPredicate)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticIntStream filter(CheckedIntPredicate<?> predicate)
+	{
+		return emesis(mapToStream().filter(uncheckIntPredicate(predicate)));
+	}
+
+
+	/**
+	 * @param mapper a non-interfering, stateless checked function producing a stream of new values for each element
+	 * @return the new {@link EmeticIntStream}
+	 * 
+	 * @see IntStream#flatMap(java.util.function.IntFunction)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticIntStream flatMap(CheckedIntFunction<? extends IntStream, ?> mapper)
+	{
+		return emesis(mapToStream().flatMap(uncheckIntFunction(mapper)));
+	}
+
+
+	/**
+	 * @param action a non-interfering checked action to perform on each element
+	 * 
+	 * @see IntStream#forEach(java.util.function.IntConsumer)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default void forEach(CheckedIntConsumer<?> action)
+	{
+		mapToStream().forEach(uncheckIntConsumer(action));
+	}
+
+
+	/**
+	 * @param action a non-interfering checked action to perform on each element
+	 * 
+	 * @see IntStream#forEachOrdered(java.util.function.IntConsumer)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default void forEachOrdered(CheckedIntConsumer<?> action)
+	{
+		mapToStream().forEachOrdered(uncheckIntConsumer(action));
+	}
+
+
+	/**
+	 * @param mapper a non-interfering, stateless checked operator to apply to each element
+	 * @return the new {@link EmeticIntStream}
+	 * 
+	 * @see IntStream#map(java.util.function.IntUnaryOperator)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticIntStream map(CheckedIntUnaryOperator<?> mapper)
+	{
+		return emesis(mapToStream().map(uncheckIntUnaryOperator(mapper)));
+	}
+
+
+	/**
+	 * @param <U> the element type of the returned stream
+	 * 
+	 * @param mapper a non-interfering, stateless checked function transforming {@code int} to {@code <U>}
+	 * @return the new {@link EmeticStream}
+	 * 
+	 * @see IntStream#mapToObj(java.util.function.IntFunction)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default <U> EmeticStream<U> mapToObj(CheckedIntFunction<? extends U, ?> mapper)
+	{
+		return EmeticStream.emesis(mapToStream().mapToObj(uncheckIntFunction(mapper)));
+	}
+
+
+	/**
+	 * @param mapper a non-interfering, stateless checked function transforming {@code int} to {@code long}
+	 * @return the new {@link EmeticLongStream}
+	 * 
+	 * @see IntStream#mapToLong(java.util.function.IntToLongFunction)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticLongStream mapToLong(CheckedIntToLongFunction<?> mapper)
+	{
+		return EmeticLongStream.emesis(mapToStream().mapToLong(uncheckIntToLongFunction(mapper)));
+	}
+
+
+	/**
+	 * @param mapper a non-interfering, stateless checked function transforming {@code int} to {@code double}
+	 * @return the new {@link EmeticDoubleStream}
+	 * 
+	 * @see IntStream#mapToDouble(java.util.function.IntToDoubleFunction)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticDoubleStream mapToDouble(CheckedIntToDoubleFunction<?> mapper)
+	{
+		return EmeticDoubleStream.emesis(mapToStream().mapToDouble(uncheckIntToDoubleFunction(mapper)));
+	}
+
+
+	/**
+	 * @param action a non-interfering checked action to perform on each element as it is consumed
+	 * @return the new {@link EmeticIntStream}
+	 * 
+	 * @see IntStream#peek(java.util.function.IntConsumer)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticIntStream peek(CheckedIntConsumer<?> action)
+	{
+		return emesis(mapToStream().peek(uncheckIntConsumer(action)));
+	}
+
+
+	/**
+	 * @param identity the identity value for the accumulating function
+	 * @param accumulator an associative, non-interfering, stateless checked function for combining two values
+	 * @return the result of the reduction
+	 * 
+	 * @see IntStream#reduce(int, java.util.function.IntBinaryOperator)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default int reduce(int identity, CheckedIntBinaryOperator<?> accumulator)
+	{
+		return mapToStream().reduce(identity, uncheckIntBinaryOperator(accumulator));
+	}
+
+
+	/**
+	 * @param accumulator an associative, non-interfering, stateless checked function for combining two values
+	 * @return the result of the reduction
+	 * 
+	 * @see IntStream#reduce(java.util.function.IntBinaryOperator)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default OptionalInt reduce(CheckedIntBinaryOperator<?> accumulator)
+	{
+		return mapToStream().reduce(uncheckIntBinaryOperator(accumulator));
+	}
+
+
+	/**
+	 * @return an {@link EmeticStream} of the elements, each boxed to an {@link Integer}
+	 * 
+	 * @see IntStream#boxed()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticStream<Integer> boxed()
+	{
+		return EmeticStream.emesis(mapToStream().boxed());
+	}
+
+
+	/**
+	 * @return an {@link EmeticLongStream} of the elements, converted to {@code long}
+	 * 
+	 * @see IntStream#asLongStream()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticLongStream asLongStream()
+	{
+		return EmeticLongStream.emesis(mapToStream().asLongStream());
+	}
+
+
+	/**
+	 * @return an {@link EmeticDoubleStream} of the elements, converted to {@code double}
+	 * 
+	 * @see IntStream#asDoubleStream()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticDoubleStream asDoubleStream()
+	{
+		return EmeticDoubleStream.emesis(mapToStream().asDoubleStream());
+	}
+
+
+	/**
+	 * @return the sum of elements
+	 * 
+	 * @see IntStream#sum()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default int sum()
+	{
+		return mapToStream().sum();
+	}
+
+
+	/**
+	 * @return the minimum element, or empty if the stream is empty
+	 * 
+	 * @see IntStream#min()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default OptionalInt min()
+	{
+		return mapToStream().min();
+	}
+
+
+	/**
+	 * @return the maximum element, or empty if the stream is empty
+	 * 
+	 * @see IntStream#max()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default OptionalInt max()
+	{
+		return mapToStream().max();
+	}
+
+
+	/**
+	 * @return the arithmetic mean of elements, or empty if the stream is empty
+	 * 
+	 * @see IntStream#average()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default OptionalDouble average()
+	{
+		return mapToStream().average();
+	}
+
+
+	/**
+	 * @return the count of elements
+	 * 
+	 * @see IntStream#count()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default long count()
+	{
+		return mapToStream().count();
+	}
+
+
+	/**
+	 * @return the count, sum, min, max and average of elements
+	 * 
+	 * @see IntStream#summaryStatistics()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default IntSummaryStatistics summaryStatistics()
+	{
+		return mapToStream().summaryStatistics();
+	}
+
+
+	/**
+	 * @return an array containing the elements
+	 * 
+	 * @see IntStream#toArray()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default int[] toArray()
+	{
+		return mapToStream().toArray();
+	}
+
+
+	/**
+	 * @param closeHandler A runnable executed when the stream is closed
+	 * @return a stream with a handler registered
+	 * 
+	 * @see java.util.stream.BaseStream#onClose(Runnable)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticIntStream onClose(Runnable closeHandler)
+	{
+		return emesis(mapToStream().onClose(closeHandler));
+	}
+
+
+	/**
+	 * Closes the wrapped stream, invoking all registered close handlers.
+	 * 
+	 * @see AutoCloseable#close()
+	 * 
+	 * @since 1.1.0
+	 */
+	@Override
+	public default void close()
+	{
+		mapToStream().close();
+	}
+}
@@ -0,0 +1,504 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.Exceptional.*;
+
+import java.io.Serializable;   //NOSONAR SonarQube false positive - putting @SuppressWarnings("squid:UselessImportCheck") on class has no effect, can't put at package level either
+import java.util.LongSummaryStatistics;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+
+/**
+ * <p>
+ * {@link EmeticLongStream} provides a functional parallel to {@link LongStream}, with methods taking checked
+ * equivalents of the primitive {@link java.util.function} interfaces, keeping elements unboxed throughout.
+ * </p>
+ * 
+ * @since 1.1.0
+ * 
+ * @see EmeticStream
+ */
+@FunctionalInterface
+public interface EmeticLongStream extends AutoCloseable {
+
+	/**
+	 * @return the wrapped stream
+	 */
+	public abstract LongStream mapToStream();
+
+
+	/**
+	 * Wrap a primitive stream in order to invoke checked functions on it
+	 * 
+	 * @param stream the underlying {@link LongStream}
+	 * @return an {@link EmeticLongStream}
+	 * 
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("squid:S1905") // SonarQube false positive
+	public static EmeticLongStream emesis(LongStream stream)
+	{
+		return (EmeticLongStream & Serializable) () -> stream;
+	}
+
+
+	/**
+	 * @return a parallel emetic stream
+	 * 
+	 * @see LongStream#parallel()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticLongStream parallel()
+	{
+		return mapToStream().isParallel() ? this : emesis(mapToStream().parallel());
+	}
+
+
+	/**
+	 * @return a sequential emetic stream
+	 * 
+	 * @see LongStream#sequential()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticLongStream sequential()
+	{
+		return !mapToStream().isParallel() ? this : emesis(mapToStream().sequential());
+	}
+
+
+	/**
+	 * @return an unordered emetic stream
+	 * 
+	 * @see java.util.stream.BaseStream#unordered()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticLongStream unordered()
+	{
+		return emesis(mapToStream().unordered());
+	}
+
+
+	/**
+	 * @return the element iterator for the wrapped stream
+	 * 
+	 * @see LongStream#iterator()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default PrimitiveIterator.OfLong iterator()
+	{
+		return mapToStream().iterator();
+	}
+
+
+	/**
+	 * @return the element spliterator for the wrapped stream
+	 * 
+	 * @see LongStream#spliterator()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default Spliterator.OfLong spliterator()
+	{
+		return mapToStream().spliterator();
+	}
+
+
+	/**
+	 * @return {@code true} if the wrapped stream would execute in parallel
+	 * 
+	 * @see java.util.stream.BaseStream#isParallel()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default boolean isParallel()
+	{
+		return mapToStream().isParallel();
+	}
+
+
+	/**
+	 * @param predicate a non-interfering and stateless, checked predicate 𝗣 to apply
+	 * to all elements in the stream 𝕊
+	 * @return ∀ e ∈ 𝕊: 𝗣(e)
+	 * 
+	 * @see LongStream#allMatch(java.util.function.LongPredicate)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default boolean allMatch(CheckedLongPredicate<?> predicate)
+	{
+		return mapToStream().allMatch(uncheckLongPredicate(predicate));
+	}
+
+
+	/**
+	 * @param predicate a non-interfering and stateless, checked predicate 𝗣 to apply
+	 * to all elements in the stream 𝕊
+	 * @return ∃ e ∈ 𝕊: 𝗣(e)
+	 * 
+	 * @see LongStream#anyMatch(java.util.function.LongPredicate)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default boolean anyMatch(CheckedLongPredicate<?> predicate)
+	{
+		return mapToStream().anyMatch(uncheckLongPredicate(predicate));
+	}
+
+
+	/**
+	 * @param predicate a non-interfering and stateless, checked predicate 𝗣 to apply
+	 * to all elements in the stream 𝕊
+	 * @return ∄ e ∈ 𝕊: 𝗣(e)
+	 * 
+	 * @see LongStream#noneMatch(java.util.function.LongPredicate)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default boolean noneMatch(CheckedLongPredicate<?> predicate)
+	{
+		return mapToStream().noneMatch(uncheckLongPredicate(predicate));
+	}
+
+
+	/**
+	 * @param <R> the result type
+	 * 
+	 * @param supplier a checked function that creates a new result container
+	 * @param accumulator a non-interfering, stateless checked consumer, incorporating an element into the result
+	 * @param combiner a non-interfering, stateless checked consumer, combining two partial results
+	 * @return the result of the reduction
+	 * 
+	 * @see LongStream#collect(java.util.function.Supplier, java.util.function.ObjLongConsumer, java.util.function.BiConsumer)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default <R> R collect(CheckedSupplier<R, ?> supplier, CheckedObjLongConsumer<R, ?> accumulator, CheckedBiConsumer<R, R, ?> combiner)
+	{
+		return mapToStream().collect(uncheckSupplier(supplier), uncheckObjLongConsumer(accumulator), uncheckBiConsumer(combiner));
+	}
+
+
+	/**
+	 * @param predicate a non-interfering, stateless checked predicate
+	 * @return a new {@link EmeticLongStream} of the elements matching the {@code predicate}
+	 * 
+	 * @see LongStream#filter(java.util.function.LongPredicate)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticLongStream filter(CheckedLongPredicate<?> predicate)
+	{
+		return emesis(mapToStream().filter(uncheckLongPredicate(predicate)));
+	}
+
+
+	/**
+	 * @param mapper a non-interfering, stateless checked function producing a stream of new values for each element
+	 * @return the new {@link EmeticLongStream}
+	 * 
+	 * @see LongStream#flatMap(java.util.function.LongFunction)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticLongStream flatMap(CheckedLongFunction<? extends LongStream, ?> mapper)
+	{
+		return emesis(mapToStream().flatMap(uncheckLongFunction(mapper)));
+	}
+
+
+	/**
+	 * @param action a non-interfering checked action to perform on each element
+	 * 
+	 * @see LongStream#forEach(java.util.function.LongConsumer)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default void forEach(CheckedLongConsumer<?> action)
+	{
+		mapToStream().forEach(uncheckLongConsumer(action));
+	}
+
+
+	/**
+	 * @param action a non-interfering checked action to perform on each element
+	 * 
+	 * @see LongStream#forEachOrdered(java.util.function.LongConsumer)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default void forEachOrdered(CheckedLongConsumer<?> action)
+	{
+		mapToStream().forEachOrdered(uncheckLongConsumer(action));
+	}
+
+
+	/**
+	 * @param mapper a non-interfering, stateless checked operator to apply to each element
+	 * @return the new {@link EmeticLongStream}
+	 * 
+	 * @see LongStream#map(java.util.function.LongUnaryOperator)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticLongStream map(CheckedLongUnaryOperator<?> mapper)
+	{
+		return emesis(mapToStream().map(uncheckLongUnaryOperator(mapper)));
+	}
+
+
+	/**
+	 * @param <U> the element type of the returned stream
+	 * 
+	 * @param mapper a non-interfering, stateless checked function transforming {@code long} to {@code <U>}
+	 * @return the new {@link EmeticStream}
+	 * 
+	 * @see LongStream#mapToObj(java.util.function.LongFunction)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default <U> EmeticStream<U> mapToObj(CheckedLongFunction<? extends U, ?> mapper)
+	{
+		return EmeticStream.emesis(mapToStream().mapToObj(uncheckLongFunction(mapper)));
+	}
+
+
+	/**
+	 * @param mapper a non-interfering, stateless checked function transforming {@code long} to {@code int}
+	 * @return the new {@link EmeticIntStream}
+	 * 
+	 * @see LongStream#mapToInt(java.util.function.LongToIntFunction)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticIntStream mapToInt(CheckedLongToIntFunction<?> mapper)
+	{
+		return EmeticIntStream.emesis(mapToStream().mapToInt(uncheckLongToIntFunction(mapper)));
+	}
+
+
+	/**
+	 * @param mapper a non-interfering, stateless checked function transforming {@code long} to {@code double}
+	 * @return the new {@link EmeticDoubleStream}
+	 * 
+	 * @see LongStream#mapToDouble(java.util.function.LongToDoubleFunction)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticDoubleStream mapToDouble(CheckedLongToDoubleFunction<?> mapper)
+	{
+		return EmeticDoubleStream.emesis(mapToStream().mapToDouble(uncheckLongToDoubleFunction(mapper)));
+	}
+
+
+	/**
+	 * @param action a non-interfering checked action to perform on each element as it is consumed
+	 * @return the new {@link EmeticLongStream}
+	 * 
+	 * @see LongStream#peek(java.util.function.LongConsumer)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticLongStream peek(CheckedLongConsumer<?> action)
+	{
+		return emesis(mapToStream().peek(uncheckLongConsumer(action)));
+	}
+
+
+	/**
+	 * @param identity the identity value for the accumulating function
+	 * @param accumulator an associative, non-interfering, stateless checked function for combining two values
+	 * @return the result of the reduction
+	 * 
+	 * @see LongStream#reduce(long, java.util.function.LongBinaryOperator)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default long reduce(long identity, CheckedLongBinaryOperator<?> accumulator)
+	{
+		return mapToStream().reduce(identity, uncheckLongBinaryOperator(accumulator));
+	}
+
+
+	/**
+	 * @param accumulator an associative, non-interfering, stateless checked function for combining two values
+	 * @return the result of the reduction
+	 * 
+	 * @see LongStream#reduce(java.util.function.LongBinaryOperator)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default OptionalLong reduce(CheckedLongBinaryOperator<?> accumulator)
+	{
+		return mapToStream().reduce(uncheckLongBinaryOperator(accumulator));
+	}
+
+
+	/**
+	 * @return an {@link EmeticStream} of the elements, each boxed to an {@link Long}
+	 * 
+	 * @see LongStream#boxed()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticStream<Long> boxed()
+	{
+		return EmeticStream.emesis(mapToStream().boxed());
+	}
+
+
+	/**
+	 * @return an {@link EmeticDoubleStream} of the elements, converted to {@code double}
+	 * 
+	 * @see LongStream#asDoubleStream()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticDoubleStream asDoubleStream()
+	{
+		return EmeticDoubleStream.emesis(mapToStream().asDoubleStream());
+	}
+
+
+	/**
+	 * @return the sum of elements
+	 * 
+	 * @see LongStream#sum()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default long sum()
+	{
+		return mapToStream().sum();
+	}
+
+
+	/**
+	 * @return the minimum element, or empty if the stream is empty
+	 * 
+	 * @see LongStream#min()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default OptionalLong min()
+	{
+		return mapToStream().min();
+	}
+
+
+	/**
+	 * @return the maximum element, or empty if the stream is empty
+	 * 
+	 * @see LongStream#max()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default OptionalLong max()
+	{
+		return mapToStream().max();
+	}
+
+
+	/**
+	 * @return the arithmetic mean of elements, or empty if the stream is empty
+	 * 
+	 * @see LongStream#average()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default OptionalDouble average()
+	{
+		return mapToStream().average();
+	}
+
+
+	/**
+	 * @return the count of elements
+	 * 
+	 * @see LongStream#count()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default long count()
+	{
+		return mapToStream().count();
+	}
+
+
+	/**
+	 * @return the count, sum, min, max and average of elements
+	 * 
+	 * @see LongStream#summaryStatistics()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default LongSummaryStatistics summaryStatistics()
+	{
+		return mapToStream().summaryStatistics();
+	}
+
+
+	/**
+	 * @return an array containing the elements
+	 * 
+	 * @see LongStream#toArray()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default long[] toArray()
+	{
+		return mapToStream().toArray();
+	}
+
+
+	/**
+	 * @param closeHandler A runnable executed when the stream is closed
+	 * @return a stream with a handler registered
+	 * 
+	 * @see java.util.stream.BaseStream#onClose(Runnable)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticLongStream onClose(Runnable closeHandler)
+	{
+		return emesis(mapToStream().onClose(closeHandler));
+	}
+
+
+	/**
+	 * Closes the wrapped stream, invoking all registered close handlers.
+	 * 
+	 * @see AutoCloseable#close()
+	 * 
+	 * @since 1.1.0
+	 */
+	@Override
+	public default void close()
+	{
+		mapToStream().close();
+	}
+}
@@ -20,10 +20,24 @@ package io.earcam.unexceptional;
 
 import static io.earcam.unexceptional.Exceptional.*;
 
+import java.io.InputStream;
 import java.io.Serializable;   //NOSONAR SonarQube false positive - putting @SuppressWarnings("squid:UselessImportCheck") on class has no effect, can't put at package level either
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collector;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
@@ -52,6 +66,17 @@ import java.util.stream.Stream;
 @FunctionalInterface
 public interface EmeticStream<T> extends AutoCloseable {
 
+	/**
+	 * System property name; the maximum number of subsequent failures attached as suppressed to the first failure
+	 * raised by a parallel terminal operation, defaults to 16.
+	 * 
+	 * @since 1.1.0
+	 * 
+	 * @see #parallel()
+	 */
+	public static final String MAX_SUPPRESSED_PROPERTY = "io.earcam.unexceptional.parallel.suppressed";
+
+
 	/**
 	 * @return the wrapped stream
 	 */
@@ -93,6 +118,262 @@ public interface EmeticStream<T> extends AutoCloseable {
 
 
 	/**
+	 * <p>
+	 * The lines of a file, as per {@link java.nio.file.Files#lines(Path, Charset)}, but read via memory-mapping; so no
+	 * copying through a {@link java.io.BufferedReader}, and when parallel the file is split on line boundaries into
+	 * balanced chunks. Each line is decoded only when traversed.
+	 * </p>
+	 * <p>
+	 * Files of any size are supported, larger files being mapped as multiple regions. Only UTF-8, ISO-8859-1 and
+	 * US-ASCII are mapped, other charsets fall back to {@link java.nio.file.Files#lines(Path, Charset)}. Closing the
+	 * returned stream releases the mappings; use within a try-with-resources.
+	 * </p>
+	 * 
+	 * @param path the file to read
+	 * @param charset the charset used to decode
+	 * @return an emetic stream of the file's lines
+	 * @throws java.io.UncheckedIOException if the file cannot be opened or mapped; a malformed line raises this when
+	 * traversed
+	 * 
+	 * @since 1.1.0
+	 */
+	public static EmeticStream<String> lines(Path path, Charset charset)
+	{
+		return emesis(get(() -> MappedLineSpliterator.lines(path, charset)));
+	}
+
+
+	/**
+	 * As per {@link #lines(Path, Charset)}, decoding UTF-8.
+	 * 
+	 * @param path the file to read
+	 * @return an emetic stream of the file's lines
+	 * 
+	 * @since 1.1.0
+	 */
+	public static EmeticStream<String> lines(Path path)
+	{
+		return lines(path, StandardCharsets.UTF_8);
+	}
+
+
+	/**
+	 * <p>
+	 * The file tree rooted at {@code start}, as per {@link java.nio.file.Files#walk(Path, int, FileVisitOption...)},
+	 * but traversed concurrently; each directory is listed by a fork-join task, which forks a task per subdirectory,
+	 * so idle workers steal subtrees. Tasks run in the pool given to {@link #parallel(ForkJoinPool)}, otherwise the
+	 * {@link ForkJoinPool#commonPool()}. Entries stream as each directory is listed, in no particular order.
+	 * </p>
+	 * <p>
+	 * Every {@link java.nio.file.DirectoryStream} is closed as soon as its directory is listed. Traversal starts on first
+	 * advance, runs no further ahead of the consumer than a bounded queue allows, and is cancelled on close, or by the
+	 * first failure, which is thrown to the consumer (an {@link java.io.IOException} as
+	 * {@link java.io.UncheckedIOException}). With {@link FileVisitOption#FOLLOW_LINKS}, a cycle fails with
+	 * {@link java.nio.file.FileSystemLoopException}.
+	 * </p>
+	 * <p>
+	 * The stream must be closed (e.g. with try-with-resources) once no longer needed; an abandoned stream holds no
+	 * worker, but retains whatever traversal has set aside until garbage collected.
+	 * </p>
+	 * 
+	 * @param start the starting file
+	 * @param maxDepth the maximum number of directory levels to visit
+	 * @param options options to configure the traversal
+	 * @return an emetic stream of the paths within the tree
+	 * @throws IllegalArgumentException if {@code maxDepth} is negative
+	 * 
+	 * @see #walk(Path, int, CheckedBiFunction, FileVisitOption...)
+	 * 
+	 * @since 1.1.0
+	 */
+	public static EmeticStream<Path> walk(Path start, int maxDepth, FileVisitOption... options)
+	{
+		return emesis(WalkSpliterator.walk(start, maxDepth, (path, attributes) -> path, options));
+	}
+
+
+	/**
+	 * As per {@link #walk(Path, int, FileVisitOption...)}, mapping each entry along with the
+	 * {@link BasicFileAttributes} read during traversal, so consumers need not {@code stat} again. The mapper is
+	 * invoked concurrently by traversal tasks; a {@code null} result is skipped.
+	 * 
+	 * @param <R> the element type of the returned stream
+	 * 
+	 * @param start the starting file
+	 * @param maxDepth the maximum number of directory levels to visit
+	 * @param mapper a non-interfering, stateless function transforming a path and its attributes to {@code <R>}
+	 * @param options options to configure the traversal
+	 * @return an emetic stream of the mapped entries within the tree
+	 * @throws IllegalArgumentException if {@code maxDepth} is negative
+	 * 
+	 * @since 1.1.0
+	 */
+	public static <R> EmeticStream<R> walk(Path start, int maxDepth, CheckedBiFunction<Path, BasicFileAttributes, R, ?> mapper, FileVisitOption... options)
+	{
+		return emesis(WalkSpliterator.walk(start, maxDepth, uncheckBiFunction(mapper), options));
+	}
+
+
+	/**
+	 * <p>
+	 * The content of {@code channel}, as a sequence of {@link Chunk}s of {@code chunkSize} bytes (the last may be
+	 * shorter), read into a bounded pool of {@code poolSize} direct {@link java.nio.ByteBuffer}s. Each chunk's buffer is
+	 * handed to the consumer without copying, and reused once the chunk is {@link Chunk#release() released}; so
+	 * steady-state reading allocates only the small chunk handles, e.g.
+	 * </p>
+	 * 
+	 * <pre>
+	 * try(EmeticStream&lt;Chunk&gt; chunks = EmeticStream.chunks(channel, 64 * 1024)) {
+	 * 	chunks.forEach(c -&gt; {
+	 * 		try(Chunk chunk = c) {
+	 * 			parser.parse(chunk.buffer());
+	 * 		}
+	 * 	});
+	 * }
+	 * </pre>
+	 * <p>
+	 * Once all buffers are held, reading waits for a release; a consumer must not retain more than {@code poolSize}
+	 * chunks. Closing the stream closes the channel; chunks still held may be released afterwards, to no effect.
+	 * </p>
+	 * 
+	 * @param channel the channel to read, from its current position, in blocking mode
+	 * @param chunkSize the size of each chunk in bytes
+	 * @param poolSize the maximum number of buffers
+	 * @return an ordered, sequential emetic stream of chunks
+	 * @throws IllegalArgumentException if either size is not positive, or {@code channel} is non-blocking
+	 * 
+	 * @since 1.1.0
+	 */
+	public static EmeticStream<Chunk> chunks(ReadableByteChannel channel, int chunkSize, int poolSize)
+	{
+		return emesis(ChunkSpliterator.chunks(channel, chunkSize, poolSize));
+	}
+
+
+	/**
+	 * As per {@link #chunks(ReadableByteChannel, int, int)}, with a pool of 16 buffers.
+	 * 
+	 * @param channel the channel to read, from its current position, in blocking mode
+	 * @param chunkSize the size of each chunk in bytes
+	 * @return an ordered, sequential emetic stream of chunks
+	 * @throws IllegalArgumentException if {@code chunkSize} is not positive, or {@code channel} is non-blocking
+	 * 
+	 * @since 1.1.0
+	 */
+	public static EmeticStream<Chunk> chunks(ReadableByteChannel channel, int chunkSize)
+	{
+		return chunks(channel, chunkSize, ChunkSpliterator.DEFAULT_POOL_SIZE);
+	}
+
+
+	/**
+	 * As per {@link #chunks(ReadableByteChannel, int)}, reading via {@link Channels#newChannel(InputStream)}; closing
+	 * the stream closes {@code input}.
+	 * 
+	 * @param input the input stream to read
+	 * @param chunkSize the size of each chunk in bytes
+	 * @return an ordered, sequential emetic stream of chunks
+	 * @throws IllegalArgumentException if {@code chunkSize} is not positive
+	 * 
+	 * @since 1.1.0
+	 */
+	public static EmeticStream<Chunk> chunks(InputStream input, int chunkSize)
+	{
+		return chunks(Channels.newChannel(input), chunkSize);
+	}
+
+
+	/**
+	 * <p>
+	 * The content of {@code channel}, from the start of the file to its size on first advance, as a sequence of
+	 * {@link Chunk}s of {@code chunkSize} bytes (the last may be shorter). Up to {@code outstanding} positional reads are
+	 * kept in flight, ahead of the consumer, yet chunks are delivered in file order. Buffers are pooled, as per
+	 * {@link #chunks(ReadableByteChannel, int, int)}, with twice {@code outstanding} buffers.
+	 * </p>
+	 * <p>
+	 * A failed read is thrown when its chunk is next, as per {@link Exceptional#uncheck(Throwable)}. Closing the stream
+	 * closes the channel and awaits any reads still in flight; chunks still held may be released afterwards, to no
+	 * effect.
+	 * </p>
+	 * 
+	 * @param channel the file to read
+	 * @param chunkSize the size of each chunk in bytes
+	 * @param outstanding the maximum number of reads in flight
+	 * @return an ordered, sequential emetic stream of chunks
+	 * @throws IllegalArgumentException if {@code chunkSize} or {@code outstanding} is not positive
+	 * 
+	 * @since 1.1.0
+	 */
+	public static EmeticStream<Chunk> chunks(AsynchronousFileChannel channel, int chunkSize, int outstanding)
+	{
+		return emesis(AsyncChunkSpliterator.chunks(channel, chunkSize, outstanding));
+	}
+
+
+	/**
+	 * As per {@link #chunks(AsynchronousFileChannel, int, int)}, with up to 4 reads in flight.
+	 * 
+	 * @param channel the file to read
+	 * @param chunkSize the size of each chunk in bytes
+	 * @return an ordered, sequential emetic stream of chunks
+	 * @throws IllegalArgumentException if {@code chunkSize} is not positive
+	 * 
+	 * @since 1.1.0
+	 */
+	public static EmeticStream<Chunk> chunks(AsynchronousFileChannel channel, int chunkSize)
+	{
+		return chunks(channel, chunkSize, AsyncTransfer.DEFAULT_OUTSTANDING);
+	}
+
+
+	/**
+	 * Replays the elements recorded by a {@link DeadLetterSink}, in the order recorded, across all segments in
+	 * {@code directory}; a torn trailing record is ignored, any other corrupt record fails the stream with an
+	 * {@link java.io.UncheckedIOException}. Segments are read sequentially and lazily, so use within a
+	 * try-with-resources if the stream may not be fully consumed.
+	 * 
+	 * @param directory the directory a {@link DeadLetterSink} wrote to
+	 * @param deserializer converts recorded bytes back to an element
+	 * @return an emetic stream of recorded elements
+	 * 
+	 * @param <T> the recorded element type
+	 * 
+	 * @see #replayFailures(Path, CheckedFunction)
+	 * 
+	 * @since 1.1.0
+	 */
+	public static <T> EmeticStream<T> replay(Path directory, CheckedFunction<byte[], ? extends T, ?> deserializer)
+	{
+		return emesis(DeadLetterSink.replay(directory, deserializer));
+	}
+
+
+	/**
+	 * As per {@link #replay(Path, CheckedFunction)}, but replaying each record as a {@link Failure}, whose
+	 * {@link Failure#cause() cause} is an {@link UncheckedException} (without stack trace) bearing the recorded summary
+	 * of the original throwable as its message.
+	 * 
+	 * @param directory the directory a {@link DeadLetterSink} wrote to
+	 * @param deserializer converts recorded bytes back to an element
+	 * @return an emetic stream of recorded failures
+	 * 
+	 * @param <T> the recorded element type
+	 * 
+	 * @since 1.1.0
+	 */
+	public static <T> EmeticStream<Failure<T>> replayFailures(Path directory, CheckedFunction<byte[], ? extends T, ?> deserializer)
+	{
+		return emesis(DeadLetterSink.replayFailures(directory, deserializer));
+	}
+
+
+	/**
+	 * <p>
+	 * Terminal operations of a parallel emetic stream fail fast; the first failure signals all other splits to stop
+	 * pulling elements, and is rethrown with subsequent failures attached as suppressed (up to a maximum, see
+	 * {@value #MAX_SUPPRESSED_PROPERTY}).
+	 * </p>
+	 * 
 	 * @return a parallel emetic stream
 	 * 
 	 * @see Stream#parallel()
@@ -105,6 +386,32 @@ public interface EmeticStream<T> extends AutoCloseable {
 	}
 
 
+	/**
+	 * <p>
+	 * Returns a parallel emetic stream whose terminal operations execute within the given {@code pool}, rather than
+	 * the JVM-wide {@link ForkJoinPool#commonPool()}; useful for isolating IO-bound pipelines and sizing their
+	 * parallelism independently.
+	 * </p>
+	 * <p>
+	 * Intermediate operations on the returned stream retain the pool, {@link #sequential()} discards it. Streams
+	 * escaping via {@link #mapToStream()} or the primitive mappings execute as per {@link Stream#parallel()}.
+	 * Exceptions propagate as they would from {@link #parallel()}.
+	 * </p>
+	 * 
+	 * @param pool the pool in which terminal operations are to be executed
+	 * @return a parallel emetic stream bound to {@code pool}
+	 * 
+	 * @see #parallel()
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticStream<T> parallel(ForkJoinPool pool)
+	{
+		Objects.requireNonNull(pool);
+		return PooledEmeticStream.pooled(this, pool);
+	}
+
+
 	/**
 	 * @return a sequential emetic stream
 	 * 
@@ -189,7 +496,7 @@ public interface EmeticStream<T> extends AutoCloseable {
 	 */
 	public default boolean allMatch(CheckedPredicate<? super T, ?> predicate)
 	{
-		return mapToStream().allMatch(uncheckPredicate(predicate));
+		return FailFast.evaluate(mapToStream(), s -> s.allMatch(uncheckPredicate(predicate)));
 	}
 
 
@@ -204,7 +511,7 @@ public interface EmeticStream<T> extends AutoCloseable {
 	 */
 	public default boolean anyMatch(CheckedPredicate<? super T, ?> predicate)
 	{
-		return mapToStream().anyMatch(uncheckPredicate(predicate));
+		return FailFast.evaluate(mapToStream(), s -> s.anyMatch(uncheckPredicate(predicate)));
 	}
 
 
@@ -221,7 +528,7 @@ public interface EmeticStream<T> extends AutoCloseable {
 	 */
 	public default <R, A> R collect(Collector<? super T, A, R> collector)
 	{
-		return mapToStream().collect(collector);
+		return FailFast.evaluate(mapToStream(), s -> s.collect(collector));
 	}
 
 
@@ -239,7 +546,7 @@ public interface EmeticStream<T> extends AutoCloseable {
 	 */
 	public default <R> R collect(CheckedSupplier<R, ?> supplier, CheckedBiConsumer<R, ? super T, ?> accumulator, CheckedBiConsumer<R, R, ?> combiner)
 	{
-		return mapToStream().collect(uncheckSupplier(supplier), uncheckBiConsumer(accumulator), uncheckBiConsumer(combiner));
+		return FailFast.evaluate(mapToStream(), s -> s.collect(uncheckSupplier(supplier), uncheckBiConsumer(accumulator), uncheckBiConsumer(combiner)));
 	}
 
 
@@ -253,7 +560,7 @@ public interface EmeticStream<T> extends AutoCloseable {
 	 */
 	public default EmeticStream<T> filter(CheckedPredicate<? super T, ?> predicate)
 	{
-		return emesis(mapToStream().filter(uncheckPredicate(predicate)));
+		return FusedEmeticStream.fuse(mapToStream(), false).filter(predicate);
 	}
 
 
@@ -273,6 +580,33 @@ public interface EmeticStream<T> extends AutoCloseable {
 	}
 
 
+	/**
+	 * <p>
+	 * As per {@link #flatMap(CheckedFunction)}, but inner elements are pulled on demand; so short-circuiting terminal
+	 * operations (e.g. {@code anyMatch}, {@code findFirst}) and {@code limit} consume no more of an inner stream than
+	 * needed, whereas JDK 8's {@link Stream#flatMap(java.util.function.Function)} pushes every inner stream in its
+	 * entirety (JDK-8075939), e.g. reading whole files via {@code flatMapLazy(Files::lines)}.
+	 * </p>
+	 * <p>
+	 * Each inner stream is closed as soon as it is exhausted; one abandoned part way is closed when the returned stream
+	 * is, so use within a try-with-resources where the stream may not be fully consumed.
+	 * </p>
+	 * 
+	 * @param <R> element type of the new stream
+	 * 
+	 * @param mapper a non-interfering, stateless function transforming {@code <T>} to {@code Stream<R>}
+	 * @return the new {@link EmeticStream}
+	 * 
+	 * @see #flatMap(CheckedFunction)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default <R> EmeticStream<R> flatMapLazy(CheckedFunction<? super T, ? extends Stream<? extends R>, ?> mapper)
+	{
+		return emesis(LazyFlatMapSpliterator.flatMap(mapToStream(), uncheckFunction(mapper)));
+	}
+
+
 	/**
 	 * @param mapper a non-interfering, stateless function transforming {@code <T>} to {@code DoubleStream}
 	 * @return the new {@link DoubleStream}
@@ -315,6 +649,54 @@ public interface EmeticStream<T> extends AutoCloseable {
 	}
 
 
+	/**
+	 * As per {@link #flatMapToDouble(CheckedFunction)}, but remaining emetic.
+	 * 
+	 * @param mapper a non-interfering, stateless function producing a {@link DoubleStream} for each element
+	 * @return the new {@link EmeticDoubleStream}
+	 * 
+	 * @see Stream#flatMapToDouble(java.util.function.Function)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticDoubleStream flatMapToEmeticDouble(CheckedFunction<? super T, ? extends DoubleStream, ?> mapper)
+	{
+		return EmeticDoubleStream.emesis(flatMapToDouble(mapper));
+	}
+
+
+	/**
+	 * As per {@link #flatMapToInt(CheckedFunction)}, but remaining emetic.
+	 * 
+	 * @param mapper a non-interfering, stateless function producing a {@link IntStream} for each element
+	 * @return the new {@link EmeticIntStream}
+	 * 
+	 * @see Stream#flatMapToInt(java.util.function.Function)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticIntStream flatMapToEmeticInt(CheckedFunction<? super T, ? extends IntStream, ?> mapper)
+	{
+		return EmeticIntStream.emesis(flatMapToInt(mapper));
+	}
+
+
+	/**
+	 * As per {@link #flatMapToLong(CheckedFunction)}, but remaining emetic.
+	 * 
+	 * @param mapper a non-interfering, stateless function producing a {@link LongStream} for each element
+	 * @return the new {@link EmeticLongStream}
+	 * 
+	 * @see Stream#flatMapToLong(java.util.function.Function)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticLongStream flatMapToEmeticLong(CheckedFunction<? super T, ? extends LongStream, ?> mapper)
+	{
+		return EmeticLongStream.emesis(flatMapToLong(mapper));
+	}
+
+
 	/**
 	 * @param action a non-interfering action to apply to each element
 	 * @see Stream#forEach(java.util.function.Consumer)
@@ -323,7 +705,7 @@ public interface EmeticStream<T> extends AutoCloseable {
 	 */
 	public default void forEach(CheckedConsumer<? super T, ?> action)
 	{
-		mapToStream().forEach(uncheckConsumer(action));
+		FailFast.execute(mapToStream(), s -> s.forEach(uncheckConsumer(action)));
 	}
 
 
@@ -335,7 +717,7 @@ public interface EmeticStream<T> extends AutoCloseable {
 	 */
 	public default void forEachOrdered(CheckedConsumer<? super T, ?> action)
 	{
-		mapToStream().forEachOrdered(uncheckConsumer(action));
+		FailFast.execute(mapToStream(), s -> s.forEachOrdered(uncheckConsumer(action)));
 	}
 
 
@@ -351,7 +733,169 @@ public interface EmeticStream<T> extends AutoCloseable {
 	 */
 	public default <R> EmeticStream<R> map(CheckedFunction<? super T, ? extends R, ?> mapper)
 	{
-		return emesis(mapToStream().map(uncheckFunction(mapper)));
+		return FusedEmeticStream.fuse(mapToStream(), false).map(mapper);
+	}
+
+
+	/**
+	 * As per {@link #map(CheckedFunction)}, but any element for which {@code mapper} fails (other than with an
+	 * {@link Error} or {@link InterruptedException}) is replaced by the result of applying {@code fallback} to the
+	 * {@link Failure}, rather than aborting the stream. An {@link InterruptedException} aborts the stream, with the
+	 * interrupt flag restored.
+	 * 
+	 * @param <R> the element type of returned {@link Stream}
+	 * 
+	 * @param mapper a non-interfering, stateless function transforming {@code <T>} to {@code <R>}
+	 * @param fallback a non-interfering, stateless function providing the replacement for a failed element
+	 * @return the new {@link EmeticStream}
+	 * 
+	 * @see #onError(CheckedConsumer)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default <R> EmeticStream<R> map(CheckedFunction<? super T, ? extends R, ?> mapper, CheckedFunction<? super Failure<T>, ? extends R, ?> fallback)
+	{
+		return map(t -> {
+			try {
+				return mapper.apply(t);
+			} catch(Error error) {
+				throw error;
+			} catch(Throwable thrown) {
+				if(thrown instanceof InterruptedException) {
+					Thread.currentThread().interrupt();
+					throw thrown;
+				}
+				return fallback.apply(new Failure<>(t, thrown));
+			}
+		});
+	}
+
+
+	/**
+	 * <p>
+	 * Maps each element asynchronously, for checked functions that spend most of their time waiting (e.g. on remote
+	 * IO); at most {@code maxInFlight} invocations are outstanding at any time and results are emitted in source
+	 * order.
+	 * </p>
+	 * <p>
+	 * Invocations execute on a virtual thread per task on JDK 21+, otherwise on a pool of up to {@code maxInFlight}
+	 * daemon threads. The first failure cancels all outstanding invocations and is propagated as per
+	 * {@link Exceptional#uncheck(Throwable)} (or unchanged, if {@link #sneaky()}). Closing the returned stream
+	 * cancels any outstanding invocations.
+	 * </p>
+	 * <p>
+	 * The returned stream is sequential; source elements are consumed on demand, so an infinite source is
+	 * acceptable.
+	 * </p>
+	 * 
+	 * @param <R> the element type of returned {@link Stream}
+	 * 
+	 * @param maxInFlight the maximum number of concurrently outstanding invocations of {@code mapper}
+	 * @param mapper a non-interfering, stateless function transforming {@code <T>} to {@code <R>}
+	 * @return the new {@link EmeticStream}
+	 * @throws IllegalArgumentException if {@code maxInFlight} is less than one
+	 * 
+	 * @see #mapAsyncUnordered(int, CheckedFunction)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default <R> EmeticStream<R> mapAsync(int maxInFlight, CheckedFunction<? super T, ? extends R, ?> mapper)
+	{
+		return emesis(AsyncMappingSpliterator.mapAsync(mapToStream(), maxInFlight, mapper, true, false));
+	}
+
+
+	/**
+	 * As per {@link #mapAsync(int, CheckedFunction)}, but results are emitted in completion order; so a slow
+	 * invocation does not hold back the results of those that follow.
+	 * 
+	 * @param <R> the element type of returned {@link Stream}
+	 * 
+	 * @param maxInFlight the maximum number of concurrently outstanding invocations of {@code mapper}
+	 * @param mapper a non-interfering, stateless function transforming {@code <T>} to {@code <R>}
+	 * @return the new (unordered) {@link EmeticStream}
+	 * @throws IllegalArgumentException if {@code maxInFlight} is less than one
+	 * 
+	 * @see #mapAsync(int, CheckedFunction)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default <R> EmeticStream<R> mapAsyncUnordered(int maxInFlight, CheckedFunction<? super T, ? extends R, ?> mapper)
+	{
+		return emesis(AsyncMappingSpliterator.mapAsync(mapToStream(), maxInFlight, mapper, false, false));
+	}
+
+
+	/**
+	 * <p>
+	 * Drains this stream on a background thread into a queue of up to {@code depth} elements, so upstream stages
+	 * (typically reading) overlap with downstream stages (typically parsing/compute), rather than strictly alternating.
+	 * </p>
+	 * <p>
+	 * Anything thrown upstream is delivered in order, after the preceding elements. Closing the returned stream
+	 * cancels (interrupting) the background thread; as with {@link java.nio.file.Files#lines(java.nio.file.Path)},
+	 * use within a try-with-resources if the stream may not be fully consumed.
+	 * </p>
+	 * <p>
+	 * The returned stream is sequential.
+	 * </p>
+	 * 
+	 * @param depth the maximum number of elements buffered ahead of the consumer
+	 * @return an emetic stream prefetching from this stream
+	 * @throws IllegalArgumentException if {@code depth} is less than one
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticStream<T> prefetch(int depth)
+	{
+		return emesis(PrefetchSpliterator.prefetch(mapToStream(), depth));
+	}
+
+
+	/**
+	 * <p>
+	 * Groups consecutive elements into lists of {@code size} elements (the last, and in parallel those at split
+	 * boundaries, may be smaller), preserving encounter order. Each batch is a new, presized list.
+	 * </p>
+	 * 
+	 * @param size the maximum number of elements per batch
+	 * @return an emetic stream of batches
+	 * @throws IllegalArgumentException if {@code size} is less than one
+	 * 
+	 * @see #mapBatched(int, CheckedFunction)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticStream<List<T>> batch(int size)
+	{
+		return emesis(BatchSpliterator.batch(mapToStream(), size, false));
+	}
+
+
+	/**
+	 * <p>
+	 * Maps elements in batches of {@code size}, for checked operations far cheaper in bulk (batch inserts, vectored
+	 * writes, multi-gets), flattening the resulting lists back to single elements in encounter order.
+	 * </p>
+	 * <p>
+	 * The batch list is reused, so is only valid for the duration of the {@code mapper} invocation (and consumption of
+	 * the list it returns); {@code mapper} must not retain it. A {@code null} result is treated as empty.
+	 * </p>
+	 * 
+	 * @param <R> the element type of returned {@link Stream}
+	 * 
+	 * @param size the maximum number of elements per batch
+	 * @param mapper a non-interfering, stateless function transforming a batch of {@code <T>} to a list of {@code <R>}
+	 * @return the new {@link EmeticStream}
+	 * @throws IllegalArgumentException if {@code size} is less than one
+	 * 
+	 * @see #batch(int)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default <R> EmeticStream<R> mapBatched(int size, CheckedFunction<? super List<T>, ? extends List<? extends R>, ?> mapper)
+	{
+		return emesis(BatchSpliterator.batch(mapToStream(), size, true)).flatMap(batch -> BatchSpliterator.flatten(mapper.apply(batch)));
 	}
 
 
@@ -397,6 +941,57 @@ public interface EmeticStream<T> extends AutoCloseable {
 	}
 
 
+	/**
+	 * As per {@link #mapToDouble(CheckedToDoubleFunction)}, but remaining emetic; subsequent operations take checked
+	 * primitive functions and elements remain unboxed.
+	 * 
+	 * @param mapper a non-interfering, stateless function transforming {@code <T>} to {@code double}
+	 * @return the new {@link EmeticDoubleStream}
+	 * 
+	 * @see Stream#mapToDouble(java.util.function.ToDoubleFunction)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticDoubleStream mapToEmeticDouble(CheckedToDoubleFunction<? super T, ?> mapper)
+	{
+		return EmeticDoubleStream.emesis(mapToDouble(mapper));
+	}
+
+
+	/**
+	 * As per {@link #mapToInt(CheckedToIntFunction)}, but remaining emetic; subsequent operations take checked
+	 * primitive functions and elements remain unboxed.
+	 * 
+	 * @param mapper a non-interfering, stateless function transforming {@code <T>} to {@code int}
+	 * @return the new {@link EmeticIntStream}
+	 * 
+	 * @see Stream#mapToInt(java.util.function.ToIntFunction)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticIntStream mapToEmeticInt(CheckedToIntFunction<? super T, ?> mapper)
+	{
+		return EmeticIntStream.emesis(mapToInt(mapper));
+	}
+
+
+	/**
+	 * As per {@link #mapToLong(CheckedToLongFunction)}, but remaining emetic; subsequent operations take checked
+	 * primitive functions and elements remain unboxed.
+	 * 
+	 * @param mapper a non-interfering, stateless function transforming {@code <T>} to {@code long}
+	 * @return the new {@link EmeticLongStream}
+	 * 
+	 * @see Stream#mapToLong(java.util.function.ToLongFunction)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default EmeticLongStream mapToEmeticLong(CheckedToLongFunction<? super T, ?> mapper)
+	{
+		return EmeticLongStream.emesis(mapToLong(mapper));
+	}
+
+
 	/**
 	 * @param comparator a non-interfering, stateless comparator
 	 * @return an {@link Optional} as per {@link Stream#max(java.util.Comparator)}
@@ -407,7 +1002,7 @@ public interface EmeticStream<T> extends AutoCloseable {
 	 */
 	public default Optional<T> max(CheckedComparator<? super T, ?> comparator)
 	{
-		return mapToStream().max(uncheckComparator(comparator));
+		return FailFast.evaluate(mapToStream(), s -> s.max(uncheckComparator(comparator)));
 	}
 
 
@@ -421,7 +1016,7 @@ public interface EmeticStream<T> extends AutoCloseable {
 	 */
 	public default Optional<T> min(CheckedComparator<? super T, ?> comparator)
 	{
-		return mapToStream().min(uncheckComparator(comparator));
+		return FailFast.evaluate(mapToStream(), s -> s.min(uncheckComparator(comparator)));
 	}
 
 
@@ -437,7 +1032,7 @@ public interface EmeticStream<T> extends AutoCloseable {
 	 */
 	public default boolean noneMatch(CheckedPredicate<? super T, ?> predicate)
 	{
-		return mapToStream().noneMatch(uncheckPredicate(predicate));
+		return FailFast.evaluate(mapToStream(), s -> s.noneMatch(uncheckPredicate(predicate)));
 	}
 
 
@@ -451,7 +1046,7 @@ public interface EmeticStream<T> extends AutoCloseable {
 	 */
 	public default EmeticStream<T> peek(CheckedConsumer<? super T, ?> action)
 	{
-		return emesis(mapToStream().peek(uncheckConsumer(action)));
+		return FusedEmeticStream.fuse(mapToStream(), false).peek(action);
 	}
 
 
@@ -466,7 +1061,7 @@ public interface EmeticStream<T> extends AutoCloseable {
 	 */
 	public default Optional<T> reduce(CheckedBinaryOperator<T, ?> accumulator)
 	{
-		return mapToStream().reduce(uncheckBinaryOperator(accumulator));
+		return FailFast.evaluate(mapToStream(), s -> s.reduce(uncheckBinaryOperator(accumulator)));
 	}
 
 
@@ -482,7 +1077,162 @@ public interface EmeticStream<T> extends AutoCloseable {
 	 */
 	public default T reduce(T identity, CheckedBinaryOperator<T, ?> accumulator)
 	{
-		return mapToStream().reduce(identity, uncheckBinaryOperator(accumulator));
+		return FailFast.evaluate(mapToStream(), s -> s.reduce(identity, uncheckBinaryOperator(accumulator)));
+	}
+
+
+	/**
+	 * <p>
+	 * A checkpointed, resumable sequential reduction, for long-running jobs over ordered, repeatable sources (e.g.
+	 * sorted files, directory listings); if interrupted by a crash, a subsequent invocation (with the same
+	 * {@code checkpoint}) skips elements already accumulated and resumes from the recorded state.
+	 * </p>
+	 * <p>
+	 * Every {@code interval} elements the count of elements accumulated, along with the state as serialized by
+	 * {@code serializer}, is persisted to {@code checkpoint}. Checkpoint writes happen on a background thread, each
+	 * atomically replacing the last; snapshots taken while a write is in flight are coalesced, so the stream never waits
+	 * on checkpoint I/O. Should the reduction fail the checkpoint is brought up to date before the failure propagates;
+	 * on successful completion the checkpoint is deleted.
+	 * </p>
+	 * <p>
+	 * Following a crash at most {@code interval} elements are accumulated again. The elements are skipped after any
+	 * preceding intermediate operations, which are reapplied; so skipped elements must be reproduced in the same order.
+	 * The stream is evaluated sequentially.
+	 * </p>
+	 * 
+	 * @param <A> the accumulated state type
+	 * 
+	 * @param checkpoint the checkpoint file
+	 * @param interval the number of elements between checkpoints
+	 * @param identity the initial state, when no checkpoint exists
+	 * @param accumulator a non-interfering function folding an element into the state
+	 * @param serializer converts the state to bytes
+	 * @param deserializer converts bytes, as produced by {@code serializer}, back to state
+	 * @return the result of the reduction
+	 * @throws IllegalArgumentException if {@code interval} is less than one
+	 * 
+	 * @see #forEachCheckpointed(Path, int, CheckedConsumer)
+	 * 
+	 * @since 1.1.0
+	 */
+	public default <A> A reduceCheckpointed(Path checkpoint, int interval, A identity, CheckedBiFunction<A, ? super T, A, ?> accumulator,
+			CheckedFunction<? super A, byte[], ?> serializer, CheckedFunction<byte[], ? extends A, ?> deserializer)
+	{
+		return Checkpointing.reduce(mapToStream(), checkpoint, interval, identity, uncheckBiFunction(accumulator), uncheckFunction(serializer), uncheckFunction(deserializer));
+	}
+
+
+	/**
+	 * As per {@link #reduceCheckpointed(Path, int, Object, CheckedBiFunction, CheckedFunction, CheckedFunction)},
+	 * checkpointing only the count of elements consumed by {@code action}.
+	 * 
+	 * @param checkpoint the checkpoint file
+	 * @param interval the number of elements between checkpoints
+	 * @param action a non-interfering action to apply to each element
+	 * @throws IllegalArgumentException if {@code interval} is less than one
+	 * 
+	 * @since 1.1.0
+	 */
+	public default void forEachCheckpointed(Path checkpoint, int interval, CheckedConsumer<? super T, ?> action)
+	{
+		reduceCheckpointed(checkpoint, interval, null, (a, t) -> {
+			action.accept(t);
+			return null;
+		}, a -> new byte[0], b -> null);
+	}
+
+
+	/**
+	 * <p>
+	 * Writes every element to {@code channel}, in encounter order, as encoded by {@code encoder} directly into reusable
+	 * direct buffers. Buffers are written with a single gathering write (where {@code channel} is a
+	 * {@link java.nio.channels.GatheringByteChannel}) once {@code flushBytes} are encoded or {@code flushRecords}
+	 * elements accumulated, and once more on completion; so the channel is written once per batch, not per record.
+	 * </p>
+	 * <p>
+	 * The encoder must {@code put} a record at the buffer's position; should the buffer be full (a
+	 * {@link java.nio.BufferOverflowException}), the partial record is discarded and the encoder invoked again with an
+	 * empty buffer. Records larger than a buffer are encoded into a dedicated buffer. With {@code force}, and a
+	 * {@link java.nio.channels.FileChannel}, content is forced to storage on completion. The channel is not closed.
+	 * </p>
+	 * 
+	 * @param channel the channel to write to
+	 * @param encoder a non-interfering function writing an element into the given buffer
+	 * @param flushBytes the number of encoded bytes at which buffers are flushed
+	 * @param flushRecords the number of elements at which buffers are flushed
+	 * @param force whether to force written content to storage on completion
+	 * @return the number of bytes written
+	 * @throws IllegalArgumentException if {@code flushBytes} or {@code flushRecords} is less than one
+	 * 
+	 * @since 1.1.0
+	 */
+	public default long writeTo(WritableByteChannel channel, CheckedBiConsumer<? super T, ByteBuffer, ?> encoder, int flushBytes, int flushRecords,
+			boolean force)
+	{
+		return FailFast.evaluate(mapToStream(), s -> ChannelSink.write(s, channel, uncheckBiConsumer(encoder), flushBytes, flushRecords, force));
+	}
+
+
+	/**
+	 * As per {@link #writeTo(WritableByteChannel, CheckedBiConsumer, int, int, boolean)}, flushing every MiB encoded,
+	 * without forcing.
+	 * 
+	 * @param channel the channel to write to
+	 * @param encoder a non-interfering function writing an element into the given buffer
+	 * @return the number of bytes written
+	 * 
+	 * @since 1.1.0
+	 */
+	public default long writeTo(WritableByteChannel channel, CheckedBiConsumer<? super T, ByteBuffer, ?> encoder)
+	{
+		return writeTo(channel, encoder, ChannelSink.DEFAULT_FLUSH_BYTES, Integer.MAX_VALUE, false);
+	}
+
+
+	/**
+	 * <p>
+	 * Writes every element to {@code channel}, starting at {@code position}, in encounter order, as encoded by
+	 * {@code encoder} into reusable direct buffers (see
+	 * {@link #writeTo(WritableByteChannel, CheckedBiConsumer, int, int, boolean)}). Each full buffer is written by a
+	 * positional write, with up to {@code outstanding} writes in flight while encoding continues; so encoding and I/O
+	 * overlap.
+	 * </p>
+	 * <p>
+	 * Writes are awaited in file order; a failed write is thrown as per {@link Exceptional#uncheck(Throwable)}. All
+	 * writes in flight are awaited before returning, whether normally or not. With {@code force}, content is forced to
+	 * storage on completion. The channel is not closed.
+	 * </p>
+	 * 
+	 * @param channel the file to write to
+	 * @param position the file position at which to start writing
+	 * @param encoder a non-interfering function writing an element into the given buffer
+	 * @param outstanding the maximum number of writes in flight
+	 * @param force whether to force written content to storage on completion
+	 * @return the number of bytes written
+	 * @throws IllegalArgumentException if {@code position} is negative or {@code outstanding} is not positive
+	 * 
+	 * @since 1.1.0
+	 */
+	public default long writeTo(AsynchronousFileChannel channel, long position, CheckedBiConsumer<? super T, ByteBuffer, ?> encoder, int outstanding,
+			boolean force)
+	{
+		return FailFast.evaluate(mapToStream(), s -> AsyncChannelSink.write(s, channel, position, uncheckBiConsumer(encoder), outstanding, force));
+	}
+
+
+	/**
+	 * As per {@link #writeTo(AsynchronousFileChannel, long, CheckedBiConsumer, int, boolean)}, writing from the start of
+	 * the file with up to 4 writes in flight, without forcing.
+	 * 
+	 * @param channel the file to write to
+	 * @param encoder a non-interfering function writing an element into the given buffer
+	 * @return the number of bytes written
+	 * 
+	 * @since 1.1.0
+	 */
+	public default long writeTo(AsynchronousFileChannel channel, CheckedBiConsumer<? super T, ByteBuffer, ?> encoder)
+	{
+		return writeTo(channel, 0, encoder, AsyncTransfer.DEFAULT_OUTSTANDING, false);
 	}
 
 
@@ -510,7 +1260,7 @@ public interface EmeticStream<T> extends AutoCloseable {
 	 */
 	public default long count()
 	{
-		return mapToStream().count();
+		return FailFast.evaluate(mapToStream(), Stream::count);
 	}
 
 
@@ -530,6 +1280,73 @@ public interface EmeticStream<T> extends AutoCloseable {
 	}
 
 
+	/**
+	 * Switches to <i>sneaky</i> mode; all subsequent checked operations are adapted via {@link Sneaky}, so any
+	 * exception thrown propagates as the original {@link Throwable}, without wrapping.
+	 * Primitive emetic streams derived from this stream (e.g. via {@link #mapToEmeticInt(CheckedToIntFunction)})
+	 * translate exceptions as per {@link Exceptional}.
+	 *
+	 * @return an emetic stream rethrowing checked exceptions unchanged
+	 *
+	 * @see Sneaky
+	 *
+	 * @since 1.1.0
+	 */
+	public default EmeticStream<T> sneaky()
+	{
+		return SneakyEmeticStream.sneaky(mapToStream());
+	}
+
+
+	/**
+	 * Switches to <i>blocking</i> mode; all subsequent checked operations are decorated via {@link Blocking}, so when
+	 * executed by {@link ForkJoinPool} workers (i.e. in parallel) the pool is informed that the worker may block,
+	 * allowing it to compensate with additional workers while IO is in flight.
+	 * Primitive emetic streams derived from this stream do not retain blocking mode.
+	 *
+	 * @return an emetic stream invoking checked operations as {@link ForkJoinPool.ManagedBlocker}s
+	 *
+	 * @see Blocking
+	 * @see ForkJoinPool#managedBlock(ForkJoinPool.ManagedBlocker)
+	 *
+	 * @since 1.1.0
+	 */
+	public default EmeticStream<T> blocking()
+	{
+		return BlockingEmeticStream.blocking(this);
+	}
+
+
+	/**
+	 * <p>
+	 * Switches to <i>error-tolerant</i> mode; an element for which a subsequent {@code filter}, {@code map},
+	 * {@code flatMap}, {@code flatMapLazy}, {@code peek}, {@code forEach}, {@code forEachOrdered},
+	 * {@code forEachCheckpointed}, {@code mapAsync}, {@code mapAsyncUnordered}, {@code mapBatched} or {@code writeTo}
+	 * operation fails is passed, as a {@link Failure}, to {@code handler} and dropped, rather than aborting the stream.
+	 * An {@link Error} or {@link InterruptedException} still aborts the stream (the latter with the interrupt flag
+	 * restored). For {@code mapBatched} the failed element is (a copy of) the batch; for {@code writeTo} the element's
+	 * partial encoding is discarded. Other operations fail as usual.
+	 * </p>
+	 * <p>
+	 * To skip failed elements use a no-op handler (e.g. {@code f -> {}}); to replace them, see
+	 * {@link #map(CheckedFunction, CheckedFunction)}. Handler invocations are serialised, so in parallel the handler
+	 * need not be thread-safe; anything it throws aborts the stream as usual. Nothing is allocated unless an
+	 * operation fails.
+	 * </p>
+	 *
+	 * @param handler receives each failure
+	 * @return an emetic stream diverting failed elements to {@code handler}
+	 *
+	 * @see Failure
+	 *
+	 * @since 1.1.0
+	 */
+	public default EmeticStream<T> onError(CheckedConsumer<? super Failure<?>, ?> handler)
+	{
+		return TolerantEmeticStream.tolerant(this, Objects.requireNonNull(handler));
+	}
+
+
 	/**
 	 * Closes the wrapped stream, invoking all registered close handlers.
 	 *
@@ -0,0 +1,104 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Service provider interface, translating a {@link Throwable} of a given type into a {@link RuntimeException}.
+ * </p>
+ * <p>
+ * Translators are consulted by {@link Exceptional#uncheck(Throwable)} (and therefore by every {@code uncheckXxx}
+ * adapter); they may be registered programmatically via {@link ExceptionTranslators#register(ExceptionTranslator)}
+ * or discovered with {@link java.util.ServiceLoader}, by listing implementations in
+ * {@code META-INF/services/io.earcam.unexceptional.ExceptionTranslator}.
+ * </p>
+ * 
+ * @param <T> the type of {@link Throwable} translated
+ * 
+ * @since 1.1.0
+ * 
+ * @see ExceptionTranslators
+ */
+public interface ExceptionTranslator<T extends Throwable> {
+
+	/**
+	 * @return the type translated; applies to subclasses unless a more specific translator is registered
+	 */
+	public abstract Class<T> type();
+
+
+	/**
+	 * @param caught the {@link Throwable} to translate, an instance of {@link #type()}
+	 * @return an unchecked equivalent of {@code caught}, typically wrapping it as the cause, or {@code null} to decline
+	 * in favour of the translator registered for a supertype of {@link #type()}
+	 */
+	public abstract RuntimeException translate(T caught);
+
+
+	/**
+	 * Translate, with control over stack trace capture of the resulting wrapper; when {@code writableStackTrace}
+	 * is {@code false} implementations should avoid filling in the stack trace (and disable suppression), the
+	 * {@code caught} cause already carries the relevant trace.
+	 * 
+	 * The default implementation ignores {@code writableStackTrace}, simply delegating to {@link #translate(Throwable)}
+	 * 
+	 * @param caught the {@link Throwable} to translate, an instance of {@link #type()}
+	 * @param writableStackTrace whether or not the wrapper's stack trace should be captured
+	 * @return an unchecked equivalent of {@code caught}, typically wrapping it as the cause, or {@code null} to decline
+	 * 
+	 * @see UncheckedException#UncheckedException(Throwable, boolean)
+	 */
+	public default RuntimeException translate(T caught, boolean writableStackTrace)
+	{
+		return translate(caught);
+	}
+
+
+	/**
+	 * @param <T> the type of {@link Throwable} translated
+	 * 
+	 * @param type the type translated
+	 * @param translation the function performing the translation
+	 * @return an {@link ExceptionTranslator} for {@code type}
+	 * @throws NullPointerException if either argument is {@code null}
+	 */
+	public static <T extends Throwable> ExceptionTranslator<T> of(Class<T> type, Function<? super T, ? extends RuntimeException> translation)
+	{
+		Objects.requireNonNull(type);
+		Objects.requireNonNull(translation);
+		return new ExceptionTranslator<T>() {
+
+			@Override
+			public Class<T> type()
+			{
+				return type;
+			}
+
+
+			@Override
+			public RuntimeException translate(T caught)
+			{
+				return translation.apply(caught);
+			}
+		};
+	}
+}
@@ -0,0 +1,269 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static java.util.Collections.unmodifiableMap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.security.GeneralSecurityException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Registry of {@link ExceptionTranslator}s used by {@link Exceptional#uncheck(Throwable)}.
+ * </p>
+ * <p>
+ * Translation is deterministic; the translator registered for the nearest superclass of the caught throwable's type
+ * wins, and registering a translator for an already registered type replaces it. Built-in translators are
+ * registered first, followed by any discovered via {@link ServiceLoader} when this class is initialised, so
+ * providers may override the defaults. A provider that cannot be loaded or instantiated is skipped, it does not
+ * prevent discovery of the others. A translator returning {@code null} declines, deferring to the translator
+ * registered for the nearest superclass of its own {@link ExceptionTranslator#type() type}.
+ * </p>
+ * <p>
+ * Lookups run against an immutable snapshot, resolved once per concrete type and cached; registration
+ * atomically swaps in a new snapshot, so translation never blocks and never contends with registration.
+ * </p>
+ * <p>
+ * Setting the system property {@value Exceptional#STACKLESS_PROPERTY} to {@code true} causes the built-in
+ * translators to create wrappers without stack traces (and with suppression disabled) by default.
+ * </p>
+ * 
+ * @since 1.1.0
+ */
+public final class ExceptionTranslators {
+
+	private static final boolean WRITABLE_STACK_TRACE = !Boolean.getBoolean(Exceptional.STACKLESS_PROPERTY);
+
+	private static final ExceptionTranslator<Throwable> GENERIC = new BuiltIn<>(Throwable.class, UncheckedException::new);
+
+	private static final AtomicReference<Snapshot> SNAPSHOT = new AtomicReference<>(new Snapshot(builtIn()));
+
+	static {
+		discover(ServiceLoader.load(ExceptionTranslator.class));
+	}
+
+	private static final class Snapshot {
+
+		private final Map<Class<?>, ExceptionTranslator<?>> translators;
+
+		private final ClassValue<ExceptionTranslator<?>> lookup = new ClassValue<ExceptionTranslator<?>>() {
+			@Override
+			protected ExceptionTranslator<?> computeValue(Class<?> type)
+			{
+				for(Class<?> t = type; t != null; t = t.getSuperclass()) {
+					ExceptionTranslator<?> translator = translators.get(t);
+					if(translator != null) {
+						return translator;
+					}
+				}
+				return GENERIC;
+			}
+		};
+
+
+		Snapshot(Map<Class<?>, ExceptionTranslator<?>> translators)
+		{
+			this.translators = unmodifiableMap(translators);
+		}
+
+
+		Snapshot with(ExceptionTranslator<?> translator)
+		{
+			Map<Class<?>, ExceptionTranslator<?>> map = new HashMap<>(translators);
+			map.put(translator.type(), translator);
+			return new Snapshot(map);
+		}
+	}
+
+
+	@FunctionalInterface
+	private interface StackAwareTranslation<T extends Throwable> {
+
+		public abstract RuntimeException translate(T caught, boolean writableStackTrace);
+	}
+
+	private static final class BuiltIn<T extends Throwable> implements ExceptionTranslator<T> {
+
+		private final Class<T> type;
+		private final StackAwareTranslation<T> translation;
+
+
+		BuiltIn(Class<T> type, StackAwareTranslation<T> translation)
+		{
+			this.type = type;
+			this.translation = translation;
+		}
+
+
+		@Override
+		public Class<T> type()
+		{
+			return type;
+		}
+
+
+		@Override
+		public RuntimeException translate(T caught)
+		{
+			return translate(caught, true);
+		}
+
+
+		@Override
+		public RuntimeException translate(T caught, boolean writableStackTrace)
+		{
+			return translation.translate(caught, writableStackTrace);
+		}
+	}
+
+
+	private ExceptionTranslators()
+	{
+		throw new IllegalStateException("Why on earth would you want to instantiate this?");
+	}
+
+
+	private static Map<Class<?>, ExceptionTranslator<?>> builtIn()
+	{
+		Map<Class<?>, ExceptionTranslator<?>> map = new HashMap<>();
+		// @formatter:off
+		put(map, new BuiltIn<>(ReflectiveOperationException.class, UncheckedReflectiveException::new));
+		put(map, new BuiltIn<>(    GeneralSecurityException.class, UncheckedSecurityException::new));
+		put(map, new BuiltIn<>(        InterruptedException.class, UncheckedInterruptException::new));
+		put(map, new BuiltIn<>(          URISyntaxException.class, UncheckedUriSyntaxException::new));
+		put(map, new BuiltIn<>(            RuntimeException.class, (e, w) -> e));
+		put(map, new BuiltIn<>(                 IOException.class, (e, w) -> w ? new UncheckedIOException(e) : new StacklessUncheckedIOException(e)));
+		// @formatter:on
+		return map;
+	}
+
+
+	private static void put(Map<Class<?>, ExceptionTranslator<?>> map, ExceptionTranslator<?> translator)
+	{
+		map.put(translator.type(), translator);
+	}
+
+
+	/**
+	 * Registers the {@code translator}, replacing any existing translator for the same {@link ExceptionTranslator#type()}.
+	 * 
+	 * @param translator the translator to register
+	 * @throws NullPointerException if {@code translator} or its type is {@code null}
+	 */
+	public static void register(ExceptionTranslator<?> translator)
+	{
+		if(translator.type() == null) {
+			throw new NullPointerException("translator type");
+		}
+		SNAPSHOT.updateAndGet(s -> s.with(translator));
+	}
+
+
+	/**
+	 * Shorthand for {@code register(ExceptionTranslator.of(type, translation))}
+	 * 
+	 * @param <T> the type of {@link Throwable} translated
+	 * 
+	 * @param type the type translated
+	 * @param translation the function performing the translation
+	 * 
+	 * @see #register(ExceptionTranslator)
+	 */
+	public static <T extends Throwable> void register(Class<T> type, Function<? super T, ? extends RuntimeException> translation)
+	{
+		register(ExceptionTranslator.of(type, translation));
+	}
+
+
+	/**
+	 * Registers all {@link ExceptionTranslator} providers found by the given {@code loader}, in the order discovered.
+	 * Broken providers are skipped; discovery stops should locating providers fail the same way twice in succession.
+	 * 
+	 * @param loader the class loader used to locate provider configuration files and classes
+	 * 
+	 * @see ServiceLoader#load(Class, ClassLoader)
+	 */
+	public static void discover(ClassLoader loader)
+	{
+		discover(ServiceLoader.load(ExceptionTranslator.class, loader));
+	}
+
+
+	@SuppressWarnings("rawtypes")
+	private static void discover(ServiceLoader<ExceptionTranslator> loader)
+	{
+		Iterator<ExceptionTranslator> providers = loader.iterator();
+		String previous = null;
+		while(true) {
+			ExceptionTranslator provider;
+			try {
+				if(!providers.hasNext()) {
+					return;
+				}
+				provider = providers.next();
+				previous = null;
+			} catch(ServiceConfigurationError | RuntimeException skipped) {
+				// a broken provider must not prevent discovery of the rest, but a repeated failure has not advanced
+				String failure = skipped.toString();
+				if(failure.equals(previous)) {
+					return;
+				}
+				previous = failure;
+				continue;
+			}
+			try {
+				register(provider);
+			} catch(RuntimeException skipped) {
+				// an invalid provider must not prevent registration of the rest
+			}
+		}
+	}
+
+
+	static RuntimeException translate(Throwable caught)
+	{
+		return translate(caught, WRITABLE_STACK_TRACE);
+	}
+
+
+	@SuppressWarnings("unchecked")
+	static RuntimeException translate(Throwable caught, boolean writableStackTrace)
+	{
+		Snapshot snapshot = SNAPSHOT.get();
+		Class<?> type = caught.getClass();
+		while(type != null) {
+			ExceptionTranslator<Throwable> translator = (ExceptionTranslator<Throwable>) snapshot.lookup.get(type);
+			RuntimeException translated = translator.translate(caught, writableStackTrace);
+			if(translated != null) {
+				return translated;
+			}
+			type = translator.type().getSuperclass();
+		}
+		return GENERIC.translate(caught, writableStackTrace);
+	}
+}
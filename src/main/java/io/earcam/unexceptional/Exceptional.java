@@ -18,9 +18,6 @@
  */
 package io.earcam.unexceptional;
 
-import static java.util.Collections.unmodifiableMap;
-
-import java.io.IOException;
 import java.io.Serializable;
 import java.io.UncheckedIOException;
 import java.lang.Thread.UncaughtExceptionHandler;
@@ -31,24 +28,51 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLStreamHandler;
-import java.security.GeneralSecurityException;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
 import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleBiFunction;
 import java.util.function.ToDoubleFunction;
 import java.util.function.ToIntBiFunction;
 import java.util.function.ToIntFunction;
+import java.util.function.ToLongBiFunction;
 import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
@@ -97,21 +121,16 @@ public final class Exceptional implements Serializable {
 
 	private static final long serialVersionUID = -1350140594550206145L;
 
-	private static final Map<Class<? extends Throwable>, Function<Throwable, RuntimeException>> UNCHECK_MAP;
-
-	static {
-		Map<Class<? extends Throwable>, Function<Throwable, RuntimeException>> map = new HashMap<>();
-		// @formatter:off
-		map.put(ReflectiveOperationException.class, e -> new UncheckedReflectiveException((ReflectiveOperationException)e));
-		map.put(    GeneralSecurityException.class, e -> new UncheckedSecurityException((GeneralSecurityException)e));
-		map.put(        InterruptedException.class, e -> new UncheckedInterruptException((InterruptedException)e));
-		map.put(          URISyntaxException.class, e -> new UncheckedUriSyntaxException((URISyntaxException)e));
-		map.put(            RuntimeException.class, RuntimeException.class::cast);
-		map.put(                 IOException.class, e -> new UncheckedIOException((IOException)e));
-		// @formatter:on
-
-		UNCHECK_MAP = unmodifiableMap(map);
-	}
+	/**
+	 * System property name; when set to {@code true} the unchecked wrappers created by {@link #uncheck(Throwable)}
+	 * (and therefore all invocation/conversion methods) are <i>stackless</i> - with writable stack trace and
+	 * suppression disabled. The wrapped cause retains its own stack trace.
+	 * 
+	 * @since 1.1.0
+	 * 
+	 * @see #uncheck(Throwable, boolean)
+	 */
+	public static final String STACKLESS_PROPERTY = "io.earcam.unexceptional.stackless";
 
 	/**
 	 * An {@link UncaughtExceptionHandler} that simply rethrows,
@@ -338,6 +357,10 @@ public final class Exceptional implements Serializable {
 	 * <p>
 	 * The interrupt flag will be reset IFF {@code caught instanceof InterruptedException}
 	 * </p>
+	 * <p>
+	 * The translation is resolved once per concrete type of {@code caught}, the most specific
+	 * (nearest superclass) registered {@link ExceptionTranslator} wins, see {@link ExceptionTranslators}.
+	 * </p>
 	 * 
 	 * @param caught any {@link Throwable}
 	 * @return a {@link RuntimeException}, typically a subclass of {@link UncheckedException} or an
@@ -348,11 +371,26 @@ public final class Exceptional implements Serializable {
 	 */
 	public static RuntimeException uncheck(Throwable caught)
 	{
-		return UNCHECK_MAP.entrySet().stream()
-				.filter(e -> e.getKey().isInstance(caught))
-				.map(e -> e.getValue().apply(caught))
-				.findFirst()
-				.orElseGet(() -> new UncheckedException(caught));
+		return ExceptionTranslators.translate(caught);
+	}
+
+
+	/**
+	 * As per {@link #uncheck(Throwable)}, but overriding the default set by {@value #STACKLESS_PROPERTY} for this call.
+	 * 
+	 * @param caught any {@link Throwable}
+	 * @param writableStackTrace {@code false} to create the wrapper without stack trace (and with suppression
+	 * disabled), {@code true} for a wrapper with the full stack trace
+	 * @return a {@link RuntimeException}, typically a subclass of {@link UncheckedException} or an
+	 * {@link UncheckedIOException}
+	 * 
+	 * @since 1.1.0
+	 * 
+	 * @see UncheckedException#UncheckedException(Throwable, boolean)
+	 */
+	public static RuntimeException uncheck(Throwable caught, boolean writableStackTrace)
+	{
+		return ExceptionTranslators.translate(caught, writableStackTrace);
 	}
 
 
@@ -844,75 +882,1208 @@ public final class Exceptional implements Serializable {
 
 
 	/**
-	 * <p>
-	 * This fugly method relies on erasure to trick the compiler, allowing you to throw any checked
-	 * exception without declaring so on the surrounding method. You are almost certainly better off
-	 * using {@link #rethrow(Throwable)}.
-	 * </p>
-	 * <p>
-	 * <b>Note</b>: this may well become an obsolete hack in future versions of Java if generics change.
-	 * </p>
+	 * Converts a {@link CheckedBooleanSupplier} into a {@link BooleanSupplier}.
 	 * 
-	 * @param throwable the {@link Throwable} to be thrown
-	 * @return this alleged return will never be received, but useful in that
-	 * you may write <code>throws {@link Exceptional#throwAsUnchecked(Throwable)};</code>
-	 * to placate the compiler WRT non-void method returns, and ensure Static Code
-	 * Analysis doesn't accuse you of swallowing the exception.
+	 * @param supplier the checked boolean supplier
+	 * @return an unchecked boolean supplier wrapping the {@code supplier} argument
 	 * 
-	 * @since 0.2.0
+	 * @since 1.1.0
+	 */
+	public static BooleanSupplier uncheckBooleanSupplier(CheckedBooleanSupplier<?> supplier)
+	{
+		return (BooleanSupplier & Serializable) () -> Exceptional.getAsBoolean(supplier);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedBooleanSupplier#getAsBoolean()} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
 	 * 
-	 * @see #rethrow(Throwable)
+	 * @param supplier the checked boolean supplier
+	 * @return a boolean result
+	 * 
+	 * @since 1.1.0
 	 */
-	public static RuntimeException throwAsUnchecked(Throwable throwable)
+	public static boolean getAsBoolean(CheckedBooleanSupplier<?> supplier)
 	{
-		resetIfInterrupt(throwable);
-		return Exceptional.<RuntimeException> eraseAndThrow(throwable);
+		try {
+			return supplier.getAsBoolean();
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedIntBinaryOperator} into an {@link IntBinaryOperator}.
+	 * 
+	 * @param operator the checked int binary operator
+	 * @return an unchecked int binary operator wrapping the {@code operator} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static IntBinaryOperator uncheckIntBinaryOperator(CheckedIntBinaryOperator<?> operator)
+	{
+		return (IntBinaryOperator & Serializable) (left, right) -> Exceptional.applyIntBinary(operator, left, right);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedIntBinaryOperator#applyAsInt(int, int)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param operator the checked int binary operator
+	 * @param left the first operand
+	 * @param right the second operand
+	 * @return the operator result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static int applyIntBinary(CheckedIntBinaryOperator<?> operator, int left, int right)
+	{
+		try {
+			return operator.applyAsInt(left, right);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
 	}
 
 
+	/**
+	 * Converts a {@link CheckedIntFunction} into an {@link IntFunction}.
+	 * 
+	 * @param <R> the type of the result
+	 * 
+	 * @param function the checked int function
+	 * @return an unchecked int function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
 	@SuppressWarnings("unchecked")
-	private static <T extends Throwable> RuntimeException eraseAndThrow(Throwable throwable) throws T
+	public static <R> IntFunction<R> uncheckIntFunction(CheckedIntFunction<R, ?> function)
 	{
-		throw (T) throwable;
+		return (IntFunction<R> & Serializable) value -> Exceptional.applyInt(function, value);
 	}
 
 
 	/**
-	 * <p>
-	 * Attempts to unwrap invocation and unchecked exceptions to their underlying cause.
-	 * Unwrapping is recursively applied. The original wrapper exception is added to the suppressed
-	 * throwables of the returned unwrapped throwable.
-	 * </p>
+	 * Invokes {@link CheckedIntFunction#apply(int)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
 	 * 
-	 * <p>
-	 * Unwraps: {@link InvocationTargetException}, {@link UndeclaredThrowableException}, {@link UncheckedIOException}
-	 * and {@link UncheckedException}
-	 * </p>
+	 * @param <R> the type of the result
 	 * 
-	 * @param throwable to be unwrapped
-	 * @return the root cause, or original throwable if not unwrapped
+	 * @param function the checked int function
+	 * @param value the function argument
+	 * @return the function result
 	 * 
-	 * @since 0.2.0
+	 * @since 1.1.0
+	 */
+	public static <R> R applyInt(CheckedIntFunction<R, ?> function, int value)
+	{
+		try {
+			return function.apply(value);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedIntPredicate} into an {@link IntPredicate}.
+	 * 
+	 * @param predicate the checked int predicate
+	 * @return an unchecked int predicate wrapping the {@code predicate} argument
 	 * 
+	 * @since 1.1.0
 	 */
-	public static Throwable unwrap(Throwable throwable)
+	public static IntPredicate uncheckIntPredicate(CheckedIntPredicate<?> predicate)
 	{
-		Throwable unwrapped = unwrapping(throwable);
-		if(unwrapped != throwable) {
-			unwrapped.addSuppressed(throwable);
+		return (IntPredicate & Serializable) value -> Exceptional.testInt(predicate, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedIntPredicate#test(int)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param predicate the checked int predicate
+	 * @param value the input argument
+	 * @return {@code true} if the input argument matches the predicate, otherwise {@code false}
+	 * 
+	 * @since 1.1.0
+	 */
+	public static boolean testInt(CheckedIntPredicate<?> predicate, int value)
+	{
+		try {
+			return predicate.test(value);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
 		}
-		return unwrapped;
 	}
 
 
+	/**
+	 * Converts a {@link CheckedIntSupplier} into an {@link IntSupplier}.
+	 * 
+	 * @param supplier the checked int supplier
+	 * @return an unchecked int supplier wrapping the {@code supplier} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static IntSupplier uncheckIntSupplier(CheckedIntSupplier<?> supplier)
+	{
+		return (IntSupplier & Serializable) () -> Exceptional.getAsInt(supplier);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedIntSupplier#getAsInt()} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param supplier the checked int supplier
+	 * @return a int result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static int getAsInt(CheckedIntSupplier<?> supplier)
+	{
+		try {
+			return supplier.getAsInt();
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedIntToLongFunction} into an {@link IntToLongFunction}.
+	 * 
+	 * @param function the checked int-to-long function
+	 * @return an unchecked int-to-long function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static IntToLongFunction uncheckIntToLongFunction(CheckedIntToLongFunction<?> function)
+	{
+		return (IntToLongFunction & Serializable) value -> Exceptional.applyIntAsLong(function, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedIntToLongFunction#applyAsLong(int)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param function the checked int-to-long function
+	 * @param value the function argument
+	 * @return the function result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static long applyIntAsLong(CheckedIntToLongFunction<?> function, int value)
+	{
+		try {
+			return function.applyAsLong(value);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedIntToDoubleFunction} into an {@link IntToDoubleFunction}.
+	 * 
+	 * @param function the checked int-to-double function
+	 * @return an unchecked int-to-double function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static IntToDoubleFunction uncheckIntToDoubleFunction(CheckedIntToDoubleFunction<?> function)
+	{
+		return (IntToDoubleFunction & Serializable) value -> Exceptional.applyIntAsDouble(function, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedIntToDoubleFunction#applyAsDouble(int)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param function the checked int-to-double function
+	 * @param value the function argument
+	 * @return the function result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static double applyIntAsDouble(CheckedIntToDoubleFunction<?> function, int value)
+	{
+		try {
+			return function.applyAsDouble(value);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedIntUnaryOperator} into an {@link IntUnaryOperator}.
+	 * 
+	 * @param operator the checked int unary operator
+	 * @return an unchecked int unary operator wrapping the {@code operator} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static IntUnaryOperator uncheckIntUnaryOperator(CheckedIntUnaryOperator<?> operator)
+	{
+		return (IntUnaryOperator & Serializable) operand -> Exceptional.applyIntUnary(operator, operand);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedIntUnaryOperator#applyAsInt(int)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param operator the checked int unary operator
+	 * @param operand the operand
+	 * @return the operator result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static int applyIntUnary(CheckedIntUnaryOperator<?> operator, int operand)
+	{
+		try {
+			return operator.applyAsInt(operand);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedObjIntConsumer} into an {@link ObjIntConsumer}.
+	 * 
+	 * @param <T> the type of the object argument
+	 * 
+	 * @param consumer the checked object-int consumer
+	 * @return an unchecked object-int consumer wrapping the {@code consumer} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> ObjIntConsumer<T> uncheckObjIntConsumer(CheckedObjIntConsumer<T, ?> consumer)
+	{
+		return (ObjIntConsumer<T> & Serializable) (t, value) -> Exceptional.acceptObjInt(consumer, t, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedObjIntConsumer#accept(Object, int)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param <T> the type of the object argument
+	 * 
+	 * @param consumer the checked object-int consumer
+	 * @param t the first input argument
+	 * @param value the second input argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static <T> void acceptObjInt(CheckedObjIntConsumer<T, ?> consumer, T t, int value)
+	{
+		try {
+			consumer.accept(t, value);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedLongBinaryOperator} into a {@link LongBinaryOperator}.
+	 * 
+	 * @param operator the checked long binary operator
+	 * @return an unchecked long binary operator wrapping the {@code operator} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static LongBinaryOperator uncheckLongBinaryOperator(CheckedLongBinaryOperator<?> operator)
+	{
+		return (LongBinaryOperator & Serializable) (left, right) -> Exceptional.applyLongBinary(operator, left, right);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedLongBinaryOperator#applyAsLong(long, long)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param operator the checked long binary operator
+	 * @param left the first operand
+	 * @param right the second operand
+	 * @return the operator result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static long applyLongBinary(CheckedLongBinaryOperator<?> operator, long left, long right)
+	{
+		try {
+			return operator.applyAsLong(left, right);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedLongConsumer} into a {@link LongConsumer}.
+	 * 
+	 * @param consumer the checked long consumer
+	 * @return an unchecked long consumer wrapping the {@code consumer} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static LongConsumer uncheckLongConsumer(CheckedLongConsumer<?> consumer)
+	{
+		return (LongConsumer & Serializable) value -> Exceptional.acceptLong(consumer, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedLongConsumer#accept(long)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param consumer the checked long consumer
+	 * @param value the input argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static void acceptLong(CheckedLongConsumer<?> consumer, long value)
+	{
+		try {
+			consumer.accept(value);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedLongFunction} into a {@link LongFunction}.
+	 * 
+	 * @param <R> the type of the result
+	 * 
+	 * @param function the checked long function
+	 * @return an unchecked long function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <R> LongFunction<R> uncheckLongFunction(CheckedLongFunction<R, ?> function)
+	{
+		return (LongFunction<R> & Serializable) value -> Exceptional.applyLong(function, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedLongFunction#apply(long)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param <R> the type of the result
+	 * 
+	 * @param function the checked long function
+	 * @param value the function argument
+	 * @return the function result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static <R> R applyLong(CheckedLongFunction<R, ?> function, long value)
+	{
+		try {
+			return function.apply(value);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedLongPredicate} into a {@link LongPredicate}.
+	 * 
+	 * @param predicate the checked long predicate
+	 * @return an unchecked long predicate wrapping the {@code predicate} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static LongPredicate uncheckLongPredicate(CheckedLongPredicate<?> predicate)
+	{
+		return (LongPredicate & Serializable) value -> Exceptional.testLong(predicate, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedLongPredicate#test(long)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param predicate the checked long predicate
+	 * @param value the input argument
+	 * @return {@code true} if the input argument matches the predicate, otherwise {@code false}
+	 * 
+	 * @since 1.1.0
+	 */
+	public static boolean testLong(CheckedLongPredicate<?> predicate, long value)
+	{
+		try {
+			return predicate.test(value);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedLongSupplier} into a {@link LongSupplier}.
+	 * 
+	 * @param supplier the checked long supplier
+	 * @return an unchecked long supplier wrapping the {@code supplier} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static LongSupplier uncheckLongSupplier(CheckedLongSupplier<?> supplier)
+	{
+		return (LongSupplier & Serializable) () -> Exceptional.getAsLong(supplier);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedLongSupplier#getAsLong()} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param supplier the checked long supplier
+	 * @return a long result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static long getAsLong(CheckedLongSupplier<?> supplier)
+	{
+		try {
+			return supplier.getAsLong();
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedLongToIntFunction} into a {@link LongToIntFunction}.
+	 * 
+	 * @param function the checked long-to-int function
+	 * @return an unchecked long-to-int function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static LongToIntFunction uncheckLongToIntFunction(CheckedLongToIntFunction<?> function)
+	{
+		return (LongToIntFunction & Serializable) value -> Exceptional.applyLongAsInt(function, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedLongToIntFunction#applyAsInt(long)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param function the checked long-to-int function
+	 * @param value the function argument
+	 * @return the function result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static int applyLongAsInt(CheckedLongToIntFunction<?> function, long value)
+	{
+		try {
+			return function.applyAsInt(value);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedLongToDoubleFunction} into a {@link LongToDoubleFunction}.
+	 * 
+	 * @param function the checked long-to-double function
+	 * @return an unchecked long-to-double function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static LongToDoubleFunction uncheckLongToDoubleFunction(CheckedLongToDoubleFunction<?> function)
+	{
+		return (LongToDoubleFunction & Serializable) value -> Exceptional.applyLongAsDouble(function, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedLongToDoubleFunction#applyAsDouble(long)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param function the checked long-to-double function
+	 * @param value the function argument
+	 * @return the function result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static double applyLongAsDouble(CheckedLongToDoubleFunction<?> function, long value)
+	{
+		try {
+			return function.applyAsDouble(value);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedLongUnaryOperator} into a {@link LongUnaryOperator}.
+	 * 
+	 * @param operator the checked long unary operator
+	 * @return an unchecked long unary operator wrapping the {@code operator} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static LongUnaryOperator uncheckLongUnaryOperator(CheckedLongUnaryOperator<?> operator)
+	{
+		return (LongUnaryOperator & Serializable) operand -> Exceptional.applyLongUnary(operator, operand);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedLongUnaryOperator#applyAsLong(long)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param operator the checked long unary operator
+	 * @param operand the operand
+	 * @return the operator result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static long applyLongUnary(CheckedLongUnaryOperator<?> operator, long operand)
+	{
+		try {
+			return operator.applyAsLong(operand);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedObjLongConsumer} into an {@link ObjLongConsumer}.
+	 * 
+	 * @param <T> the type of the object argument
+	 * 
+	 * @param consumer the checked object-long consumer
+	 * @return an unchecked object-long consumer wrapping the {@code consumer} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> ObjLongConsumer<T> uncheckObjLongConsumer(CheckedObjLongConsumer<T, ?> consumer)
+	{
+		return (ObjLongConsumer<T> & Serializable) (t, value) -> Exceptional.acceptObjLong(consumer, t, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedObjLongConsumer#accept(Object, long)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param <T> the type of the object argument
+	 * 
+	 * @param consumer the checked object-long consumer
+	 * @param t the first input argument
+	 * @param value the second input argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static <T> void acceptObjLong(CheckedObjLongConsumer<T, ?> consumer, T t, long value)
+	{
+		try {
+			consumer.accept(t, value);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedDoubleBinaryOperator} into a {@link DoubleBinaryOperator}.
+	 * 
+	 * @param operator the checked double binary operator
+	 * @return an unchecked double binary operator wrapping the {@code operator} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static DoubleBinaryOperator uncheckDoubleBinaryOperator(CheckedDoubleBinaryOperator<?> operator)
+	{
+		return (DoubleBinaryOperator & Serializable) (left, right) -> Exceptional.applyDoubleBinary(operator, left, right);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedDoubleBinaryOperator#applyAsDouble(double, double)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param operator the checked double binary operator
+	 * @param left the first operand
+	 * @param right the second operand
+	 * @return the operator result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static double applyDoubleBinary(CheckedDoubleBinaryOperator<?> operator, double left, double right)
+	{
+		try {
+			return operator.applyAsDouble(left, right);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedDoubleConsumer} into a {@link DoubleConsumer}.
+	 * 
+	 * @param consumer the checked double consumer
+	 * @return an unchecked double consumer wrapping the {@code consumer} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static DoubleConsumer uncheckDoubleConsumer(CheckedDoubleConsumer<?> consumer)
+	{
+		return (DoubleConsumer & Serializable) value -> Exceptional.acceptDouble(consumer, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedDoubleConsumer#accept(double)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param consumer the checked double consumer
+	 * @param value the input argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static void acceptDouble(CheckedDoubleConsumer<?> consumer, double value)
+	{
+		try {
+			consumer.accept(value);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedDoubleFunction} into a {@link DoubleFunction}.
+	 * 
+	 * @param <R> the type of the result
+	 * 
+	 * @param function the checked double function
+	 * @return an unchecked double function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <R> DoubleFunction<R> uncheckDoubleFunction(CheckedDoubleFunction<R, ?> function)
+	{
+		return (DoubleFunction<R> & Serializable) value -> Exceptional.applyDouble(function, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedDoubleFunction#apply(double)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param <R> the type of the result
+	 * 
+	 * @param function the checked double function
+	 * @param value the function argument
+	 * @return the function result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static <R> R applyDouble(CheckedDoubleFunction<R, ?> function, double value)
+	{
+		try {
+			return function.apply(value);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedDoublePredicate} into a {@link DoublePredicate}.
+	 * 
+	 * @param predicate the checked double predicate
+	 * @return an unchecked double predicate wrapping the {@code predicate} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static DoublePredicate uncheckDoublePredicate(CheckedDoublePredicate<?> predicate)
+	{
+		return (DoublePredicate & Serializable) value -> Exceptional.testDouble(predicate, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedDoublePredicate#test(double)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param predicate the checked double predicate
+	 * @param value the input argument
+	 * @return {@code true} if the input argument matches the predicate, otherwise {@code false}
+	 * 
+	 * @since 1.1.0
+	 */
+	public static boolean testDouble(CheckedDoublePredicate<?> predicate, double value)
+	{
+		try {
+			return predicate.test(value);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedDoubleSupplier} into a {@link DoubleSupplier}.
+	 * 
+	 * @param supplier the checked double supplier
+	 * @return an unchecked double supplier wrapping the {@code supplier} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static DoubleSupplier uncheckDoubleSupplier(CheckedDoubleSupplier<?> supplier)
+	{
+		return (DoubleSupplier & Serializable) () -> Exceptional.getAsDouble(supplier);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedDoubleSupplier#getAsDouble()} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param supplier the checked double supplier
+	 * @return a double result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static double getAsDouble(CheckedDoubleSupplier<?> supplier)
+	{
+		try {
+			return supplier.getAsDouble();
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedDoubleToIntFunction} into a {@link DoubleToIntFunction}.
+	 * 
+	 * @param function the checked double-to-int function
+	 * @return an unchecked double-to-int function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static DoubleToIntFunction uncheckDoubleToIntFunction(CheckedDoubleToIntFunction<?> function)
+	{
+		return (DoubleToIntFunction & Serializable) value -> Exceptional.applyDoubleAsInt(function, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedDoubleToIntFunction#applyAsInt(double)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param function the checked double-to-int function
+	 * @param value the function argument
+	 * @return the function result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static int applyDoubleAsInt(CheckedDoubleToIntFunction<?> function, double value)
+	{
+		try {
+			return function.applyAsInt(value);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedDoubleToLongFunction} into a {@link DoubleToLongFunction}.
+	 * 
+	 * @param function the checked double-to-long function
+	 * @return an unchecked double-to-long function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static DoubleToLongFunction uncheckDoubleToLongFunction(CheckedDoubleToLongFunction<?> function)
+	{
+		return (DoubleToLongFunction & Serializable) value -> Exceptional.applyDoubleAsLong(function, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedDoubleToLongFunction#applyAsLong(double)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param function the checked double-to-long function
+	 * @param value the function argument
+	 * @return the function result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static long applyDoubleAsLong(CheckedDoubleToLongFunction<?> function, double value)
+	{
+		try {
+			return function.applyAsLong(value);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedDoubleUnaryOperator} into a {@link DoubleUnaryOperator}.
+	 * 
+	 * @param operator the checked double unary operator
+	 * @return an unchecked double unary operator wrapping the {@code operator} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static DoubleUnaryOperator uncheckDoubleUnaryOperator(CheckedDoubleUnaryOperator<?> operator)
+	{
+		return (DoubleUnaryOperator & Serializable) operand -> Exceptional.applyDoubleUnary(operator, operand);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedDoubleUnaryOperator#applyAsDouble(double)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param operator the checked double unary operator
+	 * @param operand the operand
+	 * @return the operator result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static double applyDoubleUnary(CheckedDoubleUnaryOperator<?> operator, double operand)
+	{
+		try {
+			return operator.applyAsDouble(operand);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedObjDoubleConsumer} into an {@link ObjDoubleConsumer}.
+	 * 
+	 * @param <T> the type of the object argument
+	 * 
+	 * @param consumer the checked object-double consumer
+	 * @return an unchecked object-double consumer wrapping the {@code consumer} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> ObjDoubleConsumer<T> uncheckObjDoubleConsumer(CheckedObjDoubleConsumer<T, ?> consumer)
+	{
+		return (ObjDoubleConsumer<T> & Serializable) (t, value) -> Exceptional.acceptObjDouble(consumer, t, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedObjDoubleConsumer#accept(Object, double)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param <T> the type of the object argument
+	 * 
+	 * @param consumer the checked object-double consumer
+	 * @param t the first input argument
+	 * @param value the second input argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static <T> void acceptObjDouble(CheckedObjDoubleConsumer<T, ?> consumer, T t, double value)
+	{
+		try {
+			consumer.accept(t, value);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedToDoubleBiFunction} into a {@link ToDoubleBiFunction}.
+	 * 
+	 * @param <T> the type of the first argument
+	 * @param <U> the type of the second argument
+	 * 
+	 * @param function the checked to-double bi-function
+	 * @return an unchecked to-double bi-function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, U> ToDoubleBiFunction<T, U> uncheckToDoubleBiFunction(CheckedToDoubleBiFunction<T, U, ?> function)
+	{
+		return (ToDoubleBiFunction<T, U> & Serializable) (t, u) -> Exceptional.applyAsDouble(function, t, u);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedToDoubleBiFunction#applyAsDouble(Object, Object)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param <T> the type of the first argument
+	 * @param <U> the type of the second argument
+	 * 
+	 * @param function the checked to-double bi-function
+	 * @param t the first function argument
+	 * @param u the second function argument
+	 * @return the function result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static <T, U> double applyAsDouble(CheckedToDoubleBiFunction<T, U, ?> function, T t, U u)
+	{
+		try {
+			return function.applyAsDouble(t, u);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedToLongBiFunction} into a {@link ToLongBiFunction}.
+	 * 
+	 * @param <T> the type of the first argument
+	 * @param <U> the type of the second argument
+	 * 
+	 * @param function the checked to-long bi-function
+	 * @return an unchecked to-long bi-function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, U> ToLongBiFunction<T, U> uncheckToLongBiFunction(CheckedToLongBiFunction<T, U, ?> function)
+	{
+		return (ToLongBiFunction<T, U> & Serializable) (t, u) -> Exceptional.applyAsLong(function, t, u);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedToLongBiFunction#applyAsLong(Object, Object)} catching any checked
+	 * {@link Exception}s rethrowing as unchecked.
+	 * 
+	 * @param <T> the type of the first argument
+	 * @param <U> the type of the second argument
+	 * 
+	 * @param function the checked to-long bi-function
+	 * @param t the first function argument
+	 * @param u the second function argument
+	 * @return the function result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static <T, U> long applyAsLong(CheckedToLongBiFunction<T, U, ?> function, T t, U u)
+	{
+		try {
+			return function.applyAsLong(t, u);
+		} catch(Error error) {  // repeated tedious (likewise with tests) as Jacoco does not add enough probes
+			throw error;
+		} catch(Throwable thrown) {
+			throw uncheck(thrown);
+		}
+	}
+
+
+	/**
+	 * <p>
+	 * This fugly method relies on erasure to trick the compiler, allowing you to throw any checked
+	 * exception without declaring so on the surrounding method. You are almost certainly better off
+	 * using {@link #rethrow(Throwable)}.
+	 * </p>
+	 * <p>
+	 * <b>Note</b>: this may well become an obsolete hack in future versions of Java if generics change.
+	 * </p>
+	 * 
+	 * @param throwable the {@link Throwable} to be thrown
+	 * @return this alleged return will never be received, but useful in that
+	 * you may write <code>throws {@link Exceptional#throwAsUnchecked(Throwable)};</code>
+	 * to placate the compiler WRT non-void method returns, and ensure Static Code
+	 * Analysis doesn't accuse you of swallowing the exception.
+	 * 
+	 * @since 0.2.0
+	 * 
+	 * @see #rethrow(Throwable)
+	 */
+	public static RuntimeException throwAsUnchecked(Throwable throwable)
+	{
+		resetIfInterrupt(throwable);
+		return Exceptional.<RuntimeException> eraseAndThrow(throwable);
+	}
+
+
+	@SuppressWarnings("unchecked")
+	private static <T extends Throwable> RuntimeException eraseAndThrow(Throwable throwable) throws T
+	{
+		throw (T) throwable;
+	}
+
+
+	/**
+	 * <p>
+	 * Attempts to unwrap invocation and unchecked exceptions to their underlying cause.
+	 * Unwrapping is recursively applied. The original wrapper exception is added to the suppressed
+	 * throwables of the returned unwrapped throwable.
+	 * </p>
+	 * 
+	 * <p>
+	 * Unwraps: {@link InvocationTargetException}, {@link UndeclaredThrowableException}, {@link UncheckedIOException},
+	 * {@link UncheckedException}, {@link CompletionException} and {@link ExecutionException}
+	 * </p>
+	 * 
+	 * <p>
+	 * Where the same root cause may be unwrapped repeatedly (e.g. a cached failure rethrown to many callers), use
+	 * {@link #unwrap(Throwable, boolean)} with {@code false} to avoid growing its suppressed list without bound.
+	 * </p>
+	 * 
+	 * @param throwable to be unwrapped
+	 * @return the root cause, or original throwable if not unwrapped
+	 * 
+	 * @since 0.2.0
+	 * 
+	 */
+	public static Throwable unwrap(Throwable throwable)
+	{
+		return unwrap(throwable, true);
+	}
+
+
+	/**
+	 * <p>
+	 * As per {@link #unwrap(Throwable)}, but the caller decides whether the unwrapped throwable is modified.
+	 * </p>
+	 * 
+	 * <p>
+	 * Cycles in the cause chain are detected without allocation; the first throwable encountered twice is
+	 * returned.
+	 * </p>
+	 * 
+	 * @param throwable to be unwrapped
+	 * @param suppressWrapper {@code true} to add the original wrapper to the suppressed throwables of the
+	 * returned root cause, {@code false} to leave the root cause untouched
+	 * @return the root cause, or original throwable if not unwrapped
+	 * 
+	 * @since 1.1.0
+	 */
+	public static Throwable unwrap(Throwable throwable, boolean suppressWrapper)
+	{
+		Throwable unwrapped = unwrapping(throwable);
+		if(suppressWrapper && unwrapped != throwable) {
+			unwrapped.addSuppressed(throwable);
+		}
+		return unwrapped;
+	}
+
+
+	/*
+	 * Floyd's tortoise and hare; the hare advances two links per iteration, only entering the second phase
+	 * (locating the start of the cycle) if the chain is circular.
+	 */
 	private static Throwable unwrapping(Throwable throwable)
 	{
-		Set<Throwable> seen = new HashSet<>();
-		while(isUnwrappable(throwable) && !seen.contains(throwable)) {
-			seen.add(throwable);
-			throwable = throwable.getCause();
+		Throwable tortoise = throwable;
+		Throwable hare = throwable;
+		do {
+			if(!isUnwrappable(hare)) {
+				return hare;
+			}
+			hare = hare.getCause();
+			if(!isUnwrappable(hare)) {
+				return hare;
+			}
+			hare = hare.getCause();
+			tortoise = tortoise.getCause();
+		} while(tortoise != hare);
+
+		tortoise = throwable;
+		while(tortoise != hare) {
+			tortoise = tortoise.getCause();
+			hare = hare.getCause();
 		}
-		return throwable;
+		return tortoise;
 	}
 
 
@@ -922,7 +2093,9 @@ public final class Exceptional implements Serializable {
 				&& (throwable instanceof InvocationTargetException
 						|| throwable instanceof UndeclaredThrowableException
 						|| throwable instanceof UncheckedIOException
-						|| throwable instanceof UncheckedException);
+						|| throwable instanceof UncheckedException
+						|| throwable instanceof CompletionException
+						|| throwable instanceof ExecutionException);
 	}
 
 
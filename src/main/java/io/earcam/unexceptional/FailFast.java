@@ -0,0 +1,244 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.Exceptional.throwAsUnchecked;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ * Fail-fast evaluation of parallel terminal operations; the first failure raised by any split signals the others to
+ * stop pulling elements, and is then rethrown (the same instance, rather than any copy made by the
+ * {@link java.util.concurrent.ForkJoinPool}) with subsequent failures attached as suppressed, up to a maximum of
+ * {@value EmeticStream#MAX_SUPPRESSED_PROPERTY} (default {@value #DEFAULT_MAX_SUPPRESSED}).
+ * </p>
+ * <p>
+ * A split's bulk traversal is delegated to the underlying spliterator, so keeps its push-based fast path; the signal
+ * is checked as each element is pushed.
+ * </p>
+ * <p>
+ * Sequential streams are evaluated as-is. An evaluation may also be failed from outside, by an observer registered
+ * via {@link #observed(Consumer, Supplier)}; its splits then stop pulling elements and the failure is thrown.
+ * </p>
+ * 
+ * @since 1.1.0
+ */
+final class FailFast {
+
+	static final int DEFAULT_MAX_SUPPRESSED = 16;
+
+	private static final int MAX_SUPPRESSED = Integer.getInteger(EmeticStream.MAX_SUPPRESSED_PROPERTY, DEFAULT_MAX_SUPPRESSED);
+
+	private static final ThreadLocal<Consumer<FailFast>> OBSERVER = new ThreadLocal<>();
+
+	private static final Stopped STOPPED = new Stopped();
+
+	private final AtomicReference<Throwable> first = new AtomicReference<>();
+	private final AtomicInteger suppressed = new AtomicInteger();
+	private final int maxSuppressed;
+
+
+	FailFast(int maxSuppressed)
+	{
+		this.maxSuppressed = maxSuppressed;
+	}
+
+
+	static <T, R> R evaluate(Stream<T> stream, Function<Stream<T>, R> terminal)
+	{
+		if(!stream.isParallel()) {
+			return terminal.apply(stream);
+		}
+		FailFast failFast = new FailFast(MAX_SUPPRESSED);
+		Consumer<FailFast> observer = OBSERVER.get();
+		if(observer != null) {
+			observer.accept(failFast);
+		}
+		Stream<T> guarded = StreamSupport.stream(failFast.new GuardedSpliterator<>(stream.spliterator()), true).onClose(stream::close);
+		R result;
+		try {
+			result = terminal.apply(guarded);
+		} catch(Throwable thrown) {
+			throw failFast.rethrow(thrown);
+		}
+		if(failFast.failed()) {
+			throw failFast.rethrow(null);
+		}
+		return result;
+	}
+
+
+	/**
+	 * Evaluates the {@code operation}, passing each parallel evaluation it starts in the current thread to the
+	 * {@code observer}, which may then {@link #fail(Throwable)} it.
+	 */
+	static <R> R observed(Consumer<FailFast> observer, Supplier<R> operation)
+	{
+		Consumer<FailFast> previous = OBSERVER.get();
+		OBSERVER.set(observer);
+		try {
+			return operation.get();
+		} finally {
+			if(previous == null) {
+				OBSERVER.remove();
+			} else {
+				OBSERVER.set(previous);
+			}
+		}
+	}
+
+
+	static <T> void execute(Stream<T> stream, Consumer<Stream<T>> terminal)
+	{
+		evaluate(stream, s -> {
+			terminal.accept(s);
+			return null;
+		});
+	}
+
+
+	boolean failed()
+	{
+		return first.get() != null;
+	}
+
+
+	void fail(Throwable thrown)
+	{
+		if(!first.compareAndSet(null, thrown) && first.get() != thrown && suppressed.getAndIncrement() < maxSuppressed) {
+			first.get().addSuppressed(thrown);
+		}
+	}
+
+
+	RuntimeException rethrow(Throwable thrown)
+	{
+		Throwable failure = first.get();
+		throw throwAsUnchecked(failure == null ? thrown : failure);
+	}
+
+
+	/**
+	 * Thrown by a guarded consumer to end a split's push-based traversal once another split has failed.
+	 */
+	private static final class Stopped extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+
+		Stopped()
+		{
+			super(null, null, false, false);
+		}
+	}
+
+
+	private final class GuardedSpliterator<T> implements Spliterator<T> {
+
+		private final Spliterator<T> spliterator;
+
+
+		GuardedSpliterator(Spliterator<T> spliterator)
+		{
+			this.spliterator = spliterator;
+		}
+
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action)
+		{
+			if(failed()) {
+				return false;
+			}
+			try {
+				return spliterator.tryAdvance(action);
+			} catch(Throwable thrown) {
+				fail(thrown);
+				throw thrown;
+			}
+		}
+
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action)
+		{
+			if(failed()) {
+				return;
+			}
+			try {
+				spliterator.forEachRemaining(t -> {
+					if(failed()) {
+						throw STOPPED;
+					}
+					action.accept(t);
+				});
+			} catch(Stopped stopped) {
+				// another split failed
+			} catch(Throwable thrown) {
+				fail(thrown);
+				throw thrown;
+			}
+		}
+
+
+		@Override
+		public Spliterator<T> trySplit()
+		{
+			Spliterator<T> split = failed() ? null : spliterator.trySplit();
+			return split == null ? null : new GuardedSpliterator<>(split);
+		}
+
+
+		@Override
+		public long estimateSize()
+		{
+			return spliterator.estimateSize();
+		}
+
+
+		@Override
+		public long getExactSizeIfKnown()
+		{
+			return spliterator.getExactSizeIfKnown();
+		}
+
+
+		@Override
+		public int characteristics()
+		{
+			return spliterator.characteristics();
+		}
+
+
+		@Override
+		public Comparator<? super T> getComparator()
+		{
+			return spliterator.getComparator();
+		}
+	}
+}
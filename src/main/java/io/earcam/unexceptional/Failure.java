@@ -0,0 +1,70 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+/**
+ * An element diverted by an error-tolerant {@link EmeticStream} (see {@link EmeticStream#onError(CheckedConsumer)}),
+ * paired with whatever its operation threw. The {@link Throwable} is the original instance, neither wrapped nor
+ * translated, so capturing a failure costs no further stack walk.
+ * 
+ * @param <T> the type of the failed element
+ * 
+ * @since 1.1.0
+ */
+public final class Failure<T> {
+
+	private final T element;
+	private final Throwable cause;
+
+
+	/**
+	 * @param element the element whose operation failed
+	 * @param cause the throwable raised by the operation
+	 */
+	public Failure(T element, Throwable cause)
+	{
+		this.element = element;
+		this.cause = cause;
+	}
+
+
+	/**
+	 * @return the element whose operation failed
+	 */
+	public T element()
+	{
+		return element;
+	}
+
+
+	/**
+	 * @return the throwable raised by the operation
+	 */
+	public Throwable cause()
+	{
+		return cause;
+	}
+
+
+	@Override
+	public String toString()
+	{
+		return "Failure[" + element + ", " + cause + "]";
+	}
+}
@@ -0,0 +1,227 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.Exceptional.throwAsUnchecked;
+import static io.earcam.unexceptional.Exceptional.uncheck;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Accumulates consecutive {@code map}, {@code filter} and {@code peek} stages, applying them to each element within
+ * a single {@link Stream#map(java.util.function.Function)} stage; so one exception boundary (and at most one
+ * translation) per element, rather than a wrapper, {@code try}/{@code catch} and stream stage per operation.
+ * </p>
+ * <p>
+ * Any other operation materialises the pending stages and delegates. Elements rejected by a fused filter are
+ * marked with a private sentinel and removed by a single (unchecked) filter stage, only present if a filter was
+ * fused.
+ * </p>
+ * 
+ * @param <T> the element type of this stream
+ * 
+ * @since 1.1.0
+ */
+@SuppressWarnings("unchecked")
+final class FusedEmeticStream<T> extends DelegatingEmeticStream<T> {
+
+	private static final Object SKIP = new Object();
+
+	private static final byte MAP = 0;
+	private static final byte FILTER = 1;
+	private static final byte PEEK = 2;
+
+	private static final Object[] NO_OPERATIONS = new Object[0];
+	private static final byte[] NO_KINDS = new byte[0];
+
+	private final Stream<Object> source;
+	private final boolean sneaky;
+	private final Object[] operations;
+	private final byte[] kinds;
+	private final boolean filtering;
+	private Stream<T> stream;
+
+
+	private FusedEmeticStream(Stream<?> source, boolean sneaky, Object[] operations, byte[] kinds, boolean filtering)
+	{
+		this.source = (Stream<Object>) source;
+		this.sneaky = sneaky;
+		this.operations = operations;
+		this.kinds = kinds;
+		this.filtering = filtering;
+	}
+
+
+	static <T> FusedEmeticStream<T> fuse(Stream<T> source, boolean sneaky)
+	{
+		return new FusedEmeticStream<>(source, sneaky, NO_OPERATIONS, NO_KINDS, false);
+	}
+
+
+	private <R> FusedEmeticStream<R> append(Object operation, byte kind)
+	{
+		Object[] appendedOperations = Arrays.copyOf(operations, operations.length + 1);
+		byte[] appendedKinds = Arrays.copyOf(kinds, kinds.length + 1);
+		appendedOperations[operations.length] = operation;
+		appendedKinds[kinds.length] = kind;
+		return new FusedEmeticStream<>(source, sneaky, appendedOperations, appendedKinds, filtering || kind == FILTER);
+	}
+
+
+	private <R> FusedEmeticStream<R> withSource(Stream<?> replacement)
+	{
+		return new FusedEmeticStream<>(replacement, sneaky, operations, kinds, filtering);
+	}
+
+
+	private Object fused(Object element)
+	{
+		try {
+			Object value = element;
+			for(int i = 0; i < kinds.length; i++) {
+				switch(kinds[i]) {
+				case MAP:
+					value = ((CheckedFunction<Object, Object, ?>) operations[i]).apply(value);
+					break;
+				case FILTER:
+					if(!((CheckedPredicate<Object, ?>) operations[i]).test(value)) {
+						return SKIP;
+					}
+					break;
+				default:
+					((CheckedConsumer<Object, ?>) operations[i]).accept(value);
+				}
+			}
+			return value;
+		} catch(Error error) {
+			throw error;
+		} catch(Throwable thrown) {
+			throw sneaky ? throwAsUnchecked(thrown) : uncheck(thrown);
+		}
+	}
+
+
+	@Override
+	public Stream<T> mapToStream()
+	{
+		if(stream == null) {
+			stream = (Stream<T>) materialize();
+		}
+		return stream;
+	}
+
+
+	private Stream<?> materialize()
+	{
+		if(kinds.length == 0) {
+			return source;
+		}
+		Stream<Object> mapped = source.map(this::fused);
+		return filtering ? mapped.filter(e -> e != SKIP) : mapped;
+	}
+
+
+	@Override
+	EmeticStream<T> delegate()
+	{
+		return sneaky ? SneakyEmeticStream.sneaky(mapToStream()) : EmeticStream.emesis(mapToStream());
+	}
+
+
+	@Override
+	<R> EmeticStream<R> decorate(EmeticStream<R> stream)
+	{
+		return stream;
+	}
+
+
+	@Override
+	public <R> EmeticStream<R> map(CheckedFunction<? super T, ? extends R, ?> mapper)
+	{
+		return append(mapper, MAP);
+	}
+
+
+	@Override
+	public EmeticStream<T> filter(CheckedPredicate<? super T, ?> predicate)
+	{
+		return append(predicate, FILTER);
+	}
+
+
+	@Override
+	public EmeticStream<T> peek(CheckedConsumer<? super T, ?> action)
+	{
+		return append(action, PEEK);
+	}
+
+
+	@Override
+	public EmeticStream<T> sneaky()
+	{
+		if(sneaky) {
+			return this;
+		}
+		return kinds.length == 0 ? fuse((Stream<T>) source, true) : SneakyEmeticStream.sneaky(mapToStream());
+	}
+
+
+	@Override
+	public EmeticStream<T> parallel()
+	{
+		return source.isParallel() ? this : withSource(source.parallel());
+	}
+
+
+	@Override
+	public EmeticStream<T> sequential()
+	{
+		return !source.isParallel() ? this : withSource(source.sequential());
+	}
+
+
+	@Override
+	public EmeticStream<T> unordered()
+	{
+		return withSource(source.unordered());
+	}
+
+
+	@Override
+	public boolean isParallel()
+	{
+		return source.isParallel();
+	}
+
+
+	@Override
+	public EmeticStream<T> onClose(Runnable closeHandler)
+	{
+		return withSource(source.onClose(closeHandler));
+	}
+
+
+	@Override
+	public void close()
+	{
+		source.close();
+	}
+}
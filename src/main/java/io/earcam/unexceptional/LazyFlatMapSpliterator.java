@@ -0,0 +1,166 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ * A flat-mapping {@link Spliterator} pulling inner elements on demand, so short-circuiting terminal operations (e.g.
+ * {@code anyMatch}, {@code findFirst}) and {@code limit} consume no more of an inner stream than needed; unlike
+ * {@link Stream#flatMap(Function)} on JDK 8 (JDK-8075939), which pushes each inner stream in its entirety.
+ * </p>
+ * <p>
+ * Each inner stream is closed as soon as it is exhausted; one abandoned part way (by a short-circuit) is closed when
+ * the outer stream is. Splitting delegates to the source, provided no inner stream is in progress, with splits
+ * registered (until exhausted) so closing, from whichever thread, reaches their inner streams too.
+ * </p>
+ * 
+ * @param <T> the source element type
+ * @param <R> the flattened element type
+ * 
+ * @since 1.1.0
+ */
+final class LazyFlatMapSpliterator<T, R> implements Spliterator<R> {
+
+	private final Spliterator<T> source;
+	private final Function<? super T, ? extends Stream<? extends R>> mapper;
+	private final Queue<LazyFlatMapSpliterator<T, R>> splits;
+	private volatile Stream<? extends R> inner;
+	private Spliterator<? extends R> elements;
+
+
+	private LazyFlatMapSpliterator(Spliterator<T> source, Function<? super T, ? extends Stream<? extends R>> mapper, Queue<LazyFlatMapSpliterator<T, R>> splits)
+	{
+		this.source = source;
+		this.mapper = mapper;
+		this.splits = splits;
+		splits.add(this);
+	}
+
+
+	static <T, R> Stream<R> flatMap(Stream<T> stream, Function<? super T, ? extends Stream<? extends R>> mapper)
+	{
+		return flatMap(stream, mapper, new ConcurrentLinkedQueue<>());
+	}
+
+
+	static <T, R> Stream<R> flatMap(Stream<T> stream, Function<? super T, ? extends Stream<? extends R>> mapper, Queue<LazyFlatMapSpliterator<T, R>> splits)
+	{
+		LazyFlatMapSpliterator<T, R> spliterator = new LazyFlatMapSpliterator<>(stream.spliterator(), mapper, splits);
+		return StreamSupport.stream(spliterator, stream.isParallel())
+				.onClose(() -> splits.forEach(LazyFlatMapSpliterator::closeInner))
+				.onClose(stream::close);
+	}
+
+
+	private void open(T element)
+	{
+		inner = mapper.apply(element);
+		if(inner != null) {
+			elements = inner.sequential().spliterator();
+		}
+	}
+
+
+	private void closeInner()
+	{
+		Stream<? extends R> exhausted = inner;
+		if(exhausted != null) {
+			inner = null;
+			elements = null;
+			exhausted.close();
+		}
+	}
+
+
+	private void deregister()
+	{
+		splits.remove(this);
+	}
+
+
+	@Override
+	public boolean tryAdvance(Consumer<? super R> action)
+	{
+		do {
+			if(elements != null && elements.tryAdvance(action)) {
+				return true;
+			}
+			closeInner();
+		} while(source.tryAdvance(this::open));
+		deregister();
+		return false;
+	}
+
+
+	@Override
+	public void forEachRemaining(Consumer<? super R> action)
+	{
+		if(elements != null) {
+			try {
+				elements.forEachRemaining(action);
+			} finally {
+				closeInner();
+			}
+		}
+		source.forEachRemaining(element -> {
+			open(element);
+			try {
+				if(elements != null) {
+					elements.forEachRemaining(action);
+				}
+			} finally {
+				closeInner();
+			}
+		});
+		deregister();
+	}
+
+
+	@Override
+	public Spliterator<R> trySplit()
+	{
+		if(inner != null) {
+			return null;
+		}
+		Spliterator<T> prefix = source.trySplit();
+		return prefix == null ? null : new LazyFlatMapSpliterator<>(prefix, mapper, splits);
+	}
+
+
+	@Override
+	public long estimateSize()
+	{
+		return Long.MAX_VALUE;
+	}
+
+
+	@Override
+	public int characteristics()
+	{
+		return source.characteristics() & ORDERED;
+	}
+}
@@ -0,0 +1,439 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ * A {@link Spliterator} over the lines of a memory-mapped file. Splitting halves the remaining byte range, adjusted
+ * forward to the next line boundary, so splits are balanced by size; each line is decoded only when traversed, lines
+ * of only ASCII bytes (common to all the supported charsets) without a {@link CharsetDecoder}.
+ * </p>
+ * <p>
+ * Files larger than a single mapping (1GiB by default) are mapped as multiple regions, lines may span a region
+ * boundary. Line terminators are as per {@link java.io.BufferedReader#readLine()}: {@code \n}, {@code \r} or
+ * {@code \r\n}. Only charsets in which these are single, unambiguous bytes are mapped (UTF-8, ISO-8859-1, US-ASCII);
+ * others fall back to {@link Files#lines(Path, Charset)}.
+ * </p>
+ * <p>
+ * Reads of the mappings are counted; closing the stream stops further traversal (which then fails with
+ * {@link IllegalStateException}), and the mappings are released explicitly, where the JDK permits (otherwise on garbage
+ * collection), only once no split is reading them. So closing while sibling splits of a parallel stream are still
+ * traversing, e.g. following a failure, is safe.
+ * </p>
+ * <p>
+ * On JDK 9+ explicit release goes through {@code sun.misc.Unsafe}, hence the module requires {@code jdk.unsupported};
+ * without it, when resolved on the module path, the mappings would only be released on garbage collection.
+ * </p>
+ * 
+ * @since 1.1.0
+ */
+final class MappedLineSpliterator implements Spliterator<String> {
+
+	static final long DEFAULT_REGION_SIZE = 1L << 30;
+	static final long MIN_SPLIT = 1L << 13;
+
+	private static final Consumer<ByteBuffer> RETAINER = buffer -> {};
+	private static final Consumer<ByteBuffer> UNMAPPER = unmapper();
+
+	private final Mapping mapping;
+	private final CharsetDecoder decoder;
+	private final ByteBuffer[] views;
+	private CharBuffer chars = CharBuffer.allocate(128);
+	private byte[] bytes = new byte[128];
+	private long position;
+	private final long end;
+
+
+	private MappedLineSpliterator(Mapping mapping, long position, long end)
+	{
+		this.mapping = mapping;
+		this.decoder = mapping.charset.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPORT)
+				.onUnmappableCharacter(CodingErrorAction.REPORT);
+		this.views = new ByteBuffer[mapping.regions.length];
+		this.position = position;
+		this.end = end;
+	}
+
+
+	static Stream<String> lines(Path path, Charset charset) throws IOException
+	{
+		return lines(path, charset, DEFAULT_REGION_SIZE);
+	}
+
+
+	static Stream<String> lines(Path path, Charset charset, long regionSize) throws IOException
+	{
+		if(!UTF_8.equals(charset) && !ISO_8859_1.equals(charset) && !US_ASCII.equals(charset)) {
+			return Files.lines(path, charset);
+		}
+		Mapping mapping = Mapping.map(path, charset, regionSize);
+		return StreamSupport.stream(new MappedLineSpliterator(mapping, 0, mapping.size), false).onClose(mapping::close);
+	}
+
+
+	private static final class Mapping {
+
+		final Charset charset;
+		final long regionSize;
+		final long size;
+		final MappedByteBuffer[] regions;
+		private final AtomicInteger readers = new AtomicInteger();
+		volatile boolean closed;
+		private boolean unmapped;
+
+
+		private Mapping(Charset charset, long regionSize, long size)
+		{
+			this.charset = charset;
+			this.regionSize = regionSize;
+			this.size = size;
+			this.regions = new MappedByteBuffer[(int) ((size + regionSize - 1) / regionSize)];
+		}
+
+
+		static Mapping map(Path path, Charset charset, long regionSize) throws IOException
+		{
+			try(FileChannel channel = FileChannel.open(path, READ)) {
+				Mapping mapping = new Mapping(charset, regionSize, channel.size());
+				try {
+					for(int i = 0; i < mapping.regions.length; i++) {
+						long offset = i * regionSize;
+						mapping.regions[i] = channel.map(MapMode.READ_ONLY, offset, Math.min(regionSize, mapping.size - offset));
+					}
+				} catch(IOException | RuntimeException e) {
+					mapping.close();
+					throw e;
+				}
+				return mapping;
+			}
+		}
+
+
+		/**
+		 * @return {@code true} if the caller may read the mappings, until it calls {@link #exit()}; {@code false} if closed
+		 */
+		boolean enter()
+		{
+			readers.incrementAndGet();
+			if(closed) {
+				exit();
+				return false;
+			}
+			return true;
+		}
+
+
+		void exit()
+		{
+			if(readers.decrementAndGet() == 0 && closed) {
+				unmap();
+			}
+		}
+
+
+		void close()
+		{
+			closed = true;
+			unmap();
+		}
+
+
+		/**
+		 * Only invoked once closed; any reader entering thereafter backs out without reading, so none can be reading
+		 * once the count is seen at zero.
+		 */
+		private synchronized void unmap()
+		{
+			if(unmapped || readers.get() != 0) {
+				return;
+			}
+			unmapped = true;
+			for(int i = 0; i < regions.length; i++) {
+				if(regions[i] != null) {
+					UNMAPPER.accept(regions[i]);
+					regions[i] = null;
+				}
+			}
+		}
+	}
+
+
+	private static Consumer<ByteBuffer> unmapper()
+	{
+		try {
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+			Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+			theUnsafe.setAccessible(true);
+			Object unsafe = theUnsafe.get(null);
+			return buffer -> invokeQuietly(invokeCleaner, unsafe, buffer);
+		} catch(ReflectiveOperationException | RuntimeException notJdk9Plus) {
+			// fall through to JDK 8
+		}
+		try {
+			Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+			Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+			return buffer -> invokeQuietly(clean, invokeQuietly(cleaner, buffer));
+		} catch(ReflectiveOperationException | RuntimeException notJdk8) {
+			return RETAINER;
+		}
+	}
+
+
+	/**
+	 * @return {@code true} if closing releases the mappings explicitly, {@code false} if left to garbage collection
+	 */
+	static boolean unmaps()
+	{
+		return UNMAPPER != RETAINER;
+	}
+
+
+	private static Object invokeQuietly(Method method, Object target, Object... arguments)
+	{
+		try {
+			return target == null ? null : method.invoke(target, arguments);
+		} catch(ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+
+	private ByteBuffer view(int region)
+	{
+		ByteBuffer view = views[region];
+		if(view == null) {
+			view = views[region] = mapping.regions[region].duplicate();
+		}
+		return view;
+	}
+
+
+	private byte byteAt(long offset)
+	{
+		return view((int) (offset / mapping.regionSize)).get((int) (offset % mapping.regionSize));
+	}
+
+
+	/**
+	 * @return the offset of the first {@code \n} or {@code \r} in [{@code from}, {@code to}), else {@code to}
+	 */
+	private long terminator(long from, long to)
+	{
+		long offset = from;
+		while(offset < to) {
+			int region = (int) (offset / mapping.regionSize);
+			long base = region * mapping.regionSize;
+			ByteBuffer view = view(region);
+			int limit = (int) (Math.min(to, base + view.capacity()) - base);
+			for(int i = (int) (offset - base); i < limit; i++) {
+				byte b = view.get(i);
+				if(b == '\n' || b == '\r') {
+					return base + i;
+				}
+			}
+			offset = base + limit;
+		}
+		return to;
+	}
+
+
+	private long next(long terminator)
+	{
+		if(terminator + 1 < mapping.size && byteAt(terminator) == '\r' && byteAt(terminator + 1) == '\n') {
+			return terminator + 2;
+		}
+		return terminator + 1;
+	}
+
+
+	private String decode(long from, long to)
+	{
+		int length = (int) (to - from);
+		if(bytes.length < length) {
+			bytes = new byte[length];
+		}
+		int region = (int) (from / mapping.regionSize);
+		long base = region * mapping.regionSize;
+		ByteBuffer view = view(region);
+		if(to <= base + view.capacity()) {
+			view.position((int) (from - base));
+			view.get(bytes, 0, length);
+		} else {
+			for(int i = 0; i < length; i++) {
+				bytes[i] = byteAt(from + i);
+			}
+		}
+		int ascii = 0;
+		for(int i = 0; i < length; i++) {
+			ascii |= bytes[i];
+		}
+		return ascii >= 0 ? new String(bytes, 0, length, ISO_8859_1) : decode(length);
+	}
+
+
+	private String decode(int length)
+	{
+		int capacity = (int) (length * (double) decoder.maxCharsPerByte());
+		if(chars.capacity() < capacity) {
+			chars = CharBuffer.allocate(capacity);
+		}
+		chars.clear();
+		decoder.reset();
+		try {
+			throwOnError(decoder.decode(ByteBuffer.wrap(bytes, 0, length), chars, true));
+			throwOnError(decoder.flush(chars));
+		} catch(CharacterCodingException e) {
+			throw new UncheckedIOException(e);
+		}
+		return new String(chars.array(), 0, chars.position());
+	}
+
+
+	private static void throwOnError(CoderResult result) throws CharacterCodingException
+	{
+		if(result.isError()) {
+			result.throwException();
+		}
+	}
+
+
+	private String nextLine()
+	{
+		long terminator = terminator(position, end);
+		String line = decode(position, terminator);
+		position = terminator < end ? next(terminator) : end;
+		return line;
+	}
+
+
+	private static IllegalStateException closed()
+	{
+		return new IllegalStateException("closed");
+	}
+
+
+	@Override
+	public boolean tryAdvance(Consumer<? super String> action)
+	{
+		if(position >= end) {
+			return false;
+		}
+		if(!mapping.enter()) {
+			throw closed();
+		}
+		String line;
+		try {
+			line = nextLine();
+		} finally {
+			mapping.exit();
+		}
+		action.accept(line);
+		return true;
+	}
+
+
+	/**
+	 * Enters once for the whole range, rather than once per line, so parallel splits do not contend on the reader count.
+	 */
+	@Override
+	public void forEachRemaining(Consumer<? super String> action)
+	{
+		if(position >= end) {
+			return;
+		}
+		if(!mapping.enter()) {
+			throw closed();
+		}
+		try {
+			while(position < end) {
+				if(mapping.closed) {
+					throw closed();
+				}
+				action.accept(nextLine());
+			}
+		} finally {
+			mapping.exit();
+		}
+	}
+
+
+	@Override
+	public Spliterator<String> trySplit()
+	{
+		if(end - position < 2 * MIN_SPLIT || !mapping.enter()) {
+			return null;
+		}
+		try {
+			long middle = position + (end - position) / 2;
+			long terminator = terminator(middle, end);
+			if(terminator >= end) {
+				return null;
+			}
+			long split = Math.min(next(terminator), end);
+			MappedLineSpliterator prefix = new MappedLineSpliterator(mapping, position, split);
+			position = split;
+			return prefix;
+		} finally {
+			mapping.exit();
+		}
+	}
+
+
+	@Override
+	public long estimateSize()
+	{
+		return end - position;
+	}
+
+
+	@Override
+	public int characteristics()
+	{
+		return ORDERED | NONNULL;
+	}
+}
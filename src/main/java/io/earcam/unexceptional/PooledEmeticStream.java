@@ -0,0 +1,234 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.Exceptional.throwAsUnchecked;
+import static io.earcam.unexceptional.Exceptional.uncheck;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * A parallel {@link EmeticStream} whose terminal operations are executed as a task within a given
+ * {@link ForkJoinPool}, so the stream's parallel subtasks are forked into that pool rather than the
+ * {@link ForkJoinPool#commonPool()}.
+ * </p>
+ * <p>
+ * Intermediate operations retain the pool. Exceptions raised by the terminal operation are propagated as they would
+ * be had it been executed in the calling thread. A caller interrupted while awaiting the terminal operation abandons
+ * it and returns at once, with its interrupt flag set.
+ * </p>
+ * 
+ * @param <T> the element type of this stream
+ * 
+ * @since 1.1.0
+ */
+final class PooledEmeticStream<T> extends DelegatingEmeticStream<T> {
+
+	/**
+	 * A terminal operation submitted to the pool. Failures are captured rather than completing exceptionally, as
+	 * {@link ForkJoinTask} may rethrow a copy of an exception raised in another thread. Abandoning cancels the task if
+	 * it has yet to start, otherwise fails the {@link FailFast} evaluations it has started, so their splits stop pulling
+	 * elements. The worker running the task is not interrupted, as while joining it may be executing an unrelated task.
+	 */
+	@SuppressWarnings("serial")
+	private static final class Terminal<R> extends ForkJoinTask<R> {
+
+		private final Supplier<R> terminal;
+		private final List<FailFast> evaluations = new ArrayList<>();
+		private CancellationException abandoned;
+		R result;
+		Throwable thrown;
+
+
+		Terminal(Supplier<R> terminal)
+		{
+			this.terminal = terminal;
+		}
+
+
+		@Override
+		public R getRawResult()
+		{
+			return result;
+		}
+
+
+		@Override
+		protected void setRawResult(R value)
+		{
+			result = value;
+		}
+
+
+		@Override
+		protected boolean exec()
+		{
+			synchronized(evaluations) {
+				if(abandoned != null) {
+					return true;
+				}
+			}
+			try {
+				result = FailFast.observed(this::observe, terminal);
+			} catch(Throwable failure) {
+				thrown = failure;
+			}
+			return true;
+		}
+
+
+		private void observe(FailFast evaluation)
+		{
+			synchronized(evaluations) {
+				if(abandoned != null) {
+					evaluation.fail(abandoned);
+				} else {
+					evaluations.add(evaluation);
+				}
+			}
+		}
+
+
+		void abandon()
+		{
+			synchronized(evaluations) {
+				abandoned = new CancellationException("Terminal operation abandoned by an interrupted caller");
+				for(FailFast evaluation : evaluations) {
+					evaluation.fail(abandoned);
+				}
+				evaluations.clear();
+			}
+			cancel(false);
+		}
+	}
+
+	private final EmeticStream<T> delegate;
+	private final ForkJoinPool pool;
+
+
+	private PooledEmeticStream(EmeticStream<T> delegate, ForkJoinPool pool)
+	{
+		this.delegate = delegate;
+		this.pool = pool;
+	}
+
+
+	static <T> EmeticStream<T> pooled(EmeticStream<T> stream, ForkJoinPool pool)
+	{
+		return new PooledEmeticStream<>(stream.parallel(), pool);
+	}
+
+
+	@Override
+	EmeticStream<T> delegate()
+	{
+		return delegate;
+	}
+
+
+	@Override
+	<R> EmeticStream<R> decorate(EmeticStream<R> stream)
+	{
+		return new PooledEmeticStream<>(stream, pool);
+	}
+
+
+	@Override
+	<R> R terminal(Supplier<R> operation)
+	{
+		if(ForkJoinTask.getPool() == pool) {
+			return operation.get();
+		}
+		Terminal<R> task = new Terminal<>(operation);
+		pool.submit(task);
+		try {
+			task.get();
+		} catch(ExecutionException e) {
+			throw propagate(e.getCause());
+		} catch(InterruptedException e) {
+			task.abandon();
+			throw uncheck(e);
+		}
+		if(task.thrown != null) {
+			throw propagate(task.thrown);
+		}
+		return task.result;
+	}
+
+
+	private static RuntimeException propagate(Throwable cause)
+	{
+		if(cause instanceof Error) {
+			throw (Error) cause;
+		}
+		if(cause instanceof RuntimeException) {
+			throw (RuntimeException) cause;
+		}
+		throw throwAsUnchecked(cause);
+	}
+
+
+	@Override
+	public EmeticStream<T> parallel()
+	{
+		return this;
+	}
+
+
+	@Override
+	public EmeticStream<T> parallel(ForkJoinPool pool)
+	{
+		return this.pool == pool ? this : pooled(delegate, pool);
+	}
+
+
+	@Override
+	public EmeticStream<T> sequential()
+	{
+		return delegate.sequential();
+	}
+
+
+	@Override
+	public EmeticStream<T> prefetch(int depth)
+	{
+		return delegate.prefetch(depth);
+	}
+
+
+	@Override
+	public <R> EmeticStream<R> mapAsync(int maxInFlight, CheckedFunction<? super T, ? extends R, ?> mapper)
+	{
+		return delegate.mapAsync(maxInFlight, mapper);
+	}
+
+
+	@Override
+	public <R> EmeticStream<R> mapAsyncUnordered(int maxInFlight, CheckedFunction<? super T, ? extends R, ?> mapper)
+	{
+		return delegate.mapAsyncUnordered(maxInFlight, mapper);
+	}
+}
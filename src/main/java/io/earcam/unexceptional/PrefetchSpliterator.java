@@ -0,0 +1,216 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.Exceptional.throwAsUnchecked;
+import static io.earcam.unexceptional.Exceptional.uncheck;
+
+import java.util.Spliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ * A sequential {@link Spliterator} draining its source on a background thread into a queue bounded by
+ * {@code depth}, so upstream (typically IO) overlaps with downstream (typically compute).
+ * </p>
+ * <p>
+ * The producer is started on first advance. Anything the upstream throws is queued, and so delivered in order
+ * after the preceding elements. Cancelling (on close or consumer failure) interrupts the producer.
+ * </p>
+ * 
+ * @param <T> the element type
+ * 
+ * @since 1.1.0
+ */
+final class PrefetchSpliterator<T> implements Spliterator<T> {
+
+	private static final Object NULL = new Object();
+	private static final Object END = new Object();
+
+	private static final class Thrown {
+
+		private final Throwable thrown;
+
+
+		Thrown(Throwable thrown)
+		{
+			this.thrown = thrown;
+		}
+	}
+
+	private final Spliterator<T> source;
+	private final BlockingQueue<Object> queue;
+	private volatile boolean cancelled;
+	private ExecutorService executor;
+	private Future<?> producer;
+	private boolean finished;
+
+
+	private PrefetchSpliterator(Spliterator<T> source, int depth)
+	{
+		this.source = source;
+		this.queue = new ArrayBlockingQueue<>(depth);
+	}
+
+
+	static <T> Stream<T> prefetch(Stream<T> stream, int depth)
+	{
+		if(depth < 1) {
+			throw new IllegalArgumentException("depth must be positive, was " + depth);
+		}
+		PrefetchSpliterator<T> spliterator = new PrefetchSpliterator<>(stream.spliterator(), depth);
+		return StreamSupport.stream(spliterator, false)
+				.onClose(spliterator::cancel)
+				.onClose(stream::close);
+	}
+
+
+	private void produce()
+	{
+		try {
+			while(!cancelled && source.tryAdvance(this::put));
+			if(!cancelled) {
+				put(END);
+			}
+		} catch(Throwable thrown) {
+			if(!cancelled) {
+				offer(new Thrown(thrown));
+			}
+		}
+	}
+
+
+	private void put(Object element)
+	{
+		try {
+			queue.put(element == null ? NULL : element);
+		} catch(InterruptedException e) {
+			cancelled = true;
+			throw uncheck(e);
+		}
+	}
+
+
+	private void offer(Thrown failure)
+	{
+		try {
+			queue.put(failure);
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action)
+	{
+		if(finished) {
+			return false;
+		}
+		if(producer == null) {
+			executor = AsyncExecution.executor(1);
+			producer = executor.submit(this::produce);
+		}
+		Object next = take();
+		if(next == END) {
+			finish();
+			return false;
+		}
+		if(next instanceof Thrown) {
+			finish();
+			throw propagate(((Thrown) next).thrown);
+		}
+		try {
+			action.accept(next == NULL ? null : (T) next);
+		} catch(Throwable thrown) {
+			cancel();
+			throw thrown;
+		}
+		return true;
+	}
+
+
+	private Object take()
+	{
+		try {
+			return queue.take();
+		} catch(InterruptedException e) {
+			cancel();
+			throw uncheck(e);
+		}
+	}
+
+
+	private static RuntimeException propagate(Throwable thrown)
+	{
+		if(thrown instanceof Error) {
+			throw (Error) thrown;
+		}
+		throw throwAsUnchecked(thrown);
+	}
+
+
+	private void finish()
+	{
+		finished = true;
+		if(executor != null) {
+			executor.shutdown();
+		}
+	}
+
+
+	void cancel()
+	{
+		cancelled = true;
+		finished = true;
+		if(producer != null) {
+			producer.cancel(true);
+			executor.shutdownNow();
+		}
+		queue.clear();
+	}
+
+
+	@Override
+	public Spliterator<T> trySplit()
+	{
+		return null;
+	}
+
+
+	@Override
+	public long estimateSize()
+	{
+		return finished ? 0 : Long.MAX_VALUE;
+	}
+
+
+	@Override
+	public int characteristics()
+	{
+		return source.characteristics() & ORDERED;
+	}
+}
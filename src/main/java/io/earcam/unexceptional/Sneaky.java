@@ -0,0 +1,1551 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.Exceptional.throwAsUnchecked;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleBiFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongBiFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>
+ * The <i>sneaky</i> parallel of {@link Exceptional}'s conversion and invocation methods; rather than translating
+ * checked exceptions into an unchecked wrapper, the original {@link Throwable} is rethrown unchanged (as per
+ * {@link Exceptional#throwAsUnchecked(Throwable)}).
+ * </p>
+ * <p>
+ * The failure path therefore involves no translator lookup, no wrapper allocation and no second stack trace.
+ * As nothing is wrapped, {@link Exceptional#unwrap(Throwable)} returns the original checked exception as-is, so
+ * existing handling of e.g. {@link java.io.IOException} after an unwrap continues to work.
+ * </p>
+ * <p>
+ * <b>Caution</b>: callers may receive checked exceptions that the compiler doesn't know about; a
+ * {@code catch(RuntimeException e)} will <b>not</b> catch these.
+ * </p>
+ * 
+ * @since 1.1.0
+ * 
+ * @see Exceptional
+ */
+@SuppressWarnings({
+		"squid:S1905", // SonarQube false positives
+		"squid:S1181"  // SonarQube necessary evil
+})
+public final class Sneaky {
+
+	private Sneaky()
+	{
+		throw new IllegalStateException("Why on earth would you want to instantiate this?");
+	}
+
+
+	/**
+	 * Invokes {@link CheckedRunnable#run()}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param runnable the checked runnable to run
+	 */
+	public static void run(CheckedRunnable<?> runnable)
+	{
+		try {
+			runnable.run();
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Convert a {@link CheckedRunnable} into a sneaky {@link Runnable}
+	 * 
+	 * @param runnable the checked runnable to wrap
+	 * @return a runnable sneakily rethrowing anything thrown by the {@code runnable} argument
+	 */
+	public static Runnable runnable(CheckedRunnable<?> runnable)
+	{
+		return (Runnable & Serializable) () -> run(runnable);
+	}
+
+
+	/**
+	 * Invokes {@link Callable#call()}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param <T> the return type of the {@link Callable}
+	 * 
+	 * @param callable the {@link Callable} to execute
+	 * @return the result of calling the {@link Callable}
+	 */
+	public static <T> T call(Callable<T> callable)
+	{
+		try {
+			return callable.call();
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts {@link CheckedConsumer} to a sneaky {@link Consumer}
+	 * 
+	 * @param <T> the consumed type
+	 * 
+	 * @param consumer a consumer that declares checked exception(s)
+	 * @return a vanilla {@link java.util.function.Consumer}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Consumer<T> consumer(CheckedConsumer<T, ?> consumer)
+	{
+		return (Consumer<T> & Serializable) t -> accept(consumer, t);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedConsumer#accept(Object)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param <T> the consumed type
+	 * 
+	 * @param consumer the consumer of the {@code value}
+	 * @param value the value to be consumed
+	 */
+	public static <T> void accept(CheckedConsumer<T, ?> consumer, T value)
+	{
+		try {
+			consumer.accept(value);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts {@link CheckedIntConsumer} to a sneaky {@link IntConsumer}
+	 * 
+	 * @param consumer a consumer of primitive integer that declares checked exception(s)
+	 * @return a vanilla {@link java.util.function.IntConsumer}
+	 */
+	public static IntConsumer intConsumer(CheckedIntConsumer<?> consumer)
+	{
+		return (IntConsumer & Serializable) t -> acceptInt(consumer, t);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedIntConsumer#accept(int)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param consumer the consumer of the {@code int value}
+	 * @param value the value to be consumed
+	 */
+	public static void acceptInt(CheckedIntConsumer<?> consumer, int value)
+	{
+		try {
+			consumer.accept(value);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Convert a {@link CheckedBiConsumer} into a sneaky {@link BiConsumer}.
+	 * 
+	 * @param <T> first argument type
+	 * @param <U> last argument type
+	 * 
+	 * @param consumer the checked consumer
+	 * @return a sneaky consumer wrapping the {@code consumer} argument
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, U> BiConsumer<T, U> biConsumer(CheckedBiConsumer<T, U, ?> consumer)
+	{
+		return (BiConsumer<T, U> & Serializable) (t, u) -> accept(consumer, t, u);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedBiConsumer#accept(Object, Object)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param <T> first argument type
+	 * @param <U> last argument type
+	 * 
+	 * @param consumer the consumer of the arguments
+	 * @param t first argument to be consumed
+	 * @param u last argument to be consumed
+	 */
+	public static <T, U> void accept(CheckedBiConsumer<T, U, ?> consumer, T t, U u)
+	{
+		try {
+			consumer.accept(t, u);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedFunction} into a sneaky {@link Function}.
+	 * 
+	 * @param <T> argument type
+	 * @param <R> return type
+	 * 
+	 * @param function the checked function
+	 * @return a sneaky function wrapping the {@code function} argument.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, R> Function<T, R> function(CheckedFunction<T, R, ?> function)
+	{
+		return (Function<T, R> & Serializable) t -> apply(function, t);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedFunction#apply(Object)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param <T> argument type
+	 * @param <R> return type
+	 * 
+	 * @param function the checked function to invoke with the {@code argument}
+	 * @param argument the argument to apply to the function
+	 * @return the result of applying {@code argument} to {@code function}
+	 */
+	public static <T, R> R apply(CheckedFunction<T, R, ?> function, T argument)
+	{
+		try {
+			return function.apply(argument);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Convert a {@link CheckedBiFunction} into a sneaky {@link BiFunction}.
+	 * 
+	 * @param <T> first argument type
+	 * @param <U> last argument type
+	 * @param <R> return type
+	 * 
+	 * @param function the checked bi-function
+	 * @return a sneaky bi-function wrapping the {@code function} argument.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, U, R> BiFunction<T, U, R> biFunction(CheckedBiFunction<T, U, R, ?> function)
+	{
+		return (BiFunction<T, U, R> & Serializable) (t, u) -> apply(function, t, u);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedBiFunction#apply(Object, Object)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param <T> first argument type
+	 * @param <U> last argument type
+	 * @param <R> return type
+	 * 
+	 * @param function the checked function to invoke with the arguments
+	 * @param t the first argument to apply to the function
+	 * @param u the second argument to apply to the function
+	 * @return the result of applying {@code function} to the arguments {@code t} and {@code u}
+	 */
+	public static <T, U, R> R apply(CheckedBiFunction<T, U, R, ?> function, T t, U u)
+	{
+		try {
+			return function.apply(t, u);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedBinaryOperator} into a sneaky {@link BinaryOperator}.
+	 * 
+	 * @param <T> operator type
+	 * 
+	 * @param operator the checked binary operator
+	 * @return a sneaky wrapper around the {@code operator} argument
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> BinaryOperator<T> binaryOperator(CheckedBinaryOperator<T, ?> operator)
+	{
+		return (BinaryOperator<T> & Serializable) (a, b) -> apply(operator, a, b);
+	}
+
+
+	/**
+	 * Converts a {@link CheckedToDoubleFunction} into a sneaky {@link ToDoubleFunction}.
+	 * 
+	 * @param <T> argument type
+	 * 
+	 * @param function the checked to-double-function
+	 * @return a sneaky to-double-function wrapping the {@code function} argument.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> ToDoubleFunction<T> toDoubleFunction(CheckedToDoubleFunction<T, ?> function)
+	{
+		return (ToDoubleFunction<T> & Serializable) t -> applyAsDouble(function, t);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedToDoubleFunction#applyAsDouble(Object)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param <T> argument type
+	 * 
+	 * @param function the checked to-double function
+	 * @param t the function argument
+	 * @return the double result of applying the {@code function} to argument {@code t}
+	 */
+	public static <T> double applyAsDouble(CheckedToDoubleFunction<T, ?> function, T t)
+	{
+		try {
+			return function.applyAsDouble(t);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedToIntFunction} into a sneaky {@link ToIntFunction}.
+	 * 
+	 * @param <T> argument type
+	 * 
+	 * @param function the checked to-int-function
+	 * @return a sneaky to-int-function wrapping the {@code function} argument.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> ToIntFunction<T> toIntFunction(CheckedToIntFunction<T, ?> function)
+	{
+		return (ToIntFunction<T> & Serializable) t -> applyAsInt(function, t);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedToIntFunction#applyAsInt(Object)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param <T> argument type
+	 * 
+	 * @param function the checked to-int function
+	 * @param t the function argument
+	 * @return the int result of applying the {@code function} to argument {@code t}
+	 */
+	public static <T> int applyAsInt(CheckedToIntFunction<T, ?> function, T t)
+	{
+		try {
+			return function.applyAsInt(t);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedToLongFunction} into a sneaky {@link ToLongFunction}.
+	 * 
+	 * @param <T> argument type
+	 * 
+	 * @param function the checked to-long-function
+	 * @return a sneaky to-long-function wrapping the {@code function} argument.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> ToLongFunction<T> toLongFunction(CheckedToLongFunction<T, ?> function)
+	{
+		return (ToLongFunction<T> & Serializable) t -> applyAsLong(function, t);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedToLongFunction#applyAsLong(Object)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param <T> argument type
+	 * 
+	 * @param function the checked to-long function
+	 * @param t the function argument
+	 * @return the long result of applying the {@code function} to argument {@code t}
+	 */
+	public static <T> long applyAsLong(CheckedToLongFunction<T, ?> function, T t)
+	{
+		try {
+			return function.applyAsLong(t);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Convert a {@link CheckedSupplier} into a sneaky {@link Supplier}.
+	 * 
+	 * @param <T> supplied type
+	 * 
+	 * @param supplier the checked supplier to wrap
+	 * @return a sneaky supplier wrapping the {@code supplier} argument
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Supplier<T> supplier(CheckedSupplier<T, ?> supplier)
+	{
+		return (Supplier<T> & Serializable) () -> get(supplier);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedSupplier#get()}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param <T> supplied type
+	 * 
+	 * @param supplier the checked supplier
+	 * @return the result as supplied from the {@code supplier} argument
+	 */
+	public static <T> T get(CheckedSupplier<T, ?> supplier)
+	{
+		try {
+			return supplier.get();
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedPredicate} into a sneaky {@link Predicate}.
+	 * 
+	 * @param <T> tested type
+	 * 
+	 * @param predicate the checked predicate to wrap
+	 * @return a sneaky predicate wrapping the {@code predicate} argument
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Predicate<T> predicate(CheckedPredicate<T, ?> predicate)
+	{
+		return (Predicate<T> & Serializable) t -> test(predicate, t);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedPredicate#test(Object)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param <T> tested type
+	 * 
+	 * @param predicate the checked predicate to test on the {@code value}
+	 * @param value the value to be tested
+	 * @return true IFF value passes predicate's test
+	 */
+	public static <T> boolean test(CheckedPredicate<T, ?> predicate, T value)
+	{
+		try {
+			return predicate.test(value);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedComparator} into a sneaky {@link Comparator}.
+	 * 
+	 * @param <T> compared type
+	 * 
+	 * @param comparator the checked comparator to wrap
+	 * @return a sneaky comparator wrapping the {@code comparator} argument
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Comparator<T> comparator(CheckedComparator<T, ?> comparator)
+	{
+		return (Comparator<T> & Serializable) (a, b) -> applyAsInt(comparator, a, b);
+	}
+
+
+	/**
+	 * Converts a {@link CheckedToIntBiFunction} into a sneaky {@link ToIntBiFunction}.
+	 * 
+	 * @param <T> first argument type
+	 * @param <U> last argument type
+	 * 
+	 * @param function the checked bi-function
+	 * @return a sneaky bi-function
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, U> ToIntBiFunction<T, U> toIntBiFunction(CheckedToIntBiFunction<T, U, ?> function)
+	{
+		return (ToIntBiFunction<T, U> & Serializable) (a, b) -> applyAsInt(function, a, b);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedToIntBiFunction#applyAsInt(Object, Object)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param <T> first argument type
+	 * @param <U> last argument type
+	 * 
+	 * @param function the checked function to invoke with the arguments
+	 * @param t the first argument to apply to the function
+	 * @param u the second argument to apply to the function
+	 * @return the result of applying {@code function} to the arguments {@code t} and {@code u}
+	 */
+	public static <T, U> int applyAsInt(CheckedToIntBiFunction<T, U, ?> function, T t, U u)
+	{
+		try {
+			return function.applyAsInt(t, u);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedBooleanSupplier} into a sneaky {@link BooleanSupplier}.
+	 * 
+	 * @param supplier the checked boolean supplier
+	 * @return a sneaky boolean supplier wrapping the {@code supplier} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static BooleanSupplier booleanSupplier(CheckedBooleanSupplier<?> supplier)
+	{
+		return (BooleanSupplier & Serializable) () -> getAsBoolean(supplier);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedBooleanSupplier#getAsBoolean()}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param supplier the checked boolean supplier
+	 * @return a boolean result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static boolean getAsBoolean(CheckedBooleanSupplier<?> supplier)
+	{
+		try {
+			return supplier.getAsBoolean();
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedIntBinaryOperator} into a sneaky {@link IntBinaryOperator}.
+	 * 
+	 * @param operator the checked int binary operator
+	 * @return a sneaky int binary operator wrapping the {@code operator} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static IntBinaryOperator intBinaryOperator(CheckedIntBinaryOperator<?> operator)
+	{
+		return (IntBinaryOperator & Serializable) (left, right) -> applyIntBinary(operator, left, right);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedIntBinaryOperator#applyAsInt(int, int)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param operator the checked int binary operator
+	 * @param left the first operand
+	 * @param right the second operand
+	 * @return the operator result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static int applyIntBinary(CheckedIntBinaryOperator<?> operator, int left, int right)
+	{
+		try {
+			return operator.applyAsInt(left, right);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedIntFunction} into a sneaky {@link IntFunction}.
+	 * 
+	 * @param <R> the type of the result
+	 * 
+	 * @param function the checked int function
+	 * @return a sneaky int function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <R> IntFunction<R> intFunction(CheckedIntFunction<R, ?> function)
+	{
+		return (IntFunction<R> & Serializable) value -> applyInt(function, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedIntFunction#apply(int)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param <R> the type of the result
+	 * 
+	 * @param function the checked int function
+	 * @param value the function argument
+	 * @return the function result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static <R> R applyInt(CheckedIntFunction<R, ?> function, int value)
+	{
+		try {
+			return function.apply(value);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedIntPredicate} into a sneaky {@link IntPredicate}.
+	 * 
+	 * @param predicate the checked int predicate
+	 * @return a sneaky int predicate wrapping the {@code predicate} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static IntPredicate intPredicate(CheckedIntPredicate<?> predicate)
+	{
+		return (IntPredicate & Serializable) value -> testInt(predicate, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedIntPredicate#test(int)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param predicate the checked int predicate
+	 * @param value the input argument
+	 * @return {@code true} if the input argument matches the predicate, otherwise {@code false}
+	 * 
+	 * @since 1.1.0
+	 */
+	public static boolean testInt(CheckedIntPredicate<?> predicate, int value)
+	{
+		try {
+			return predicate.test(value);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedIntSupplier} into a sneaky {@link IntSupplier}.
+	 * 
+	 * @param supplier the checked int supplier
+	 * @return a sneaky int supplier wrapping the {@code supplier} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static IntSupplier intSupplier(CheckedIntSupplier<?> supplier)
+	{
+		return (IntSupplier & Serializable) () -> getAsInt(supplier);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedIntSupplier#getAsInt()}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param supplier the checked int supplier
+	 * @return a int result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static int getAsInt(CheckedIntSupplier<?> supplier)
+	{
+		try {
+			return supplier.getAsInt();
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedIntToLongFunction} into a sneaky {@link IntToLongFunction}.
+	 * 
+	 * @param function the checked int-to-long function
+	 * @return a sneaky int-to-long function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static IntToLongFunction intToLongFunction(CheckedIntToLongFunction<?> function)
+	{
+		return (IntToLongFunction & Serializable) value -> applyIntAsLong(function, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedIntToLongFunction#applyAsLong(int)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param function the checked int-to-long function
+	 * @param value the function argument
+	 * @return the function result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static long applyIntAsLong(CheckedIntToLongFunction<?> function, int value)
+	{
+		try {
+			return function.applyAsLong(value);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedIntToDoubleFunction} into a sneaky {@link IntToDoubleFunction}.
+	 * 
+	 * @param function the checked int-to-double function
+	 * @return a sneaky int-to-double function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static IntToDoubleFunction intToDoubleFunction(CheckedIntToDoubleFunction<?> function)
+	{
+		return (IntToDoubleFunction & Serializable) value -> applyIntAsDouble(function, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedIntToDoubleFunction#applyAsDouble(int)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param function the checked int-to-double function
+	 * @param value the function argument
+	 * @return the function result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static double applyIntAsDouble(CheckedIntToDoubleFunction<?> function, int value)
+	{
+		try {
+			return function.applyAsDouble(value);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedIntUnaryOperator} into a sneaky {@link IntUnaryOperator}.
+	 * 
+	 * @param operator the checked int unary operator
+	 * @return a sneaky int unary operator wrapping the {@code operator} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static IntUnaryOperator intUnaryOperator(CheckedIntUnaryOperator<?> operator)
+	{
+		return (IntUnaryOperator & Serializable) operand -> applyIntUnary(operator, operand);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedIntUnaryOperator#applyAsInt(int)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param operator the checked int unary operator
+	 * @param operand the operand
+	 * @return the operator result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static int applyIntUnary(CheckedIntUnaryOperator<?> operator, int operand)
+	{
+		try {
+			return operator.applyAsInt(operand);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedObjIntConsumer} into a sneaky {@link ObjIntConsumer}.
+	 * 
+	 * @param <T> the type of the object argument
+	 * 
+	 * @param consumer the checked object-int consumer
+	 * @return a sneaky object-int consumer wrapping the {@code consumer} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> ObjIntConsumer<T> objIntConsumer(CheckedObjIntConsumer<T, ?> consumer)
+	{
+		return (ObjIntConsumer<T> & Serializable) (t, value) -> acceptObjInt(consumer, t, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedObjIntConsumer#accept(Object, int)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param <T> the type of the object argument
+	 * 
+	 * @param consumer the checked object-int consumer
+	 * @param t the first input argument
+	 * @param value the second input argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static <T> void acceptObjInt(CheckedObjIntConsumer<T, ?> consumer, T t, int value)
+	{
+		try {
+			consumer.accept(t, value);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedLongBinaryOperator} into a sneaky {@link LongBinaryOperator}.
+	 * 
+	 * @param operator the checked long binary operator
+	 * @return a sneaky long binary operator wrapping the {@code operator} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static LongBinaryOperator longBinaryOperator(CheckedLongBinaryOperator<?> operator)
+	{
+		return (LongBinaryOperator & Serializable) (left, right) -> applyLongBinary(operator, left, right);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedLongBinaryOperator#applyAsLong(long, long)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param operator the checked long binary operator
+	 * @param left the first operand
+	 * @param right the second operand
+	 * @return the operator result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static long applyLongBinary(CheckedLongBinaryOperator<?> operator, long left, long right)
+	{
+		try {
+			return operator.applyAsLong(left, right);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedLongConsumer} into a sneaky {@link LongConsumer}.
+	 * 
+	 * @param consumer the checked long consumer
+	 * @return a sneaky long consumer wrapping the {@code consumer} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static LongConsumer longConsumer(CheckedLongConsumer<?> consumer)
+	{
+		return (LongConsumer & Serializable) value -> acceptLong(consumer, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedLongConsumer#accept(long)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param consumer the checked long consumer
+	 * @param value the input argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static void acceptLong(CheckedLongConsumer<?> consumer, long value)
+	{
+		try {
+			consumer.accept(value);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedLongFunction} into a sneaky {@link LongFunction}.
+	 * 
+	 * @param <R> the type of the result
+	 * 
+	 * @param function the checked long function
+	 * @return a sneaky long function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <R> LongFunction<R> longFunction(CheckedLongFunction<R, ?> function)
+	{
+		return (LongFunction<R> & Serializable) value -> applyLong(function, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedLongFunction#apply(long)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param <R> the type of the result
+	 * 
+	 * @param function the checked long function
+	 * @param value the function argument
+	 * @return the function result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static <R> R applyLong(CheckedLongFunction<R, ?> function, long value)
+	{
+		try {
+			return function.apply(value);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedLongPredicate} into a sneaky {@link LongPredicate}.
+	 * 
+	 * @param predicate the checked long predicate
+	 * @return a sneaky long predicate wrapping the {@code predicate} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static LongPredicate longPredicate(CheckedLongPredicate<?> predicate)
+	{
+		return (LongPredicate & Serializable) value -> testLong(predicate, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedLongPredicate#test(long)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param predicate the checked long predicate
+	 * @param value the input argument
+	 * @return {@code true} if the input argument matches the predicate, otherwise {@code false}
+	 * 
+	 * @since 1.1.0
+	 */
+	public static boolean testLong(CheckedLongPredicate<?> predicate, long value)
+	{
+		try {
+			return predicate.test(value);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedLongSupplier} into a sneaky {@link LongSupplier}.
+	 * 
+	 * @param supplier the checked long supplier
+	 * @return a sneaky long supplier wrapping the {@code supplier} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static LongSupplier longSupplier(CheckedLongSupplier<?> supplier)
+	{
+		return (LongSupplier & Serializable) () -> getAsLong(supplier);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedLongSupplier#getAsLong()}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param supplier the checked long supplier
+	 * @return a long result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static long getAsLong(CheckedLongSupplier<?> supplier)
+	{
+		try {
+			return supplier.getAsLong();
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedLongToIntFunction} into a sneaky {@link LongToIntFunction}.
+	 * 
+	 * @param function the checked long-to-int function
+	 * @return a sneaky long-to-int function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static LongToIntFunction longToIntFunction(CheckedLongToIntFunction<?> function)
+	{
+		return (LongToIntFunction & Serializable) value -> applyLongAsInt(function, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedLongToIntFunction#applyAsInt(long)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param function the checked long-to-int function
+	 * @param value the function argument
+	 * @return the function result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static int applyLongAsInt(CheckedLongToIntFunction<?> function, long value)
+	{
+		try {
+			return function.applyAsInt(value);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedLongToDoubleFunction} into a sneaky {@link LongToDoubleFunction}.
+	 * 
+	 * @param function the checked long-to-double function
+	 * @return a sneaky long-to-double function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static LongToDoubleFunction longToDoubleFunction(CheckedLongToDoubleFunction<?> function)
+	{
+		return (LongToDoubleFunction & Serializable) value -> applyLongAsDouble(function, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedLongToDoubleFunction#applyAsDouble(long)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param function the checked long-to-double function
+	 * @param value the function argument
+	 * @return the function result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static double applyLongAsDouble(CheckedLongToDoubleFunction<?> function, long value)
+	{
+		try {
+			return function.applyAsDouble(value);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedLongUnaryOperator} into a sneaky {@link LongUnaryOperator}.
+	 * 
+	 * @param operator the checked long unary operator
+	 * @return a sneaky long unary operator wrapping the {@code operator} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static LongUnaryOperator longUnaryOperator(CheckedLongUnaryOperator<?> operator)
+	{
+		return (LongUnaryOperator & Serializable) operand -> applyLongUnary(operator, operand);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedLongUnaryOperator#applyAsLong(long)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param operator the checked long unary operator
+	 * @param operand the operand
+	 * @return the operator result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static long applyLongUnary(CheckedLongUnaryOperator<?> operator, long operand)
+	{
+		try {
+			return operator.applyAsLong(operand);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedObjLongConsumer} into a sneaky {@link ObjLongConsumer}.
+	 * 
+	 * @param <T> the type of the object argument
+	 * 
+	 * @param consumer the checked object-long consumer
+	 * @return a sneaky object-long consumer wrapping the {@code consumer} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> ObjLongConsumer<T> objLongConsumer(CheckedObjLongConsumer<T, ?> consumer)
+	{
+		return (ObjLongConsumer<T> & Serializable) (t, value) -> acceptObjLong(consumer, t, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedObjLongConsumer#accept(Object, long)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param <T> the type of the object argument
+	 * 
+	 * @param consumer the checked object-long consumer
+	 * @param t the first input argument
+	 * @param value the second input argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static <T> void acceptObjLong(CheckedObjLongConsumer<T, ?> consumer, T t, long value)
+	{
+		try {
+			consumer.accept(t, value);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedDoubleBinaryOperator} into a sneaky {@link DoubleBinaryOperator}.
+	 * 
+	 * @param operator the checked double binary operator
+	 * @return a sneaky double binary operator wrapping the {@code operator} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static DoubleBinaryOperator doubleBinaryOperator(CheckedDoubleBinaryOperator<?> operator)
+	{
+		return (DoubleBinaryOperator & Serializable) (left, right) -> applyDoubleBinary(operator, left, right);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedDoubleBinaryOperator#applyAsDouble(double, double)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param operator the checked double binary operator
+	 * @param left the first operand
+	 * @param right the second operand
+	 * @return the operator result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static double applyDoubleBinary(CheckedDoubleBinaryOperator<?> operator, double left, double right)
+	{
+		try {
+			return operator.applyAsDouble(left, right);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedDoubleConsumer} into a sneaky {@link DoubleConsumer}.
+	 * 
+	 * @param consumer the checked double consumer
+	 * @return a sneaky double consumer wrapping the {@code consumer} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static DoubleConsumer doubleConsumer(CheckedDoubleConsumer<?> consumer)
+	{
+		return (DoubleConsumer & Serializable) value -> acceptDouble(consumer, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedDoubleConsumer#accept(double)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param consumer the checked double consumer
+	 * @param value the input argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static void acceptDouble(CheckedDoubleConsumer<?> consumer, double value)
+	{
+		try {
+			consumer.accept(value);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedDoubleFunction} into a sneaky {@link DoubleFunction}.
+	 * 
+	 * @param <R> the type of the result
+	 * 
+	 * @param function the checked double function
+	 * @return a sneaky double function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <R> DoubleFunction<R> doubleFunction(CheckedDoubleFunction<R, ?> function)
+	{
+		return (DoubleFunction<R> & Serializable) value -> applyDouble(function, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedDoubleFunction#apply(double)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param <R> the type of the result
+	 * 
+	 * @param function the checked double function
+	 * @param value the function argument
+	 * @return the function result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static <R> R applyDouble(CheckedDoubleFunction<R, ?> function, double value)
+	{
+		try {
+			return function.apply(value);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedDoublePredicate} into a sneaky {@link DoublePredicate}.
+	 * 
+	 * @param predicate the checked double predicate
+	 * @return a sneaky double predicate wrapping the {@code predicate} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static DoublePredicate doublePredicate(CheckedDoublePredicate<?> predicate)
+	{
+		return (DoublePredicate & Serializable) value -> testDouble(predicate, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedDoublePredicate#test(double)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param predicate the checked double predicate
+	 * @param value the input argument
+	 * @return {@code true} if the input argument matches the predicate, otherwise {@code false}
+	 * 
+	 * @since 1.1.0
+	 */
+	public static boolean testDouble(CheckedDoublePredicate<?> predicate, double value)
+	{
+		try {
+			return predicate.test(value);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedDoubleSupplier} into a sneaky {@link DoubleSupplier}.
+	 * 
+	 * @param supplier the checked double supplier
+	 * @return a sneaky double supplier wrapping the {@code supplier} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static DoubleSupplier doubleSupplier(CheckedDoubleSupplier<?> supplier)
+	{
+		return (DoubleSupplier & Serializable) () -> getAsDouble(supplier);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedDoubleSupplier#getAsDouble()}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param supplier the checked double supplier
+	 * @return a double result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static double getAsDouble(CheckedDoubleSupplier<?> supplier)
+	{
+		try {
+			return supplier.getAsDouble();
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedDoubleToIntFunction} into a sneaky {@link DoubleToIntFunction}.
+	 * 
+	 * @param function the checked double-to-int function
+	 * @return a sneaky double-to-int function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static DoubleToIntFunction doubleToIntFunction(CheckedDoubleToIntFunction<?> function)
+	{
+		return (DoubleToIntFunction & Serializable) value -> applyDoubleAsInt(function, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedDoubleToIntFunction#applyAsInt(double)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param function the checked double-to-int function
+	 * @param value the function argument
+	 * @return the function result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static int applyDoubleAsInt(CheckedDoubleToIntFunction<?> function, double value)
+	{
+		try {
+			return function.applyAsInt(value);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedDoubleToLongFunction} into a sneaky {@link DoubleToLongFunction}.
+	 * 
+	 * @param function the checked double-to-long function
+	 * @return a sneaky double-to-long function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static DoubleToLongFunction doubleToLongFunction(CheckedDoubleToLongFunction<?> function)
+	{
+		return (DoubleToLongFunction & Serializable) value -> applyDoubleAsLong(function, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedDoubleToLongFunction#applyAsLong(double)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param function the checked double-to-long function
+	 * @param value the function argument
+	 * @return the function result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static long applyDoubleAsLong(CheckedDoubleToLongFunction<?> function, double value)
+	{
+		try {
+			return function.applyAsLong(value);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedDoubleUnaryOperator} into a sneaky {@link DoubleUnaryOperator}.
+	 * 
+	 * @param operator the checked double unary operator
+	 * @return a sneaky double unary operator wrapping the {@code operator} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static DoubleUnaryOperator doubleUnaryOperator(CheckedDoubleUnaryOperator<?> operator)
+	{
+		return (DoubleUnaryOperator & Serializable) operand -> applyDoubleUnary(operator, operand);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedDoubleUnaryOperator#applyAsDouble(double)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param operator the checked double unary operator
+	 * @param operand the operand
+	 * @return the operator result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static double applyDoubleUnary(CheckedDoubleUnaryOperator<?> operator, double operand)
+	{
+		try {
+			return operator.applyAsDouble(operand);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedObjDoubleConsumer} into a sneaky {@link ObjDoubleConsumer}.
+	 * 
+	 * @param <T> the type of the object argument
+	 * 
+	 * @param consumer the checked object-double consumer
+	 * @return a sneaky object-double consumer wrapping the {@code consumer} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> ObjDoubleConsumer<T> objDoubleConsumer(CheckedObjDoubleConsumer<T, ?> consumer)
+	{
+		return (ObjDoubleConsumer<T> & Serializable) (t, value) -> acceptObjDouble(consumer, t, value);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedObjDoubleConsumer#accept(Object, double)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param <T> the type of the object argument
+	 * 
+	 * @param consumer the checked object-double consumer
+	 * @param t the first input argument
+	 * @param value the second input argument
+	 * 
+	 * @since 1.1.0
+	 */
+	public static <T> void acceptObjDouble(CheckedObjDoubleConsumer<T, ?> consumer, T t, double value)
+	{
+		try {
+			consumer.accept(t, value);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedToDoubleBiFunction} into a sneaky {@link ToDoubleBiFunction}.
+	 * 
+	 * @param <T> the type of the first argument
+	 * @param <U> the type of the second argument
+	 * 
+	 * @param function the checked to-double bi-function
+	 * @return a sneaky to-double bi-function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, U> ToDoubleBiFunction<T, U> toDoubleBiFunction(CheckedToDoubleBiFunction<T, U, ?> function)
+	{
+		return (ToDoubleBiFunction<T, U> & Serializable) (t, u) -> applyAsDouble(function, t, u);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedToDoubleBiFunction#applyAsDouble(Object, Object)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param <T> the type of the first argument
+	 * @param <U> the type of the second argument
+	 * 
+	 * @param function the checked to-double bi-function
+	 * @param t the first function argument
+	 * @param u the second function argument
+	 * @return the function result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static <T, U> double applyAsDouble(CheckedToDoubleBiFunction<T, U, ?> function, T t, U u)
+	{
+		try {
+			return function.applyAsDouble(t, u);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+
+
+	/**
+	 * Converts a {@link CheckedToLongBiFunction} into a sneaky {@link ToLongBiFunction}.
+	 * 
+	 * @param <T> the type of the first argument
+	 * @param <U> the type of the second argument
+	 * 
+	 * @param function the checked to-long bi-function
+	 * @return a sneaky to-long bi-function wrapping the {@code function} argument
+	 * 
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, U> ToLongBiFunction<T, U> toLongBiFunction(CheckedToLongBiFunction<T, U, ?> function)
+	{
+		return (ToLongBiFunction<T, U> & Serializable) (t, u) -> applyAsLong(function, t, u);
+	}
+
+
+	/**
+	 * Invokes {@link CheckedToLongBiFunction#applyAsLong(Object, Object)}, sneakily rethrowing any {@link Throwable}.
+	 * 
+	 * @param <T> the type of the first argument
+	 * @param <U> the type of the second argument
+	 * 
+	 * @param function the checked to-long bi-function
+	 * @param t the first function argument
+	 * @param u the second function argument
+	 * @return the function result
+	 * 
+	 * @since 1.1.0
+	 */
+	public static <T, U> long applyAsLong(CheckedToLongBiFunction<T, U, ?> function, T t, U u)
+	{
+		try {
+			return function.applyAsLong(t, u);
+		} catch(Throwable thrown) {
+			throw throwAsUnchecked(thrown);
+		}
+	}
+}
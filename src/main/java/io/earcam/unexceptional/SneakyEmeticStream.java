@@ -0,0 +1,286 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * An {@link EmeticStream} whose checked operations are adapted via {@link Sneaky} rather than {@link Exceptional};
+ * any {@link Throwable} raised by an operation propagates unchanged.
+ * </p>
+ * <p>
+ * Operations invoking a checked function are implemented here, over the wrapped {@link Stream}; the remainder are
+ * delegated to a plain {@link EmeticStream} of that stream, with the result made sneaky again.
+ * </p>
+ * 
+ * @param <T> the element type of this stream
+ * 
+ * @since 1.1.0
+ */
+final class SneakyEmeticStream<T> extends DelegatingEmeticStream<T> {
+
+	private final Stream<T> stream;
+
+
+	SneakyEmeticStream(Stream<T> stream)
+	{
+		this.stream = stream;
+	}
+
+
+	static <T> EmeticStream<T> sneaky(Stream<T> stream)
+	{
+		return new SneakyEmeticStream<>(stream);
+	}
+
+
+	@Override
+	EmeticStream<T> delegate()
+	{
+		return EmeticStream.emesis(stream);
+	}
+
+
+	@Override
+	<R> EmeticStream<R> decorate(EmeticStream<R> stream)
+	{
+		return sneaky(stream.mapToStream());
+	}
+
+
+	@Override
+	public Stream<T> mapToStream()
+	{
+		return stream;
+	}
+
+
+	@Override
+	public EmeticStream<T> sneaky()
+	{
+		return this;
+	}
+
+
+	@Override
+	public boolean allMatch(CheckedPredicate<? super T, ?> predicate)
+	{
+		return FailFast.evaluate(stream, s -> s.allMatch(Sneaky.predicate(predicate)));
+	}
+
+
+	@Override
+	public boolean anyMatch(CheckedPredicate<? super T, ?> predicate)
+	{
+		return FailFast.evaluate(stream, s -> s.anyMatch(Sneaky.predicate(predicate)));
+	}
+
+
+	@Override
+	public <R> R collect(CheckedSupplier<R, ?> supplier, CheckedBiConsumer<R, ? super T, ?> accumulator, CheckedBiConsumer<R, R, ?> combiner)
+	{
+		return FailFast.evaluate(stream, s -> s.collect(Sneaky.supplier(supplier), Sneaky.biConsumer(accumulator), Sneaky.biConsumer(combiner)));
+	}
+
+
+	@Override
+	public EmeticStream<T> filter(CheckedPredicate<? super T, ?> predicate)
+	{
+		return FusedEmeticStream.fuse(stream, true).filter(predicate);
+	}
+
+
+	@Override
+	public <R> EmeticStream<R> flatMap(CheckedFunction<? super T, ? extends Stream<? extends R>, ?> mapper)
+	{
+		return sneaky(stream.flatMap(Sneaky.function(mapper)));
+	}
+
+
+	@Override
+	public <R> EmeticStream<R> flatMapLazy(CheckedFunction<? super T, ? extends Stream<? extends R>, ?> mapper)
+	{
+		return sneaky(LazyFlatMapSpliterator.flatMap(stream, Sneaky.function(mapper)));
+	}
+
+
+	@Override
+	public DoubleStream flatMapToDouble(CheckedFunction<? super T, ? extends DoubleStream, ?> mapper)
+	{
+		return stream.flatMapToDouble(Sneaky.function(mapper));
+	}
+
+
+	@Override
+	public IntStream flatMapToInt(CheckedFunction<? super T, ? extends IntStream, ?> mapper)
+	{
+		return stream.flatMapToInt(Sneaky.function(mapper));
+	}
+
+
+	@Override
+	public LongStream flatMapToLong(CheckedFunction<? super T, ? extends LongStream, ?> mapper)
+	{
+		return stream.flatMapToLong(Sneaky.function(mapper));
+	}
+
+
+	@Override
+	public void forEach(CheckedConsumer<? super T, ?> action)
+	{
+		FailFast.execute(stream, s -> s.forEach(Sneaky.consumer(action)));
+	}
+
+
+	@Override
+	public void forEachOrdered(CheckedConsumer<? super T, ?> action)
+	{
+		FailFast.execute(stream, s -> s.forEachOrdered(Sneaky.consumer(action)));
+	}
+
+
+	@Override
+	public <R> EmeticStream<R> map(CheckedFunction<? super T, ? extends R, ?> mapper)
+	{
+		return FusedEmeticStream.fuse(stream, true).map(mapper);
+	}
+
+
+	@Override
+	public <R> EmeticStream<R> mapAsync(int maxInFlight, CheckedFunction<? super T, ? extends R, ?> mapper)
+	{
+		return sneaky(AsyncMappingSpliterator.mapAsync(stream, maxInFlight, mapper, true, true));
+	}
+
+
+	@Override
+	public <R> EmeticStream<R> mapAsyncUnordered(int maxInFlight, CheckedFunction<? super T, ? extends R, ?> mapper)
+	{
+		return sneaky(AsyncMappingSpliterator.mapAsync(stream, maxInFlight, mapper, false, true));
+	}
+
+
+	@Override
+	public <R> EmeticStream<R> mapBatched(int size, CheckedFunction<? super List<T>, ? extends List<? extends R>, ?> mapper)
+	{
+		return sneaky(BatchSpliterator.batch(stream, size, true)).flatMap(batch -> BatchSpliterator.flatten(mapper.apply(batch)));
+	}
+
+
+	@Override
+	public DoubleStream mapToDouble(CheckedToDoubleFunction<? super T, ?> mapper)
+	{
+		return stream.mapToDouble(Sneaky.toDoubleFunction(mapper));
+	}
+
+
+	@Override
+	public IntStream mapToInt(CheckedToIntFunction<? super T, ?> mapper)
+	{
+		return stream.mapToInt(Sneaky.toIntFunction(mapper));
+	}
+
+
+	@Override
+	public LongStream mapToLong(CheckedToLongFunction<? super T, ?> mapper)
+	{
+		return stream.mapToLong(Sneaky.toLongFunction(mapper));
+	}
+
+
+	@Override
+	public Optional<T> max(CheckedComparator<? super T, ?> comparator)
+	{
+		return FailFast.evaluate(stream, s -> s.max(Sneaky.comparator(comparator)));
+	}
+
+
+	@Override
+	public Optional<T> min(CheckedComparator<? super T, ?> comparator)
+	{
+		return FailFast.evaluate(stream, s -> s.min(Sneaky.comparator(comparator)));
+	}
+
+
+	@Override
+	public boolean noneMatch(CheckedPredicate<? super T, ?> predicate)
+	{
+		return FailFast.evaluate(stream, s -> s.noneMatch(Sneaky.predicate(predicate)));
+	}
+
+
+	@Override
+	public EmeticStream<T> peek(CheckedConsumer<? super T, ?> action)
+	{
+		return FusedEmeticStream.fuse(stream, true).peek(action);
+	}
+
+
+	@Override
+	public Optional<T> reduce(CheckedBinaryOperator<T, ?> accumulator)
+	{
+		return FailFast.evaluate(stream, s -> s.reduce(Sneaky.binaryOperator(accumulator)));
+	}
+
+
+	@Override
+	public T reduce(T identity, CheckedBinaryOperator<T, ?> accumulator)
+	{
+		return FailFast.evaluate(stream, s -> s.reduce(identity, Sneaky.binaryOperator(accumulator)));
+	}
+
+
+	@Override
+	public long writeTo(WritableByteChannel channel, CheckedBiConsumer<? super T, ByteBuffer, ?> encoder, int flushBytes, int flushRecords, boolean force)
+	{
+		return FailFast.evaluate(stream, s -> ChannelSink.write(s, channel, Sneaky.biConsumer(encoder), flushBytes, flushRecords, force));
+	}
+
+
+	@Override
+	public long writeTo(AsynchronousFileChannel channel, long position, CheckedBiConsumer<? super T, ByteBuffer, ?> encoder, int outstanding, boolean force)
+	{
+		return FailFast.evaluate(stream, s -> AsyncChannelSink.write(s, channel, position, Sneaky.biConsumer(encoder), outstanding, force));
+	}
+
+
+	@Override
+	public <A> A reduceCheckpointed(Path checkpoint, int interval, A identity, CheckedBiFunction<A, ? super T, A, ?> accumulator,
+			CheckedFunction<? super A, byte[], ?> serializer, CheckedFunction<byte[], ? extends A, ?> deserializer)
+	{
+		return Checkpointing.reduce(stream, checkpoint, interval, identity, Sneaky.biFunction(accumulator), Sneaky.function(serializer), Sneaky.function(deserializer));
+	}
+
+
+	@Override
+	public EmeticStream<T> sorted(CheckedComparator<? super T, ?> comparator)
+	{
+		return sneaky(stream.sorted(Sneaky.comparator(comparator)));
+	}
+}
@@ -0,0 +1,46 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * An {@link UncheckedIOException} that does not capture a stack trace, {@link UncheckedIOException} offers no
+ * constructor to disable this, hence the override.
+ * 
+ * @since 1.1.0
+ */
+class StacklessUncheckedIOException extends UncheckedIOException {
+
+	private static final long serialVersionUID = -2581465385212393452L;
+
+
+	StacklessUncheckedIOException(IOException cause)
+	{
+		super(cause);
+	}
+
+
+	@Override
+	public synchronized Throwable fillInStackTrace()
+	{
+		return this;
+	}
+}
@@ -0,0 +1,289 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * An {@link EmeticStream} diverting elements whose element-wise operations ({@code filter}, {@code map},
+ * {@code flatMap}, {@code flatMapLazy}, {@code peek}, {@code forEach}, {@code forEachOrdered},
+ * {@code forEachCheckpointed}, {@code mapAsync}, {@code mapAsyncUnordered}, {@code mapBatched} and {@code writeTo})
+ * fail, rather than aborting the stream; each failure is passed, as a {@link Failure}, to the handler and the element
+ * is dropped.
+ * </p>
+ * <p>
+ * Operations are decorated and delegated, so the stream's mode (sneaky, blocking, pooled) is retained. Nothing is
+ * allocated unless an operation fails; a failed {@code map} yields a private sentinel, removed by a single filter
+ * stage (fused with the map where the delegate fuses). Handler invocations are serialised, so a handler need not be
+ * thread-safe in parallel; anything the handler throws propagates as per the delegate's mode, as does any
+ * {@link Error} or {@link InterruptedException} (with the interrupt flag restored, so a cancelled pipeline stops).
+ * </p>
+ * 
+ * @param <T> the element type of this stream
+ * 
+ * @since 1.1.0
+ */
+@SuppressWarnings("unchecked")
+final class TolerantEmeticStream<T> extends DelegatingEmeticStream<T> {
+
+	private static final Object SKIP = new Object();
+
+	private final EmeticStream<T> delegate;
+	private final CheckedConsumer<? super Failure<?>, ?> handler;
+	private final Object lock;
+
+
+	private TolerantEmeticStream(EmeticStream<T> delegate, CheckedConsumer<? super Failure<?>, ?> handler, Object lock)
+	{
+		this.delegate = delegate;
+		this.handler = handler;
+		this.lock = lock;
+	}
+
+
+	static <T> EmeticStream<T> tolerant(EmeticStream<T> stream, CheckedConsumer<? super Failure<?>, ?> handler)
+	{
+		return new TolerantEmeticStream<>(stream, handler, new Object());
+	}
+
+
+	@Override
+	EmeticStream<T> delegate()
+	{
+		return delegate;
+	}
+
+
+	@Override
+	<R> EmeticStream<R> decorate(EmeticStream<R> stream)
+	{
+		return new TolerantEmeticStream<>(stream, handler, lock);
+	}
+
+
+	private void divert(Object element, Throwable thrown) throws Throwable
+	{
+		if(thrown instanceof Error) {
+			throw thrown;
+		}
+		if(thrown instanceof InterruptedException) {
+			Thread.currentThread().interrupt();
+			throw thrown;
+		}
+		synchronized(lock) {
+			((CheckedConsumer<Failure<?>, ?>) handler).accept(new Failure<>(element, thrown));
+		}
+	}
+
+
+	private CheckedBiConsumer<T, ByteBuffer, Throwable> diverting(CheckedBiConsumer<? super T, ByteBuffer, ?> encoder)
+	{
+		return (t, buffer) -> {
+			int start = buffer.position();
+			try {
+				encoder.accept(t, buffer);
+			} catch(BufferOverflowException full) {
+				throw full;
+			} catch(Throwable thrown) {
+				buffer.position(start);
+				divert(t, thrown);
+			}
+		};
+	}
+
+
+	private <A, R> CheckedFunction<A, R, Throwable> guarded(CheckedFunction<? super A, ? extends R, ?> function)
+	{
+		return a -> {
+			try {
+				return function.apply(a);
+			} catch(Throwable thrown) {
+				divert(a, thrown);
+				return (R) SKIP;
+			}
+		};
+	}
+
+
+	private <R> CheckedFunction<T, Stream<? extends R>, Throwable> flattening(CheckedFunction<? super T, ? extends Stream<? extends R>, ?> mapper)
+	{
+		return t -> {
+			try {
+				return mapper.apply(t);
+			} catch(Throwable thrown) {
+				divert(t, thrown);
+				return Stream.empty();
+			}
+		};
+	}
+
+
+	private static boolean retained(Object element)
+	{
+		return element != SKIP;
+	}
+
+
+	@Override
+	public EmeticStream<T> onError(CheckedConsumer<? super Failure<?>, ?> replacement)
+	{
+		return tolerant(delegate, replacement);
+	}
+
+
+	@Override
+	public EmeticStream<T> blocking()
+	{
+		return decorate(delegate.blocking());
+	}
+
+
+	@Override
+	public EmeticStream<T> filter(CheckedPredicate<? super T, ?> predicate)
+	{
+		return decorate(delegate.filter(t -> {
+			try {
+				return predicate.test(t);
+			} catch(Throwable thrown) {
+				divert(t, thrown);
+				return false;
+			}
+		}));
+	}
+
+
+	@Override
+	public <R> EmeticStream<R> map(CheckedFunction<? super T, ? extends R, ?> mapper)
+	{
+		return decorate(delegate.map(this.<T, R> guarded(mapper)).filter(TolerantEmeticStream::retained));
+	}
+
+
+	@Override
+	public <R> EmeticStream<R> flatMap(CheckedFunction<? super T, ? extends Stream<? extends R>, ?> mapper)
+	{
+		return decorate(delegate.flatMap(flattening(mapper)));
+	}
+
+
+	@Override
+	public <R> EmeticStream<R> flatMapLazy(CheckedFunction<? super T, ? extends Stream<? extends R>, ?> mapper)
+	{
+		return decorate(delegate.flatMapLazy(flattening(mapper)));
+	}
+
+
+	@Override
+	public EmeticStream<T> peek(CheckedConsumer<? super T, ?> action)
+	{
+		return map(t -> {
+			action.accept(t);
+			return t;
+		});
+	}
+
+
+	@Override
+	public void forEach(CheckedConsumer<? super T, ?> action)
+	{
+		delegate.forEach(t -> {
+			try {
+				action.accept(t);
+			} catch(Throwable thrown) {
+				divert(t, thrown);
+			}
+		});
+	}
+
+
+	@Override
+	public void forEachOrdered(CheckedConsumer<? super T, ?> action)
+	{
+		delegate.forEachOrdered(t -> {
+			try {
+				action.accept(t);
+			} catch(Throwable thrown) {
+				divert(t, thrown);
+			}
+		});
+	}
+
+
+	@Override
+	public void forEachCheckpointed(Path checkpoint, int interval, CheckedConsumer<? super T, ?> action)
+	{
+		delegate.forEachCheckpointed(checkpoint, interval, t -> {
+			try {
+				action.accept(t);
+			} catch(Throwable thrown) {
+				divert(t, thrown);
+			}
+		});
+	}
+
+
+	@Override
+	public long writeTo(WritableByteChannel channel, CheckedBiConsumer<? super T, ByteBuffer, ?> encoder, int flushBytes, int flushRecords, boolean force)
+	{
+		return delegate.writeTo(channel, diverting(encoder), flushBytes, flushRecords, force);
+	}
+
+
+	@Override
+	public long writeTo(AsynchronousFileChannel channel, long position, CheckedBiConsumer<? super T, ByteBuffer, ?> encoder, int outstanding, boolean force)
+	{
+		return delegate.writeTo(channel, position, diverting(encoder), outstanding, force);
+	}
+
+
+	@Override
+	public <R> EmeticStream<R> mapAsync(int maxInFlight, CheckedFunction<? super T, ? extends R, ?> mapper)
+	{
+		return decorate(delegate.mapAsync(maxInFlight, this.<T, R> guarded(mapper)).filter(TolerantEmeticStream::retained));
+	}
+
+
+	@Override
+	public <R> EmeticStream<R> mapAsyncUnordered(int maxInFlight, CheckedFunction<? super T, ? extends R, ?> mapper)
+	{
+		return decorate(delegate.mapAsyncUnordered(maxInFlight, this.<T, R> guarded(mapper)).filter(TolerantEmeticStream::retained));
+	}
+
+
+	@Override
+	public <R> EmeticStream<R> mapBatched(int size, CheckedFunction<? super List<T>, ? extends List<? extends R>, ?> mapper)
+	{
+		return decorate(delegate.mapBatched(size, batch -> {
+			try {
+				return mapper.apply(batch);
+			} catch(Throwable thrown) {
+				divert(new ArrayList<>(batch), thrown);
+				return null;
+			}
+		}));
+	}
+}
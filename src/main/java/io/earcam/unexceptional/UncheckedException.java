@@ -61,4 +61,36 @@ public class UncheckedException extends RuntimeException {
 	{
 		super(message, cause);
 	}
+
+
+	/**
+	 * Constructs with the detail message of the {@code cause}, as per {@link #UncheckedException(Throwable)}.
+	 * When {@code writableStackTrace} is {@code false} both the stack trace and suppression are disabled; useful
+	 * for high frequency failure paths, as the cause already carries the relevant stack trace.
+	 * 
+	 * @param cause the underlying cause
+	 * @param writableStackTrace whether or not the stack trace should be writable
+	 * 
+	 * @since 1.1.0
+	 */
+	public UncheckedException(Throwable cause, boolean writableStackTrace)
+	{
+		this((cause == null) ? null : cause.toString(), cause, writableStackTrace, writableStackTrace);
+	}
+
+
+	/**
+	 * see {@link RuntimeException#RuntimeException(String, Throwable, boolean, boolean)}
+	 * 
+	 * @param message the detail message
+	 * @param cause the underlying cause
+	 * @param enableSuppression whether or not suppression is enabled or disabled
+	 * @param writableStackTrace whether or not the stack trace should be writable
+	 * 
+	 * @since 1.1.0
+	 */
+	protected UncheckedException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace)
+	{
+		super(message, cause, enableSuppression, writableStackTrace);
+	}
 }
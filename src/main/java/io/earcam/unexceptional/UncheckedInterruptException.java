@@ -40,4 +40,21 @@ public class UncheckedInterruptException extends UncheckedException {
 		super(cause);
 		Thread.currentThread().interrupt();
 	}
+
+
+	/**
+	 * This constructor also sets the interrupt flag
+	 * 
+	 * see {@link UncheckedException#UncheckedException(Throwable, boolean)}
+	 * 
+	 * @param cause the underlying cause
+	 * @param writableStackTrace whether or not the stack trace (and suppression) should be enabled
+	 * 
+	 * @since 1.1.0
+	 */
+	public UncheckedInterruptException(InterruptedException cause, boolean writableStackTrace)
+	{
+		super(cause, writableStackTrace);
+		Thread.currentThread().interrupt();
+	}
 }
@@ -37,4 +37,18 @@ public class UncheckedReflectiveException extends UncheckedException {
 	{
 		super(cause);
 	}
+
+
+	/**
+	 * see {@link UncheckedException#UncheckedException(Throwable, boolean)}
+	 * 
+	 * @param cause the underlying cause
+	 * @param writableStackTrace whether or not the stack trace (and suppression) should be enabled
+	 * 
+	 * @since 1.1.0
+	 */
+	public UncheckedReflectiveException(ReflectiveOperationException cause, boolean writableStackTrace)
+	{
+		super(cause, writableStackTrace);
+	}
 }
@@ -37,4 +37,18 @@ public class UncheckedUriSyntaxException extends UncheckedException {
 	{
 		super(cause);
 	}
+
+
+	/**
+	 * see {@link UncheckedException#UncheckedException(Throwable, boolean)}
+	 * 
+	 * @param cause the underlying cause
+	 * @param writableStackTrace whether or not the stack trace (and suppression) should be enabled
+	 * 
+	 * @since 1.1.0
+	 */
+	public UncheckedUriSyntaxException(URISyntaxException cause, boolean writableStackTrace)
+	{
+		super(cause, writableStackTrace);
+	}
 }
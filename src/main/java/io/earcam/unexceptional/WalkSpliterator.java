@@ -0,0 +1,356 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.Exceptional.throwAsUnchecked;
+import static io.earcam.unexceptional.Exceptional.uncheck;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ * A {@link Spliterator} over a file tree, traversed concurrently by fork-join tasks; each directory is listed by one
+ * task, which publishes its entries, as a batch, once its {@link DirectoryStream} is closed, then forks a task per
+ * subdirectory (so idle workers steal subtrees). Entries stream as directories are listed, in no particular order.
+ * Tasks run in the pool of the thread making the first advance (e.g. that given to
+ * {@link EmeticStream#parallel(ForkJoinPool)}), otherwise in the {@link ForkJoinPool#commonPool()}.
+ * </p>
+ * <p>
+ * Each entry's {@link BasicFileAttributes} are read once, and passed to the mapper along with the entry's path; a
+ * {@code null} mapping is skipped. Tasks never block on publishing; when the bounded queue is full, a listing's batch
+ * is set aside along with its subdirectories, and the consumer resumes them as it takes, so traversal runs no
+ * further ahead than the queue allows, and a stream abandoned without being closed merely stalls, holding no
+ * worker. Traversal starts on first advance; the first failure (an {@link IOException} as
+ * {@link UncheckedIOException}) cancels traversal and is thrown to the consumer. Closing cancels traversal.
+ * </p>
+ * 
+ * @param <R> the element type
+ * 
+ * @since 1.1.0
+ */
+final class WalkSpliterator<R> extends Spliterators.AbstractSpliterator<R> {
+
+	static final int CAPACITY = 1024;
+
+	private static final long POLL_MILLIS = 10;
+
+	private static final Object END = new Object();
+	private static final LinkOption[] FOLLOW = new LinkOption[0];
+	private static final LinkOption[] NO_FOLLOW = { LinkOption.NOFOLLOW_LINKS };
+
+	private final Path start;
+	private final int maxDepth;
+	private final BiFunction<Path, BasicFileAttributes, R> mapper;
+	private final boolean followLinks;
+	private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(CAPACITY);
+	private final Deque<Stall> stalled = new ArrayDeque<>();
+	private final AtomicInteger pending = new AtomicInteger();
+	private ForkJoinPool pool;
+	private volatile boolean cancelled;
+	private volatile Throwable failure;
+	private Iterator<R> batch = Collections.emptyIterator();
+	private boolean started;
+	private boolean finished;
+
+
+	private WalkSpliterator(Path start, int maxDepth, BiFunction<Path, BasicFileAttributes, R> mapper, boolean followLinks)
+	{
+		super(Long.MAX_VALUE, NONNULL);
+		this.start = start;
+		this.maxDepth = maxDepth;
+		this.mapper = mapper;
+		this.followLinks = followLinks;
+	}
+
+
+	static <R> Stream<R> walk(Path start, int maxDepth, BiFunction<Path, BasicFileAttributes, R> mapper, FileVisitOption... options)
+	{
+		if(maxDepth < 0) {
+			throw new IllegalArgumentException("maxDepth must not be negative, was " + maxDepth);
+		}
+		Objects.requireNonNull(start);
+		boolean followLinks = Arrays.asList(options).contains(FileVisitOption.FOLLOW_LINKS);
+		WalkSpliterator<R> spliterator = new WalkSpliterator<>(start, maxDepth, mapper, followLinks);
+		return StreamSupport.stream(spliterator, false).onClose(spliterator::cancel);
+	}
+
+
+	private BasicFileAttributes attributes(Path path) throws IOException
+	{
+		if(followLinks) {
+			try {
+				return Files.readAttributes(path, BasicFileAttributes.class, FOLLOW);
+			} catch(IOException broken) {
+				// as per Files.walk; a broken link is reported as the link itself
+			}
+		}
+		return Files.readAttributes(path, BasicFileAttributes.class, NO_FOLLOW);
+	}
+
+
+	private final class Listing extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Path directory;
+		private final int depth;
+		private final List<Object> ancestors;
+
+
+		Listing(Path directory, int depth, List<Object> ancestors)
+		{
+			this.directory = directory;
+			this.depth = depth;
+			this.ancestors = ancestors;
+			pending.incrementAndGet();
+		}
+
+
+		@Override
+		protected void compute()
+		{
+			try {
+				if(!cancelled) {
+					list();
+				}
+			} catch(Throwable thrown) {
+				fail(thrown);
+			} finally {
+				if(pending.decrementAndGet() == 0) {
+					publish(END, Collections.emptyList());
+				}
+			}
+		}
+
+
+		private void list() throws IOException
+		{
+			List<R> entries = new ArrayList<>();
+			List<Listing> subdirectories = new ArrayList<>();
+			try(DirectoryStream<Path> listing = Files.newDirectoryStream(directory)) {
+				for(Path entry : listing) {
+					if(cancelled) {
+						break;
+					}
+					BasicFileAttributes attributes = attributes(entry);
+					if(attributes.isDirectory() && depth < maxDepth) {
+						subdirectories.add(new Listing(entry, depth + 1, descendant(entry, attributes)));
+					}
+					add(entries, entry, attributes);
+				}
+			} catch(IOException | RuntimeException | Error e) {
+				subdirectories.forEach(Listing::fork);  // each finds traversal cancelled, settling pending
+				throw e;
+			}
+			publish(entries, subdirectories);
+		}
+
+
+		private List<Object> descendant(Path entry, BasicFileAttributes attributes)
+		{
+			if(!followLinks) {
+				return ancestors;
+			}
+			Object key = attributes.fileKey();
+			if(key != null && ancestors.contains(key)) {
+				throw new UncheckedIOException(new FileSystemLoopException(entry.toString()));
+			}
+			List<Object> descendant = new ArrayList<>(ancestors);
+			descendant.add(key);
+			return descendant;
+		}
+	}
+
+
+	private void add(List<R> entries, Path path, BasicFileAttributes attributes)
+	{
+		R mapped = mapper.apply(path, attributes);
+		if(mapped != null) {
+			entries.add(mapped);
+		}
+	}
+
+
+	private final class Stall {
+
+		private final Object batch;
+		private final List<Listing> subdirectories;
+
+
+		Stall(Object batch, List<Listing> subdirectories)
+		{
+			this.batch = batch;
+			this.subdirectories = subdirectories;
+		}
+	}
+
+
+	private void begin() throws IOException
+	{
+		BasicFileAttributes attributes = attributes(start);
+		List<R> root = new ArrayList<>(1);
+		add(root, start, attributes);
+		if(!root.isEmpty()) {
+			queue.add(root);
+		}
+		if(attributes.isDirectory() && maxDepth > 0) {
+			List<Object> ancestors = followLinks ? Collections.singletonList(attributes.fileKey()) : Collections.emptyList();
+			pool = ForkJoinTask.getPool();
+			if(pool == null) {
+				pool = ForkJoinPool.commonPool();
+			}
+			pool.execute(new Listing(start, 1, ancestors));
+		} else {
+			queue.add(END);
+		}
+	}
+
+
+	private void publish(Object batch, List<Listing> subdirectories)
+	{
+		synchronized(stalled) {
+			if(!cancelled && (!stalled.isEmpty() || !queue.offer(batch))) {
+				stalled.add(new Stall(batch, subdirectories));
+				return;
+			}
+		}
+		subdirectories.forEach(Listing::fork);
+	}
+
+
+	private void resume()
+	{
+		synchronized(stalled) {
+			Stall stall;
+			while(!cancelled && (stall = stalled.peek()) != null && queue.offer(stall.batch)) {
+				stalled.poll();
+				stall.subdirectories.forEach(pool::execute);
+			}
+		}
+	}
+
+
+	private void fail(Throwable thrown)
+	{
+		if(failure == null) {
+			failure = thrown instanceof IOException ? new UncheckedIOException((IOException) thrown) : thrown;
+		}
+		cancelled = true;
+		discard();
+	}
+
+
+	private void discard()
+	{
+		synchronized(stalled) {
+			stalled.clear();
+		}
+		queue.clear();
+	}
+
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public boolean tryAdvance(Consumer<? super R> action)
+	{
+		while(!batch.hasNext()) {
+			if(finished) {
+				return false;
+			}
+			if(!started) {
+				started = true;
+				Exceptional.run(this::begin);
+			}
+			Object next = take();
+			resume();
+			if(failure != null) {
+				finished = true;
+				throw propagate(failure);
+			}
+			if(next == END) {
+				finished = true;
+				return false;
+			}
+			batch = ((List<R>) next).iterator();
+		}
+		action.accept(batch.next());
+		return true;
+	}
+
+
+	private Object take()
+	{
+		try {
+			return Blocking.get(() -> {
+				Object next;
+				while((next = queue.poll(POLL_MILLIS, MILLISECONDS)) == null && failure == null);
+				return next;
+			});
+		} catch(InterruptedException e) {
+			cancel();
+			throw uncheck(e);
+		}
+	}
+
+
+	private static RuntimeException propagate(Throwable thrown)
+	{
+		if(thrown instanceof Error) {
+			throw (Error) thrown;
+		}
+		throw throwAsUnchecked(thrown);
+	}
+
+
+	void cancel()
+	{
+		cancelled = true;
+		finished = true;
+		discard();
+	}
+}
@@ -24,8 +24,14 @@
  * <li>Checked equivalents of {@link java.util.function}</li>
  * <li>Static helper class {@link io.earcam.unexceptional.Exceptional}, with methods for conversion and unchecked
  * invocation</li>
+ * <li>Static helper class {@link io.earcam.unexceptional.Sneaky}, the non-wrapping equivalent of
+ * {@link io.earcam.unexceptional.Exceptional}'s conversion and invocation methods</li>
+ * <li>Static helper class {@link io.earcam.unexceptional.Blocking}, decorating potentially blocking checked types for
+ * execution as {@link java.util.concurrent.ForkJoinPool.ManagedBlocker}s</li>
  * <li>A wrapper class {@link io.earcam.unexceptional.EmeticStream}, wrapping {@link java.util.stream.Stream} and taking
  * the checked {@link java.util.function} equivalents</li>
+ * <li>Primitive wrappers {@link io.earcam.unexceptional.EmeticIntStream}, {@link io.earcam.unexceptional.EmeticLongStream}
+ * and {@link io.earcam.unexceptional.EmeticDoubleStream}, taking the checked primitive equivalents</li>
  * </ul>
  * 
  * @see <a href="https://unexceptional.earcam.io">project website</a>
@@ -19,6 +19,9 @@
 module io.earcam.unexceptional {
 
 	requires java.base;
+	requires jdk.unsupported;
 	
 	exports io.earcam.unexceptional;
+
+	uses io.earcam.unexceptional.ExceptionTranslator;
 }
\ No newline at end of file
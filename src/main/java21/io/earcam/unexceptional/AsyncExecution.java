@@ -0,0 +1,51 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * <p>
+ * Provides the executor for asynchronous stages, e.g. {@link EmeticStream#mapAsync(int, CheckedFunction)}.
+ * </p>
+ * <p>
+ * The JDK 21+ implementation; a virtual thread per task, so blocked tasks hold no platform thread. Concurrency is
+ * bounded by the stage itself, not the executor.
+ * </p>
+ * 
+ * @since 1.1.0
+ */
+final class AsyncExecution {
+
+	private static final ThreadFactory VIRTUAL_FACTORY = Thread.ofVirtual().name("unexceptional-async-", 1).factory();
+
+
+	private AsyncExecution()
+	{
+		throw new IllegalStateException("Why on earth would you want to instantiate this?");
+	}
+
+
+	static ExecutorService executor(int maxInFlight)
+	{
+		return Executors.newThreadPerTaskExecutor(VIRTUAL_FACTORY);
+	}
+}
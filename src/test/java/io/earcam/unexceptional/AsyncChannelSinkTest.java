@@ -0,0 +1,204 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.stream.Collectors.joining;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncChannelSinkTest {
+
+	private Path file;
+
+
+	@BeforeEach
+	public void createFile() throws IOException
+	{
+		file = Files.createTempFile(AsyncChannelSinkTest.class.getSimpleName(), ".log");
+	}
+
+
+	@AfterEach
+	public void deleteFile() throws IOException
+	{
+		Files.delete(file);
+	}
+
+
+	private static void line(String text, ByteBuffer buffer)
+	{
+		buffer.put((text + '\n').getBytes(UTF_8));
+	}
+
+
+	private static Stream<String> lines(int count)
+	{
+		return IntStream.range(0, count).mapToObj(i -> "record " + i);
+	}
+
+
+	private static String expected(int count)
+	{
+		return lines(count).map(l -> l + '\n').collect(joining());
+	}
+
+
+	private String content() throws IOException
+	{
+		return new String(Files.readAllBytes(file), UTF_8);
+	}
+
+
+	@Test
+	public void writesEveryRecordInOrder() throws IOException
+	{
+		long written;
+		try(AsynchronousFileChannel channel = AsynchronousFileChannel.open(file, WRITE)) {
+			written = EmeticStream.emesis(lines(100_000)).writeTo(channel, AsyncChannelSinkTest::line);
+		}
+
+		assertThat(content(), is(expected(100_000)));
+		assertThat(written, is((long) expected(100_000).length()));
+	}
+
+
+	@Test
+	public void keepsWritesOutstanding() throws IOException
+	{
+		InstrumentedFileChannel channel = new InstrumentedFileChannel(file, 5, WRITE);
+		try {
+			EmeticStream.emesis(lines(100_000)).writeTo(channel, 0, AsyncChannelSinkTest::line, 3, true);
+		} finally {
+			channel.close();
+		}
+
+		assertThat(content(), is(expected(100_000)));
+		assertThat(channel.maxInFlight.get(), is(greaterThan(1)));
+		assertThat(channel.maxInFlight.get(), is(lessThanOrEqualTo(3)));
+	}
+
+
+	@Test
+	public void writesFromPosition() throws IOException
+	{
+		Files.write(file, "header\n".getBytes(UTF_8));
+
+		try(AsynchronousFileChannel channel = AsynchronousFileChannel.open(file, WRITE)) {
+			EmeticStream.emesis(lines(10)).writeTo(channel, 7, AsyncChannelSinkTest::line, 2, false);
+		}
+
+		assertThat(content(), is("header\n" + expected(10)));
+	}
+
+
+	@Test
+	public void recordLargerThanBufferIsWrittenWhole() throws IOException
+	{
+		String large = new String(new char[ChannelSink.BUFFER_SIZE * 3]).replace('\0', 'x');
+
+		try(AsynchronousFileChannel channel = AsynchronousFileChannel.open(file, WRITE)) {
+			EmeticStream.emesis(Stream.of("small", large, "after")).writeTo(channel, AsyncChannelSinkTest::line);
+		}
+
+		assertThat(content(), is("small\n" + large + "\nafter\n"));
+	}
+
+
+	@Test
+	public void failedWriteIsUncheckedOnceAllWritesSettle() throws IOException
+	{
+		InstrumentedFileChannel channel = new InstrumentedFileChannel(file, 5, WRITE);
+		channel.failure = new IOException("kaboom");
+		channel.failAt = 0;
+		try {
+			UncheckedIOException thrown = assertThrows(UncheckedIOException.class,
+					() -> EmeticStream.emesis(lines(100_000)).writeTo(channel, 0, AsyncChannelSinkTest::line, 4, false));
+
+			assertThat(thrown.getCause(), is(sameInstance(channel.failure)));
+			assertThat(channel.inFlight.get(), is(0));
+		} finally {
+			channel.close();
+		}
+	}
+
+
+	@Test
+	public void encoderFailureIsUnchecked() throws IOException
+	{
+		IOException kaboom = new IOException("kaboom");
+
+		try(AsynchronousFileChannel channel = AsynchronousFileChannel.open(file, WRITE)) {
+			UncheckedIOException thrown = assertThrows(UncheckedIOException.class, () -> EmeticStream.emesis(lines(10)).writeTo(channel, (l, b) -> {
+				throw kaboom;
+			}));
+
+			assertThat(thrown.getCause(), is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void tolerantEncoderFailureDiscardsPartialRecord() throws IOException
+	{
+		List<Failure<?>> failures = new ArrayList<>();
+
+		try(AsynchronousFileChannel channel = AsynchronousFileChannel.open(file, WRITE)) {
+			EmeticStream.emesis(Stream.of("a", "b", "c")).onError(failures::add).writeTo(channel, (l, b) -> {
+				line(l, b);
+				if(l.equals("b")) {
+					throw new IOException("kaboom");
+				}
+			});
+		}
+
+		assertThat(content(), is("a\nc\n"));
+		assertThat(failures.size(), is(1));
+	}
+
+
+	@Test
+	public void invalidArguments() throws IOException
+	{
+		try(AsynchronousFileChannel channel = AsynchronousFileChannel.open(file, WRITE)) {
+			assertThrows(IllegalArgumentException.class, () -> EmeticStream.emesis(lines(1)).writeTo(channel, -1, AsyncChannelSinkTest::line, 1, false));
+			assertThrows(IllegalArgumentException.class, () -> EmeticStream.emesis(lines(1)).writeTo(channel, 0, AsyncChannelSinkTest::line, 0, false));
+		}
+	}
+}
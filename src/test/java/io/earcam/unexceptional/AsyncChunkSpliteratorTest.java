@@ -0,0 +1,235 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncChunkSpliteratorTest {
+
+	private static final int SIZE = 100_003;
+
+	private Path file;
+	private byte[] bytes;
+
+
+	@BeforeEach
+	public void createFile() throws IOException
+	{
+		bytes = new byte[SIZE];
+		new Random(SIZE).nextBytes(bytes);
+		file = Files.write(Files.createTempFile(AsyncChunkSpliteratorTest.class.getSimpleName(), ".bin"), bytes);
+	}
+
+
+	@AfterEach
+	public void deleteFile() throws IOException
+	{
+		Files.delete(file);
+	}
+
+
+	private static byte[] reassembled(EmeticStream<Chunk> chunks)
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		chunks.forEach(c -> {
+			try(Chunk chunk = c) {
+				assertThat(chunk.position(), is((long) out.size()));
+				ByteBuffer buffer = chunk.buffer();
+				byte[] read = new byte[buffer.remaining()];
+				buffer.get(read);
+				out.write(read);
+			}
+		});
+		return out.toByteArray();
+	}
+
+
+	@Test
+	public void readsWholeFileInOrder() throws IOException
+	{
+		try(EmeticStream<Chunk> chunks = EmeticStream.chunks(AsynchronousFileChannel.open(file, READ), 4096)) {
+			assertThat(reassembled(chunks), is(bytes));
+		}
+	}
+
+
+	@Test
+	public void keepsReadsOutstanding() throws IOException
+	{
+		InstrumentedFileChannel channel = new InstrumentedFileChannel(file, 5, READ);
+
+		try(EmeticStream<Chunk> chunks = EmeticStream.chunks(channel, 4096, 4)) {
+			assertThat(reassembled(chunks), is(bytes));
+		}
+
+		assertThat(channel.maxInFlight.get(), is(greaterThan(1)));
+		assertThat(channel.maxInFlight.get(), is(lessThanOrEqualTo(4)));
+	}
+
+
+	@Test
+	public void releasedBuffersAreReused() throws IOException
+	{
+		Set<ByteBuffer> buffers = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		try(EmeticStream<Chunk> chunks = EmeticStream.chunks(AsynchronousFileChannel.open(file, READ), 1000, 2)) {
+			chunks.forEach(c -> {
+				try(Chunk chunk = c) {
+					assertThat(chunk.buffer().isDirect(), is(true));
+					buffers.add(chunk.buffer());
+				}
+			});
+		}
+
+		assertThat(buffers.size(), is(lessThanOrEqualTo(4)));
+	}
+
+
+	@Test
+	public void emptyFileHasNoChunks() throws IOException
+	{
+		Files.write(file, new byte[0]);
+
+		try(EmeticStream<Chunk> chunks = EmeticStream.chunks(AsynchronousFileChannel.open(file, READ), 4096)) {
+			assertThat(chunks.collect(toList()), is(empty()));
+		}
+	}
+
+
+	@Test
+	public void failedReadIsUnchecked() throws IOException
+	{
+		InstrumentedFileChannel channel = new InstrumentedFileChannel(file, 0, READ);
+		channel.failure = new IOException("kaboom");
+		channel.failAt = 8192;
+
+		try(EmeticStream<Chunk> chunks = EmeticStream.chunks(channel, 4096, 4)) {
+			UncheckedIOException thrown = assertThrows(UncheckedIOException.class, () -> chunks.forEach(Chunk::release));
+
+			assertThat(thrown.getCause(), is(sameInstance(channel.failure)));
+		}
+	}
+
+
+	@Test
+	public void closeClosesChannel() throws IOException
+	{
+		AsynchronousFileChannel channel = AsynchronousFileChannel.open(file, READ);
+		EmeticStream<Chunk> chunks = EmeticStream.chunks(channel, 4096);
+		Chunk held = chunks.iterator().next();
+
+		chunks.close();
+
+		assertThat(channel.isOpen(), is(false));
+		held.release();
+	}
+
+
+	@Test
+	public void closeSettlesPendingReads() throws IOException
+	{
+		InstrumentedFileChannel channel = new InstrumentedFileChannel(file, 50, READ);
+		EmeticStream<Chunk> chunks = EmeticStream.chunks(channel, 4096, 4);
+		Chunk held = chunks.iterator().next();
+
+		chunks.close();
+
+		assertThat(channel.inFlight.get(), is(0));
+		held.release();
+	}
+
+
+	@Test
+	public void holdingOutstandingChunksWhileAdvancingDoesNotWait() throws Exception
+	{
+		try(EmeticStream<Chunk> chunks = EmeticStream.chunks(AsynchronousFileChannel.open(file, READ), 4096, 1)) {
+			Iterator<Chunk> iterator = chunks.iterator();
+			CompletableFuture<Integer> advancing = CompletableFuture.supplyAsync(() -> {
+				int count = 0;
+				Chunk previous = null;
+				while(iterator.hasNext()) {
+					Chunk chunk = iterator.next();
+					if(previous != null) {
+						previous.release();
+					}
+					previous = chunk;
+					++count;
+				}
+				previous.release();
+				return count;
+			});
+
+			assertThat(advancing.get(5, SECONDS), is((SIZE + 4095) / 4096));
+		}
+	}
+
+
+	@Test
+	public void closeUnblocksWaitingReader() throws Exception
+	{
+		EmeticStream<Chunk> chunks = EmeticStream.chunks(AsynchronousFileChannel.open(file, READ), 4096, 1);
+		Iterator<Chunk> iterator = chunks.iterator();
+		iterator.next();
+		iterator.next();
+
+		CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(iterator::hasNext);
+		MILLISECONDS.sleep(50);
+		chunks.close();
+
+		assertThat(waiting.get(5, SECONDS), is(false));
+	}
+
+
+	@Test
+	public void nonPositiveSizes() throws IOException
+	{
+		try(AsynchronousFileChannel channel = AsynchronousFileChannel.open(file, READ)) {
+			assertThrows(IllegalArgumentException.class, () -> EmeticStream.chunks(channel, 0));
+			assertThrows(IllegalArgumentException.class, () -> EmeticStream.chunks(channel, 1, 0));
+		}
+	}
+}
@@ -0,0 +1,353 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.EmeticStream.emesis;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncMappingSpliteratorTest {
+
+	private final IOException kaboom = new IOException("kaboom");
+
+
+	@BeforeEach
+	public void clearInterrupt()
+	{
+		while(Thread.interrupted());
+	}
+
+
+	private static EmeticStream<Integer> zeroToNineteen()
+	{
+		return emesis(IntStream.range(0, 20).boxed());
+	}
+
+
+	private Throwable thrownBy(Runnable runnable)
+	{
+		try {
+			runnable.run();
+		} catch(Throwable thrown) {
+			return thrown;
+		}
+		fail("should not reach here");
+		return null;
+	}
+
+
+	@Test
+	public void resultsAreEmittedInSourceOrder()
+	{
+		List<Integer> mapped = zeroToNineteen()
+				.mapAsync(4, i -> {
+					MILLISECONDS.sleep(20 - i);
+					return i * 2;
+				})
+				.collect(toList());
+
+		assertThat(mapped, is(IntStream.range(0, 20).map(i -> i * 2).boxed().collect(toList())));
+	}
+
+
+	@Test
+	public void resultsAreEmittedInCompletionOrderWhenUnordered()
+	{
+		CountDownLatch firstEmitted = new CountDownLatch(1);
+
+		List<Integer> mapped = emesis(Stream.of(0, 1))
+				.mapAsyncUnordered(2, i -> {
+					if(i == 0) {
+						firstEmitted.await(5, SECONDS);
+					}
+					return i;
+				})
+				.peek(i -> firstEmitted.countDown())
+				.collect(toList());
+
+		assertThat(mapped, contains(1, 0));
+	}
+
+
+	@Test
+	public void concurrencyIsBoundedByMaxInFlight()
+	{
+		AtomicInteger current = new AtomicInteger();
+		AtomicInteger maximum = new AtomicInteger();
+
+		long count = zeroToNineteen()
+				.mapAsync(3, i -> {
+					maximum.accumulateAndGet(current.incrementAndGet(), Math::max);
+					MILLISECONDS.sleep(10);
+					current.decrementAndGet();
+					return i;
+				})
+				.count();
+
+		assertThat(count, is(20L));
+		assertThat(maximum.get(), is(lessThanOrEqualTo(3)));
+		assertThat(maximum.get(), is(greaterThan(1)));
+	}
+
+
+	@Test
+	public void sourceIsConsumedOnDemand()
+	{
+		List<Integer> mapped = emesis(Stream.iterate(0, i -> i + 1))
+				.mapAsync(8, i -> i + 1)
+				.mapToStream()
+				.limit(3)
+				.collect(toList());
+
+		assertThat(mapped, contains(1, 2, 3));
+	}
+
+
+	@Test
+	public void emptySource()
+	{
+		assertThat(emesis(Stream.<Integer> empty()).mapAsync(4, i -> i).collect(toList()), is(empty()));
+	}
+
+
+	@Test
+	public void nullResultsAreEmitted()
+	{
+		assertThat(emesis(Stream.of(1)).mapAsync(1, i -> null).collect(toList()), contains((Object) null));
+	}
+
+
+	@Test
+	public void failureIsUncheckedAndCancelsOutstandingInvocations() throws InterruptedException
+	{
+		CountDownLatch started = new CountDownLatch(3);
+		CountDownLatch never = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(3);
+
+		Throwable thrown = thrownBy(() -> emesis(Stream.of(0, 1, 2, 3))
+				.mapAsync(4, i -> {
+					if(i == 0) {
+						started.await(5, SECONDS);
+						throw kaboom;
+					}
+					started.countDown();
+					try {
+						never.await();
+					} catch(InterruptedException e) {
+						interrupted.countDown();
+					}
+					return i;
+				})
+				.count());
+
+		assertThat(thrown, is(instanceOf(UncheckedIOException.class)));
+		assertThat(thrown.getCause(), is(sameInstance(kaboom)));
+		assertThat(interrupted.await(5, SECONDS), is(true));
+	}
+
+
+	@Test
+	public void failureIsRethrownUnchangedWhenSneaky()
+	{
+		Throwable thrown = thrownBy(() -> zeroToNineteen()
+				.sneaky()
+				.mapAsyncUnordered(4, i -> {
+					throw kaboom;
+				})
+				.count());
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void errorIsRethrownUnchanged()
+	{
+		OutOfMemoryError oome = new OutOfMemoryError();
+
+		Throwable thrown = thrownBy(() -> zeroToNineteen()
+				.mapAsync(4, i -> {
+					throw oome;
+				})
+				.count());
+
+		assertThat(thrown, is(sameInstance(oome)));
+	}
+
+
+	@Test
+	public void sourceFailureCancelsOutstandingInvocations() throws InterruptedException
+	{
+		CountDownLatch started = new CountDownLatch(2);
+		CountDownLatch never = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(2);
+		IllegalStateException ise = new IllegalStateException();
+
+		EmeticStream<Integer> stream = emesis(Stream.of(0, 1, 2))
+				.map(i -> {
+					if(i == 2) {
+						started.await(5, SECONDS);
+						throw ise;
+					}
+					return i;
+				})
+				.mapAsync(3, i -> {
+					started.countDown();
+					try {
+						never.await();
+					} catch(InterruptedException e) {
+						interrupted.countDown();
+					}
+					return i;
+				});
+
+		Throwable thrown = thrownBy(() -> stream.iterator().next());
+
+		assertThat(thrown, is(sameInstance(ise)));
+		assertThat(interrupted.await(5, SECONDS), is(true));
+	}
+
+
+	@Test
+	public void consumerFailureCancelsOutstandingInvocations() throws InterruptedException
+	{
+		CountDownLatch started = new CountDownLatch(2);
+		CountDownLatch never = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(2);
+		IllegalStateException ise = new IllegalStateException();
+
+		EmeticStream<Integer> stream = emesis(Stream.of(0, 1, 2))
+				.mapAsync(3, i -> {
+					if(i == 0) {
+						started.await(5, SECONDS);
+					} else {
+						started.countDown();
+						try {
+							never.await();
+						} catch(InterruptedException e) {
+							interrupted.countDown();
+						}
+					}
+					return i;
+				});
+
+		Throwable thrown = thrownBy(() -> stream.forEach(i -> {
+			throw ise;
+		}));
+
+		assertThat(thrown, is(sameInstance(ise)));
+		assertThat(interrupted.await(5, SECONDS), is(true));
+	}
+
+
+	@Test
+	public void closeCancelsOutstandingInvocations() throws InterruptedException
+	{
+		CountDownLatch started = new CountDownLatch(2);
+		CountDownLatch never = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(2);
+		AtomicInteger closed = new AtomicInteger();
+
+		try(EmeticStream<Integer> stream = emesis(Stream.of(0, 1, 2).onClose(closed::incrementAndGet))
+				.mapAsync(3, i -> {
+					if(i == 0) {
+						started.await(5, SECONDS);
+					} else {
+						started.countDown();
+						try {
+							never.await();
+						} catch(InterruptedException e) {
+							interrupted.countDown();
+						}
+					}
+					return i;
+				})) {
+			Iterator<Integer> iterator = stream.iterator();
+
+			assertThat(iterator.next(), is(0));
+		}
+
+		assertThat(interrupted.await(5, SECONDS), is(true));
+		assertThat(closed.get(), is(1));
+	}
+
+
+	@Test
+	public void interruptionWhileAwaitingResetsTheFlag()
+	{
+		CountDownLatch never = new CountDownLatch(1);
+		Thread.currentThread().interrupt();
+
+		Throwable thrown = thrownBy(() -> zeroToNineteen().mapAsync(1, i -> never.await(5, SECONDS)).count());
+
+		assertThat(Thread.interrupted(), is(true));
+		assertThat(thrown.getCause(), is(instanceOf(InterruptedException.class)));
+	}
+
+
+	@Test
+	public void maxInFlightMustBePositive()
+	{
+		Throwable thrown = thrownBy(() -> zeroToNineteen().mapAsync(0, i -> i));
+
+		assertThat(thrown, is(instanceOf(IllegalArgumentException.class)));
+	}
+
+
+	@Test
+	public void sneakinessIsRetainedThroughFusedBlockingAndPooledStreams()
+	{
+		Throwable fused = thrownBy(() -> zeroToNineteen().sneaky().map(i -> i).mapAsync(2, i -> {
+			throw kaboom;
+		}).count());
+		Throwable blocking = thrownBy(() -> zeroToNineteen().sneaky().blocking().mapAsync(2, i -> {
+			throw kaboom;
+		}).count());
+		Throwable pooled = thrownBy(() -> zeroToNineteen().sneaky().parallel(ForkJoinPool.commonPool()).mapAsyncUnordered(2, i -> {
+			throw kaboom;
+		}).count());
+
+		assertThat(fused, is(sameInstance(kaboom)));
+		assertThat(blocking, is(sameInstance(kaboom)));
+		assertThat(pooled, is(sameInstance(kaboom)));
+	}
+}
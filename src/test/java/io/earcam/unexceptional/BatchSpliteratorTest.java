@@ -0,0 +1,246 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.EmeticStream.emesis;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class BatchSpliteratorTest {
+
+	private final IOException kaboom = new IOException("kaboom");
+
+
+	private static EmeticStream<Integer> zeroToNine()
+	{
+		return emesis(IntStream.range(0, 10).boxed());
+	}
+
+
+	private static List<Integer> zeroTo(int exclusive)
+	{
+		return IntStream.range(0, exclusive).boxed().collect(toList());
+	}
+
+
+	private Throwable thrownBy(Runnable runnable)
+	{
+		try {
+			runnable.run();
+		} catch(Throwable thrown) {
+			return thrown;
+		}
+		fail("should not reach here");
+		return null;
+	}
+
+
+	@Test
+	public void batchesOfSizeWithShortLastBatch()
+	{
+		List<List<Integer>> batches = zeroToNine().batch(4).collect(toList());
+
+		assertThat(batches, contains(asList(0, 1, 2, 3), asList(4, 5, 6, 7), asList(8, 9)));
+	}
+
+
+	@Test
+	public void hugeBatchSizeIsNotPresized()
+	{
+		assertThat(zeroToNine().batch(Integer.MAX_VALUE).collect(toList()), contains(asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)));
+		assertThat(zeroToNine().mapBatched(Integer.MAX_VALUE, b -> b).collect(toList()), contains(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+	}
+
+
+	@Test
+	public void batchesAreDistinctInstances()
+	{
+		List<List<Integer>> batches = zeroToNine().batch(5).collect(toList());
+
+		assertThat(batches.get(0) == batches.get(1), is(false));
+	}
+
+
+	@Test
+	public void emptySourceHasNoBatches()
+	{
+		assertThat(emesis(Stream.empty()).batch(3).collect(toList()), is(empty()));
+	}
+
+
+	@Test
+	public void sizeMustBePositive()
+	{
+		assertThat(thrownBy(() -> zeroToNine().batch(0)), is(instanceOf(IllegalArgumentException.class)));
+		assertThat(thrownBy(() -> zeroToNine().mapBatched(-1, b -> b)), is(instanceOf(IllegalArgumentException.class)));
+	}
+
+
+	@Test
+	public void parallelBatchingPreservesEncounterOrder()
+	{
+		List<List<Integer>> batches = emesis(zeroTo(10_000).stream()).parallel().batch(64).collect(toList());
+
+		List<Integer> flattened = new ArrayList<>();
+		batches.forEach(flattened::addAll);
+
+		assertThat(flattened, is(zeroTo(10_000)));
+		assertThat(batches.stream().map(List::size).collect(toList()), everyItem(is(lessThanOrEqualTo(64))));
+	}
+
+
+	@Test
+	public void mapBatchedFlattensInOrder()
+	{
+		AtomicInteger invocations = new AtomicInteger();
+
+		List<Integer> mapped = zeroToNine()
+				.mapBatched(3, batch -> {
+					invocations.incrementAndGet();
+					return batch.stream().map(i -> i * 10).collect(toList());
+				})
+				.collect(toList());
+
+		assertThat(mapped, contains(0, 10, 20, 30, 40, 50, 60, 70, 80, 90));
+		assertThat(invocations.get(), is(4));
+	}
+
+
+	@Test
+	public void mapBatchedIsSafeWhenTheBatchItselfIsReturned()
+	{
+		List<Integer> mapped = zeroToNine().mapBatched(3, batch -> batch).collect(toList());
+
+		assertThat(mapped, is(zeroTo(10)));
+	}
+
+
+	@Test
+	public void mapBatchedInParallelPreservesEncounterOrder()
+	{
+		List<Integer> mapped = emesis(zeroTo(10_000).stream())
+				.parallel()
+				.mapBatched(100, batch -> batch)
+				.collect(toList());
+
+		assertThat(mapped, is(zeroTo(10_000)));
+	}
+
+
+	@Test
+	public void mapBatchedMayChangeCardinality()
+	{
+		List<Integer> mapped = zeroToNine()
+				.mapBatched(5, batch -> batch.subList(0, 1))
+				.collect(toList());
+
+		assertThat(mapped, contains(0, 5));
+	}
+
+
+	@Test
+	public void nullResultIsTreatedAsEmpty()
+	{
+		List<Integer> mapped = zeroToNine()
+				.<Integer> mapBatched(5, batch -> batch.contains(0) ? null : emptyList())
+				.collect(toList());
+
+		assertThat(mapped, is(empty()));
+	}
+
+
+	@Test
+	public void mapBatchedFailureIsUnchecked()
+	{
+		Throwable thrown = thrownBy(() -> zeroToNine().mapBatched(5, batch -> {
+			throw kaboom;
+		}).collect(toList()));
+
+		assertThat(thrown, is(instanceOf(UncheckedIOException.class)));
+		assertThat(thrown.getCause(), is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void mapBatchedFailureIsRethrownUnchangedWhenSneaky()
+	{
+		Throwable thrown = thrownBy(() -> zeroToNine().sneaky().mapBatched(5, batch -> {
+			throw kaboom;
+		}).collect(toList()));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void batchingIsRetainedThroughFusedBlockingPooledAndSneakyStreams()
+	{
+		assertThat(zeroToNine().map(i -> i).batch(5).count(), is(2L));
+		assertThat(zeroToNine().blocking().batch(5).count(), is(2L));
+		assertThat(zeroToNine().sneaky().batch(5).count(), is(2L));
+		assertThat(zeroToNine().parallel(ForkJoinPool.commonPool()).batch(5).isParallel(), is(true));
+		assertThat(zeroToNine().blocking().mapBatched(5, b -> b).collect(toList()), is(zeroTo(10)));
+		assertThat(zeroToNine().map(i -> i).mapBatched(5, b -> b).collect(toList()), is(zeroTo(10)));
+		assertThat(zeroToNine().parallel(ForkJoinPool.commonPool()).mapBatched(5, b -> b).collect(toList()), is(zeroTo(10)));
+	}
+
+
+	@Test
+	public void closingClosesTheSource()
+	{
+		AtomicInteger closed = new AtomicInteger();
+
+		zeroToNine().onClose(closed::incrementAndGet).batch(2).close();
+
+		assertThat(closed.get(), is(1));
+	}
+
+
+	@Test
+	public void spliteratorEstimatesBatchCount()
+	{
+		Spliterator<List<Integer>> spliterator = zeroToNine().batch(4).spliterator();
+
+		assertThat(spliterator.estimateSize(), is(3L));
+		assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED), is(true));
+		assertThat(emesis(Stream.iterate(0, i -> i + 1)).batch(4).spliterator().estimateSize(), is(Long.MAX_VALUE));
+	}
+}
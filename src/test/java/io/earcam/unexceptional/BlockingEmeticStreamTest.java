@@ -0,0 +1,190 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.EmeticStream.emesis;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class BlockingEmeticStreamTest {
+
+	private final IOException kaboom = new IOException("kaboom");
+
+
+	private static EmeticStream<Integer> zeroToNine()
+	{
+		return emesis(IntStream.range(0, 10).boxed()).blocking();
+	}
+
+
+	private <T> T explode(Object ignored) throws IOException
+	{
+		throw kaboom;
+	}
+
+
+	private Throwable thrownBy(Runnable runnable)
+	{
+		try {
+			runnable.run();
+		} catch(Throwable thrown) {
+			return thrown;
+		}
+		fail("should not reach here");
+		return null;
+	}
+
+
+	@Test
+	public void blockingIsIdempotent()
+	{
+		EmeticStream<Integer> blocking = zeroToNine();
+
+		assertThat(blocking.blocking(), is(sameInstance(blocking)));
+	}
+
+
+	@Test
+	public void parallelAndSequentialAreIdempotent()
+	{
+		EmeticStream<Integer> blocking = zeroToNine();
+		assertThat(blocking.sequential(), is(sameInstance(blocking)));
+
+		EmeticStream<Integer> parallel = blocking.parallel();
+		assertThat(parallel.parallel(), is(sameInstance(parallel)));
+		assertThat(parallel.isParallel(), is(true));
+		assertThat(parallel.sequential().isParallel(), is(false));
+	}
+
+
+	@Test
+	public void blockedWorkersAreCompensatedInParallel()
+	{
+		ForkJoinPool pool = new ForkJoinPool(1);
+		CyclicBarrier barrier = new CyclicBarrier(4);
+		try {
+			List<Integer> arrivals = emesis(IntStream.range(0, 4).boxed())
+					.blocking()
+					.parallel(pool)
+					.map(i -> barrier.await(5, SECONDS))
+					.collect(toList());
+
+			assertThat(arrivals, containsInAnyOrder(0, 1, 2, 3));
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+
+	@Test
+	public void exceptionsAreTranslatedAsPerExceptional()
+	{
+		Throwable thrown = thrownBy(() -> zeroToNine().map(this::explode).collect(toList()));
+
+		assertThat(thrown, is(instanceOf(UncheckedIOException.class)));
+		assertThat(thrown.getCause(), is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void exceptionsAreRethrownUnchangedWhenSneaky()
+	{
+		Throwable thrown = thrownBy(() -> zeroToNine().sneaky().map(this::explode).collect(toList()));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void intermediateOperations()
+	{
+		List<String> peeked = new ArrayList<>();
+		List<String> closed = new ArrayList<>();
+
+		List<Integer> result;
+		try(EmeticStream<Integer> stream = zeroToNine().onClose(() -> closed.add("closed"))) {
+			result = stream
+					.unordered()
+					.filter(i -> i % 3 == 0)
+					.flatMap(i -> Stream.of(i, -i))
+					.sorted(Integer::compare)
+					.peek(i -> peeked.add("" + i))
+					.map(i -> i * 2)
+					.collect(toList());
+		}
+
+		assertThat(result, contains(-18, -12, -6, 0, 0, 6, 12, 18));
+		assertThat(peeked, hasSize(8));
+		assertThat(closed, contains("closed"));
+	}
+
+
+	@Test
+	public void terminalOperations()
+	{
+		List<Integer> each = new ArrayList<>();
+		List<Integer> ordered = new ArrayList<>();
+		zeroToNine().forEach(each::add);
+		zeroToNine().forEachOrdered(ordered::add);
+
+		assertThat(each, hasSize(10));
+		assertThat(ordered, contains(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+		assertThat(zeroToNine().count(), is(10L));
+		assertThat(zeroToNine().allMatch(i -> i < 10), is(true));
+		assertThat(zeroToNine().anyMatch(i -> i == 9), is(true));
+		assertThat(zeroToNine().noneMatch(i -> i == 10), is(true));
+		assertThat(zeroToNine().max(Integer::compare), is(Optional.of(9)));
+		assertThat(zeroToNine().min(Integer::compare), is(Optional.of(0)));
+		assertThat(zeroToNine().reduce(Integer::sum), is(Optional.of(45)));
+		assertThat(zeroToNine().reduce(0, Integer::sum), is(45));
+		assertThat(zeroToNine().collect(ArrayList<Integer>::new, List::add, List::addAll), hasSize(10));
+	}
+
+
+	@Test
+	public void primitiveMappings()
+	{
+		assertThat(zeroToNine().mapToInt(i -> i).sum(), is(45));
+		assertThat(zeroToNine().mapToLong(i -> i).sum(), is(45L));
+		assertThat(zeroToNine().mapToDouble(i -> i).sum(), is(45d));
+		assertThat(zeroToNine().flatMapToInt(IntStream::of).sum(), is(45));
+		assertThat(zeroToNine().flatMapToLong(i -> IntStream.of(i).asLongStream()).sum(), is(45L));
+		assertThat(zeroToNine().flatMapToDouble(i -> IntStream.of(i).asDoubleStream()).sum(), is(45d));
+	}
+}
@@ -0,0 +1,223 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.Exceptional.unwrap;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class BlockingTest {
+
+	private final IOException kaboom = new IOException("kaboom");
+
+
+	private <T> T explode() throws IOException
+	{
+		throw kaboom;
+	}
+
+
+	@Test
+	public void cannotConstructWithoutObjenesis() throws Exception
+	{
+		Constructor<Blocking> constructor = Blocking.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		try {
+			constructor.newInstance();
+			fail("should not reach here");
+		} catch(InvocationTargetException e) {
+			assertThat(unwrap(e), is(instanceOf(IllegalStateException.class)));
+		}
+	}
+
+
+	@Test
+	public void getReturnsOutsideOfAForkJoinPool()
+	{
+		assertThat(Blocking.get(() -> 42), is(42));
+	}
+
+
+	@Test
+	public void getRethrowsOriginal()
+	{
+		try {
+			Blocking.get(this::explode);
+			fail("should not reach here");
+		} catch(IOException e) {
+			assertThat(e, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void errorIsRethrownUnchanged()
+	{
+		OutOfMemoryError oome = new OutOfMemoryError();
+		try {
+			Blocking.run(() -> {
+				throw oome;
+			});
+			fail("should not reach here");
+		} catch(OutOfMemoryError e) {
+			assertThat(e, is(sameInstance(oome)));
+		}
+	}
+
+
+	@Test
+	public void poolCompensatesForManagedBlocks() throws Exception
+	{
+		ForkJoinPool pool = new ForkJoinPool(1);
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		try {
+			ForkJoinTask<Integer> first = pool.submit(() -> Blocking.get(() -> barrier.await(5, SECONDS)));
+			ForkJoinTask<Integer> second = pool.submit(() -> Blocking.get(() -> barrier.await(5, SECONDS)));
+
+			assertThat(first.get() + second.get(), is(1));
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+
+	@Test
+	public void runnable()
+	{
+		AtomicInteger counter = new AtomicInteger();
+
+		Blocking.<RuntimeException> runnable(counter::incrementAndGet).run();
+
+		assertThat(counter.get(), is(1));
+	}
+
+
+	@Test
+	public void supplier()
+	{
+		assertThat(Blocking.<String, RuntimeException> supplier(() -> "supplied").get(), is("supplied"));
+	}
+
+
+	@Test
+	public void function() throws IOException
+	{
+		assertThat(Blocking.<String, Integer, IOException> function(String::length).apply("four"), is(4));
+	}
+
+
+	@Test
+	public void functionRethrowsOriginal()
+	{
+		try {
+			Blocking.<String, Integer, IOException> function(s -> explode()).apply("four");
+			fail("should not reach here");
+		} catch(IOException e) {
+			assertThat(e, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void biFunction() throws IOException
+	{
+		assertThat(Blocking.<String, String, String, IOException> biFunction(String::concat).apply("a", "b"), is("ab"));
+	}
+
+
+	@Test
+	public void binaryOperator() throws IOException
+	{
+		assertThat(Blocking.<Integer, IOException> binaryOperator(Integer::sum).apply(40, 2), is(42));
+	}
+
+
+	@Test
+	public void toDoubleFunction() throws IOException
+	{
+		assertThat(Blocking.<String, IOException> toDoubleFunction(Double::parseDouble).applyAsDouble("4.2"), is(4.2d));
+	}
+
+
+	@Test
+	public void toIntFunction() throws IOException
+	{
+		assertThat(Blocking.<String, IOException> toIntFunction(Integer::parseInt).applyAsInt("42"), is(42));
+	}
+
+
+	@Test
+	public void toLongFunction() throws IOException
+	{
+		assertThat(Blocking.<String, IOException> toLongFunction(Long::parseLong).applyAsLong("42"), is(42L));
+	}
+
+
+	@Test
+	public void consumer() throws IOException
+	{
+		List<String> accepted = new ArrayList<>();
+
+		Blocking.<String, IOException> consumer(accepted::add).accept("accepted");
+
+		assertThat(accepted, contains("accepted"));
+	}
+
+
+	@Test
+	public void biConsumer() throws IOException
+	{
+		List<String> accepted = new ArrayList<>();
+
+		Blocking.<List<String>, String, IOException> biConsumer(List::add).accept(accepted, "accepted");
+
+		assertThat(accepted, contains("accepted"));
+	}
+
+
+	@Test
+	public void predicate() throws IOException
+	{
+		assertThat(Blocking.<String, IOException> predicate(String::isEmpty).test(""), is(true));
+	}
+
+
+	@Test
+	public void comparator() throws IOException
+	{
+		assertThat(Blocking.<Integer, IOException> comparator(Integer::compare).compare(1, 2), is(-1));
+	}
+}
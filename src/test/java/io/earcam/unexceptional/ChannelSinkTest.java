@@ -0,0 +1,283 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class ChannelSinkTest {
+
+	private static final class CountingChannel implements GatheringByteChannel {
+
+		private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		private final WritableByteChannel target = Channels.newChannel(out);
+		private int writes;
+
+
+		@Override
+		public boolean isOpen()
+		{
+			return true;
+		}
+
+
+		@Override
+		public void close()
+		{}
+
+
+		@Override
+		public int write(ByteBuffer src) throws IOException
+		{
+			++writes;
+			return target.write(src);
+		}
+
+
+		@Override
+		public long write(ByteBuffer[] srcs, int offset, int length) throws IOException
+		{
+			++writes;
+			long written = 0;
+			for(int i = offset; i < offset + length; i++) {
+				written += target.write(srcs[i]);
+			}
+			return written;
+		}
+
+
+		@Override
+		public long write(ByteBuffer[] srcs) throws IOException
+		{
+			return write(srcs, 0, srcs.length);
+		}
+
+
+		String content()
+		{
+			return new String(out.toByteArray(), UTF_8);
+		}
+	}
+
+
+	private static void line(String text, ByteBuffer buffer)
+	{
+		buffer.put((text + '\n').getBytes(UTF_8));
+	}
+
+
+	private static Stream<String> lines(int count)
+	{
+		return IntStream.range(0, count).mapToObj(i -> "record " + i);
+	}
+
+
+	private static String expected(int count)
+	{
+		return lines(count).map(l -> l + '\n').collect(joining());
+	}
+
+
+	@Test
+	public void writesEveryRecordInOrder()
+	{
+		CountingChannel channel = new CountingChannel();
+
+		long written = EmeticStream.emesis(lines(10_000)).writeTo(channel, ChannelSinkTest::line);
+
+		assertThat(channel.content(), is(expected(10_000)));
+		assertThat(written, is((long) expected(10_000).length()));
+	}
+
+
+	@Test
+	public void gathersManyRecordsPerWrite()
+	{
+		CountingChannel channel = new CountingChannel();
+
+		EmeticStream.emesis(lines(100_000)).writeTo(channel, ChannelSinkTest::line);
+
+		assertThat(channel.writes, is(lessThanOrEqualTo(2)));
+	}
+
+
+	@Test
+	public void flushesAtRecordThreshold()
+	{
+		CountingChannel channel = new CountingChannel();
+
+		EmeticStream.emesis(lines(100)).writeTo(channel, ChannelSinkTest::line, 1024 * 1024, 10, false);
+
+		assertThat(channel.writes, is(10));
+		assertThat(channel.content(), is(expected(100)));
+	}
+
+
+	@Test
+	public void flushesAtByteThreshold()
+	{
+		CountingChannel channel = new CountingChannel();
+
+		EmeticStream.emesis(lines(1000)).writeTo(channel, ChannelSinkTest::line, 100, Integer.MAX_VALUE, false);
+
+		assertThat(channel.content(), is(expected(1000)));
+		assertThat(channel.writes, is(lessThanOrEqualTo(expected(1000).length() / 90 + 1)));
+	}
+
+
+	@Test
+	public void recordLargerThanBufferIsWrittenWhole()
+	{
+		CountingChannel channel = new CountingChannel();
+		String large = new String(new char[100]).replace('\0', 'x');
+
+		EmeticStream.emesis(Stream.of("small", large, "after")).writeTo(channel, ChannelSinkTest::line, 16, Integer.MAX_VALUE, false);
+
+		assertThat(channel.content(), is("small\n" + large + "\nafter\n"));
+	}
+
+
+	@Test
+	public void writesToNonGatheringChannel()
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		EmeticStream.emesis(lines(5000)).writeTo(Channels.newChannel(out), ChannelSinkTest::line, 1000, Integer.MAX_VALUE, false);
+
+		assertThat(new String(out.toByteArray(), UTF_8), is(expected(5000)));
+	}
+
+
+	@Test
+	public void parallelStreamIsWrittenInEncounterOrder()
+	{
+		CountingChannel channel = new CountingChannel();
+
+		EmeticStream.emesis(lines(10_000)).parallel().writeTo(channel, ChannelSinkTest::line);
+
+		assertThat(channel.content(), is(expected(10_000)));
+	}
+
+
+	@Test
+	public void forcesFileChannel() throws IOException
+	{
+		Path file = Files.createTempFile(ChannelSinkTest.class.getSimpleName(), ".log");
+		try {
+			try(FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+				EmeticStream.emesis(lines(1000)).writeTo(channel, ChannelSinkTest::line, 4096, Integer.MAX_VALUE, true);
+			}
+			assertThat(new String(Files.readAllBytes(file), UTF_8), is(expected(1000)));
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+
+	@Test
+	public void encoderFailureIsUnchecked()
+	{
+		IOException kaboom = new IOException("kaboom");
+
+		UncheckedIOException thrown = assertThrows(UncheckedIOException.class, () -> EmeticStream.emesis(lines(10)).writeTo(new CountingChannel(), (l, b) -> {
+			throw kaboom;
+		}));
+
+		assertThat(thrown.getCause(), is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void sneakyEncoderFailureIsRethrownAsIs()
+	{
+		IOException kaboom = new IOException("kaboom");
+
+		try {
+			EmeticStream.emesis(lines(10)).sneaky().writeTo(new CountingChannel(), (l, b) -> {
+				throw kaboom;
+			});
+		} catch(Exception e) {
+			assertThat(e, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void tolerantEncoderFailureDiscardsPartialRecord()
+	{
+		CountingChannel channel = new CountingChannel();
+		List<Failure<?>> failures = new ArrayList<>();
+
+		EmeticStream.emesis(Stream.of("a", "b", "c")).onError(failures::add).writeTo(channel, (l, b) -> {
+			line(l, b);
+			if(l.equals("b")) {
+				throw new IOException("kaboom");
+			}
+		});
+
+		assertThat(channel.content(), is("a\nc\n"));
+		assertThat(failures.size(), is(1));
+		assertThat(failures.get(0).element(), is("b"));
+	}
+
+
+	@Test
+	public void tolerantModeStillRetriesOverflow()
+	{
+		CountingChannel channel = new CountingChannel();
+		List<Failure<?>> failures = new ArrayList<>();
+
+		EmeticStream.emesis(lines(1000)).onError(failures::add).writeTo(channel, ChannelSinkTest::line, 100, Integer.MAX_VALUE, false);
+
+		assertThat(channel.content(), is(expected(1000)));
+		assertThat(failures, contains());
+	}
+
+
+	@Test
+	public void nonPositiveThresholds()
+	{
+		assertThrows(IllegalArgumentException.class, () -> EmeticStream.emesis(lines(1)).writeTo(new CountingChannel(), ChannelSinkTest::line, 0, 1, false));
+		assertThrows(IllegalArgumentException.class, () -> EmeticStream.emesis(lines(1)).writeTo(new CountingChannel(), ChannelSinkTest::line, 1, 0, false));
+	}
+}
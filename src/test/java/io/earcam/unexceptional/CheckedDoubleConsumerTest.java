@@ -0,0 +1,54 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CheckedDoubleConsumerTest {
+
+	@Test
+	public void andThen() throws Throwable
+	{
+		List<String> accepted = new ArrayList<>();
+		CheckedDoubleConsumer<Throwable> first = v -> accepted.add("first " + v);
+		CheckedDoubleConsumer<Throwable> second = v -> accepted.add("second " + v);
+
+		first.andThen(second).accept(2d);
+
+		assertThat(accepted, contains("first " + 2d, "second " + 2d));
+	}
+
+
+	@Test
+	public void andThenEagerlyThrowsNullPointerWhenAfterIsNull()
+	{
+		CheckedDoubleConsumer<Throwable> consumer = v -> {};
+		try {
+			consumer.andThen(null);
+			fail("should not reach here");
+		} catch(NullPointerException npe) {}
+	}
+}
@@ -0,0 +1,112 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+import org.junit.jupiter.api.Test;
+
+public class CheckedDoublePredicateTest {
+
+	private static final CheckedDoublePredicate<Throwable> POSITIVE = (CheckedDoublePredicate<Throwable> & Serializable) v -> v > 0;
+	private static final CheckedDoublePredicate<Throwable> EVEN = (CheckedDoublePredicate<Throwable> & Serializable) v -> v % 2 == 0;
+
+
+	@Test
+	public void and() throws Throwable
+	{
+		assertThat(POSITIVE.and(EVEN).test(2d), is(true));
+	}
+
+
+	@Test
+	public void andLastFails() throws Throwable
+	{
+		assertThat(POSITIVE.and(EVEN).test(3d), is(false));
+	}
+
+
+	@Test
+	public void andShortCircuits() throws Throwable
+	{
+		CheckedDoublePredicate<IOException> explosive = v -> {
+			throw new IOException();
+		};
+
+		assertThat(POSITIVE.negate().and(explosive).test(2d), is(false));
+	}
+
+
+	@Test
+	public void or() throws Throwable
+	{
+		assertThat(POSITIVE.or(EVEN).test(-3d), is(false));
+	}
+
+
+	@Test
+	public void orLastSucceeds() throws Throwable
+	{
+		assertThat(POSITIVE.or(EVEN).test(-2d), is(true));
+	}
+
+
+	@Test
+	public void negate() throws Throwable
+	{
+		assertThat(POSITIVE.negate().test(2d), is(false));
+	}
+
+
+	@Test
+	public void compositeIsSerializable() throws Throwable
+	{
+		CheckedDoublePredicate<Throwable> composite = POSITIVE.and(EVEN).negate();
+
+		@SuppressWarnings("unchecked")
+		CheckedDoublePredicate<Throwable> deserialized = SerialCodec.deserialize(SerialCodec.serialize(composite), CheckedDoublePredicate.class);
+
+		assertThat(deserialized.test(3d), is(true));
+	}
+
+
+	@Test
+	public void andEagerlyThrowsNullPointerWhenOtherIsNull()
+	{
+		try {
+			POSITIVE.and(null);
+			fail("should not reach here");
+		} catch(NullPointerException npe) {}
+	}
+
+
+	@Test
+	public void orEagerlyThrowsNullPointerWhenOtherIsNull()
+	{
+		try {
+			POSITIVE.or(null);
+			fail("should not reach here");
+		} catch(NullPointerException npe) {}
+	}
+}
@@ -0,0 +1,72 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import org.junit.jupiter.api.Test;
+
+public class CheckedLongUnaryOperatorTest {
+
+	private static final CheckedLongUnaryOperator<Throwable> INCREMENT = v -> v + 1;
+	private static final CheckedLongUnaryOperator<Throwable> DOUBLE = v -> v * 2;
+
+
+	@Test
+	public void compose() throws Throwable
+	{
+		assertThat(INCREMENT.compose(DOUBLE).applyAsLong(3L), is((long) 7));
+	}
+
+
+	@Test
+	public void andThen() throws Throwable
+	{
+		assertThat(INCREMENT.andThen(DOUBLE).applyAsLong(3L), is((long) 8));
+	}
+
+
+	@Test
+	public void identity() throws Throwable
+	{
+		assertThat(CheckedLongUnaryOperator.identity().applyAsLong(3L), is(3L));
+	}
+
+
+	@Test
+	public void composeEagerlyThrowsNullPointerWhenBeforeIsNull()
+	{
+		try {
+			INCREMENT.compose(null);
+			fail("should not reach here");
+		} catch(NullPointerException npe) {}
+	}
+
+
+	@Test
+	public void andThenEagerlyThrowsNullPointerWhenAfterIsNull()
+	{
+		try {
+			INCREMENT.andThen(null);
+			fail("should not reach here");
+		} catch(NullPointerException npe) {}
+	}
+}
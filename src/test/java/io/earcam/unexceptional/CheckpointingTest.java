@@ -0,0 +1,277 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.EmeticStream.emesis;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CheckpointingTest {
+
+	private Path directory;
+	private Path checkpoint;
+
+
+	@BeforeEach
+	public void createDirectory() throws IOException
+	{
+		directory = Files.createTempDirectory(CheckpointingTest.class.getSimpleName());
+		checkpoint = directory.resolve("job.checkpoint");
+	}
+
+
+	@AfterEach
+	public void deleteDirectory() throws IOException
+	{
+		try(Stream<Path> walked = Files.walk(directory)) {
+			walked.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+		}
+	}
+
+
+	private static EmeticStream<Integer> zeroTo(int exclusive)
+	{
+		return emesis(IntStream.range(0, exclusive).boxed());
+	}
+
+
+	private static byte[] serialize(Long sum)
+	{
+		return ByteBuffer.allocate(Long.BYTES).putLong(sum).array();
+	}
+
+
+	private static Long deserialize(byte[] bytes)
+	{
+		return ByteBuffer.wrap(bytes).getLong();
+	}
+
+
+	private long sum(EmeticStream<Integer> stream, CheckedBiFunction<Long, Integer, Long, ?> accumulator)
+	{
+		return stream.reduceCheckpointed(checkpoint, 10, 0L, accumulator, CheckpointingTest::serialize, CheckpointingTest::deserialize);
+	}
+
+
+	private long checkpointedPosition() throws IOException
+	{
+		return ByteBuffer.wrap(Files.readAllBytes(checkpoint)).getLong();
+	}
+
+
+	private Throwable thrownBy(Runnable runnable)
+	{
+		try {
+			runnable.run();
+		} catch(Throwable thrown) {
+			return thrown;
+		}
+		fail("should not reach here");
+		return null;
+	}
+
+
+	@Test
+	public void completedReductionDeletesCheckpoint()
+	{
+		long sum = sum(zeroTo(1_000), (s, i) -> s + i);
+
+		assertThat(sum, is(LongStream.range(0, 1_000).sum()));
+		assertThat(Files.exists(checkpoint), is(false));
+	}
+
+
+	@Test
+	public void failedReductionResumesFromFailedElement() throws IOException
+	{
+		IOException kaboom = new IOException("kaboom");
+		List<Integer> resumed = new ArrayList<>();
+
+		Throwable thrown = thrownBy(() -> sum(zeroTo(100), (s, i) -> {
+			if(i == 37) {
+				throw kaboom;
+			}
+			return s + i;
+		}));
+
+		assertThat(thrown, is(instanceOf(UncheckedIOException.class)));
+		assertThat(thrown.getCause(), is(sameInstance(kaboom)));
+		assertThat(checkpointedPosition(), is(37L));
+
+		long sum = sum(zeroTo(100), (s, i) -> {
+			resumed.add(i);
+			return s + i;
+		});
+
+		assertThat(sum, is(LongStream.range(0, 100).sum()));
+		assertThat(resumed.get(0), is(37));
+		assertThat(resumed.size(), is(63));
+	}
+
+
+	@Test
+	public void checkpointsArePersistedPeriodicallyInBackground() throws Exception
+	{
+		long[] persisted = new long[1];
+
+		sum(zeroTo(100), (s, i) -> {
+			if(i == 55) {
+				long deadline = System.nanoTime() + 10_000_000_000L;
+				while(!Files.exists(checkpoint) && System.nanoTime() < deadline) {
+					Thread.sleep(1);
+				}
+				persisted[0] = checkpointedPosition();
+			}
+			return s + i;
+		});
+
+		assertThat(persisted[0], is(greaterThanOrEqualTo(10L)));
+		assertThat(persisted[0], is(lessThanOrEqualTo(50L)));
+		assertThat(persisted[0] % 10, is(0L));
+	}
+
+
+	@Test
+	public void forEachCheckpointedResumes()
+	{
+		List<Integer> consumed = new ArrayList<>();
+
+		thrownBy(() -> zeroTo(20).forEachCheckpointed(checkpoint, 5, i -> {
+			if(i == 12) {
+				throw new IOException("kaboom");
+			}
+			consumed.add(i);
+		}));
+		zeroTo(20).forEachCheckpointed(checkpoint, 5, consumed::add);
+
+		assertThat(consumed, is(IntStream.range(0, 20).boxed().collect(toList())));
+		assertThat(Files.exists(checkpoint), is(false));
+	}
+
+
+	@Test
+	public void sneakyFailurePropagatesUnchanged() throws IOException
+	{
+		IOException kaboom = new IOException("kaboom");
+
+		Throwable thrown = thrownBy(() -> sum(zeroTo(100).sneaky(), (s, i) -> {
+			if(i == 3) {
+				throw kaboom;
+			}
+			return s + i;
+		}));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+		assertThat(checkpointedPosition(), is(3L));
+	}
+
+
+	@Test
+	public void parallelIsEvaluatedSequentially()
+	{
+		List<Integer> consumed = new ArrayList<>();
+
+		zeroTo(1_000).parallel().forEachCheckpointed(checkpoint, 10, consumed::add);
+
+		assertThat(consumed, is(IntStream.range(0, 1_000).boxed().collect(toList())));
+	}
+
+
+	@Test
+	public void tolerantForEachCheckpointedDivertsFailures()
+	{
+		List<Failure<?>> failures = new ArrayList<>();
+		List<Integer> consumed = new ArrayList<>();
+
+		zeroTo(6).onError(failures::add).forEachCheckpointed(checkpoint, 2, i -> {
+			if(i % 2 != 0) {
+				throw new IOException("odd");
+			}
+			consumed.add(i);
+		});
+
+		assertThat(consumed, contains(0, 2, 4));
+		assertThat(failures.size(), is(3));
+	}
+
+
+	@Test
+	public void corruptCheckpointIsRejected() throws IOException
+	{
+		Files.write(checkpoint, new byte[] { 0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1, 2, 3, 4 });
+
+		UncheckedIOException thrown = assertThrows(UncheckedIOException.class, () -> sum(zeroTo(10), (s, i) -> s + i));
+
+		assertThat(thrown.getMessage(), containsString("corrupt checkpoint"));
+	}
+
+
+	@Test
+	public void truncatedCheckpointIsRejected() throws IOException
+	{
+		Files.write(checkpoint, new byte[] { 0, 0, 0 });
+
+		assertThrows(UncheckedIOException.class, () -> sum(zeroTo(10), (s, i) -> s + i));
+	}
+
+
+	@Test
+	public void checkpointWriteFailureIsRaised()
+	{
+		checkpoint = directory.resolve("missing").resolve("job.checkpoint");
+
+		Throwable thrown = thrownBy(() -> sum(zeroTo(1_000), (s, i) -> s + i));
+
+		assertThat(thrown, is(instanceOf(UncheckedIOException.class)));
+		assertThat(thrown.getCause(), is(instanceOf(NoSuchFileException.class)));
+	}
+
+
+	@Test
+	public void invalidInterval()
+	{
+		assertThrows(IllegalArgumentException.class, () -> zeroTo(10).forEachCheckpointed(checkpoint, 0, i -> {}));
+	}
+}
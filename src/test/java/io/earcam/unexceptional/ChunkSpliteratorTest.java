@@ -0,0 +1,324 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+public class ChunkSpliteratorTest {
+
+	private static byte[] bytes(int size)
+	{
+		byte[] bytes = new byte[size];
+		new Random(size).nextBytes(bytes);
+		return bytes;
+	}
+
+
+	private static ReadableByteChannel channel(byte[] bytes)
+	{
+		return Channels.newChannel(new ByteArrayInputStream(bytes));
+	}
+
+
+	private static byte[] reassembled(EmeticStream<Chunk> chunks)
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		chunks.forEach(c -> {
+			try(Chunk chunk = c) {
+				assertThat(chunk.position(), is((long) out.size()));
+				ByteBuffer buffer = chunk.buffer();
+				byte[] read = new byte[buffer.remaining()];
+				buffer.get(read);
+				out.write(read);
+			}
+		});
+		return out.toByteArray();
+	}
+
+
+	@Test
+	public void readsAllBytesInOrder()
+	{
+		byte[] bytes = bytes(10_000);
+
+		try(EmeticStream<Chunk> chunks = EmeticStream.chunks(channel(bytes), 1024)) {
+			assertThat(reassembled(chunks), is(bytes));
+		}
+	}
+
+
+	@Test
+	public void readsFromInputStream()
+	{
+		byte[] bytes = bytes(4096);
+
+		try(EmeticStream<Chunk> chunks = EmeticStream.chunks(new ByteArrayInputStream(bytes), 1024)) {
+			assertThat(reassembled(chunks), is(bytes));
+		}
+	}
+
+
+	@Test
+	public void chunksAreFilledDespiteShortReads()
+	{
+		byte[] bytes = bytes(1000);
+		ReadableByteChannel trickle = new ReadableByteChannel() {
+			int read;
+
+
+			@Override
+			public boolean isOpen()
+			{
+				return true;
+			}
+
+
+			@Override
+			public void close()
+			{}
+
+
+			@Override
+			public int read(ByteBuffer dst)
+			{
+				if(read == bytes.length) {
+					return -1;
+				}
+				dst.put(bytes[read++]);
+				return 1;
+			}
+		};
+
+		List<Integer> sizes;
+		try(EmeticStream<Chunk> chunks = EmeticStream.chunks(trickle, 300)) {
+			sizes = chunks.map(c -> {
+				try(Chunk chunk = c) {
+					return chunk.buffer().remaining();
+				}
+			}).collect(toList());
+		}
+
+		assertThat(sizes, contains(300, 300, 300, 100));
+	}
+
+
+	@Test
+	public void emptyChannelHasNoChunks()
+	{
+		try(EmeticStream<Chunk> chunks = EmeticStream.chunks(channel(new byte[0]), 64)) {
+			assertThat(chunks.collect(toList()), is(empty()));
+		}
+	}
+
+
+	@Test
+	public void exactMultipleHasNoEmptyTrailingChunk()
+	{
+		try(EmeticStream<Chunk> chunks = EmeticStream.chunks(channel(bytes(256)), 64)) {
+			assertThat(chunks.peek(Chunk::release).collect(toList()).size(), is(4));
+		}
+	}
+
+
+	@Test
+	public void releasedBuffersAreReused()
+	{
+		Set<ByteBuffer> buffers = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		try(EmeticStream<Chunk> chunks = EmeticStream.chunks(channel(bytes(100_000)), 100, 4)) {
+			chunks.forEach(c -> {
+				try(Chunk chunk = c) {
+					assertThat(chunk.buffer().isDirect(), is(true));
+					buffers.add(chunk.buffer());
+				}
+			});
+		}
+
+		assertThat(buffers.size(), is(lessThanOrEqualTo(4)));
+	}
+
+
+	@Test
+	public void releaseIsIdempotent()
+	{
+		try(EmeticStream<Chunk> chunks = EmeticStream.chunks(channel(bytes(300)), 100, 2)) {
+			Iterator<Chunk> iterator = chunks.iterator();
+			Chunk first = iterator.next();
+			first.release();
+			first.release();
+			Chunk second = iterator.next();
+			Chunk third = iterator.next();
+
+			assertThat(second.buffer(), is(sameInstance(first.buffer())));
+			assertThat(third.buffer(), is(not(sameInstance(first.buffer()))));
+		}
+	}
+
+
+	@Test
+	public void staleReleaseAfterReuseHasNoEffect()
+	{
+		byte[] bytes = bytes(300);
+		try(EmeticStream<Chunk> chunks = EmeticStream.chunks(channel(bytes), 100, 2)) {
+			Iterator<Chunk> iterator = chunks.iterator();
+			Chunk first = iterator.next();
+			first.release();
+			Chunk second = iterator.next();
+			first.release();
+			Chunk third = iterator.next();
+
+			assertThat(second.buffer(), is(sameInstance(first.buffer())));
+			assertThat(third.buffer(), is(not(sameInstance(second.buffer()))));
+			assertThat(second.buffer().get(0), is(bytes[100]));
+			assertThat(third.buffer().get(0), is(bytes[200]));
+		}
+	}
+
+
+	@Test
+	public void exhaustedPoolWaitsForRelease() throws Exception
+	{
+		try(EmeticStream<Chunk> chunks = EmeticStream.chunks(channel(bytes(200)), 100, 1)) {
+			Iterator<Chunk> iterator = chunks.iterator();
+			Chunk first = iterator.next();
+			AtomicBoolean released = new AtomicBoolean();
+
+			CompletableFuture.runAsync(() -> {
+				Exceptional.run(() -> TimeUnit.MILLISECONDS.sleep(50));
+				released.set(true);
+				first.release();
+			});
+			Chunk second = iterator.next();
+
+			assertThat(released.get(), is(true));
+			assertThat(second.position(), is(100L));
+		}
+	}
+
+
+	@Test
+	public void closeReleasesOutstandingChunksAndClosesChannel()
+	{
+		ReadableByteChannel channel = channel(bytes(200));
+		EmeticStream<Chunk> chunks = EmeticStream.chunks(channel, 100, 1);
+		Chunk held = chunks.iterator().next();
+
+		chunks.close();
+
+		assertThat(channel.isOpen(), is(false));
+		held.release();
+	}
+
+
+	@Test
+	public void closeUnblocksWaitingReader() throws Exception
+	{
+		EmeticStream<Chunk> chunks = EmeticStream.chunks(channel(bytes(200)), 100, 1);
+		Iterator<Chunk> iterator = chunks.iterator();
+		iterator.next();
+
+		CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(iterator::hasNext);
+		TimeUnit.MILLISECONDS.sleep(50);
+		chunks.close();
+
+		assertThat(waiting.get(5, TimeUnit.SECONDS), is(false));
+	}
+
+
+	@Test
+	public void readFailureIsUnchecked()
+	{
+		IOException kaboom = new IOException("kaboom");
+		ReadableByteChannel failing = new ReadableByteChannel() {
+
+			@Override
+			public boolean isOpen()
+			{
+				return true;
+			}
+
+
+			@Override
+			public void close()
+			{}
+
+
+			@Override
+			public int read(ByteBuffer dst) throws IOException
+			{
+				throw kaboom;
+			}
+		};
+
+		EmeticStream<Chunk> chunks = EmeticStream.chunks(failing, 100);
+		UncheckedIOException thrown = assertThrows(UncheckedIOException.class, () -> chunks.collect(toList()));
+
+		assertThat(thrown.getCause(), is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void nonPositiveSizes()
+	{
+		ReadableByteChannel channel = channel(new byte[0]);
+
+		assertThrows(IllegalArgumentException.class, () -> EmeticStream.chunks(channel, 0));
+		assertThrows(IllegalArgumentException.class, () -> EmeticStream.chunks(channel, 1, 0));
+	}
+
+
+	@Test
+	public void nonBlockingChannelIsRejected() throws IOException
+	{
+		Pipe pipe = Pipe.open();
+		try(Pipe.SinkChannel sink = pipe.sink(); Pipe.SourceChannel source = pipe.source()) {
+			source.configureBlocking(false);
+
+			assertThrows(IllegalArgumentException.class, () -> EmeticStream.chunks(source, 100));
+		}
+	}
+}
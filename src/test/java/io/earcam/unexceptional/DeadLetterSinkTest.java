@@ -0,0 +1,353 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.EmeticStream.emesis;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DeadLetterSinkTest {
+
+	private Path directory;
+
+
+	@BeforeEach
+	public void createDirectory() throws IOException
+	{
+		directory = Files.createTempDirectory(DeadLetterSinkTest.class.getSimpleName());
+	}
+
+
+	@AfterEach
+	public void deleteDirectory() throws IOException
+	{
+		try(Stream<Path> walked = Files.walk(directory)) {
+			walked.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+		}
+	}
+
+
+	private static byte[] serialize(Integer i)
+	{
+		return Integer.toString(i).getBytes(UTF_8);
+	}
+
+
+	private static Integer deserialize(byte[] bytes)
+	{
+		return Integer.valueOf(new String(bytes, UTF_8));
+	}
+
+
+	private static Integer rejectOdd(Integer i) throws IOException
+	{
+		if(i % 2 != 0) {
+			throw new IOException("odd " + i);
+		}
+		return i;
+	}
+
+
+	private List<Integer> replayed()
+	{
+		try(EmeticStream<Integer> replay = EmeticStream.replay(directory, DeadLetterSinkTest::deserialize)) {
+			return replay.collect(toList());
+		}
+	}
+
+
+	@Test
+	public void failedElementsAreReplayed() throws IOException
+	{
+		List<Integer> mapped;
+		try(DeadLetterSink<Integer> sink = DeadLetterSink.open(directory, DeadLetterSinkTest::serialize)) {
+			mapped = emesis(IntStream.range(0, 10).boxed())
+					.onError(sink)
+					.map(DeadLetterSinkTest::rejectOdd)
+					.collect(toList());
+		}
+
+		assertThat(mapped, contains(0, 2, 4, 6, 8));
+		assertThat(replayed(), contains(1, 3, 5, 7, 9));
+	}
+
+
+	@Test
+	public void rollsSegments() throws IOException
+	{
+		try(DeadLetterSink<Integer> sink = DeadLetterSink.open(directory, DeadLetterSinkTest::serialize, 256)) {
+			emesis(IntStream.range(0, 1_000).boxed())
+					.onError(sink)
+					.forEach(i -> {
+						throw new IOException("kaboom");
+					});
+		}
+
+		assertThat(DeadLetterSink.segments(directory).size(), is(greaterThan(1)));
+		assertThat(replayed(), is(IntStream.range(0, 1_000).boxed().collect(toList())));
+	}
+
+
+	@Test
+	public void parallelFailuresAreAllRecorded() throws IOException
+	{
+		try(DeadLetterSink<Integer> sink = DeadLetterSink.open(directory, DeadLetterSinkTest::serialize, 4_096)) {
+			emesis(IntStream.range(0, 10_000).boxed())
+					.parallel()
+					.onError(sink)
+					.map(DeadLetterSinkTest::rejectOdd)
+					.count();
+		}
+
+		List<Integer> replayed = replayed();
+		assertThat(replayed, hasSize(5_000));
+		assertThat(replayed.stream().sorted().collect(toList()),
+				is(IntStream.range(0, 10_000).filter(i -> i % 2 != 0).boxed().collect(toList())));
+	}
+
+
+	@Test
+	public void recordsLargerThanBufferAreWritten() throws IOException
+	{
+		byte[] large = new byte[DeadLetterSink.DEFAULT_BUFFER_SIZE * 2];
+		large[large.length - 1] = 42;
+		try(DeadLetterSink<byte[]> sink = DeadLetterSink.open(directory, b -> b)) {
+			sink.accept(new Failure<>(new byte[] { 1 }, new IOException()));
+			sink.accept(new Failure<>(large, new IOException()));
+			sink.accept(new Failure<>(new byte[] { 2 }, new IOException()));
+		}
+
+		List<byte[]> replayed = EmeticStream.replay(directory, b -> b).collect(toList());
+
+		assertThat(replayed, hasSize(3));
+		assertThat(replayed.get(0)[0], is((byte) 1));
+		assertThat(replayed.get(1).length, is(large.length));
+		assertThat(replayed.get(1)[large.length - 1], is((byte) 42));
+		assertThat(replayed.get(2)[0], is((byte) 2));
+	}
+
+
+	@Test
+	public void reopeningStartsNewSegment() throws IOException
+	{
+		try(DeadLetterSink<Integer> sink = DeadLetterSink.open(directory, DeadLetterSinkTest::serialize)) {
+			sink.accept(new Failure<>(1, new IOException()));
+		}
+		try(DeadLetterSink<Integer> sink = DeadLetterSink.open(directory, DeadLetterSinkTest::serialize)) {
+			sink.accept(new Failure<>(2, new IOException()));
+		}
+
+		assertThat(DeadLetterSink.segments(directory), hasSize(2));
+		assertThat(replayed(), contains(1, 2));
+	}
+
+
+	@Test
+	public void tornTrailingRecordIsIgnored() throws IOException
+	{
+		try(DeadLetterSink<Integer> sink = DeadLetterSink.open(directory, DeadLetterSinkTest::serialize)) {
+			sink.accept(new Failure<>(1, new IOException()));
+			sink.accept(new Failure<>(2, new IOException()));
+		}
+		Path segment = DeadLetterSink.segments(directory).get(0);
+		byte[] bytes = Files.readAllBytes(segment);
+		Files.write(segment, new byte[] { 0, 0, 0, 9, 0, 0 }, APPEND);
+
+		assertThat(replayed(), contains(1, 2));
+
+		bytes[bytes.length - 1] ^= 1;
+		Files.write(segment, bytes);
+
+		assertThat(replayed(), contains(1));
+	}
+
+
+	@Test
+	public void corruptRecordBeforeTheLastFailsReplay() throws IOException
+	{
+		try(DeadLetterSink<Integer> sink = DeadLetterSink.open(directory, DeadLetterSinkTest::serialize)) {
+			sink.accept(new Failure<>(1, new IOException()));
+			sink.accept(new Failure<>(2, new IOException()));
+		}
+		Path segment = DeadLetterSink.segments(directory).get(0);
+		byte[] bytes = Files.readAllBytes(segment);
+		bytes[12] ^= 1;
+		Files.write(segment, bytes);
+
+		UncheckedIOException thrown = assertThrows(UncheckedIOException.class, this::replayed);
+
+		assertThat(thrown.getCause().getMessage(), startsWith("Corrupt record at offset 0 of " + segment));
+	}
+
+
+	@Test
+	public void corruptLengthBeforeTheLastFailsReplay() throws IOException
+	{
+		try(DeadLetterSink<Integer> sink = DeadLetterSink.open(directory, DeadLetterSinkTest::serialize)) {
+			sink.accept(new Failure<>(1, new IOException()));
+			sink.accept(new Failure<>(2, new IOException()));
+		}
+		Path segment = DeadLetterSink.segments(directory).get(0);
+		byte[] bytes = Files.readAllBytes(segment);
+		bytes[1] ^= 1;
+		Files.write(segment, bytes);
+
+		UncheckedIOException thrown = assertThrows(UncheckedIOException.class, this::replayed);
+
+		assertThat(thrown.getCause().getMessage(), is("Corrupt record at offset 0 of " + segment + ": length exceeds segment"));
+	}
+
+
+	@Test
+	public void failuresAreReplayedWithTheirSummaries() throws IOException
+	{
+		try(DeadLetterSink<Integer> sink = DeadLetterSink.open(directory, DeadLetterSinkTest::serialize)) {
+			emesis(IntStream.range(0, 4).boxed())
+					.onError(sink)
+					.map(DeadLetterSinkTest::rejectOdd)
+					.collect(toList());
+		}
+
+		List<Failure<Integer>> failures;
+		try(EmeticStream<Failure<Integer>> replay = EmeticStream.replayFailures(directory, DeadLetterSinkTest::deserialize)) {
+			failures = replay.collect(toList());
+		}
+
+		assertThat(failures, hasSize(2));
+		assertThat(failures.get(0).element(), is(1));
+		assertThat(failures.get(0).cause(), is(instanceOf(UncheckedException.class)));
+		assertThat(failures.get(0).cause().getMessage(), startsWith("java.io.IOException: odd 1 at "));
+		assertThat(failures.get(0).cause().getStackTrace().length, is(0));
+		assertThat(failures.get(1).element(), is(3));
+		assertThat(failures.get(1).cause().getMessage(), startsWith("java.io.IOException: odd 3 at "));
+	}
+
+
+	@Test
+	public void flushWritesBufferedRecords() throws IOException
+	{
+		try(DeadLetterSink<Integer> sink = DeadLetterSink.open(directory, DeadLetterSinkTest::serialize)) {
+			sink.accept(new Failure<>(1, new IOException()));
+
+			assertThat(replayed(), is(empty()));
+
+			sink.flush();
+
+			assertThat(replayed(), contains(1));
+		}
+	}
+
+
+	@Test
+	public void acceptingAfterCloseThrows() throws IOException
+	{
+		DeadLetterSink<Integer> sink = DeadLetterSink.open(directory, DeadLetterSinkTest::serialize);
+		sink.close();
+		sink.close();
+
+		assertThrows(IllegalStateException.class, () -> sink.accept(new Failure<>(1, new IOException())));
+	}
+
+
+	@Test
+	public void serializerFailureIsTranslated() throws IOException
+	{
+		try(DeadLetterSink<Integer> sink = DeadLetterSink.open(directory, i -> {
+			throw new IOException("kaboom");
+		})) {
+			UncheckedIOException thrown = assertThrows(UncheckedIOException.class, () -> sink.accept(new Failure<>(1, new IOException())));
+
+			assertThat(thrown.getCause().getMessage(), is("kaboom"));
+		}
+	}
+
+
+	@Test
+	public void invalidSegmentSize()
+	{
+		assertThrows(IllegalArgumentException.class, () -> DeadLetterSink.open(directory, DeadLetterSinkTest::serialize, 0));
+	}
+
+
+	@Test
+	public void summaryIncludesTypeMessageAndTopFrame()
+	{
+		String summary = DeadLetterSink.summarize(new IOException("kaboom"));
+
+		assertThat(summary, startsWith("java.io.IOException: kaboom at io.earcam.unexceptional.DeadLetterSinkTest.summaryIncludesTypeMessageAndTopFrame("));
+	}
+
+
+	@Test
+	public void summaryOmitsAbsentMessageAndFrame()
+	{
+		IOException kaboom = new IOException();
+		kaboom.setStackTrace(new StackTraceElement[0]);
+
+		assertThat(DeadLetterSink.summarize(kaboom), is("java.io.IOException"));
+	}
+
+
+	@Test
+	public void summaryIsTruncated()
+	{
+		String message = new String(new char[DeadLetterSink.MAX_SUMMARY_LENGTH * 2]).replace('\0', 'x');
+
+		assertThat(DeadLetterSink.summarize(new IOException(message)).length(), is(DeadLetterSink.MAX_SUMMARY_LENGTH));
+	}
+
+
+	@Test
+	public void replayOfMissingDirectoryFails()
+	{
+		assertThrows(UncheckedIOException.class, () -> EmeticStream.replay(directory.resolve("missing"), b -> b));
+	}
+
+
+	@Test
+	public void instanceOfCheckedConsumer() throws IOException
+	{
+		try(DeadLetterSink<Integer> sink = DeadLetterSink.open(directory, DeadLetterSinkTest::serialize)) {
+			assertThat(sink, is(instanceOf(CheckedConsumer.class)));
+		}
+	}
+}
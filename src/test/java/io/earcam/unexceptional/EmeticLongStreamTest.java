@@ -0,0 +1,274 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.LongSummaryStatistics;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+public class EmeticLongStreamTest {
+
+	private final IOException kaboom = new IOException();
+
+
+	private static EmeticLongStream oneToFive()
+	{
+		return EmeticLongStream.emesis(LongStream.rangeClosed(1, 5));
+	}
+
+
+	@Test
+	public void sum()
+	{
+		assertThat(oneToFive().sum(), is(15L));
+	}
+
+
+	@Test
+	public void summaryStatistics()
+	{
+		LongSummaryStatistics statistics = oneToFive().summaryStatistics();
+
+		assertThat(statistics.getCount(), is(5L));
+		assertThat(statistics.getMin(), is(1L));
+		assertThat(statistics.getMax(), is(5L));
+		assertThat(statistics.getAverage(), is(3d));
+	}
+
+
+	@Test
+	public void minMaxAverageCount()
+	{
+		assertThat(oneToFive().min().getAsLong(), is(1L));
+		assertThat(oneToFive().max().getAsLong(), is(5L));
+		assertThat(oneToFive().average().getAsDouble(), is(3d));
+		assertThat(oneToFive().count(), is(5L));
+	}
+
+
+	@Test
+	public void boxed()
+	{
+		List<Long> boxed = oneToFive().boxed().collect(toList());
+
+		assertThat(boxed, contains(1L, 2L, 3L, 4L, 5L));
+	}
+
+
+	@Test
+	public void mapToObj()
+	{
+		List<String> mapped = oneToFive().mapToObj(v -> "#" + v).collect(toList());
+
+		assertThat(mapped, contains("#" + 1L, "#" + 2L, "#" + 3L, "#" + 4L, "#" + 5L));
+	}
+
+
+	@Test
+	public void mapToObjThrows()
+	{
+		try {
+			oneToFive().mapToObj(v -> {
+				throw kaboom;
+			}).collect(toList());
+			fail("should not reach here");
+		} catch(UncheckedIOException e) {
+			assertThat(e.getCause(), is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void filterAndMap()
+	{
+		long[] result = oneToFive().filter(v -> v % 2 == 1).map(v -> v * 10).toArray();
+
+		assertThat(result.length, is(3));
+		assertThat(result[2], is(50L));
+	}
+
+
+	@Test
+	public void filterThrows()
+	{
+		try {
+			oneToFive().filter(v -> {
+				throw kaboom;
+			}).sum();
+			fail("should not reach here");
+		} catch(UncheckedIOException e) {
+			assertThat(e.getCause(), is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void mapThrows()
+	{
+		try {
+			oneToFive().map(v -> {
+				throw kaboom;
+			}).sum();
+			fail("should not reach here");
+		} catch(UncheckedIOException e) {
+			assertThat(e.getCause(), is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void flatMap()
+	{
+		assertThat(oneToFive().flatMap(v -> LongStream.of(v, v)).sum(), is(30L));
+	}
+
+
+	@Test
+	public void matches()
+	{
+		assertThat(oneToFive().allMatch(v -> v > 0), is(true));
+		assertThat(oneToFive().anyMatch(v -> v > 4), is(true));
+		assertThat(oneToFive().noneMatch(v -> v > 5), is(true));
+	}
+
+
+	@Test
+	public void reduce()
+	{
+		assertThat(oneToFive().reduce(0L, (a, b) -> a + b), is(15L));
+		assertThat(oneToFive().reduce((a, b) -> a * b).getAsLong(), is(120L));
+	}
+
+
+	@Test
+	public void reduceThrows()
+	{
+		try {
+			oneToFive().reduce((a, b) -> {
+				throw kaboom;
+			});
+			fail("should not reach here");
+		} catch(UncheckedIOException e) {
+			assertThat(e.getCause(), is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void collect()
+	{
+		List<Long> collected = oneToFive().collect(ArrayList::new, List::add, List::addAll);
+
+		assertThat(collected, contains(1L, 2L, 3L, 4L, 5L));
+	}
+
+
+	@Test
+	public void forEachAndPeek()
+	{
+		List<Long> peeked = new ArrayList<>();
+		List<Long> consumed = new ArrayList<>();
+
+		oneToFive().peek(peeked::add).forEachOrdered(consumed::add);
+
+		assertThat(peeked, contains(1L, 2L, 3L, 4L, 5L));
+		assertThat(consumed, contains(1L, 2L, 3L, 4L, 5L));
+	}
+
+
+	@Test
+	public void forEachThrows()
+	{
+		try {
+			oneToFive().forEach(v -> {
+				throw kaboom;
+			});
+			fail("should not reach here");
+		} catch(UncheckedIOException e) {
+			assertThat(e.getCause(), is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void parallelAndSequential()
+	{
+		EmeticLongStream parallel = oneToFive().parallel();
+
+		assertThat(parallel.isParallel(), is(true));
+		assertThat(parallel.parallel(), is(sameInstance(parallel)));
+		assertThat(parallel.sequential().isParallel(), is(false));
+		assertThat(parallel.unordered().sum(), is(15L));
+	}
+
+
+	@Test
+	public void iteratorAndSpliterator()
+	{
+		assertThat(oneToFive().iterator().nextLong(), is(1L));
+		assertThat(oneToFive().spliterator().estimateSize(), is(5L));
+	}
+
+
+	@Test
+	public void onCloseIsInvoked()
+	{
+		AtomicBoolean closed = new AtomicBoolean();
+
+		try(EmeticLongStream stream = oneToFive().onClose(() -> closed.set(true))) {
+			stream.sum();
+		}
+
+		assertThat(closed.get(), is(true));
+	}
+
+
+	@Test
+	public void mapToInt()
+	{
+		assertThat(oneToFive().mapToInt(v -> (int) v * 2).sum(), is(30));
+	}
+
+
+	@Test
+	public void mapToDouble()
+	{
+		assertThat(oneToFive().mapToDouble(v -> (double) v * 2).sum(), is(30d));
+	}
+
+
+	@Test
+	public void asDoubleStream()
+	{
+		assertThat(oneToFive().asDoubleStream().sum(), is(15d));
+	}
+}
@@ -30,7 +30,9 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
@@ -259,7 +261,8 @@ public class EmeticStreamTest {
 
 		EmeticStream.emesis(stream).forEachOrdered(consumed::add);
 
-		assertThat(nayMock.invocations.get(0).name, is(equalTo("forEachOrdered")));
+		assertThat(nayMock.invocations.get(0).name, is(equalTo("isParallel")));
+		assertThat(nayMock.invocations.get(1).name, is(equalTo("forEachOrdered")));
 	}
 
 
@@ -405,4 +408,58 @@ public class EmeticStreamTest {
 
 		assertThat(paths, is(not(empty())));
 	}
+
+
+	@Test
+	public void mapToEmeticInt()
+	{
+		int sum = emesis(zeroToNine()).mapToEmeticInt(i -> i).map(i -> i * 2).sum();
+
+		assertThat(sum, is(90));
+	}
+
+
+	@Test
+	public void mapToEmeticLong()
+	{
+		long sum = emesis(zeroToNine()).mapToEmeticLong(i -> i).map(i -> i * 2).sum();
+
+		assertThat(sum, is(90L));
+	}
+
+
+	@Test
+	public void mapToEmeticDouble()
+	{
+		double sum = emesis(zeroToNine()).mapToEmeticDouble(i -> i).map(i -> i * 2).sum();
+
+		assertThat(sum, is(90d));
+	}
+
+
+	@Test
+	public void flatMapToEmeticInt()
+	{
+		int sum = emesis(zeroToNine()).flatMapToEmeticInt(i -> IntStream.of(i, i)).sum();
+
+		assertThat(sum, is(90));
+	}
+
+
+	@Test
+	public void flatMapToEmeticLong()
+	{
+		long sum = emesis(zeroToNine()).flatMapToEmeticLong(i -> LongStream.of(i, i)).sum();
+
+		assertThat(sum, is(90L));
+	}
+
+
+	@Test
+	public void flatMapToEmeticDouble()
+	{
+		double sum = emesis(zeroToNine()).flatMapToEmeticDouble(i -> DoubleStream.of(i, i)).sum();
+
+		assertThat(sum, is(90d));
+	}
 }
@@ -0,0 +1,282 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class ExceptionTranslatorsTest {
+
+	@SuppressWarnings("serial")
+	static class Parent extends Exception {}
+
+	@SuppressWarnings("serial")
+	static class Child extends Parent {}
+
+	@SuppressWarnings("serial")
+	static class GrandChild extends Child {}
+
+	@SuppressWarnings("serial")
+	static class Orphan extends Exception {}
+
+	@SuppressWarnings("serial")
+	static class TranslatedParent extends RuntimeException {
+		TranslatedParent(Parent cause)
+		{
+			super(cause);
+		}
+	}
+
+	@SuppressWarnings("serial")
+	static class TranslatedChild extends RuntimeException {
+		TranslatedChild(Child cause)
+		{
+			super(cause);
+		}
+	}
+
+	@SuppressWarnings("serial")
+	static class SpecialIo extends IOException {}
+
+	@SuppressWarnings("serial")
+	static class Declined extends Parent {}
+
+	@SuppressWarnings("serial")
+	static class Unwanted extends Exception {}
+
+	@SuppressWarnings("serial")
+	static class Foundling extends Exception {}
+
+	public static class FoundlingTranslator implements ExceptionTranslator<Foundling> {
+
+		@Override
+		public Class<Foundling> type()
+		{
+			return Foundling.class;
+		}
+
+
+		@Override
+		public RuntimeException translate(Foundling caught)
+		{
+			return new IllegalStateException("found", caught);
+		}
+	}
+
+
+	@Test
+	public void cannotConstructWithoutObjenesis() throws Exception
+	{
+		Constructor<ExceptionTranslators> constructor = ExceptionTranslators.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		try {
+			constructor.newInstance();
+			fail("should not reach here");
+		} catch(InvocationTargetException e) {
+			assertThat(e.getCause(), is(instanceOf(IllegalStateException.class)));
+		}
+	}
+
+
+	@Test
+	public void registeredTranslatorIsApplied()
+	{
+		ExceptionTranslators.register(Orphan.class, e -> new IllegalStateException("adopted", e));
+		Orphan orphan = new Orphan();
+
+		RuntimeException unchecked = Exceptional.uncheck(orphan);
+
+		assertThat(unchecked, is(instanceOf(IllegalStateException.class)));
+		assertThat(unchecked.getMessage(), is(equalTo("adopted")));
+		assertThat(unchecked.getCause(), is(sameInstance(orphan)));
+	}
+
+
+	@Test
+	public void mostSpecificTranslatorWins()
+	{
+		ExceptionTranslators.register(Parent.class, TranslatedParent::new);
+
+		assertThat(Exceptional.uncheck(new GrandChild()), is(instanceOf(TranslatedParent.class)));
+
+		ExceptionTranslators.register(ExceptionTranslator.of(Child.class, TranslatedChild::new));
+
+		assertThat(Exceptional.uncheck(new Parent()), is(instanceOf(TranslatedParent.class)));
+		assertThat(Exceptional.uncheck(new Child()), is(instanceOf(TranslatedChild.class)));
+		assertThat(Exceptional.uncheck(new GrandChild()), is(instanceOf(TranslatedChild.class)));
+	}
+
+
+	@Test
+	public void builtInTranslatorsRemainForUnrelatedTypes()
+	{
+		ExceptionTranslators.register(SpecialIo.class, e -> new UncheckedException("special", e));
+
+		assertThat(Exceptional.uncheck(new SpecialIo()).getMessage(), is(equalTo("special")));
+		assertThat(Exceptional.uncheck(new IOException()), is(instanceOf(UncheckedIOException.class)));
+	}
+
+
+	@Test
+	public void translatorExposesType()
+	{
+		ExceptionTranslator<Orphan> translator = ExceptionTranslator.of(Orphan.class, UncheckedException::new);
+
+		assertThat(translator.type(), is(equalTo(Orphan.class)));
+	}
+
+
+	@Test
+	public void registeringNullTranslatorThrows()
+	{
+		try {
+			ExceptionTranslators.register(null);
+			fail("should not reach here");
+		} catch(NullPointerException e) {}
+	}
+
+
+	@Test
+	public void registeringTranslatorWithoutTypeThrows()
+	{
+		ExceptionTranslator<Orphan> untyped = new ExceptionTranslator<Orphan>() {
+
+			@Override
+			public Class<Orphan> type()
+			{
+				return null;
+			}
+
+
+			@Override
+			public RuntimeException translate(Orphan caught)
+			{
+				return new UncheckedException(caught);
+			}
+		};
+		try {
+			ExceptionTranslators.register(untyped);
+			fail("should not reach here");
+		} catch(NullPointerException e) {}
+	}
+
+
+	@Test
+	public void discoveryWithNoProvidersChangesNothing()
+	{
+		ExceptionTranslators.discover(new ClassLoader(null) {});
+
+		assertThat(Exceptional.uncheck(new IOException()), is(instanceOf(UncheckedIOException.class)));
+	}
+
+
+	@Test
+	public void declinedTranslationDefersToSupertypeTranslator()
+	{
+		ExceptionTranslators.register(Parent.class, TranslatedParent::new);
+		ExceptionTranslators.register(Declined.class, e -> null);
+
+		assertThat(Exceptional.uncheck(new Declined()), is(instanceOf(TranslatedParent.class)));
+	}
+
+
+	@Test
+	public void declinedTranslationWithoutSupertypeTranslatorIsWrappedGenerically()
+	{
+		ExceptionTranslators.register(Unwanted.class, e -> null);
+		Unwanted unwanted = new Unwanted();
+
+		RuntimeException unchecked = Exceptional.uncheck(unwanted);
+
+		assertThat(unchecked, is(instanceOf(UncheckedException.class)));
+		assertThat(unchecked.getCause(), is(sameInstance(unwanted)));
+	}
+
+
+	@Test
+	public void discoverySkipsBrokenProviders() throws IOException
+	{
+		Path services = Files.createTempFile(ExceptionTranslator.class.getName(), "");
+		try {
+			Files.write(services, Arrays.asList(
+					ExceptionTranslatorsTest.class.getName() + "$Missing",
+					FoundlingTranslator.class.getName()));
+			URL url = services.toUri().toURL();
+			ClassLoader loader = new ClassLoader(ExceptionTranslatorsTest.class.getClassLoader()) {
+
+				@Override
+				public Enumeration<URL> getResources(String name) throws IOException
+				{
+					return name.equals("META-INF/services/" + ExceptionTranslator.class.getName())
+							? Collections.enumeration(Collections.singleton(url))
+							: Collections.emptyEnumeration();
+				}
+			};
+
+			ExceptionTranslators.discover(loader);
+		} finally {
+			Files.delete(services);
+		}
+
+		RuntimeException unchecked = Exceptional.uncheck(new Foundling());
+
+		assertThat(unchecked, is(instanceOf(IllegalStateException.class)));
+		assertThat(unchecked.getMessage(), is(equalTo("found")));
+	}
+
+
+	@Test
+	public void discoveryStopsWhenLocatingProvidersRepeatedlyFails() throws Exception
+	{
+		AtomicInteger attempts = new AtomicInteger();
+		ClassLoader loader = new ClassLoader(ExceptionTranslatorsTest.class.getClassLoader()) {
+
+			@Override
+			public Enumeration<URL> getResources(String name) throws IOException
+			{
+				attempts.incrementAndGet();
+				throw new IOException("unreadable");
+			}
+		};
+
+		CompletableFuture.runAsync(() -> ExceptionTranslators.discover(loader)).get(5, SECONDS);
+
+		assertThat(attempts.get(), is(2));
+	}
+}
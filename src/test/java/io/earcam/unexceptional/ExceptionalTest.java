@@ -29,15 +29,44 @@ import static io.earcam.unexceptional.Exceptional.throwAsUnchecked;
 import static io.earcam.unexceptional.Exceptional.uncheckBiConsumer;
 import static io.earcam.unexceptional.Exceptional.uncheckBiFunction;
 import static io.earcam.unexceptional.Exceptional.uncheckBinaryOperator;
+import static io.earcam.unexceptional.Exceptional.uncheckBooleanSupplier;
 import static io.earcam.unexceptional.Exceptional.uncheckConsumer;
+import static io.earcam.unexceptional.Exceptional.uncheckDoubleBinaryOperator;
+import static io.earcam.unexceptional.Exceptional.uncheckDoubleConsumer;
+import static io.earcam.unexceptional.Exceptional.uncheckDoubleFunction;
+import static io.earcam.unexceptional.Exceptional.uncheckDoublePredicate;
+import static io.earcam.unexceptional.Exceptional.uncheckDoubleSupplier;
+import static io.earcam.unexceptional.Exceptional.uncheckDoubleToIntFunction;
+import static io.earcam.unexceptional.Exceptional.uncheckDoubleToLongFunction;
+import static io.earcam.unexceptional.Exceptional.uncheckDoubleUnaryOperator;
 import static io.earcam.unexceptional.Exceptional.uncheckFunction;
+import static io.earcam.unexceptional.Exceptional.uncheckIntBinaryOperator;
 import static io.earcam.unexceptional.Exceptional.uncheckIntConsumer;
+import static io.earcam.unexceptional.Exceptional.uncheckIntFunction;
+import static io.earcam.unexceptional.Exceptional.uncheckIntPredicate;
+import static io.earcam.unexceptional.Exceptional.uncheckIntSupplier;
+import static io.earcam.unexceptional.Exceptional.uncheckIntToDoubleFunction;
+import static io.earcam.unexceptional.Exceptional.uncheckIntToLongFunction;
+import static io.earcam.unexceptional.Exceptional.uncheckIntUnaryOperator;
+import static io.earcam.unexceptional.Exceptional.uncheckLongBinaryOperator;
+import static io.earcam.unexceptional.Exceptional.uncheckLongConsumer;
+import static io.earcam.unexceptional.Exceptional.uncheckLongFunction;
+import static io.earcam.unexceptional.Exceptional.uncheckLongPredicate;
+import static io.earcam.unexceptional.Exceptional.uncheckLongSupplier;
+import static io.earcam.unexceptional.Exceptional.uncheckLongToDoubleFunction;
+import static io.earcam.unexceptional.Exceptional.uncheckLongToIntFunction;
+import static io.earcam.unexceptional.Exceptional.uncheckLongUnaryOperator;
+import static io.earcam.unexceptional.Exceptional.uncheckObjDoubleConsumer;
+import static io.earcam.unexceptional.Exceptional.uncheckObjIntConsumer;
+import static io.earcam.unexceptional.Exceptional.uncheckObjLongConsumer;
 import static io.earcam.unexceptional.Exceptional.uncheckPredicate;
 import static io.earcam.unexceptional.Exceptional.uncheckRunnable;
 import static io.earcam.unexceptional.Exceptional.uncheckSupplier;
+import static io.earcam.unexceptional.Exceptional.uncheckToDoubleBiFunction;
 import static io.earcam.unexceptional.Exceptional.uncheckToDoubleFunction;
 import static io.earcam.unexceptional.Exceptional.uncheckToIntBiFunction;
 import static io.earcam.unexceptional.Exceptional.uncheckToIntFunction;
+import static io.earcam.unexceptional.Exceptional.uncheckToLongBiFunction;
 import static io.earcam.unexceptional.Exceptional.uncheckToLongFunction;
 import static io.earcam.unexceptional.Exceptional.unwrap;
 import static io.earcam.unexceptional.Exceptional.uri;
@@ -49,6 +78,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasToString;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.*;
@@ -74,6 +104,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -1122,6 +1154,837 @@ public class ExceptionalTest {
 
 			assertThat(unwrapped, is(ite));
 		}
+
+
+		@Test
+		public void unwrapChainWithCircularReferenceOfTwo()
+		{
+			UncheckedException a = new UncheckedException("a");
+			UncheckedException b = new UncheckedException(a);
+			a.initCause(b);
+			UncheckedException outer = new UncheckedException(b);
+
+			assertThat(unwrap(outer, false), is(sameInstance(b)));
+		}
+
+
+		@Test
+		public void unwrapLongChain()
+		{
+			IOException root = new IOException();
+			Throwable chain = root;
+			for(int i = 0; i < 1_000; i++) {
+				chain = (i % 2 == 0) ? new UncheckedException(chain) : new InvocationTargetException(chain);
+			}
+
+			assertThat(unwrap(chain, false), is(sameInstance(root)));
+		}
+
+
+		@Test
+		public void unwrapCompletionException()
+		{
+			IOException expected = new IOException();
+			CompletionException thrown = new CompletionException(expected);
+
+			Throwable unwrap = unwrap(thrown);
+
+			assertThat(unwrap, is(expected));
+			assertThat(unwrap.getSuppressed(), arrayContaining(thrown));
+		}
+
+
+		@Test
+		public void unwrapExecutionException()
+		{
+			IOException expected = new IOException();
+			ExecutionException thrown = new ExecutionException(expected);
+
+			Throwable unwrap = unwrap(thrown);
+
+			assertThat(unwrap, is(expected));
+			assertThat(unwrap.getSuppressed(), arrayContaining(thrown));
+		}
+
+
+		@Test
+		public void unwrapNestedAsyncExceptions()
+		{
+			IOException expected = new IOException();
+			Throwable thrown = new ExecutionException(new CompletionException(new UncheckedIOException(expected)));
+
+			assertThat(unwrap(thrown, false), is(sameInstance(expected)));
+		}
+
+
+		@Test
+		public void unwrapWithoutSuppressingDoesNotModifyTheCause()
+		{
+			IOException cached = new IOException();
+
+			for(int i = 0; i < 10; i++) {
+				Throwable unwrap = unwrap(new CompletionException(cached), false);
+
+				assertThat(unwrap, is(sameInstance(cached)));
+			}
+			assertThat(cached.getSuppressed().length, is(0));
+		}
+
+
+		@Test
+		public void unwrapWithoutSuppressingReturnsOriginalWhenNotUnwrappable()
+		{
+			Exception e = new Exception(new NullPointerException());
+
+			assertThat(unwrap(e, false), is(sameInstance(e)));
+			assertThat(e.getCause().getSuppressed().length, is(0));
+		}
+	}
+
+	@Nested
+	public class Primitives {
+
+		private final IOException kaboom = new IOException();
+
+
+		@Test
+		public void uncheckBooleanSupplierThrows()
+		{
+			CheckedBooleanSupplier<IOException> checked = () -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckBooleanSupplier(checked).getAsBoolean();
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckBooleanSupplierApplies()
+		{
+			CheckedBooleanSupplier<IOException> checked = () -> true;
+
+			assertThat(uncheckBooleanSupplier(checked).getAsBoolean(), is(true));
+		}
+
+
+		@Test
+		public void uncheckIntBinaryOperatorThrows()
+		{
+			CheckedIntBinaryOperator<IOException> checked = (a, b) -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckIntBinaryOperator(checked).applyAsInt(2, 3);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckIntBinaryOperatorApplies()
+		{
+			CheckedIntBinaryOperator<IOException> checked = (a, b) -> a * b;
+
+			assertThat(uncheckIntBinaryOperator(checked).applyAsInt(2, 3), is((int) 6));
+		}
+
+
+		@Test
+		public void uncheckIntFunctionThrows()
+		{
+			CheckedIntFunction<String, IOException> checked = v -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckIntFunction(checked).apply(2);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckIntFunctionApplies()
+		{
+			CheckedIntFunction<String, IOException> checked = v -> String.valueOf(v);
+
+			assertThat(uncheckIntFunction(checked).apply(2), is(String.valueOf(2)));
+		}
+
+
+		@Test
+		public void uncheckIntPredicateThrows()
+		{
+			CheckedIntPredicate<IOException> checked = v -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckIntPredicate(checked).test(2);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckIntPredicateApplies()
+		{
+			CheckedIntPredicate<IOException> checked = v -> v > 0;
+
+			assertThat(uncheckIntPredicate(checked).test(2), is(true));
+		}
+
+
+		@Test
+		public void uncheckIntSupplierThrows()
+		{
+			CheckedIntSupplier<IOException> checked = () -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckIntSupplier(checked).getAsInt();
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckIntSupplierApplies()
+		{
+			CheckedIntSupplier<IOException> checked = () -> 2;
+
+			assertThat(uncheckIntSupplier(checked).getAsInt(), is((int) 2));
+		}
+
+
+		@Test
+		public void uncheckIntToLongFunctionThrows()
+		{
+			CheckedIntToLongFunction<IOException> checked = v -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckIntToLongFunction(checked).applyAsLong(2);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckIntToLongFunctionApplies()
+		{
+			CheckedIntToLongFunction<IOException> checked = v -> (long) v;
+
+			assertThat(uncheckIntToLongFunction(checked).applyAsLong(2), is((long) 2));
+		}
+
+
+		@Test
+		public void uncheckIntToDoubleFunctionThrows()
+		{
+			CheckedIntToDoubleFunction<IOException> checked = v -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckIntToDoubleFunction(checked).applyAsDouble(2);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckIntToDoubleFunctionApplies()
+		{
+			CheckedIntToDoubleFunction<IOException> checked = v -> (double) v;
+
+			assertThat(uncheckIntToDoubleFunction(checked).applyAsDouble(2), is((double) 2));
+		}
+
+
+		@Test
+		public void uncheckIntUnaryOperatorThrows()
+		{
+			CheckedIntUnaryOperator<IOException> checked = v -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckIntUnaryOperator(checked).applyAsInt(2);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckIntUnaryOperatorApplies()
+		{
+			CheckedIntUnaryOperator<IOException> checked = v -> v + 1;
+
+			assertThat(uncheckIntUnaryOperator(checked).applyAsInt(2), is((int) 2 + 1));
+		}
+
+
+		@Test
+		public void uncheckObjIntConsumerThrows()
+		{
+			CheckedObjIntConsumer<String, IOException> checked = (a, b) -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckObjIntConsumer(checked).accept("x", 2);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckObjIntConsumerApplies()
+		{
+			AtomicReference<Object> accepted = new AtomicReference<>();
+			CheckedObjIntConsumer<String, IOException> checked = (t, v) -> accepted.set(t + v);
+
+			uncheckObjIntConsumer(checked).accept("x", 2);
+
+			assertThat(accepted.get(), is("x" + 2));
+		}
+
+
+		@Test
+		public void uncheckLongBinaryOperatorThrows()
+		{
+			CheckedLongBinaryOperator<IOException> checked = (a, b) -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckLongBinaryOperator(checked).applyAsLong(2L, 3L);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckLongBinaryOperatorApplies()
+		{
+			CheckedLongBinaryOperator<IOException> checked = (a, b) -> a * b;
+
+			assertThat(uncheckLongBinaryOperator(checked).applyAsLong(2L, 3L), is((long) 6));
+		}
+
+
+		@Test
+		public void uncheckLongConsumerThrows()
+		{
+			CheckedLongConsumer<IOException> checked = v -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckLongConsumer(checked).accept(2L);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckLongConsumerApplies()
+		{
+			AtomicReference<Object> accepted = new AtomicReference<>();
+			CheckedLongConsumer<IOException> checked = v -> accepted.set(v);
+
+			uncheckLongConsumer(checked).accept(2L);
+
+			assertThat(accepted.get(), is(2L));
+		}
+
+
+		@Test
+		public void uncheckLongFunctionThrows()
+		{
+			CheckedLongFunction<String, IOException> checked = v -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckLongFunction(checked).apply(2L);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckLongFunctionApplies()
+		{
+			CheckedLongFunction<String, IOException> checked = v -> String.valueOf(v);
+
+			assertThat(uncheckLongFunction(checked).apply(2L), is(String.valueOf(2L)));
+		}
+
+
+		@Test
+		public void uncheckLongPredicateThrows()
+		{
+			CheckedLongPredicate<IOException> checked = v -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckLongPredicate(checked).test(2L);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckLongPredicateApplies()
+		{
+			CheckedLongPredicate<IOException> checked = v -> v > 0;
+
+			assertThat(uncheckLongPredicate(checked).test(2L), is(true));
+		}
+
+
+		@Test
+		public void uncheckLongSupplierThrows()
+		{
+			CheckedLongSupplier<IOException> checked = () -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckLongSupplier(checked).getAsLong();
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckLongSupplierApplies()
+		{
+			CheckedLongSupplier<IOException> checked = () -> 2L;
+
+			assertThat(uncheckLongSupplier(checked).getAsLong(), is((long) 2L));
+		}
+
+
+		@Test
+		public void uncheckLongToIntFunctionThrows()
+		{
+			CheckedLongToIntFunction<IOException> checked = v -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckLongToIntFunction(checked).applyAsInt(2L);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckLongToIntFunctionApplies()
+		{
+			CheckedLongToIntFunction<IOException> checked = v -> (int) v;
+
+			assertThat(uncheckLongToIntFunction(checked).applyAsInt(2L), is((int) 2L));
+		}
+
+
+		@Test
+		public void uncheckLongToDoubleFunctionThrows()
+		{
+			CheckedLongToDoubleFunction<IOException> checked = v -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckLongToDoubleFunction(checked).applyAsDouble(2L);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckLongToDoubleFunctionApplies()
+		{
+			CheckedLongToDoubleFunction<IOException> checked = v -> (double) v;
+
+			assertThat(uncheckLongToDoubleFunction(checked).applyAsDouble(2L), is((double) 2L));
+		}
+
+
+		@Test
+		public void uncheckLongUnaryOperatorThrows()
+		{
+			CheckedLongUnaryOperator<IOException> checked = v -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckLongUnaryOperator(checked).applyAsLong(2L);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckLongUnaryOperatorApplies()
+		{
+			CheckedLongUnaryOperator<IOException> checked = v -> v + 1;
+
+			assertThat(uncheckLongUnaryOperator(checked).applyAsLong(2L), is((long) 2L + 1));
+		}
+
+
+		@Test
+		public void uncheckObjLongConsumerThrows()
+		{
+			CheckedObjLongConsumer<String, IOException> checked = (a, b) -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckObjLongConsumer(checked).accept("x", 2L);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckObjLongConsumerApplies()
+		{
+			AtomicReference<Object> accepted = new AtomicReference<>();
+			CheckedObjLongConsumer<String, IOException> checked = (t, v) -> accepted.set(t + v);
+
+			uncheckObjLongConsumer(checked).accept("x", 2L);
+
+			assertThat(accepted.get(), is("x" + 2L));
+		}
+
+
+		@Test
+		public void uncheckDoubleBinaryOperatorThrows()
+		{
+			CheckedDoubleBinaryOperator<IOException> checked = (a, b) -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckDoubleBinaryOperator(checked).applyAsDouble(2d, 3d);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckDoubleBinaryOperatorApplies()
+		{
+			CheckedDoubleBinaryOperator<IOException> checked = (a, b) -> a * b;
+
+			assertThat(uncheckDoubleBinaryOperator(checked).applyAsDouble(2d, 3d), is((double) 6));
+		}
+
+
+		@Test
+		public void uncheckDoubleConsumerThrows()
+		{
+			CheckedDoubleConsumer<IOException> checked = v -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckDoubleConsumer(checked).accept(2d);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckDoubleConsumerApplies()
+		{
+			AtomicReference<Object> accepted = new AtomicReference<>();
+			CheckedDoubleConsumer<IOException> checked = v -> accepted.set(v);
+
+			uncheckDoubleConsumer(checked).accept(2d);
+
+			assertThat(accepted.get(), is(2d));
+		}
+
+
+		@Test
+		public void uncheckDoubleFunctionThrows()
+		{
+			CheckedDoubleFunction<String, IOException> checked = v -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckDoubleFunction(checked).apply(2d);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckDoubleFunctionApplies()
+		{
+			CheckedDoubleFunction<String, IOException> checked = v -> String.valueOf(v);
+
+			assertThat(uncheckDoubleFunction(checked).apply(2d), is(String.valueOf(2d)));
+		}
+
+
+		@Test
+		public void uncheckDoublePredicateThrows()
+		{
+			CheckedDoublePredicate<IOException> checked = v -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckDoublePredicate(checked).test(2d);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckDoublePredicateApplies()
+		{
+			CheckedDoublePredicate<IOException> checked = v -> v > 0;
+
+			assertThat(uncheckDoublePredicate(checked).test(2d), is(true));
+		}
+
+
+		@Test
+		public void uncheckDoubleSupplierThrows()
+		{
+			CheckedDoubleSupplier<IOException> checked = () -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckDoubleSupplier(checked).getAsDouble();
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckDoubleSupplierApplies()
+		{
+			CheckedDoubleSupplier<IOException> checked = () -> 2d;
+
+			assertThat(uncheckDoubleSupplier(checked).getAsDouble(), is((double) 2d));
+		}
+
+
+		@Test
+		public void uncheckDoubleToIntFunctionThrows()
+		{
+			CheckedDoubleToIntFunction<IOException> checked = v -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckDoubleToIntFunction(checked).applyAsInt(2d);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckDoubleToIntFunctionApplies()
+		{
+			CheckedDoubleToIntFunction<IOException> checked = v -> (int) v;
+
+			assertThat(uncheckDoubleToIntFunction(checked).applyAsInt(2d), is((int) 2d));
+		}
+
+
+		@Test
+		public void uncheckDoubleToLongFunctionThrows()
+		{
+			CheckedDoubleToLongFunction<IOException> checked = v -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckDoubleToLongFunction(checked).applyAsLong(2d);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckDoubleToLongFunctionApplies()
+		{
+			CheckedDoubleToLongFunction<IOException> checked = v -> (long) v;
+
+			assertThat(uncheckDoubleToLongFunction(checked).applyAsLong(2d), is((long) 2d));
+		}
+
+
+		@Test
+		public void uncheckDoubleUnaryOperatorThrows()
+		{
+			CheckedDoubleUnaryOperator<IOException> checked = v -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckDoubleUnaryOperator(checked).applyAsDouble(2d);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckDoubleUnaryOperatorApplies()
+		{
+			CheckedDoubleUnaryOperator<IOException> checked = v -> v + 1;
+
+			assertThat(uncheckDoubleUnaryOperator(checked).applyAsDouble(2d), is((double) 2d + 1));
+		}
+
+
+		@Test
+		public void uncheckObjDoubleConsumerThrows()
+		{
+			CheckedObjDoubleConsumer<String, IOException> checked = (a, b) -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckObjDoubleConsumer(checked).accept("x", 2d);
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckObjDoubleConsumerApplies()
+		{
+			AtomicReference<Object> accepted = new AtomicReference<>();
+			CheckedObjDoubleConsumer<String, IOException> checked = (t, v) -> accepted.set(t + v);
+
+			uncheckObjDoubleConsumer(checked).accept("x", 2d);
+
+			assertThat(accepted.get(), is("x" + 2d));
+		}
+
+
+		@Test
+		public void uncheckToDoubleBiFunctionThrows()
+		{
+			CheckedToDoubleBiFunction<String, String, IOException> checked = (a, b) -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckToDoubleBiFunction(checked).applyAsDouble("a", "bc");
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckToDoubleBiFunctionApplies()
+		{
+			CheckedToDoubleBiFunction<String, String, IOException> checked = (t, u) -> t.length() + u.length();
+
+			assertThat(uncheckToDoubleBiFunction(checked).applyAsDouble("a", "bc"), is((double) 3));
+		}
+
+
+		@Test
+		public void uncheckToLongBiFunctionThrows()
+		{
+			CheckedToLongBiFunction<String, String, IOException> checked = (a, b) -> {
+				throw kaboom;
+			};
+
+			try {
+				uncheckToLongBiFunction(checked).applyAsLong("a", "bc");
+				fail("should not reach here");
+			} catch(UncheckedIOException e) {
+				assertThat(e.getCause(), is(sameInstance(kaboom)));
+			}
+		}
+
+
+		@Test
+		public void uncheckToLongBiFunctionApplies()
+		{
+			CheckedToLongBiFunction<String, String, IOException> checked = (t, u) -> t.length() + u.length();
+
+			assertThat(uncheckToLongBiFunction(checked).applyAsLong("a", "bc"), is((long) 3));
+		}
 	}
 
 	@Nested
@@ -1403,6 +2266,135 @@ public class ExceptionalTest {
 		}
 	}
 
+	@Nested
+	public class Uncheck {
+
+		@Test
+		public void subclassResolvesToNearestMappedSuperclass()
+		{
+			MalformedURLException caught = new MalformedURLException();
+
+			RuntimeException unchecked = Exceptional.uncheck(caught);
+
+			assertThat(unchecked, is(instanceOf(UncheckedIOException.class)));
+			assertThat(unchecked.getCause(), is(sameInstance(caught)));
+		}
+
+
+		@Test
+		public void runtimeExceptionSubclassIsNotWrapped()
+		{
+			UncheckedIOException caught = new UncheckedIOException(new IOException());
+
+			assertThat(Exceptional.uncheck(caught), is(sameInstance(caught)));
+		}
+
+
+		@Test
+		public void unmappedCheckedExceptionIsWrappedInUncheckedException()
+		{
+			Exception caught = new CloneNotSupportedException();
+
+			RuntimeException unchecked = Exceptional.uncheck(caught);
+
+			assertThat(unchecked.getClass(), is(equalTo(UncheckedException.class)));
+			assertThat(unchecked.getCause(), is(sameInstance(caught)));
+		}
+
+
+		@Test
+		public void errorIsWrappedInUncheckedException()
+		{
+			Error caught = new AssertionError();
+
+			RuntimeException unchecked = Exceptional.uncheck(caught);
+
+			assertThat(unchecked.getClass(), is(equalTo(UncheckedException.class)));
+			assertThat(unchecked.getCause(), is(sameInstance(caught)));
+		}
+
+
+		@Test
+		public void stacklessPerCall()
+		{
+			NoSuchFieldException caught = new NoSuchFieldException();
+
+			RuntimeException unchecked = Exceptional.uncheck(caught, false);
+
+			assertThat(unchecked, is(instanceOf(UncheckedReflectiveException.class)));
+			assertThat(unchecked.getCause(), is(sameInstance(caught)));
+			assertThat(unchecked.getStackTrace().length, is(0));
+			assertThat(caught.getStackTrace().length, is(not(0)));
+		}
+
+
+		@Test
+		public void stacklessPerCallForIOException()
+		{
+			IOException caught = new IOException();
+
+			RuntimeException unchecked = Exceptional.uncheck(caught, false);
+
+			assertThat(unchecked, is(instanceOf(UncheckedIOException.class)));
+			assertThat(unchecked.getCause(), is(sameInstance(caught)));
+			assertThat(unchecked.getStackTrace().length, is(0));
+		}
+
+
+		@Test
+		public void stacklessPerCallForUriSyntaxException()
+		{
+			URISyntaxException caught = new URISyntaxException("::", "nope");
+
+			RuntimeException unchecked = Exceptional.uncheck(caught, false);
+
+			assertThat(unchecked, is(instanceOf(UncheckedUriSyntaxException.class)));
+			assertThat(unchecked.getStackTrace().length, is(0));
+		}
+
+
+		@Test
+		public void stacklessPerCallForUnmapped()
+		{
+			Exception caught = new Exception();
+
+			RuntimeException unchecked = Exceptional.uncheck(caught, false);
+
+			assertThat(unchecked.getClass(), is(equalTo(UncheckedException.class)));
+			assertThat(unchecked.getStackTrace().length, is(0));
+		}
+
+
+		@Test
+		public void stackfulPerCall()
+		{
+			RuntimeException unchecked = Exceptional.uncheck(new IOException(), true);
+
+			assertThat(unchecked.getStackTrace().length, is(not(0)));
+		}
+
+
+		@Test
+		public void stacklessPerCallDoesNotAffectRuntimeExceptions()
+		{
+			IllegalStateException caught = new IllegalStateException();
+
+			assertThat(Exceptional.uncheck(caught, false), is(sameInstance(caught)));
+		}
+
+
+		@Test
+		public void repeatedTranslationIsConsistent()
+		{
+			CertificateException first = new CertificateException();
+			CertificateException second = new CertificateException();
+
+			assertThat(Exceptional.uncheck(first), is(instanceOf(UncheckedSecurityException.class)));
+			assertThat(Exceptional.uncheck(second), is(instanceOf(UncheckedSecurityException.class)));
+			assertThat(Exceptional.uncheck(second).getCause(), is(sameInstance(second)));
+		}
+	}
+
 	@Nested
 	public class Rethrow {
 
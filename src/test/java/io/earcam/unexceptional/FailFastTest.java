@@ -0,0 +1,321 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.EmeticStream.emesis;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+
+public class FailFastTest {
+
+	private final IOException kaboom = new IOException("kaboom");
+
+
+	private Throwable thrownBy(Runnable runnable)
+	{
+		try {
+			runnable.run();
+		} catch(Throwable thrown) {
+			return thrown;
+		}
+		fail("should not reach here");
+		return null;
+	}
+
+
+	private static void awaitSuppressed(Throwable thrown, int count) throws InterruptedException
+	{
+		for(int i = 0; i < 500 && thrown.getSuppressed().length < count; i++) {
+			MILLISECONDS.sleep(10);
+		}
+	}
+
+
+	@Test
+	public void sequentialFailureIsPropagatedAsIs()
+	{
+		Throwable thrown = thrownBy(() -> emesis(Stream.of(1, 2, 3)).forEach(i -> {
+			throw kaboom;
+		}));
+
+		assertThat(thrown, is(instanceOf(UncheckedIOException.class)));
+		assertThat(thrown.getCause(), is(sameInstance(kaboom)));
+		assertThat(thrown.getSuppressed(), is(emptyArray()));
+	}
+
+
+	@Test
+	public void parallelFailureIsTheOriginalNotACopy()
+	{
+		Throwable thrown = thrownBy(() -> emesis(IntStream.range(0, 1_000).boxed()).parallel().forEach(i -> {
+			if(i == 500) {
+				throw kaboom;
+			}
+		}));
+
+		assertThat(thrown, is(instanceOf(UncheckedIOException.class)));
+		assertThat(thrown.getCause(), is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void parallelFailureIsRethrownUnchangedWhenSneaky()
+	{
+		Throwable thrown = thrownBy(() -> emesis(IntStream.range(0, 1_000).boxed()).parallel().sneaky().map(i -> {
+			if(i == 500) {
+				throw kaboom;
+			}
+			return i;
+		}).reduce(0, Integer::sum));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void otherSplitsStopPullingElementsOnFailure() throws InterruptedException
+	{
+		AtomicBoolean failing = new AtomicBoolean();
+		AtomicInteger pulled = new AtomicInteger();
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			thrownBy(() -> emesis(IntStream.range(0, 10_000).boxed())
+					.parallel(pool)
+					.peek(i -> pulled.incrementAndGet())
+					.forEach(i -> {
+						MILLISECONDS.sleep(1);
+						if(failing.compareAndSet(false, true)) {
+							throw kaboom;
+						}
+					}));
+			int pulledOnFailure = pulled.get();
+			MILLISECONDS.sleep(100);
+
+			assertThat(pulled.get() - pulledOnFailure, is(lessThanOrEqualTo(4)));
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+
+	@Test
+	public void otherSplitsStopPullingElementsOnFailureWhenWriting() throws InterruptedException
+	{
+		AtomicBoolean failing = new AtomicBoolean();
+		AtomicInteger pulled = new AtomicInteger();
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			thrownBy(() -> emesis(IntStream.range(0, 10_000).boxed())
+					.parallel(pool)
+					.peek(i -> pulled.incrementAndGet())
+					.map(i -> {
+						MILLISECONDS.sleep(1);
+						if(failing.compareAndSet(false, true)) {
+							throw kaboom;
+						}
+						return i;
+					})
+					.writeTo(Channels.newChannel(new ByteArrayOutputStream()), (i, b) -> b.putInt(i)));
+			int pulledOnFailure = pulled.get();
+			MILLISECONDS.sleep(100);
+
+			assertThat(pulled.get() - pulledOnFailure, is(lessThanOrEqualTo(4)));
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+
+	@Test
+	public void concurrentFailuresAreSuppressed() throws InterruptedException
+	{
+		CyclicBarrier barrier = new CyclicBarrier(4);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			Throwable thrown = thrownBy(() -> emesis(IntStream.range(0, 4).boxed())
+					.parallel(pool)
+					.forEach(i -> {
+						barrier.await(5, SECONDS);
+						throw new IOException("failure " + i);
+					}));
+			awaitSuppressed(thrown, 3);
+
+			assertThat(thrown, is(instanceOf(UncheckedIOException.class)));
+			assertThat(thrown.getSuppressed(), is(arrayWithSize(3)));
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+
+	@Test
+	public void suppressedFailuresAreCapped()
+	{
+		FailFast failFast = new FailFast(2);
+
+		for(int i = 0; i < 5; i++) {
+			failFast.fail(new IOException("failure " + i));
+		}
+		Throwable thrown = thrownBy(() -> {
+			throw failFast.rethrow(kaboom);
+		});
+
+		assertThat(thrown.getMessage(), is("failure 0"));
+		assertThat(thrown.getSuppressed(), is(arrayWithSize(2)));
+	}
+
+
+	@Test
+	public void repeatedFailureIsNotSuppressedByItself()
+	{
+		FailFast failFast = new FailFast(2);
+
+		failFast.fail(kaboom);
+		failFast.fail(kaboom);
+
+		assertThat(failFast.failed(), is(true));
+		assertThat(kaboom.getSuppressed(), is(emptyArray()));
+	}
+
+
+	@Test
+	public void failureOutsideOfTheSplitsIsPropagated()
+	{
+		FailFast failFast = new FailFast(2);
+
+		Throwable thrown = thrownBy(() -> {
+			throw failFast.rethrow(kaboom);
+		});
+
+		assertThat(failFast.failed(), is(false));
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void bulkTraversalIsDelegatedToTheUnderlyingSpliterator()
+	{
+		AtomicInteger advanced = new AtomicInteger();
+		AtomicInteger traversed = new AtomicInteger();
+		Spliterator<Integer> source = new CountingSpliterator(IntStream.range(0, 10_000).boxed().spliterator(), advanced, traversed);
+
+		int sum = FailFast.evaluate(StreamSupport.stream(source, true), s -> s.mapToInt(Integer::intValue).sum());
+
+		assertThat(sum, is(IntStream.range(0, 10_000).sum()));
+		assertThat(advanced.get(), is(0));
+		assertThat(traversed.get(), is(greaterThan(0)));
+	}
+
+
+	private static final class CountingSpliterator implements Spliterator<Integer> {
+
+		private final Spliterator<Integer> spliterator;
+		private final AtomicInteger advanced;
+		private final AtomicInteger traversed;
+
+
+		CountingSpliterator(Spliterator<Integer> spliterator, AtomicInteger advanced, AtomicInteger traversed)
+		{
+			this.spliterator = spliterator;
+			this.advanced = advanced;
+			this.traversed = traversed;
+		}
+
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Integer> action)
+		{
+			advanced.incrementAndGet();
+			return spliterator.tryAdvance(action);
+		}
+
+
+		@Override
+		public void forEachRemaining(Consumer<? super Integer> action)
+		{
+			traversed.incrementAndGet();
+			spliterator.forEachRemaining(action);
+		}
+
+
+		@Override
+		public Spliterator<Integer> trySplit()
+		{
+			Spliterator<Integer> split = spliterator.trySplit();
+			return split == null ? null : new CountingSpliterator(split, advanced, traversed);
+		}
+
+
+		@Override
+		public long estimateSize()
+		{
+			return spliterator.estimateSize();
+		}
+
+
+		@Override
+		public int characteristics()
+		{
+			return spliterator.characteristics();
+		}
+
+
+		@Override
+		public Comparator<? super Integer> getComparator()
+		{
+			return spliterator.getComparator();
+		}
+	}
+
+
+	@Test
+	public void parallelTerminalOperations()
+	{
+		assertThat(emesis(IntStream.range(0, 100).boxed()).parallel().count(), is(100L));
+		assertThat(emesis(IntStream.range(0, 100).boxed()).parallel().reduce(0, Integer::sum), is(4950));
+		assertThat(emesis(IntStream.range(0, 100).boxed()).parallel().max(Integer::compare).get(), is(99));
+		assertThat(emesis(IntStream.range(0, 100).boxed()).parallel().anyMatch(i -> i == 50), is(true));
+	}
+}
@@ -0,0 +1,277 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.EmeticStream.emesis;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class FusedEmeticStreamTest {
+
+	private final IOException kaboom = new IOException();
+
+
+	private static Stream<Integer> zeroToNine()
+	{
+		return IntStream.range(0, 10).boxed();
+	}
+
+
+	@Test
+	public void consecutiveStagesAreFused()
+	{
+		EmeticStream<String> fused = emesis(zeroToNine())
+				.map(i -> i + 1)
+				.filter(i -> i % 2 == 0)
+				.peek(i -> {})
+				.map(Object::toString);
+
+		assertThat(fused, is(instanceOf(FusedEmeticStream.class)));
+		assertThat(fused.collect(toList()), contains("2", "4", "6", "8", "10"));
+	}
+
+
+	@Test
+	public void fusedStreamIsMaterializedOnce()
+	{
+		EmeticStream<Integer> fused = emesis(zeroToNine())
+				.map(i -> i + 1)
+				.filter(i -> i % 2 == 0);
+
+		Stream<Integer> stream = fused.mapToStream();
+
+		assertThat(fused.mapToStream(), is(sameInstance(stream)));
+		assertThat(fused.collect(toList()), contains(2, 4, 6, 8, 10));
+	}
+
+
+	@Test
+	public void stagesAreInterleavedPerElementAsUnfused()
+	{
+		List<String> trace = new ArrayList<>();
+
+		emesis(zeroToNine().limit(3))
+				.peek(i -> trace.add("a" + i))
+				.filter(i -> i != 1)
+				.map(i -> i * 10)
+				.peek(i -> trace.add("b" + i))
+				.forEachOrdered(i -> trace.add("c" + i));
+
+		assertThat(trace, contains("a0", "b0", "c0", "a1", "a2", "b20", "c20"));
+	}
+
+
+	@Test
+	public void filterDoesNotEvaluateLaterStagesForRejectedElements()
+	{
+		AtomicInteger mapped = new AtomicInteger();
+
+		long count = emesis(zeroToNine())
+				.filter(i -> i < 3)
+				.map(i -> mapped.incrementAndGet())
+				.count();
+
+		assertThat(count, is(3L));
+		assertThat(mapped.get(), is(3));
+	}
+
+
+	@Test
+	public void nullMappingsAreRetained()
+	{
+		List<Object> collected = emesis(zeroToNine().limit(2))
+				.map(i -> (Object) null)
+				.peek(o -> {})
+				.collect(toList());
+
+		assertThat(collected.size(), is(2));
+		assertThat(collected.get(0), is(nullValue()));
+	}
+
+
+	@Test
+	public void checkedExceptionInAnyStageIsTranslatedOnce()
+	{
+		try {
+			emesis(zeroToNine())
+					.map(i -> i + 1)
+					.filter(i -> i > 0)
+					.map(i -> {
+						if(i == 5) {
+							throw kaboom;
+						}
+						return i;
+					})
+					.forEach(i -> {});
+			fail("should not reach here");
+		} catch(UncheckedIOException e) {
+			assertThat(e.getCause(), is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void runtimeExceptionsPassThrough()
+	{
+		IllegalStateException ise = new IllegalStateException();
+		try {
+			emesis(zeroToNine()).map(i -> i).filter(i -> {
+				throw ise;
+			}).collect(toList());
+			fail("should not reach here");
+		} catch(IllegalStateException e) {
+			assertThat(e, is(sameInstance(ise)));
+		}
+	}
+
+
+	@Test
+	public void errorsPassThrough()
+	{
+		Error error = new Error();
+		try {
+			emesis(zeroToNine()).peek(i -> {
+				throw error;
+			}).collect(toList());
+			fail("should not reach here");
+		} catch(Error e) {
+			assertThat(e, is(sameInstance(error)));
+		}
+	}
+
+
+	@Test
+	public void parallelSequentialUnorderedAndOnCloseRetainFusion()
+	{
+		AtomicBoolean closed = new AtomicBoolean();
+
+		EmeticStream<Integer> stream = emesis(zeroToNine())
+				.map(i -> i * 2)
+				.parallel()
+				.unordered()
+				.onClose(() -> closed.set(true))
+				.sequential()
+				.filter(i -> i > 10);
+
+		assertThat(stream, is(instanceOf(FusedEmeticStream.class)));
+		assertThat(stream.isParallel(), is(false));
+		try(EmeticStream<Integer> closing = stream) {
+			assertThat(closing.collect(toList()), contains(12, 14, 16, 18));
+		}
+		assertThat(closed.get(), is(true));
+	}
+
+
+	@Test
+	public void parallelReturnsSelfWhenAlreadyParallel()
+	{
+		EmeticStream<Integer> parallel = emesis(zeroToNine()).map(i -> i).parallel();
+
+		assertThat(parallel.parallel(), is(sameInstance(parallel)));
+		assertThat(parallel.isParallel(), is(true));
+		assertThat(parallel.map(i -> i * i).reduce(0, Integer::sum), is(285));
+	}
+
+
+	@Test
+	public void sneakyAfterPendingStagesRetainsTheirTranslation()
+	{
+		try {
+			emesis(zeroToNine())
+					.map(i -> {
+						throw kaboom;
+					})
+					.sneaky()
+					.forEach(i -> {});
+			fail("should not reach here");
+		} catch(UncheckedIOException e) {
+			assertThat(e.getCause(), is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void sneakyWithoutPendingStagesIsFused()
+	{
+		EmeticStream<Integer> sneaky = emesis(zeroToNine()).filter(i -> true).sneaky();
+
+		assertThat(sneaky.sneaky(), is(sameInstance(sneaky)));
+	}
+
+
+	@Test
+	public void nonFusableOperationsMaterialise()
+	{
+		EmeticStream<Integer> stream = emesis(zeroToNine()).map(i -> 9 - i);
+
+		assertThat(stream.sorted(Integer::compare).map(i -> i * 2).collect(toList()), contains(0, 2, 4, 6, 8, 10, 12, 14, 16, 18));
+	}
+
+
+	@Test
+	public void terminalOperationsOnFusedStream()
+	{
+		assertThat(emesis(zeroToNine()).map(i -> i).allMatch(i -> i < 10), is(true));
+		assertThat(emesis(zeroToNine()).map(i -> i).anyMatch(i -> i == 9), is(true));
+		assertThat(emesis(zeroToNine()).map(i -> i).noneMatch(i -> i > 9), is(true));
+		assertThat(emesis(zeroToNine()).map(i -> i).max(Integer::compare).get(), is(9));
+		assertThat(emesis(zeroToNine()).map(i -> i).min(Integer::compare).get(), is(0));
+		assertThat(emesis(zeroToNine()).map(i -> i).reduce(Integer::sum).get(), is(45));
+		assertThat(emesis(zeroToNine()).map(i -> i).mapToInt(i -> i).sum(), is(45));
+		assertThat(emesis(zeroToNine()).map(i -> i).mapToLong(i -> i).sum(), is(45L));
+		assertThat(emesis(zeroToNine()).map(i -> i).mapToDouble(i -> i).sum(), is(45d));
+		assertThat(emesis(zeroToNine()).map(i -> i).flatMap(Stream::of).count(), is(10L));
+		assertThat(emesis(zeroToNine()).map(i -> i).flatMapToInt(IntStream::of).sum(), is(45));
+		assertThat(emesis(zeroToNine()).map(i -> (long) i).flatMapToLong(LongStream::of).sum(), is(45L));
+		assertThat(emesis(zeroToNine()).map(i -> (double) i).flatMapToDouble(DoubleStream::of).sum(), is(45d));
+		assertThat(emesis(zeroToNine()).map(i -> i).iterator().next(), is(0));
+		assertThat(emesis(zeroToNine()).map(i -> i).collect(ArrayList::new, ArrayList::add, ArrayList::addAll).size(), is(10));
+	}
+
+
+	@Test
+	public void forEachOnFusedStream()
+	{
+		List<Integer> consumed = new ArrayList<>();
+
+		emesis(zeroToNine()).filter(i -> i < 3).forEachOrdered(consumed::add);
+		emesis(zeroToNine()).filter(i -> i > 8).forEach(consumed::add);
+
+		assertThat(consumed, contains(0, 1, 2, 9));
+	}
+}
@@ -0,0 +1,177 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileLock;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delegates to a real {@link AsynchronousFileChannel}, delaying completions of handler-based reads and writes, tracking
+ * how many are in flight, and optionally failing the transfer at a given position. Completions arriving once closed
+ * are delivered without delay.
+ */
+final class InstrumentedFileChannel extends AsynchronousFileChannel {
+
+	private final AsynchronousFileChannel delegate;
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+	private final long delayMillis;
+	final AtomicInteger inFlight = new AtomicInteger();
+	final AtomicInteger maxInFlight = new AtomicInteger();
+	volatile long failAt = -1;
+	volatile IOException failure;
+
+
+	InstrumentedFileChannel(Path file, long delayMillis, OpenOption... options) throws IOException
+	{
+		this.delegate = AsynchronousFileChannel.open(file, options);
+		this.delayMillis = delayMillis;
+	}
+
+
+	private <A> CompletionHandler<Integer, A> instrumented(long position, CompletionHandler<Integer, ? super A> handler)
+	{
+		maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+		return new CompletionHandler<Integer, A>() {
+
+			@Override
+			public void completed(Integer result, A attachment)
+			{
+				Runnable completion = () -> {
+					inFlight.decrementAndGet();
+					if(position == failAt) {
+						handler.failed(failure, attachment);
+					} else {
+						handler.completed(result, attachment);
+					}
+				};
+				try {
+					scheduler.schedule(completion, delayMillis, MILLISECONDS);
+				} catch(RejectedExecutionException closed) {
+					completion.run();
+				}
+			}
+
+
+			@Override
+			public void failed(Throwable thrown, A attachment)
+			{
+				inFlight.decrementAndGet();
+				handler.failed(thrown, attachment);
+			}
+		};
+	}
+
+
+	@Override
+	public <A> void read(ByteBuffer dst, long position, A attachment, CompletionHandler<Integer, ? super A> handler)
+	{
+		delegate.read(dst, position, attachment, instrumented(position, handler));
+	}
+
+
+	@Override
+	public <A> void write(ByteBuffer src, long position, A attachment, CompletionHandler<Integer, ? super A> handler)
+	{
+		delegate.write(src, position, attachment, instrumented(position, handler));
+	}
+
+
+	@Override
+	public Future<Integer> read(ByteBuffer dst, long position)
+	{
+		return delegate.read(dst, position);
+	}
+
+
+	@Override
+	public Future<Integer> write(ByteBuffer src, long position)
+	{
+		return delegate.write(src, position);
+	}
+
+
+	@Override
+	public long size() throws IOException
+	{
+		return delegate.size();
+	}
+
+
+	@Override
+	public AsynchronousFileChannel truncate(long size) throws IOException
+	{
+		delegate.truncate(size);
+		return this;
+	}
+
+
+	@Override
+	public void force(boolean metaData) throws IOException
+	{
+		delegate.force(metaData);
+	}
+
+
+	@Override
+	public <A> void lock(long position, long size, boolean shared, A attachment, CompletionHandler<FileLock, ? super A> handler)
+	{
+		delegate.lock(position, size, shared, attachment, handler);
+	}
+
+
+	@Override
+	public Future<FileLock> lock(long position, long size, boolean shared)
+	{
+		return delegate.lock(position, size, shared);
+	}
+
+
+	@Override
+	public FileLock tryLock(long position, long size, boolean shared) throws IOException
+	{
+		return delegate.tryLock(position, size, shared);
+	}
+
+
+	@Override
+	public boolean isOpen()
+	{
+		return delegate.isOpen();
+	}
+
+
+	@Override
+	public void close() throws IOException
+	{
+		scheduler.shutdown();
+		delegate.close();
+	}
+}
@@ -0,0 +1,260 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.EmeticStream.emesis;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class LazyFlatMapSpliteratorTest {
+
+	private final AtomicInteger pulled = new AtomicInteger();
+	private final AtomicInteger opened = new AtomicInteger();
+	private final AtomicInteger closed = new AtomicInteger();
+
+
+	private Stream<Integer> inner(int outer)
+	{
+		opened.incrementAndGet();
+		return IntStream.range(0, 1_000).map(i -> outer * 1_000 + i).boxed()
+				.peek(i -> pulled.incrementAndGet())
+				.onClose(closed::incrementAndGet);
+	}
+
+
+	private static EmeticStream<Integer> outer(int size)
+	{
+		return emesis(IntStream.range(0, size).boxed());
+	}
+
+
+	private Throwable thrownBy(Runnable runnable)
+	{
+		try {
+			runnable.run();
+		} catch(Throwable thrown) {
+			return thrown;
+		}
+		fail("should not reach here");
+		return null;
+	}
+
+
+	@Test
+	public void flattensInEncounterOrder()
+	{
+		List<Integer> flattened = outer(3).flatMapLazy(i -> Stream.of(i, i * 10)).collect(toList());
+
+		assertThat(flattened, contains(0, 0, 1, 10, 2, 20));
+	}
+
+
+	@Test
+	public void shortCircuitPullsOnlyWhatIsNeeded()
+	{
+		boolean found;
+		try(EmeticStream<Integer> flattened = outer(10).flatMapLazy(this::inner)) {
+			found = flattened.anyMatch(i -> i == 1_004);
+		}
+
+		assertThat(found, is(true));
+		assertThat(pulled.get(), is(1_005));
+		assertThat(opened.get(), is(2));
+		assertThat(closed.get(), is(2));
+	}
+
+
+	@Test
+	public void limitPullsOnlyWhatIsNeeded()
+	{
+		List<Integer> limited = outer(10).flatMapLazy(this::inner).mapToStream().limit(3).collect(toList());
+
+		assertThat(limited, contains(0, 1, 2));
+		assertThat(pulled.get(), is(lessThanOrEqualTo(4)));
+	}
+
+
+	@Test
+	public void exhaustedInnerStreamsAreClosedPromptly()
+	{
+		outer(3).flatMapLazy(this::inner).forEach(i -> {
+			assertThat(closed.get(), is(i / 1_000));
+		});
+
+		assertThat(closed.get(), is(3));
+	}
+
+
+	@Test
+	public void exhaustedInnerStreamsAreClosedPromptlyWhenPulled()
+	{
+		Optional<Integer> found = outer(3).flatMapLazy(this::inner).mapToStream().filter(i -> i == 2_000).findFirst();
+
+		assertThat(found.get(), is(2_000));
+		assertThat(closed.get(), is(2));
+	}
+
+
+	@Test
+	public void abandonedInnerStreamIsClosedWithOuter()
+	{
+		AtomicInteger outerClosed = new AtomicInteger();
+		try(EmeticStream<Integer> flattened = outer(10).onClose(outerClosed::incrementAndGet).flatMapLazy(this::inner)) {
+			flattened.anyMatch(i -> i == 5);
+
+			assertThat(closed.get(), is(0));
+		}
+
+		assertThat(closed.get(), is(1));
+		assertThat(outerClosed.get(), is(1));
+	}
+
+
+	@Test
+	public void parallelFlattensAll()
+	{
+		List<Integer> flattened = outer(100).parallel().flatMapLazy(this::inner).collect(toList());
+
+		assertThat(flattened, is(IntStream.range(0, 100_000).boxed().collect(toList())));
+		assertThat(closed.get(), is(100));
+	}
+
+
+	@Test
+	public void exhaustedSplitsAreDeregistered()
+	{
+		Queue<LazyFlatMapSpliterator<Integer, Integer>> splits = new ConcurrentLinkedQueue<>();
+
+		try(Stream<Integer> flattened = LazyFlatMapSpliterator.flatMap(IntStream.range(0, 1_000).boxed().parallel(), this::inner, splits)) {
+			assertThat(flattened.count(), is(1_000_000L));
+			assertThat(splits, is(empty()));
+		}
+	}
+
+
+	@Test
+	public void parallelShortCircuitClosesAbandonedInnerStreamsWithOuter()
+	{
+		try(EmeticStream<Integer> flattened = outer(1_000).parallel().flatMapLazy(this::inner)) {
+			assertThat(flattened.anyMatch(i -> i % 1_000 == 500), is(true));
+		}
+
+		assertThat(closed.get(), is(opened.get()));
+	}
+
+
+	@Test
+	public void nullInnerStreamIsEmpty()
+	{
+		List<Integer> flattened = outer(4).flatMapLazy(i -> i % 2 == 0 ? null : Stream.of(i)).collect(toList());
+
+		assertThat(flattened, contains(1, 3));
+		assertThat(outer(4).flatMapLazy(i -> null).collect(toList()), is(empty()));
+	}
+
+
+	@Test
+	public void mapperFailureIsTranslated()
+	{
+		IOException kaboom = new IOException("kaboom");
+
+		Throwable thrown = thrownBy(() -> outer(4).flatMapLazy(i -> {
+			throw kaboom;
+		}).collect(toList()));
+
+		assertThat(thrown, is(instanceOf(UncheckedIOException.class)));
+		assertThat(thrown.getCause(), is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void mapperFailureIsUnchangedWhenSneaky()
+	{
+		IOException kaboom = new IOException("kaboom");
+
+		Throwable thrown = thrownBy(() -> outer(4).sneaky().flatMapLazy(i -> {
+			throw kaboom;
+		}).collect(toList()));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void failedInnerStreamIsClosed()
+	{
+		thrownBy(() -> outer(2).flatMapLazy(this::inner).forEach(i -> {
+			if(i == 10) {
+				throw new IOException("kaboom");
+			}
+		}));
+
+		assertThat(closed.get(), is(1));
+	}
+
+
+	@Test
+	public void tolerantFlatMapLazyDivertsFailures()
+	{
+		List<Failure<?>> failures = new ArrayList<>();
+
+		List<Integer> flattened = outer(4).onError(failures::add)
+				.flatMapLazy(i -> {
+					if(i % 2 != 0) {
+						throw new IOException("odd");
+					}
+					return Stream.of(i);
+				})
+				.collect(toList());
+
+		assertThat(flattened, contains(0, 2));
+		assertThat(failures.size(), is(2));
+	}
+
+
+	@Test
+	public void characteristicsRetainOnlyOrdering()
+	{
+		Spliterator<Integer> spliterator = outer(4).flatMapLazy(i -> Stream.of(i)).spliterator();
+
+		assertThat(spliterator.characteristics(), is(Spliterator.ORDERED));
+		assertThat(spliterator.estimateSize(), is(Long.MAX_VALUE));
+	}
+}
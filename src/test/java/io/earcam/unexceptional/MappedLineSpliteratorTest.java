@@ -0,0 +1,341 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.MalformedInputException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MappedLineSpliteratorTest {
+
+	private Path file;
+
+
+	@BeforeEach
+	public void createFile() throws IOException
+	{
+		file = Files.createTempFile(MappedLineSpliteratorTest.class.getSimpleName(), ".txt");
+	}
+
+
+	@AfterEach
+	public void deleteFile() throws IOException
+	{
+		Files.deleteIfExists(file);
+	}
+
+
+	private Path write(String content) throws IOException
+	{
+		return Files.write(file, content.getBytes(UTF_8));
+	}
+
+
+	private static List<String> readLines(String content)
+	{
+		return new BufferedReader(new StringReader(content)).lines().collect(toList());
+	}
+
+
+	private List<String> mapped(long regionSize) throws IOException
+	{
+		try(Stream<String> lines = MappedLineSpliterator.lines(file, UTF_8, regionSize)) {
+			return lines.collect(toList());
+		}
+	}
+
+
+	private static String numberedLines(int count)
+	{
+		return IntStream.range(0, count).mapToObj(i -> "line " + i + " ünïcødé").collect(Collectors.joining("\n", "", "\n"));
+	}
+
+
+	@Test
+	public void terminatorsAsPerBufferedReader() throws IOException
+	{
+		String content = "a\nb\r\nc\rd\n\ne\r\r\nf";
+		write(content);
+
+		try(EmeticStream<String> lines = EmeticStream.lines(file)) {
+			assertThat(lines.collect(toList()), is(readLines(content)));
+		}
+	}
+
+
+	@Test
+	public void trailingTerminatorDoesNotAddEmptyLine() throws IOException
+	{
+		write("a\nb\n");
+
+		try(EmeticStream<String> lines = EmeticStream.lines(file)) {
+			assertThat(lines.collect(toList()), contains("a", "b"));
+		}
+	}
+
+
+	@Test
+	public void emptyFileHasNoLines() throws IOException
+	{
+		try(EmeticStream<String> lines = EmeticStream.lines(file)) {
+			assertThat(lines.collect(toList()), is(empty()));
+		}
+	}
+
+
+	@Test
+	public void linesSpanningRegionsAreDecoded() throws IOException
+	{
+		String content = numberedLines(1_000) + "\r\n\r";
+		write(content);
+
+		for(long regionSize : new long[] { 1, 2, 3, 7, 64, 4_096 }) {
+			assertThat("region size " + regionSize, mapped(regionSize), is(readLines(content)));
+		}
+	}
+
+
+	@Test
+	public void parallelSplitsOnLineBoundaries() throws IOException
+	{
+		String content = numberedLines(50_000);
+		write(content);
+
+		try(EmeticStream<String> lines = EmeticStream.lines(file).parallel()) {
+			assertThat(lines.collect(toList()), is(readLines(content)));
+		}
+	}
+
+
+	@Test
+	public void parallelSplitsOnLineBoundariesAcrossRegions() throws IOException
+	{
+		String content = numberedLines(20_000).replace("\n", "\r\n");
+		write(content);
+
+		try(Stream<String> lines = MappedLineSpliterator.lines(file, UTF_8, 1_000).parallel()) {
+			assertThat(lines.collect(toList()), is(readLines(content)));
+		}
+	}
+
+
+	@Test
+	public void splitsAreBalanced() throws IOException
+	{
+		write(numberedLines(50_000));
+
+		try(Stream<String> lines = MappedLineSpliterator.lines(file, UTF_8)) {
+			Spliterator<String> suffix = lines.spliterator();
+			long size = suffix.estimateSize();
+			Spliterator<String> prefix = suffix.trySplit();
+
+			assertThat(prefix.estimateSize() + suffix.estimateSize(), is(size));
+			assertThat(Math.abs(prefix.estimateSize() - suffix.estimateSize()), is(lessThan(64L)));
+			assertThat(suffix.characteristics(), is(Spliterator.ORDERED | Spliterator.NONNULL));
+		}
+	}
+
+
+	@Test
+	public void smallRangesAreNotSplit() throws IOException
+	{
+		write("a\nb\nc\n");
+
+		try(Stream<String> lines = MappedLineSpliterator.lines(file, UTF_8)) {
+			assertThat(lines.spliterator().trySplit(), is(nullValue()));
+		}
+	}
+
+
+	@Test
+	public void singleLongLineIsNotSplit() throws IOException
+	{
+		write(new String(new char[(int) MappedLineSpliterator.MIN_SPLIT * 4]).replace('\0', 'x'));
+
+		try(Stream<String> lines = MappedLineSpliterator.lines(file, UTF_8)) {
+			assertThat(lines.spliterator().trySplit(), is(nullValue()));
+		}
+	}
+
+
+	@Test
+	public void isoLatin1IsMapped() throws IOException
+	{
+		Files.write(file, "café\nnaïve".getBytes(ISO_8859_1));
+
+		try(EmeticStream<String> lines = EmeticStream.lines(file, ISO_8859_1)) {
+			assertThat(lines.collect(toList()), contains("café", "naïve"));
+		}
+	}
+
+
+	@Test
+	public void otherCharsetsFallBackToFilesLines() throws IOException
+	{
+		Files.write(file, "a\nb".getBytes(UTF_16));
+
+		try(EmeticStream<String> lines = EmeticStream.lines(file, UTF_16)) {
+			assertThat(lines.collect(toList()), contains("a", "b"));
+		}
+	}
+
+
+	@Test
+	public void malformedInputFailsOnTraversal() throws IOException
+	{
+		Files.write(file, new byte[] { 'a', '\n', (byte) 0xC3, '\n' });
+
+		try(EmeticStream<String> lines = EmeticStream.lines(file)) {
+			Iterator<String> iterator = lines.iterator();
+
+			assertThat(iterator.next(), is("a"));
+			UncheckedIOException thrown = assertThrows(UncheckedIOException.class, iterator::next);
+			assertThat(thrown.getCause(), is(instanceOf(MalformedInputException.class)));
+		}
+	}
+
+
+	@Test
+	public void missingFileFails()
+	{
+		UncheckedIOException thrown = assertThrows(UncheckedIOException.class, () -> EmeticStream.lines(file.resolveSibling("missing-" + file.getFileName())));
+
+		assertThat(thrown.getCause(), is(instanceOf(NoSuchFileException.class)));
+	}
+
+
+	@Test
+	public void traversalAfterCloseFails() throws IOException
+	{
+		write("a\nb\n");
+
+		Stream<String> lines = MappedLineSpliterator.lines(file, UTF_8);
+		Iterator<String> iterator = lines.iterator();
+		iterator.next();
+		lines.close();
+		lines.close();
+
+		assertThrows(IllegalStateException.class, iterator::next);
+	}
+
+
+	@Test
+	public void closingWithinTraversalStopsOnceCurrentLineConsumed() throws IOException
+	{
+		write(numberedLines(100));
+		List<String> consumed = new ArrayList<>();
+
+		Stream<String> lines = MappedLineSpliterator.lines(file, UTF_8);
+		Spliterator<String> spliterator = lines.spliterator();
+
+		assertThrows(IllegalStateException.class, () -> spliterator.forEachRemaining(l -> {
+			consumed.add(l);
+			lines.close();
+		}));
+		assertThat(consumed, contains("line 0 ünïcødé"));
+	}
+
+
+	@Test
+	public void closingParallelStreamAfterFailureWhileSiblingsTraverse() throws IOException
+	{
+		write(numberedLines(100_000));
+		RuntimeException kaboom = new RuntimeException("kaboom");
+
+		for(int i = 0; i < 10; i++) {
+			try(Stream<String> lines = MappedLineSpliterator.lines(file, UTF_8, 64 * 1024)) {
+				RuntimeException thrown = assertThrows(RuntimeException.class, () -> lines.parallel().forEach(l -> {
+					if(l.startsWith("line 1234 ")) {
+						throw kaboom;
+					}
+				}));
+				assertThat(thrown.getCause() == null ? thrown : thrown.getCause(), is(sameInstance(kaboom)));
+			}
+			LockSupport.parkNanos(MILLISECONDS.toNanos(20));
+		}
+	}
+
+
+	@Test
+	public void shortCircuitReadsOnlyWhatIsNeeded() throws IOException
+	{
+		byte[] bytes = numberedLines(1_000).getBytes(UTF_8);
+		byte[] malformed = new byte[bytes.length + 1];
+		System.arraycopy(bytes, 0, malformed, 0, bytes.length);
+		malformed[bytes.length] = (byte) 0xC3;
+		Files.write(file, malformed);
+
+		try(EmeticStream<String> lines = EmeticStream.lines(file)) {
+			assertThat(lines.anyMatch(l -> l.startsWith("line 5 ")), is(true));
+		}
+	}
+
+
+	@Test
+	public void estimateIsRemainingBytes() throws IOException
+	{
+		write("abc\ndef\n");
+
+		try(Stream<String> lines = MappedLineSpliterator.lines(file, UTF_8)) {
+			Spliterator<String> spliterator = lines.spliterator();
+			spliterator.tryAdvance(l -> {});
+
+			assertThat(spliterator.estimateSize(), is(4L));
+		}
+	}
+
+
+	@Test
+	public void mappingsAreReleasedExplicitly()
+	{
+		assertThat(MappedLineSpliterator.unmaps(), is(true));
+	}
+}
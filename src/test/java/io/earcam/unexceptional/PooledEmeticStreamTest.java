@@ -0,0 +1,300 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.EmeticStream.emesis;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class PooledEmeticStreamTest {
+
+	private final ForkJoinPool pool = new ForkJoinPool(3);
+	private final IOException kaboom = new IOException("kaboom");
+
+
+	@AfterEach
+	public void shutdown()
+	{
+		pool.shutdownNow();
+	}
+
+
+	private EmeticStream<Integer> zeroToNinetyNine()
+	{
+		return emesis(IntStream.range(0, 100).boxed()).parallel(pool);
+	}
+
+
+	private <T> T explode(Object ignored) throws IOException
+	{
+		throw kaboom;
+	}
+
+
+	private Throwable thrownBy(Runnable runnable)
+	{
+		try {
+			runnable.run();
+		} catch(Throwable thrown) {
+			return thrown;
+		}
+		fail("should not reach here");
+		return null;
+	}
+
+
+	@Test
+	public void terminalOperationExecutesWithinThePool()
+	{
+		Set<ForkJoinPool> pools = ConcurrentHashMap.newKeySet();
+
+		zeroToNinetyNine()
+				.map(i -> i * 2)
+				.forEach(i -> pools.add(ForkJoinTask.getPool()));
+
+		assertThat(pools, contains(pool));
+	}
+
+
+	@Test
+	public void orderedTerminalOperationExecutesWithinThePool()
+	{
+		Set<ForkJoinPool> pools = ConcurrentHashMap.newKeySet();
+		List<Integer> ordered = new ArrayList<>();
+
+		zeroToNinetyNine()
+				.peek(i -> pools.add(ForkJoinTask.getPool()))
+				.forEachOrdered(ordered::add);
+
+		assertThat(pools, contains(pool));
+		assertThat(ordered, is(equalTo(IntStream.range(0, 100).boxed().collect(toList()))));
+	}
+
+
+	@Test
+	public void poolIsRetainedThroughIntermediateOperations()
+	{
+		Set<ForkJoinPool> pools = zeroToNinetyNine()
+				.filter(i -> i % 2 == 0)
+				.flatMap(i -> Stream.of(i, i))
+				.sorted(Integer::compare)
+				.unordered()
+				.onClose(() -> {})
+				.sneaky()
+				.map(i -> ForkJoinTask.getPool())
+				.collect(toSet());
+
+		assertThat(pools, contains(pool));
+	}
+
+
+	@Test
+	public void isParallel()
+	{
+		EmeticStream<Integer> pooled = emesis(Stream.of(1, 2, 3)).parallel(pool);
+
+		assertThat(pooled.isParallel(), is(true));
+		assertThat(pooled.parallel(), is(sameInstance(pooled)));
+		assertThat(pooled.parallel(pool), is(sameInstance(pooled)));
+	}
+
+
+	@Test
+	public void rebindingToAnotherPool()
+	{
+		ForkJoinPool other = new ForkJoinPool(1);
+		try {
+			Set<ForkJoinPool> pools = zeroToNinetyNine()
+					.parallel(other)
+					.map(i -> ForkJoinTask.getPool())
+					.collect(toSet());
+
+			assertThat(pools, contains(other));
+		} finally {
+			other.shutdownNow();
+		}
+	}
+
+
+	@Test
+	public void sequentialDiscardsThePool()
+	{
+		Set<Optional<ForkJoinPool>> pools = zeroToNinetyNine()
+				.sequential()
+				.map(i -> Optional.ofNullable(ForkJoinTask.getPool()))
+				.collect(toSet());
+
+		assertThat(pools, contains(Optional.empty()));
+	}
+
+
+	@Test
+	public void executesDirectlyWhenAlreadyWithinThePool() throws Exception
+	{
+		Set<ForkJoinPool> pools = pool.submit(() -> zeroToNinetyNine()
+				.map(i -> ForkJoinTask.getPool())
+				.collect(toSet())).get();
+
+		assertThat(pools, contains(pool));
+	}
+
+
+	@Test
+	public void checkedExceptionIsUnchecked()
+	{
+		Throwable thrown = thrownBy(() -> emesis(Stream.of(1)).parallel(pool).map(this::explode).collect(toList()));
+
+		assertThat(thrown, is(instanceOf(UncheckedIOException.class)));
+		assertThat(thrown.getCause(), is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void checkedExceptionIsRethrownUnchangedWhenSneaky()
+	{
+		Throwable thrown = thrownBy(() -> emesis(Stream.of(1)).parallel(pool).sneaky().map(this::explode).collect(toList()));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void errorIsRethrownUnchanged()
+	{
+		OutOfMemoryError oome = new OutOfMemoryError();
+
+		Throwable thrown = thrownBy(() -> emesis(Stream.of(1)).parallel(pool).forEach(i -> {
+			throw oome;
+		}));
+
+		assertThat(thrown, is(sameInstance(oome)));
+	}
+
+
+	@Test
+	public void interruptionWhileAwaitingTheTerminalOperationResetsTheFlag()
+	{
+		CountDownLatch latch = new CountDownLatch(1);
+		Thread.currentThread().interrupt();
+
+		Throwable thrown;
+		try {
+			thrown = thrownBy(() -> zeroToNinetyNine().forEach(i -> latch.await()));
+		} finally {
+			latch.countDown();
+		}
+
+		assertThat(Thread.interrupted(), is(true));
+		assertThat(thrown, is(instanceOf(UncheckedException.class)));
+		assertThat(thrown.getCause(), is(instanceOf(InterruptedException.class)));
+	}
+
+
+	@Test
+	public void interruptionWhileAwaitingTheTerminalOperationAbandonsItWithoutInterruptingTheWorker() throws InterruptedException
+	{
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger processed = new AtomicInteger();
+		AtomicBoolean workerInterrupted = new AtomicBoolean();
+		AtomicReference<Throwable> thrown = new AtomicReference<>();
+
+		Thread caller = new Thread(() -> thrown.set(thrownBy(() -> emesis(IntStream.range(0, 10_000).boxed()).parallel(pool).forEach(i -> {
+			processed.incrementAndGet();
+			entered.countDown();
+			try {
+				release.await();
+			} catch(InterruptedException e) {
+				workerInterrupted.set(true);
+				throw e;
+			}
+		}))));
+		caller.start();
+		assertThat(entered.await(5, SECONDS), is(true));
+		caller.interrupt();
+		caller.join(SECONDS.toMillis(5));
+
+		assertThat(caller.isAlive(), is(false));
+		assertThat(thrown.get().getCause(), is(instanceOf(InterruptedException.class)));
+
+		release.countDown();
+
+		assertThat(pool.awaitQuiescence(5, SECONDS), is(true));
+		assertThat(workerInterrupted.get(), is(false));
+		assertThat(processed.get(), is(lessThan(10_000)));
+	}
+
+
+	@Test
+	public void terminalOperations()
+	{
+		assertThat(zeroToNinetyNine().count(), is(100L));
+		assertThat(zeroToNinetyNine().allMatch(i -> i < 100), is(true));
+		assertThat(zeroToNinetyNine().anyMatch(i -> i == 42), is(true));
+		assertThat(zeroToNinetyNine().noneMatch(i -> i == 100), is(true));
+		assertThat(zeroToNinetyNine().max(Integer::compare), is(Optional.of(99)));
+		assertThat(zeroToNinetyNine().min(Integer::compare), is(Optional.of(0)));
+		assertThat(zeroToNinetyNine().reduce(Integer::sum), is(Optional.of(4950)));
+		assertThat(zeroToNinetyNine().reduce(0, Integer::sum), is(4950));
+		assertThat(zeroToNinetyNine().collect(ArrayList<Integer>::new, List::add, List::addAll), hasSize(100));
+		assertThat(zeroToNinetyNine().filter(i -> i < 3).collect(toList()), containsInAnyOrder(0, 1, 2));
+	}
+
+
+	@Test
+	public void closeInvokesCloseHandlers()
+	{
+		List<String> closed = new ArrayList<>();
+		EmeticStream<Integer> stream = zeroToNinetyNine().onClose(() -> closed.add("closed"));
+
+		stream.close();
+
+		assertThat(closed, contains("closed"));
+	}
+}
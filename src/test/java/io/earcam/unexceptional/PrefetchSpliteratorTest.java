@@ -0,0 +1,271 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.EmeticStream.emesis;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PrefetchSpliteratorTest {
+
+	private final IOException kaboom = new IOException("kaboom");
+
+
+	@BeforeEach
+	public void clearInterrupt()
+	{
+		while(Thread.interrupted());
+	}
+
+
+	private static List<Integer> zeroTo(int exclusive)
+	{
+		return IntStream.range(0, exclusive).boxed().collect(toList());
+	}
+
+
+	private Throwable thrownBy(Runnable runnable)
+	{
+		try {
+			runnable.run();
+		} catch(Throwable thrown) {
+			return thrown;
+		}
+		fail("should not reach here");
+		return null;
+	}
+
+
+	@Test
+	public void elementsAreDeliveredInOrder()
+	{
+		List<Integer> prefetched = emesis(zeroTo(1_000).stream()).prefetch(8).collect(toList());
+
+		assertThat(prefetched, is(zeroTo(1_000)));
+	}
+
+
+	@Test
+	public void upstreamIsDrainedOnAnotherThread()
+	{
+		Set<Thread> producers = emesis(zeroTo(10).stream())
+				.map(i -> Thread.currentThread())
+				.prefetch(4)
+				.collect(toSet());
+
+		assertThat(producers, not(hasItem(Thread.currentThread())));
+	}
+
+
+	@Test
+	public void producerRunsNoFurtherAheadThanDepth() throws InterruptedException
+	{
+		AtomicInteger produced = new AtomicInteger();
+
+		try(EmeticStream<Integer> stream = emesis(Stream.iterate(0, i -> i + 1)).peek(i -> produced.incrementAndGet()).prefetch(4)) {
+			Iterator<Integer> iterator = stream.iterator();
+			assertThat(iterator.next(), is(0));
+			MILLISECONDS.sleep(100);
+
+			assertThat(produced.get(), is(lessThanOrEqualTo(1 + 4 + 1)));
+		}
+	}
+
+
+	@Test
+	public void upstreamFailureIsDeliveredAfterPrecedingElements()
+	{
+		List<Integer> consumed = new ArrayList<>();
+
+		Throwable thrown = thrownBy(() -> emesis(zeroTo(10).stream())
+				.map(i -> {
+					if(i == 5) {
+						throw kaboom;
+					}
+					return i;
+				})
+				.prefetch(16)
+				.forEach(consumed::add));
+
+		assertThat(consumed, contains(0, 1, 2, 3, 4));
+		assertThat(thrown, is(instanceOf(UncheckedIOException.class)));
+		assertThat(thrown.getCause(), is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void upstreamFailureIsRethrownUnchangedWhenSneaky()
+	{
+		Throwable thrown = thrownBy(() -> emesis(zeroTo(10).stream())
+				.sneaky()
+				.map(i -> {
+					throw kaboom;
+				})
+				.prefetch(2)
+				.collect(toList()));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void upstreamErrorIsRethrownUnchanged()
+	{
+		OutOfMemoryError oome = new OutOfMemoryError();
+
+		Throwable thrown = thrownBy(() -> emesis(zeroTo(10).stream())
+				.peek(i -> {
+					throw oome;
+				})
+				.prefetch(2)
+				.collect(toList()));
+
+		assertThat(thrown, is(sameInstance(oome)));
+	}
+
+
+	@Test
+	public void closeCancelsTheProducer() throws InterruptedException
+	{
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(1);
+		CountDownLatch never = new CountDownLatch(1);
+		AtomicInteger closed = new AtomicInteger();
+
+		try(EmeticStream<Integer> stream = emesis(zeroTo(10).stream().onClose(closed::incrementAndGet))
+				.peek(i -> {
+					if(i == 1) {
+						try {
+							blocked.countDown();
+							never.await();
+						} catch(InterruptedException e) {
+							interrupted.countDown();
+						}
+					}
+				})
+				.prefetch(4)) {
+			assertThat(stream.iterator().next(), is(0));
+			assertThat(blocked.await(5, SECONDS), is(true));
+		}
+
+		assertThat(interrupted.await(5, SECONDS), is(true));
+		assertThat(closed.get(), is(1));
+	}
+
+
+	@Test
+	public void consumerFailureCancelsTheProducer() throws InterruptedException
+	{
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(1);
+		CountDownLatch never = new CountDownLatch(1);
+		RuntimeException oops = new IllegalStateException("oops");
+
+		EmeticStream<Integer> stream = emesis(zeroTo(10).stream())
+				.peek(i -> {
+					if(i == 1) {
+						try {
+							blocked.countDown();
+							never.await();
+						} catch(InterruptedException e) {
+							interrupted.countDown();
+						}
+					}
+				})
+				.prefetch(4);
+
+		Throwable thrown = thrownBy(() -> stream.forEach(i -> {
+			Exceptional.run(() -> blocked.await(5, SECONDS));
+			throw oops;
+		}));
+
+		assertThat(thrown, is(sameInstance(oops)));
+		assertThat(interrupted.await(5, SECONDS), is(true));
+	}
+
+
+	@Test
+	public void nullsArePreserved()
+	{
+		List<Integer> prefetched = emesis(Stream.of(1, null, 3)).prefetch(1).collect(toList());
+
+		assertThat(prefetched, contains(1, null, 3));
+	}
+
+
+	@Test
+	public void emptySource()
+	{
+		assertThat(emesis(Stream.empty()).prefetch(1).collect(toList()), is(empty()));
+	}
+
+
+	@Test
+	public void exhaustedStreamRemainsExhausted()
+	{
+		Iterator<Integer> iterator = emesis(Stream.of(1)).prefetch(1).iterator();
+
+		assertThat(iterator.next(), is(1));
+		assertThat(iterator.hasNext(), is(false));
+		assertThat(iterator.hasNext(), is(false));
+	}
+
+
+	@Test
+	public void depthMustBePositive()
+	{
+		assertThat(thrownBy(() -> emesis(Stream.of(1)).prefetch(0)), is(instanceOf(IllegalArgumentException.class)));
+	}
+
+
+	@Test
+	public void prefetchIsRetainedThroughFusedBlockingAndPooledStreams()
+	{
+		assertThat(emesis(zeroTo(10).stream()).map(i -> i).prefetch(2).collect(toList()), is(zeroTo(10)));
+		assertThat(emesis(zeroTo(10).stream()).blocking().prefetch(2).collect(toList()), is(zeroTo(10)));
+		assertThat(emesis(zeroTo(10).stream()).parallel(ForkJoinPool.commonPool()).prefetch(2).collect(toList()), is(zeroTo(10)));
+	}
+}
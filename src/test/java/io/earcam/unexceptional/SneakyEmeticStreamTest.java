@@ -0,0 +1,232 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.EmeticStream.emesis;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class SneakyEmeticStreamTest {
+
+	private final IOException kaboom = new IOException("kaboom");
+
+
+	private static EmeticStream<Integer> zeroToNine()
+	{
+		return emesis(IntStream.range(0, 10).boxed()).sneaky();
+	}
+
+
+	private <T> T explode(Object ignored) throws IOException
+	{
+		throw kaboom;
+	}
+
+
+	private Throwable thrownBy(Runnable runnable)
+	{
+		try {
+			runnable.run();
+		} catch(Throwable thrown) {
+			return thrown;
+		}
+		fail("should not reach here");
+		return null;
+	}
+
+
+	@Test
+	public void sneakyIsIdempotent()
+	{
+		EmeticStream<Integer> sneaky = zeroToNine();
+
+		assertThat(sneaky.sneaky(), is(sameInstance(sneaky)));
+	}
+
+
+	@Test
+	public void sneakinessIsRetainedThroughIntermediateOperations()
+	{
+		EmeticStream<Integer> stream = zeroToNine()
+				.parallel()
+				.sequential()
+				.unordered()
+				.filter(i -> i > 0)
+				.map(i -> i)
+				.flatMap(Stream::of)
+				.peek(i -> {})
+				.sorted(Integer::compare)
+				.onClose(() -> {});
+
+		Throwable thrown = thrownBy(() -> stream.map(this::explode).collect(toList()));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void sneakinessIsRetainedThroughFusedStages()
+	{
+		EmeticStream<Integer> stream = zeroToNine()
+				.filter(i -> i > 0)
+				.unordered()
+				.map(i -> i * 2)
+				.peek(i -> {});
+
+		Throwable thrown = thrownBy(() -> stream.filter(this::explode).forEach(i -> {}));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void parallelAndSequentialReturnSelfWhenAlreadySo()
+	{
+		EmeticStream<Integer> sequential = zeroToNine();
+		EmeticStream<Integer> parallel = zeroToNine().parallel();
+
+		assertThat(sequential.sequential(), is(sameInstance(sequential)));
+		assertThat(parallel.parallel(), is(sameInstance(parallel)));
+	}
+
+
+	@Test
+	public void mapRethrowsOriginal()
+	{
+		Throwable thrown = thrownBy(() -> zeroToNine().map(this::explode).forEach(i -> {}));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void filterRethrowsOriginal()
+	{
+		Throwable thrown = thrownBy(() -> zeroToNine().filter(this::explode).count());
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void forEachRethrowsOriginal()
+	{
+		Throwable thrown = thrownBy(() -> zeroToNine().forEach(this::explode));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void forEachOrderedRethrowsOriginal()
+	{
+		Throwable thrown = thrownBy(() -> zeroToNine().forEachOrdered(this::explode));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void matchesRethrowOriginal()
+	{
+		assertThat(thrownBy(() -> zeroToNine().allMatch(this::explode)), is(sameInstance(kaboom)));
+		assertThat(thrownBy(() -> zeroToNine().anyMatch(this::explode)), is(sameInstance(kaboom)));
+		assertThat(thrownBy(() -> zeroToNine().noneMatch(this::explode)), is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void primitiveMappingsRethrowOriginal()
+	{
+		assertThat(thrownBy(() -> zeroToNine().mapToInt(this::explode).sum()), is(sameInstance(kaboom)));
+		assertThat(thrownBy(() -> zeroToNine().mapToLong(this::explode).sum()), is(sameInstance(kaboom)));
+		assertThat(thrownBy(() -> zeroToNine().mapToDouble(this::explode).sum()), is(sameInstance(kaboom)));
+		assertThat(thrownBy(() -> zeroToNine().flatMapToInt(this::explode).sum()), is(sameInstance(kaboom)));
+		assertThat(thrownBy(() -> zeroToNine().flatMapToLong(this::explode).sum()), is(sameInstance(kaboom)));
+		assertThat(thrownBy(() -> zeroToNine().flatMapToDouble(this::explode).sum()), is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void reductionsRethrowOriginal()
+	{
+		assertThat(thrownBy(() -> zeroToNine().reduce((a, b) -> explode(a))), is(sameInstance(kaboom)));
+		assertThat(thrownBy(() -> zeroToNine().reduce(0, (a, b) -> explode(a))), is(sameInstance(kaboom)));
+		assertThat(thrownBy(() -> zeroToNine().max((a, b) -> explode(a))), is(sameInstance(kaboom)));
+		assertThat(thrownBy(() -> zeroToNine().min((a, b) -> explode(a))), is(sameInstance(kaboom)));
+		assertThat(thrownBy(() -> zeroToNine().collect(ArrayList::new, (l, e) -> explode(e), ArrayList::addAll)), is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void happyPath()
+	{
+		List<Integer> collected = zeroToNine()
+				.filter(i -> i % 2 == 0)
+				.map(i -> i * 10)
+				.collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+
+		assertThat(collected, contains(0, 20, 40, 60, 80));
+	}
+
+
+	@Test
+	public void happyPathReductions()
+	{
+		assertThat(zeroToNine().reduce(Integer::sum), is(Optional.of(45)));
+		assertThat(zeroToNine().reduce(0, Integer::sum), is(45));
+		assertThat(zeroToNine().max(Integer::compare), is(Optional.of(9)));
+		assertThat(zeroToNine().min(Integer::compare), is(Optional.of(0)));
+		assertThat(zeroToNine().anyMatch(i -> i == 9), is(true));
+		assertThat(zeroToNine().allMatch(i -> i < 10), is(true));
+		assertThat(zeroToNine().noneMatch(i -> i > 9), is(true));
+		assertThat(zeroToNine().mapToInt(i -> i).sum(), is(45));
+		assertThat(zeroToNine().mapToLong(i -> i).sum(), is(45L));
+		assertThat(zeroToNine().mapToDouble(i -> i).sum(), is(45d));
+		assertThat(zeroToNine().flatMapToInt(IntStream::of).sum(), is(45));
+		assertThat(zeroToNine().map(i -> i).mapToStream().collect(toList()).size(), is(10));
+	}
+
+
+	@Test
+	public void onCloseIsInvoked()
+	{
+		AtomicBoolean closed = new AtomicBoolean();
+
+		try(EmeticStream<Integer> stream = zeroToNine().onClose(() -> closed.set(true))) {
+			stream.forEachOrdered(i -> {});
+		}
+
+		assertThat(closed.get(), is(true));
+	}
+}
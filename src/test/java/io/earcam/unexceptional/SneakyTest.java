@@ -0,0 +1,1141 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.Exceptional.unwrap;
+import static java.lang.Thread.currentThread;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SneakyTest {
+
+	private final IOException kaboom = new IOException("kaboom");
+
+
+	@BeforeEach
+	public void clearInterrupt()
+	{
+		while(Thread.interrupted());
+	}
+
+
+	private Throwable thrownBy(Runnable runnable)
+	{
+		try {
+			runnable.run();
+		} catch(Throwable thrown) {
+			return thrown;
+		}
+		fail("should not reach here");
+		return null;
+	}
+
+
+	private <T> T explode() throws IOException
+	{
+		throw kaboom;
+	}
+
+
+	@Test
+	public void cannotConstructWithoutObjenesis() throws Exception
+	{
+		Constructor<Sneaky> constructor = Sneaky.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		try {
+			constructor.newInstance();
+			fail("should not reach here");
+		} catch(InvocationTargetException e) {
+			assertThat(unwrap(e), is(instanceOf(IllegalStateException.class)));
+		}
+	}
+
+
+	@Test
+	public void runnableRethrowsOriginal()
+	{
+		Throwable thrown = thrownBy(Sneaky.runnable(() -> explode()));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void callRethrowsOriginal()
+	{
+		Throwable thrown = thrownBy(() -> Sneaky.call(() -> explode()));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void callReturns()
+	{
+		assertThat(Sneaky.call(() -> 42), is(42));
+	}
+
+
+	@Test
+	public void consumerRethrowsOriginal()
+	{
+		Throwable thrown = thrownBy(() -> Sneaky.<String> consumer(s -> explode()).accept("x"));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void consumerAccepts()
+	{
+		List<String> accepted = new ArrayList<>();
+
+		Sneaky.<String> consumer(accepted::add).accept("x");
+
+		assertThat(accepted, contains("x"));
+	}
+
+
+	@Test
+	public void intConsumerRethrowsOriginal()
+	{
+		Throwable thrown = thrownBy(() -> Sneaky.intConsumer(i -> explode()).accept(1));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void intConsumerAccepts()
+	{
+		AtomicInteger accepted = new AtomicInteger();
+
+		Sneaky.intConsumer(accepted::set).accept(42);
+
+		assertThat(accepted.get(), is(42));
+	}
+
+
+	@Test
+	public void biConsumerRethrowsOriginal()
+	{
+		Throwable thrown = thrownBy(() -> Sneaky.<String, String> biConsumer((a, b) -> explode()).accept("a", "b"));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void biConsumerAccepts()
+	{
+		List<String> accepted = new ArrayList<>();
+
+		Sneaky.<String, String> biConsumer((a, b) -> accepted.add(a + b)).accept("a", "b");
+
+		assertThat(accepted, contains("ab"));
+	}
+
+
+	@Test
+	public void functionRethrowsOriginal()
+	{
+		Throwable thrown = thrownBy(() -> Sneaky.<String, String> function(s -> explode()).apply("x"));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void functionApplies()
+	{
+		assertThat(Sneaky.<String, Integer> function(String::length).apply("four"), is(4));
+	}
+
+
+	@Test
+	public void biFunctionRethrowsOriginal()
+	{
+		Throwable thrown = thrownBy(() -> Sneaky.<String, String, String> biFunction((a, b) -> explode()).apply("a", "b"));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void biFunctionApplies()
+	{
+		assertThat(Sneaky.<String, String, String> biFunction(String::concat).apply("a", "b"), is("ab"));
+	}
+
+
+	@Test
+	public void binaryOperatorRethrowsOriginal()
+	{
+		Throwable thrown = thrownBy(() -> Sneaky.<String> binaryOperator((a, b) -> explode()).apply("a", "b"));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void binaryOperatorApplies()
+	{
+		assertThat(Sneaky.<Integer> binaryOperator(Integer::sum).apply(1, 2), is(3));
+	}
+
+
+	@Test
+	public void toDoubleFunctionRethrowsOriginal()
+	{
+		Throwable thrown = thrownBy(() -> Sneaky.<String> toDoubleFunction(s -> explode()).applyAsDouble("x"));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void toDoubleFunctionApplies()
+	{
+		assertThat(Sneaky.<String> toDoubleFunction(Double::parseDouble).applyAsDouble("1.5"), is(1.5d));
+	}
+
+
+	@Test
+	public void toIntFunctionRethrowsOriginal()
+	{
+		Throwable thrown = thrownBy(() -> Sneaky.<String> toIntFunction(s -> explode()).applyAsInt("x"));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void toIntFunctionApplies()
+	{
+		assertThat(Sneaky.<String> toIntFunction(String::length).applyAsInt("four"), is(4));
+	}
+
+
+	@Test
+	public void toLongFunctionRethrowsOriginal()
+	{
+		Throwable thrown = thrownBy(() -> Sneaky.<String> toLongFunction(s -> explode()).applyAsLong("x"));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void toLongFunctionApplies()
+	{
+		assertThat(Sneaky.<String> toLongFunction(Long::parseLong).applyAsLong("42"), is(42L));
+	}
+
+
+	@Test
+	public void supplierRethrowsOriginal()
+	{
+		Throwable thrown = thrownBy(() -> Sneaky.<String> supplier(this::explode).get());
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void supplierSupplies()
+	{
+		assertThat(Sneaky.supplier(() -> "x").get(), is("x"));
+	}
+
+
+	@Test
+	public void predicateRethrowsOriginal()
+	{
+		Throwable thrown = thrownBy(() -> Sneaky.<String> predicate(s -> explode()).test("x"));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void predicateTests()
+	{
+		assertThat(Sneaky.<String> predicate(String::isEmpty).test(""), is(true));
+	}
+
+
+	@Test
+	public void comparatorRethrowsOriginal()
+	{
+		Throwable thrown = thrownBy(() -> Sneaky.<String> comparator((a, b) -> explode()).compare("a", "b"));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void comparatorCompares()
+	{
+		List<String> sorted = asList("c", "a", "b").stream().sorted(Sneaky.comparator(String::compareTo)).collect(toList());
+
+		assertThat(sorted, contains("a", "b", "c"));
+	}
+
+
+	@Test
+	public void toIntBiFunctionRethrowsOriginal()
+	{
+		Throwable thrown = thrownBy(() -> Sneaky.<String, String> toIntBiFunction((a, b) -> explode()).applyAsInt("a", "b"));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void toIntBiFunctionApplies()
+	{
+		assertThat(Sneaky.<String, String> toIntBiFunction((a, b) -> a.length() + b.length()).applyAsInt("a", "bc"), is(3));
+	}
+
+
+	@Test
+	public void errorsAreRethrownUnchanged()
+	{
+		Error error = new Error();
+
+		Throwable thrown = thrownBy(() -> Sneaky.run(() -> {
+			throw error;
+		}));
+
+		assertThat(thrown, is(sameInstance(error)));
+	}
+
+
+	@Test
+	public void runtimeExceptionsAreRethrownUnchanged()
+	{
+		IllegalArgumentException iae = new IllegalArgumentException();
+
+		Throwable thrown = thrownBy(() -> Sneaky.run(() -> {
+			throw iae;
+		}));
+
+		assertThat(thrown, is(sameInstance(iae)));
+	}
+
+
+	@Test
+	public void interruptFlagIsReset()
+	{
+		assumeFalse(currentThread().isInterrupted());
+		InterruptedException interrupted = new InterruptedException();
+
+		Throwable thrown = thrownBy(() -> Sneaky.run(() -> {
+			throw interrupted;
+		}));
+
+		assertThat(thrown, is(sameInstance(interrupted)));
+		assertThat(currentThread().isInterrupted(), is(true));
+	}
+
+
+	@Test
+	public void unwrapReturnsTheOriginalCheckedException()
+	{
+		Throwable thrown = thrownBy(Sneaky.runnable(() -> explode()));
+
+		assertThat(unwrap(thrown), is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void callerCanCatchTheCheckedException()
+	{
+		try {
+			sneakilyThrowing();
+			fail("should not reach here");
+		} catch(IOException e) {
+			assertThat(e, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	private void sneakilyThrowing() throws IOException
+	{
+		Sneaky.run(() -> explode());
+	}
+
+
+	@Test
+	public void booleanSupplierRethrowsOriginal()
+	{
+		CheckedBooleanSupplier<IOException> checked = () -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.booleanSupplier(checked).getAsBoolean();
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void booleanSupplierApplies()
+	{
+		CheckedBooleanSupplier<IOException> checked = () -> true;
+
+		assertThat(Sneaky.booleanSupplier(checked).getAsBoolean(), is(true));
+	}
+
+
+	@Test
+	public void intBinaryOperatorRethrowsOriginal()
+	{
+		CheckedIntBinaryOperator<IOException> checked = (a, b) -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.intBinaryOperator(checked).applyAsInt(2, 3);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void intBinaryOperatorApplies()
+	{
+		CheckedIntBinaryOperator<IOException> checked = (a, b) -> a * b;
+
+		assertThat(Sneaky.intBinaryOperator(checked).applyAsInt(2, 3), is((int) 6));
+	}
+
+
+	@Test
+	public void intFunctionRethrowsOriginal()
+	{
+		CheckedIntFunction<String, IOException> checked = v -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.intFunction(checked).apply(2);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void intFunctionApplies()
+	{
+		CheckedIntFunction<String, IOException> checked = v -> String.valueOf(v);
+
+		assertThat(Sneaky.intFunction(checked).apply(2), is(String.valueOf(2)));
+	}
+
+
+	@Test
+	public void intPredicateRethrowsOriginal()
+	{
+		CheckedIntPredicate<IOException> checked = v -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.intPredicate(checked).test(2);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void intPredicateApplies()
+	{
+		CheckedIntPredicate<IOException> checked = v -> v > 0;
+
+		assertThat(Sneaky.intPredicate(checked).test(2), is(true));
+	}
+
+
+	@Test
+	public void intSupplierRethrowsOriginal()
+	{
+		CheckedIntSupplier<IOException> checked = () -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.intSupplier(checked).getAsInt();
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void intSupplierApplies()
+	{
+		CheckedIntSupplier<IOException> checked = () -> 2;
+
+		assertThat(Sneaky.intSupplier(checked).getAsInt(), is((int) 2));
+	}
+
+
+	@Test
+	public void intToLongFunctionRethrowsOriginal()
+	{
+		CheckedIntToLongFunction<IOException> checked = v -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.intToLongFunction(checked).applyAsLong(2);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void intToLongFunctionApplies()
+	{
+		CheckedIntToLongFunction<IOException> checked = v -> (long) v;
+
+		assertThat(Sneaky.intToLongFunction(checked).applyAsLong(2), is((long) 2));
+	}
+
+
+	@Test
+	public void intToDoubleFunctionRethrowsOriginal()
+	{
+		CheckedIntToDoubleFunction<IOException> checked = v -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.intToDoubleFunction(checked).applyAsDouble(2);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void intToDoubleFunctionApplies()
+	{
+		CheckedIntToDoubleFunction<IOException> checked = v -> (double) v;
+
+		assertThat(Sneaky.intToDoubleFunction(checked).applyAsDouble(2), is((double) 2));
+	}
+
+
+	@Test
+	public void intUnaryOperatorRethrowsOriginal()
+	{
+		CheckedIntUnaryOperator<IOException> checked = v -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.intUnaryOperator(checked).applyAsInt(2);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void intUnaryOperatorApplies()
+	{
+		CheckedIntUnaryOperator<IOException> checked = v -> v + 1;
+
+		assertThat(Sneaky.intUnaryOperator(checked).applyAsInt(2), is((int) 2 + 1));
+	}
+
+
+	@Test
+	public void objIntConsumerRethrowsOriginal()
+	{
+		CheckedObjIntConsumer<String, IOException> checked = (a, b) -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.objIntConsumer(checked).accept("x", 2);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void objIntConsumerApplies()
+	{
+		AtomicReference<Object> accepted = new AtomicReference<>();
+		CheckedObjIntConsumer<String, IOException> checked = (t, v) -> accepted.set(t + v);
+
+		Sneaky.objIntConsumer(checked).accept("x", 2);
+
+		assertThat(accepted.get(), is("x" + 2));
+	}
+
+
+	@Test
+	public void longBinaryOperatorRethrowsOriginal()
+	{
+		CheckedLongBinaryOperator<IOException> checked = (a, b) -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.longBinaryOperator(checked).applyAsLong(2L, 3L);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void longBinaryOperatorApplies()
+	{
+		CheckedLongBinaryOperator<IOException> checked = (a, b) -> a * b;
+
+		assertThat(Sneaky.longBinaryOperator(checked).applyAsLong(2L, 3L), is((long) 6));
+	}
+
+
+	@Test
+	public void longConsumerRethrowsOriginal()
+	{
+		CheckedLongConsumer<IOException> checked = v -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.longConsumer(checked).accept(2L);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void longConsumerApplies()
+	{
+		AtomicReference<Object> accepted = new AtomicReference<>();
+		CheckedLongConsumer<IOException> checked = v -> accepted.set(v);
+
+		Sneaky.longConsumer(checked).accept(2L);
+
+		assertThat(accepted.get(), is(2L));
+	}
+
+
+	@Test
+	public void longFunctionRethrowsOriginal()
+	{
+		CheckedLongFunction<String, IOException> checked = v -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.longFunction(checked).apply(2L);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void longFunctionApplies()
+	{
+		CheckedLongFunction<String, IOException> checked = v -> String.valueOf(v);
+
+		assertThat(Sneaky.longFunction(checked).apply(2L), is(String.valueOf(2L)));
+	}
+
+
+	@Test
+	public void longPredicateRethrowsOriginal()
+	{
+		CheckedLongPredicate<IOException> checked = v -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.longPredicate(checked).test(2L);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void longPredicateApplies()
+	{
+		CheckedLongPredicate<IOException> checked = v -> v > 0;
+
+		assertThat(Sneaky.longPredicate(checked).test(2L), is(true));
+	}
+
+
+	@Test
+	public void longSupplierRethrowsOriginal()
+	{
+		CheckedLongSupplier<IOException> checked = () -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.longSupplier(checked).getAsLong();
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void longSupplierApplies()
+	{
+		CheckedLongSupplier<IOException> checked = () -> 2L;
+
+		assertThat(Sneaky.longSupplier(checked).getAsLong(), is((long) 2L));
+	}
+
+
+	@Test
+	public void longToIntFunctionRethrowsOriginal()
+	{
+		CheckedLongToIntFunction<IOException> checked = v -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.longToIntFunction(checked).applyAsInt(2L);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void longToIntFunctionApplies()
+	{
+		CheckedLongToIntFunction<IOException> checked = v -> (int) v;
+
+		assertThat(Sneaky.longToIntFunction(checked).applyAsInt(2L), is((int) 2L));
+	}
+
+
+	@Test
+	public void longToDoubleFunctionRethrowsOriginal()
+	{
+		CheckedLongToDoubleFunction<IOException> checked = v -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.longToDoubleFunction(checked).applyAsDouble(2L);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void longToDoubleFunctionApplies()
+	{
+		CheckedLongToDoubleFunction<IOException> checked = v -> (double) v;
+
+		assertThat(Sneaky.longToDoubleFunction(checked).applyAsDouble(2L), is((double) 2L));
+	}
+
+
+	@Test
+	public void longUnaryOperatorRethrowsOriginal()
+	{
+		CheckedLongUnaryOperator<IOException> checked = v -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.longUnaryOperator(checked).applyAsLong(2L);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void longUnaryOperatorApplies()
+	{
+		CheckedLongUnaryOperator<IOException> checked = v -> v + 1;
+
+		assertThat(Sneaky.longUnaryOperator(checked).applyAsLong(2L), is((long) 2L + 1));
+	}
+
+
+	@Test
+	public void objLongConsumerRethrowsOriginal()
+	{
+		CheckedObjLongConsumer<String, IOException> checked = (a, b) -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.objLongConsumer(checked).accept("x", 2L);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void objLongConsumerApplies()
+	{
+		AtomicReference<Object> accepted = new AtomicReference<>();
+		CheckedObjLongConsumer<String, IOException> checked = (t, v) -> accepted.set(t + v);
+
+		Sneaky.objLongConsumer(checked).accept("x", 2L);
+
+		assertThat(accepted.get(), is("x" + 2L));
+	}
+
+
+	@Test
+	public void doubleBinaryOperatorRethrowsOriginal()
+	{
+		CheckedDoubleBinaryOperator<IOException> checked = (a, b) -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.doubleBinaryOperator(checked).applyAsDouble(2d, 3d);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void doubleBinaryOperatorApplies()
+	{
+		CheckedDoubleBinaryOperator<IOException> checked = (a, b) -> a * b;
+
+		assertThat(Sneaky.doubleBinaryOperator(checked).applyAsDouble(2d, 3d), is((double) 6));
+	}
+
+
+	@Test
+	public void doubleConsumerRethrowsOriginal()
+	{
+		CheckedDoubleConsumer<IOException> checked = v -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.doubleConsumer(checked).accept(2d);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void doubleConsumerApplies()
+	{
+		AtomicReference<Object> accepted = new AtomicReference<>();
+		CheckedDoubleConsumer<IOException> checked = v -> accepted.set(v);
+
+		Sneaky.doubleConsumer(checked).accept(2d);
+
+		assertThat(accepted.get(), is(2d));
+	}
+
+
+	@Test
+	public void doubleFunctionRethrowsOriginal()
+	{
+		CheckedDoubleFunction<String, IOException> checked = v -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.doubleFunction(checked).apply(2d);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void doubleFunctionApplies()
+	{
+		CheckedDoubleFunction<String, IOException> checked = v -> String.valueOf(v);
+
+		assertThat(Sneaky.doubleFunction(checked).apply(2d), is(String.valueOf(2d)));
+	}
+
+
+	@Test
+	public void doublePredicateRethrowsOriginal()
+	{
+		CheckedDoublePredicate<IOException> checked = v -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.doublePredicate(checked).test(2d);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void doublePredicateApplies()
+	{
+		CheckedDoublePredicate<IOException> checked = v -> v > 0;
+
+		assertThat(Sneaky.doublePredicate(checked).test(2d), is(true));
+	}
+
+
+	@Test
+	public void doubleSupplierRethrowsOriginal()
+	{
+		CheckedDoubleSupplier<IOException> checked = () -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.doubleSupplier(checked).getAsDouble();
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void doubleSupplierApplies()
+	{
+		CheckedDoubleSupplier<IOException> checked = () -> 2d;
+
+		assertThat(Sneaky.doubleSupplier(checked).getAsDouble(), is((double) 2d));
+	}
+
+
+	@Test
+	public void doubleToIntFunctionRethrowsOriginal()
+	{
+		CheckedDoubleToIntFunction<IOException> checked = v -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.doubleToIntFunction(checked).applyAsInt(2d);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void doubleToIntFunctionApplies()
+	{
+		CheckedDoubleToIntFunction<IOException> checked = v -> (int) v;
+
+		assertThat(Sneaky.doubleToIntFunction(checked).applyAsInt(2d), is((int) 2d));
+	}
+
+
+	@Test
+	public void doubleToLongFunctionRethrowsOriginal()
+	{
+		CheckedDoubleToLongFunction<IOException> checked = v -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.doubleToLongFunction(checked).applyAsLong(2d);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void doubleToLongFunctionApplies()
+	{
+		CheckedDoubleToLongFunction<IOException> checked = v -> (long) v;
+
+		assertThat(Sneaky.doubleToLongFunction(checked).applyAsLong(2d), is((long) 2d));
+	}
+
+
+	@Test
+	public void doubleUnaryOperatorRethrowsOriginal()
+	{
+		CheckedDoubleUnaryOperator<IOException> checked = v -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.doubleUnaryOperator(checked).applyAsDouble(2d);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void doubleUnaryOperatorApplies()
+	{
+		CheckedDoubleUnaryOperator<IOException> checked = v -> v + 1;
+
+		assertThat(Sneaky.doubleUnaryOperator(checked).applyAsDouble(2d), is((double) 2d + 1));
+	}
+
+
+	@Test
+	public void objDoubleConsumerRethrowsOriginal()
+	{
+		CheckedObjDoubleConsumer<String, IOException> checked = (a, b) -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.objDoubleConsumer(checked).accept("x", 2d);
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void objDoubleConsumerApplies()
+	{
+		AtomicReference<Object> accepted = new AtomicReference<>();
+		CheckedObjDoubleConsumer<String, IOException> checked = (t, v) -> accepted.set(t + v);
+
+		Sneaky.objDoubleConsumer(checked).accept("x", 2d);
+
+		assertThat(accepted.get(), is("x" + 2d));
+	}
+
+
+	@Test
+	public void toDoubleBiFunctionRethrowsOriginal()
+	{
+		CheckedToDoubleBiFunction<String, String, IOException> checked = (a, b) -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.toDoubleBiFunction(checked).applyAsDouble("a", "bc");
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void toDoubleBiFunctionApplies()
+	{
+		CheckedToDoubleBiFunction<String, String, IOException> checked = (t, u) -> t.length() + u.length();
+
+		assertThat(Sneaky.toDoubleBiFunction(checked).applyAsDouble("a", "bc"), is((double) 3));
+	}
+
+
+	@Test
+	public void toLongBiFunctionRethrowsOriginal()
+	{
+		CheckedToLongBiFunction<String, String, IOException> checked = (a, b) -> {
+			throw kaboom;
+		};
+
+		try {
+			Sneaky.toLongBiFunction(checked).applyAsLong("a", "bc");
+			fail("should not reach here");
+		} catch(Throwable thrown) {
+			assertThat(thrown, is(sameInstance(kaboom)));
+		}
+	}
+
+
+	@Test
+	public void toLongBiFunctionApplies()
+	{
+		CheckedToLongBiFunction<String, String, IOException> checked = (t, u) -> t.length() + u.length();
+
+		assertThat(Sneaky.toLongBiFunction(checked).applyAsLong("a", "bc"), is((long) 3));
+	}
+}
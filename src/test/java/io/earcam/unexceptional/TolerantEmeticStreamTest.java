@@ -0,0 +1,403 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static io.earcam.unexceptional.EmeticStream.emesis;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class TolerantEmeticStreamTest {
+
+	private final List<Failure<?>> failures = new ArrayList<>();
+
+
+	private static EmeticStream<Integer> zeroToNine()
+	{
+		return emesis(IntStream.range(0, 10).boxed());
+	}
+
+
+	private static Integer rejectOdd(Integer i) throws IOException
+	{
+		if(i % 2 != 0) {
+			throw new IOException("odd " + i);
+		}
+		return i;
+	}
+
+
+	private List<Object> failedElements()
+	{
+		return failures.stream().map(Failure::element).collect(toList());
+	}
+
+
+	private Throwable thrownBy(Runnable runnable)
+	{
+		try {
+			runnable.run();
+		} catch(Throwable thrown) {
+			return thrown;
+		}
+		fail("should not reach here");
+		return null;
+	}
+
+
+	@Test
+	public void mapDivertsFailedElementsAndContinues()
+	{
+		List<Integer> mapped = zeroToNine()
+				.onError(failures::add)
+				.map(TolerantEmeticStreamTest::rejectOdd)
+				.collect(toList());
+
+		assertThat(mapped, contains(0, 2, 4, 6, 8));
+		assertThat(failedElements(), contains(1, 3, 5, 7, 9));
+	}
+
+
+	@Test
+	public void failureCarriesOriginalThrowable()
+	{
+		IOException kaboom = new IOException("kaboom");
+
+		emesis(Stream.of(0))
+				.onError(failures::add)
+				.map(i -> {
+					throw kaboom;
+				})
+				.collect(toList());
+
+		assertThat(failures, hasSize(1));
+		assertThat(failures.get(0).element(), is(0));
+		assertThat(failures.get(0).cause(), is(sameInstance(kaboom)));
+		assertThat(failures.get(0).toString(), is("Failure[0, java.io.IOException: kaboom]"));
+	}
+
+
+	@Test
+	public void skippingWithNoOpHandler()
+	{
+		List<Integer> mapped = zeroToNine()
+				.onError(f -> {})
+				.map(TolerantEmeticStreamTest::rejectOdd)
+				.collect(toList());
+
+		assertThat(mapped, contains(0, 2, 4, 6, 8));
+	}
+
+
+	@Test
+	public void replacingFailedElementsWithFallback()
+	{
+		List<Integer> mapped = zeroToNine()
+				.map(TolerantEmeticStreamTest::rejectOdd, f -> -f.element())
+				.collect(toList());
+
+		assertThat(mapped, contains(0, -1, 2, -3, 4, -5, 6, -7, 8, -9));
+	}
+
+
+	@Test
+	public void fallbackFailurePropagates()
+	{
+		IOException kaboom = new IOException("kaboom");
+
+		Throwable thrown = thrownBy(() -> zeroToNine()
+				.map(TolerantEmeticStreamTest::rejectOdd, f -> {
+					throw kaboom;
+				})
+				.collect(toList()));
+
+		assertThat(thrown, is(instanceOf(UncheckedIOException.class)));
+		assertThat(thrown.getCause(), is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void interruptionIsNotReplacedByFallback()
+	{
+		InterruptedException interrupted = new InterruptedException();
+
+		Throwable thrown = thrownBy(() -> zeroToNine()
+				.map(i -> {
+					throw interrupted;
+				}, f -> -1)
+				.collect(toList()));
+
+		assertThat(Thread.interrupted(), is(true));
+		assertThat(thrown.getCause(), is(sameInstance(interrupted)));
+	}
+
+
+	@Test
+	public void interruptionIsNotDiverted()
+	{
+		InterruptedException interrupted = new InterruptedException();
+
+		Throwable thrown = thrownBy(() -> zeroToNine()
+				.onError(failures::add)
+				.map(i -> {
+					throw interrupted;
+				})
+				.collect(toList()));
+
+		assertThat(Thread.interrupted(), is(true));
+		assertThat(thrown.getCause(), is(sameInstance(interrupted)));
+		assertThat(failures, is(empty()));
+	}
+
+
+	@Test
+	public void interruptionIsNotDivertedWhenSneaky()
+	{
+		InterruptedException interrupted = new InterruptedException();
+
+		Throwable thrown = thrownBy(() -> zeroToNine()
+				.sneaky()
+				.onError(failures::add)
+				.forEach(i -> {
+					throw interrupted;
+				}));
+
+		assertThat(Thread.interrupted(), is(true));
+		assertThat(thrown, is(sameInstance(interrupted)));
+		assertThat(failures, is(empty()));
+	}
+
+
+	@Test
+	public void filterDivertsFailedElements()
+	{
+		List<Integer> filtered = zeroToNine()
+				.onError(failures::add)
+				.filter(i -> rejectOdd(i) > 2)
+				.collect(toList());
+
+		assertThat(filtered, contains(4, 6, 8));
+		assertThat(failedElements(), contains(1, 3, 5, 7, 9));
+	}
+
+
+	@Test
+	public void peekDivertsFailedElements()
+	{
+		List<Integer> peeked = zeroToNine()
+				.onError(failures::add)
+				.peek(TolerantEmeticStreamTest::rejectOdd)
+				.collect(toList());
+
+		assertThat(peeked, contains(0, 2, 4, 6, 8));
+		assertThat(failedElements(), contains(1, 3, 5, 7, 9));
+	}
+
+
+	@Test
+	public void flatMapDivertsFailedElements()
+	{
+		List<Integer> flattened = zeroToNine()
+				.onError(failures::add)
+				.flatMap(i -> Stream.of(rejectOdd(i), i))
+				.collect(toList());
+
+		assertThat(flattened, contains(0, 0, 2, 2, 4, 4, 6, 6, 8, 8));
+		assertThat(failedElements(), contains(1, 3, 5, 7, 9));
+	}
+
+
+	@Test
+	public void forEachDivertsFailedElements()
+	{
+		List<Integer> consumed = new ArrayList<>();
+
+		zeroToNine()
+				.onError(failures::add)
+				.forEachOrdered(i -> consumed.add(rejectOdd(i)));
+
+		assertThat(consumed, contains(0, 2, 4, 6, 8));
+		assertThat(failedElements(), contains(1, 3, 5, 7, 9));
+	}
+
+
+	@Test
+	public void mapAsyncDivertsFailedElements()
+	{
+		List<Integer> mapped = zeroToNine()
+				.onError(failures::add)
+				.mapAsync(4, TolerantEmeticStreamTest::rejectOdd)
+				.collect(toList());
+
+		assertThat(mapped, contains(0, 2, 4, 6, 8));
+		assertThat(failedElements(), containsInAnyOrder(1, 3, 5, 7, 9));
+	}
+
+
+	@Test
+	public void mapBatchedDivertsCopyOfFailedBatch()
+	{
+		List<Integer> mapped = zeroToNine()
+				.onError(failures::add)
+				.mapBatched(4, batch -> {
+					if(batch.contains(5)) {
+						throw new IOException("kaboom");
+					}
+					return batch;
+				})
+				.collect(toList());
+
+		assertThat(mapped, contains(0, 1, 2, 3, 8, 9));
+		assertThat(failedElements(), contains(Arrays.asList(4, 5, 6, 7)));
+	}
+
+
+	@Test
+	public void toleranceIsRetainedAcrossOperations()
+	{
+		List<Integer> mapped = zeroToNine()
+				.onError(failures::add)
+				.sneaky()
+				.blocking()
+				.sorted((a, b) -> b - a)
+				.map(TolerantEmeticStreamTest::rejectOdd)
+				.map(i -> i / (i - 4))
+				.collect(toList());
+
+		assertThat(mapped, contains(2, 3, -1, 0));
+		assertThat(failedElements(), contains(9, 7, 5, 4, 3, 1));
+		assertThat(failures.get(3).cause(), is(instanceOf(ArithmeticException.class)));
+	}
+
+
+	@Test
+	public void handlerFailurePropagates()
+	{
+		IOException kaboom = new IOException("kaboom");
+
+		Throwable thrown = thrownBy(() -> zeroToNine()
+				.onError(f -> {
+					throw kaboom;
+				})
+				.map(TolerantEmeticStreamTest::rejectOdd)
+				.collect(toList()));
+
+		assertThat(thrown, is(instanceOf(UncheckedIOException.class)));
+		assertThat(thrown.getCause(), is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void handlerFailurePropagatesUnchangedWhenSneaky()
+	{
+		IOException kaboom = new IOException("kaboom");
+
+		Throwable thrown = thrownBy(() -> zeroToNine()
+				.sneaky()
+				.onError(f -> {
+					throw kaboom;
+				})
+				.map(TolerantEmeticStreamTest::rejectOdd)
+				.collect(toList()));
+
+		assertThat(thrown, is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void errorsAreNotDiverted()
+	{
+		AssertionError error = new AssertionError("kaboom");
+
+		Throwable thrown = thrownBy(() -> zeroToNine()
+				.onError(failures::add)
+				.map(i -> {
+					throw error;
+				})
+				.collect(toList()));
+
+		assertThat(thrown, is(sameInstance(error)));
+		assertThat(failures, is(empty()));
+	}
+
+
+	@Test
+	public void operationsBeforeOnErrorAreNotTolerant()
+	{
+		Throwable thrown = thrownBy(() -> zeroToNine()
+				.map(TolerantEmeticStreamTest::rejectOdd)
+				.onError(failures::add)
+				.collect(toList()));
+
+		assertThat(thrown, is(instanceOf(UncheckedIOException.class)));
+	}
+
+
+	@Test
+	public void parallelHandlerInvocationsAreSerialised()
+	{
+		int size = 100_000;
+
+		List<Integer> mapped = emesis(IntStream.range(0, size).boxed())
+				.parallel()
+				.onError(failures::add)
+				.map(TolerantEmeticStreamTest::rejectOdd)
+				.collect(toList());
+
+		assertThat(mapped, hasSize(size / 2));
+		assertThat(failures, hasSize(size / 2));
+	}
+
+
+	@Test
+	public void parallelInPoolHandlerInvocationsAreSerialised()
+	{
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			long count = emesis(IntStream.range(0, 10_000).boxed())
+					.onError(failures::add)
+					.parallel(pool)
+					.filter(i -> rejectOdd(i) >= 0)
+					.count();
+
+			assertThat(count, is(5_000L));
+			assertThat(failures, hasSize(5_000));
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
@@ -20,6 +20,7 @@ package io.earcam.unexceptional;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 
 import org.junit.jupiter.api.Test;
@@ -58,4 +59,27 @@ public class UncheckedExceptionTest {
 		assertThat(e.getCause(), is(cause));
 		assertThat(e.getMessage(), is(message));
 	}
+
+
+	@Test
+	public void stackless()
+	{
+		Throwable cause = new Throwable();
+		UncheckedException e = new UncheckedException(cause, false);
+		e.addSuppressed(new Throwable());
+
+		assertThat(e.getCause(), is(cause));
+		assertThat(e.getMessage(), is(Throwable.class.getCanonicalName()));
+		assertThat(e.getStackTrace().length, is(0));
+		assertThat(e.getSuppressed().length, is(0));
+	}
+
+
+	@Test
+	public void withStack()
+	{
+		UncheckedException e = new UncheckedException(new Throwable(), true);
+
+		assertThat(e.getStackTrace().length, is(not(0)));
+	}
 }
@@ -0,0 +1,316 @@
+/*-
+ * #%L
+ * io.earcam.unexceptional
+ * %%
+ * Copyright (C) 2016 - 2017 earcam
+ * %%
+ * SPDX-License-Identifier: (BSD-3-Clause OR EPL-1.0 OR Apache-2.0 OR MIT)
+ * 
+ * You <b>must</b> choose to accept, in full - any individual or combination of 
+ * the following licenses:
+ * <ul>
+ * 	<li><a href="https://opensource.org/licenses/BSD-3-Clause">BSD-3-Clause</a></li>
+ * 	<li><a href="https://www.eclipse.org/legal/epl-v10.html">EPL-1.0</a></li>
+ * 	<li><a href="https://www.apache.org/licenses/LICENSE-2.0">Apache-2.0</a></li>
+ * 	<li><a href="https://opensource.org/licenses/MIT">MIT</a></li>
+ * </ul>
+ * #L%
+ */
+package io.earcam.unexceptional;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class WalkSpliteratorTest {
+
+	private Path root;
+
+
+	@BeforeEach
+	public void createTree() throws IOException
+	{
+		root = Files.createTempDirectory(WalkSpliteratorTest.class.getSimpleName());
+		for(int i = 0; i < 20; i++) {
+			Path directory = Files.createDirectories(root.resolve("d" + i).resolve("e" + i % 3));
+			for(int j = 0; j < 10; j++) {
+				Files.createFile(directory.resolve("f" + j));
+				Files.createFile(directory.getParent().resolve("g" + j));
+			}
+		}
+		Files.createFile(root.resolve("top"));
+	}
+
+
+	@AfterEach
+	public void deleteTree() throws IOException
+	{
+		delete(root);
+	}
+
+
+	private static Set<Path> filesWalk(Path start, int maxDepth, FileVisitOption... options) throws IOException
+	{
+		try(Stream<Path> walked = Files.walk(start, maxDepth, options)) {
+			return walked.collect(toSet());
+		}
+	}
+
+
+	private static Set<Path> walk(Path start, int maxDepth, FileVisitOption... options)
+	{
+		try(EmeticStream<Path> walked = EmeticStream.walk(start, maxDepth, options)) {
+			return walked.mapToStream().collect(toSet());
+		}
+	}
+
+
+	private Throwable thrownBy(Runnable runnable)
+	{
+		try {
+			runnable.run();
+		} catch(Throwable thrown) {
+			return thrown;
+		}
+		fail("should not reach here");
+		return null;
+	}
+
+
+	@Test
+	public void walksAsFilesWalk() throws IOException
+	{
+		assertThat(walk(root, Integer.MAX_VALUE), is(filesWalk(root, Integer.MAX_VALUE)));
+		assertThat(walk(root, Integer.MAX_VALUE).size(), is(1 + 1 + 20 * (1 + 1 + 10 + 10)));
+	}
+
+
+	@Test
+	public void respectsMaxDepth() throws IOException
+	{
+		for(int maxDepth = 0; maxDepth < 4; maxDepth++) {
+			assertThat("maxDepth " + maxDepth, walk(root, maxDepth), is(filesWalk(root, maxDepth)));
+		}
+	}
+
+
+	@Test
+	public void startingFromFile() throws IOException
+	{
+		Path top = root.resolve("top");
+
+		assertThat(walk(top, Integer.MAX_VALUE), containsInAnyOrder(top));
+	}
+
+
+	@Test
+	public void attributesArePassedToMapper()
+	{
+		Set<String> directories;
+		try(EmeticStream<String> walked = EmeticStream.walk(root, 2, (p, a) -> a.isDirectory() ? root.relativize(p).toString() : null)) {
+			directories = walked.mapToStream().collect(toSet());
+		}
+
+		assertThat(directories.size(), is(1 + 20 + 20));
+		assertThat(directories.contains(""), is(true));
+		assertThat(directories.contains("d7"), is(true));
+		assertThat(directories.contains(root.relativize(root.resolve("d7").resolve("e1")).toString()), is(true));
+	}
+
+
+	@Test
+	public void parallelConsumption() throws IOException
+	{
+		Set<Path> walked;
+		try(EmeticStream<Path> stream = EmeticStream.walk(root, Integer.MAX_VALUE).parallel()) {
+			walked = stream.map(Path::toRealPath).mapToStream().collect(toSet());
+		}
+
+		assertThat(walked.size(), is(filesWalk(root, Integer.MAX_VALUE).size()));
+	}
+
+
+	@Test
+	public void symbolicLinksAreNotFollowedByDefault() throws IOException
+	{
+		Path link = Files.createSymbolicLink(root.resolve("link"), root.resolve("d0"));
+
+		Set<Path> walked = walk(root, Integer.MAX_VALUE);
+
+		assertThat(walked.contains(link), is(true));
+		assertThat(walked.contains(link.resolve("g0")), is(false));
+		assertThat(walked, is(filesWalk(root, Integer.MAX_VALUE)));
+	}
+
+
+	@Test
+	public void symbolicLinksAreFollowedWhenRequested() throws IOException
+	{
+		Path link = Files.createSymbolicLink(root.resolve("link"), root.resolve("d0"));
+
+		Set<Path> walked = walk(root, Integer.MAX_VALUE, FileVisitOption.FOLLOW_LINKS);
+
+		assertThat(walked.contains(link.resolve("g0")), is(true));
+		assertThat(walked, is(filesWalk(root, Integer.MAX_VALUE, FileVisitOption.FOLLOW_LINKS)));
+	}
+
+
+	@Test
+	public void brokenSymbolicLinkIsReportedWhenFollowing() throws IOException
+	{
+		Path link = Files.createSymbolicLink(root.resolve("broken"), root.resolve("missing"));
+
+		assertThat(walk(root, 1, FileVisitOption.FOLLOW_LINKS).contains(link), is(true));
+	}
+
+
+	@Test
+	public void cycleFailsWhenFollowingLinks() throws IOException
+	{
+		Files.createSymbolicLink(root.resolve("d3").resolve("cycle"), root);
+
+		Throwable thrown = thrownBy(() -> walk(root, Integer.MAX_VALUE, FileVisitOption.FOLLOW_LINKS));
+
+		assertThat(thrown, is(instanceOf(UncheckedIOException.class)));
+		assertThat(thrown.getCause(), is(instanceOf(FileSystemLoopException.class)));
+	}
+
+
+	@Test
+	public void missingStartFailsOnTraversal()
+	{
+		EmeticStream<Path> walked = EmeticStream.walk(root.resolve("missing"), 1);
+
+		UncheckedIOException thrown = assertThrows(UncheckedIOException.class, () -> walked.collect(toList()));
+
+		assertThat(thrown.getCause(), is(instanceOf(NoSuchFileException.class)));
+	}
+
+
+	@Test
+	public void mapperFailureIsTranslated()
+	{
+		IOException kaboom = new IOException("kaboom");
+
+		Throwable thrown = thrownBy(() -> EmeticStream.walk(root, Integer.MAX_VALUE, (p, a) -> {
+			if(p.getFileName().toString().equals("f5")) {
+				throw kaboom;
+			}
+			return p;
+		}).forEach(p -> {}));
+
+		assertThat(thrown, is(instanceOf(UncheckedIOException.class)));
+		assertThat(thrown.getCause(), is(sameInstance(kaboom)));
+	}
+
+
+	@Test
+	public void closingCancelsTraversal()
+	{
+		try(EmeticStream<Path> walked = EmeticStream.walk(root, Integer.MAX_VALUE)) {
+			Iterator<Path> iterator = walked.iterator();
+
+			assertThat(iterator.next(), is(root));
+		}
+	}
+
+
+	@Test
+	public void traversalRunsInTheStreamsPool()
+	{
+		ForkJoinPool pool = new ForkJoinPool(2);
+		Set<ForkJoinPool> pools = ConcurrentHashMap.newKeySet();
+		try(EmeticStream<Path> walked = EmeticStream.walk(root, Integer.MAX_VALUE, (p, a) -> {
+			pools.add(ForkJoinTask.getPool());
+			return p;
+		}).parallel(pool)) {
+			assertThat(walked.count(), is((long) 1 + 1 + 20 * (1 + 1 + 10 + 10)));
+		} finally {
+			pool.shutdown();
+		}
+
+		assertThat(pools, contains(pool));
+	}
+
+
+	private static Path wideTree() throws IOException
+	{
+		Path wide = Files.createTempDirectory(WalkSpliteratorTest.class.getSimpleName());
+		for(int i = 0; i < WalkSpliterator.CAPACITY + 100; i++) {
+			Files.createDirectory(wide.resolve("d" + i));
+		}
+		return wide;
+	}
+
+
+	private static void delete(Path tree) throws IOException
+	{
+		try(Stream<Path> walked = Files.walk(tree)) {
+			walked.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+		}
+	}
+
+
+	@Test
+	public void treeWiderThanTheQueueIsWalkedCompletely() throws IOException
+	{
+		Path wide = wideTree();
+		try {
+			assertThat(walk(wide, Integer.MAX_VALUE), is(filesWalk(wide, Integer.MAX_VALUE)));
+		} finally {
+			delete(wide);
+		}
+	}
+
+
+	@Test
+	public void abandonedStreamStallsWithoutHoldingWorkers() throws Exception
+	{
+		Path wide = wideTree();
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			pool.submit(() -> EmeticStream.walk(wide, Integer.MAX_VALUE).iterator().next()).get();
+
+			assertThat(pool.awaitQuiescence(5, SECONDS), is(true));
+			assertThat(pool.getPoolSize(), is(lessThanOrEqualTo(2)));
+		} finally {
+			pool.shutdownNow();
+			delete(wide);
+		}
+	}
+
+
+	@Test
+	public void negativeMaxDepth()
+	{
+		assertThrows(IllegalArgumentException.class, () -> EmeticStream.walk(root, -1));
+	}
+}